@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * MicroProfile Java diagnostics parameters.
@@ -29,6 +30,8 @@ public class MicroProfileJavaDiagnosticsParams {
 
 	private MicroProfileJavaDiagnosticsSettings settings;
 
+	private Set<String> changedPropertyKeys;
+
 	public MicroProfileJavaDiagnosticsParams() {
 		this(null);
 	}
@@ -86,4 +89,32 @@ public class MicroProfileJavaDiagnosticsParams {
 		this.settings = settings;
 	}
 
+	/**
+	 * Returns the names (without profile) of the properties which have been added,
+	 * removed or updated in the config files and null if the changes are unknown.
+	 *
+	 * <p>
+	 * When it is set, only the Java files which refer to one of those properties
+	 * are validated, the others are not returned.
+	 * </p>
+	 *
+	 * @return the names of the properties which have been added, removed or
+	 *         updated in the config files and null if the changes are unknown.
+	 */
+	public Set<String> getChangedPropertyKeys() {
+		return changedPropertyKeys;
+	}
+
+	/**
+	 * Set the names (without profile) of the properties which have been added,
+	 * removed or updated in the config files and null if the changes are unknown.
+	 *
+	 * @param changedPropertyKeys the names of the properties which have been
+	 *                            added, removed or updated in the config files and
+	 *                            null if the changes are unknown.
+	 */
+	public void setChangedPropertyKeys(Set<String> changedPropertyKeys) {
+		this.changedPropertyKeys = changedPropertyKeys;
+	}
+
 }
\ No newline at end of file
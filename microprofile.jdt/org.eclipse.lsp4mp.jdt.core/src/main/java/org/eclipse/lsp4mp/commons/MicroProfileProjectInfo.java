@@ -14,8 +14,10 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.lsp4mp.commons.metadata.CompactProperties;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 
 /**
@@ -41,6 +43,18 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 	
 	private Set<String> classpath;
 
+	private Set<String> sourceTypes;
+
+	private String version;
+
+	private String baseVersion;
+
+	private List<Integer> removedProperties;
+
+	private List<Integer> removedHints;
+
+	private CompactProperties compactProperties;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -84,4 +98,137 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata {
 	public void setClasspath(Set<String> classpath) {
 		this.classpath = classpath;
 	}
+
+	/**
+	 * Returns the fully qualified names of the top-level Java types which have
+	 * been scanned when only some Java files have been scanned and null
+	 * otherwise.
+	 *
+	 * @return the fully qualified names of the top-level Java types which have
+	 *         been scanned when only some Java files have been scanned and null
+	 *         otherwise.
+	 */
+	public Set<String> getSourceTypes() {
+		return sourceTypes;
+	}
+
+	/**
+	 * Set the fully qualified names of the scanned top-level Java types.
+	 *
+	 * @param sourceTypes the fully qualified names of the scanned top-level Java
+	 *                    types.
+	 */
+	public void setSourceTypes(Set<String> sourceTypes) {
+		this.sourceTypes = sourceTypes;
+	}
+
+	/**
+	 * Returns the version of this project information and null otherwise.
+	 *
+	 * @return the version of this project information and null otherwise.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of this project information.
+	 *
+	 * @param version the version of this project information.
+	 */
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	/**
+	 * Returns the version of the project information this project information is
+	 * a delta of and null if this project information is complete.
+	 *
+	 * <p>
+	 * The properties (resp. hints) of a delta are computed by removing the
+	 * properties (resp. hints) at the indexes {@link #getRemovedProperties()}
+	 * (resp. {@link #getRemovedHints()}) from the base project information and by
+	 * appending the properties (resp. hints) of the delta.
+	 * </p>
+	 *
+	 * @return the version of the project information this project information is
+	 *         a delta of and null if this project information is complete.
+	 */
+	public String getBaseVersion() {
+		return baseVersion;
+	}
+
+	/**
+	 * Set the version of the project information this project information is a
+	 * delta of.
+	 *
+	 * @param baseVersion the version of the project information this project
+	 *                    information is a delta of.
+	 */
+	public void setBaseVersion(String baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
+	/**
+	 * Returns the indexes of the properties removed from the base project
+	 * information when this project information is a delta.
+	 *
+	 * @return the indexes of the properties removed from the base project
+	 *         information when this project information is a delta.
+	 */
+	public List<Integer> getRemovedProperties() {
+		return removedProperties;
+	}
+
+	/**
+	 * Set the indexes of the properties removed from the base project
+	 * information.
+	 *
+	 * @param removedProperties the indexes of the properties removed from the base
+	 *                          project information.
+	 */
+	public void setRemovedProperties(List<Integer> removedProperties) {
+		this.removedProperties = removedProperties;
+	}
+
+	/**
+	 * Returns the indexes of the hints removed from the base project information
+	 * when this project information is a delta.
+	 *
+	 * @return the indexes of the hints removed from the base project information
+	 *         when this project information is a delta.
+	 */
+	public List<Integer> getRemovedHints() {
+		return removedHints;
+	}
+
+	/**
+	 * Set the indexes of the hints removed from the base project information.
+	 *
+	 * @param removedHints the indexes of the hints removed from the base project
+	 *                     information.
+	 */
+	public void setRemovedHints(List<Integer> removedHints) {
+		this.removedHints = removedHints;
+	}
+
+	/**
+	 * Returns the compact representation of the properties when the properties
+	 * have been requested in compact mode and null otherwise.
+	 *
+	 * @return the compact representation of the properties when the properties
+	 *         have been requested in compact mode and null otherwise.
+	 */
+	public CompactProperties getCompactProperties() {
+		return compactProperties;
+	}
+
+	/**
+	 * Set the compact representation of the properties.
+	 *
+	 * @param compactProperties the compact representation of the properties.
+	 */
+	public void setCompactProperties(CompactProperties compactProperties) {
+		this.compactProperties = compactProperties;
+	}
 }
@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.commons;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * MicroProfile project information parameters.
@@ -29,6 +30,14 @@ public class MicroProfileProjectInfoParams {
 
 	private DocumentFormat documentFormat;
 
+	private Set<String> classpathEntries;
+
+	private Set<String> javaFileURIs;
+
+	private boolean compact;
+
+	private String version;
+
 	public MicroProfileProjectInfoParams() {
 	}
 
@@ -89,4 +98,111 @@ public class MicroProfileProjectInfoParams {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns the paths of the JARs whose properties must be collected and null if
+	 * the properties of the whole search scope must be collected.
+	 *
+	 * <p>
+	 * It is used with the dependencies scope to collect only the properties of
+	 * the JARs added to or removed from the classpath. When the properties of a
+	 * JAR cannot be collected (ex : JAR removed from the classpath and not
+	 * cached), the returned project information has null properties.
+	 * </p>
+	 *
+	 * @return the paths of the JARs whose properties must be collected and null if
+	 *         the properties of the whole search scope must be collected.
+	 */
+	public Set<String> getClasspathEntries() {
+		return classpathEntries;
+	}
+
+	/**
+	 * Set the paths of the JARs whose properties must be collected.
+	 *
+	 * @param classpathEntries the paths of the JARs whose properties must be
+	 *                         collected.
+	 */
+	public void setClasspathEntries(Set<String> classpathEntries) {
+		this.classpathEntries = classpathEntries;
+	}
+
+	/**
+	 * Returns the URIs of the Java files whose properties must be collected and
+	 * null if the properties of the whole search scope must be collected.
+	 *
+	 * <p>
+	 * It is used with the sources scope to collect only the properties of the
+	 * changed Java files. The Java files which reference the types of those files
+	 * are scanned too and the returned project information gives the scanned
+	 * types with {@link MicroProfileProjectInfo#getSourceTypes()}.
+	 * </p>
+	 *
+	 * @return the URIs of the Java files whose properties must be collected and
+	 *         null if the properties of the whole search scope must be collected.
+	 */
+	public Set<String> getJavaFileURIs() {
+		return javaFileURIs;
+	}
+
+	/**
+	 * Set the URIs of the Java files whose properties must be collected.
+	 *
+	 * @param javaFileURIs the URIs of the Java files whose properties must be
+	 *                     collected.
+	 */
+	public void setJavaFileURIs(Set<String> javaFileURIs) {
+		this.javaFileURIs = javaFileURIs;
+	}
+
+	/**
+	 * Returns true if the properties must be returned with the compact
+	 * representation and false otherwise.
+	 *
+	 * <p>
+	 * In compact mode, the properties are returned with
+	 * {@link MicroProfileProjectInfo#getCompactProperties()}, the descriptions of
+	 * the properties which have a Java origin are omitted (they are fetched on
+	 * demand with the MicroProfile property documentation request) and when
+	 * {@link #getVersion()} is the version of the last returned project
+	 * information, only the added and removed properties and hints are returned.
+	 * </p>
+	 *
+	 * @return true if the properties must be returned with the compact
+	 *         representation and false otherwise.
+	 */
+	public boolean isCompact() {
+		return compact;
+	}
+
+	/**
+	 * Set true if the properties must be returned with the compact representation
+	 * and false otherwise.
+	 *
+	 * @param compact true if the properties must be returned with the compact
+	 *                representation and false otherwise.
+	 */
+	public void setCompact(boolean compact) {
+		this.compact = compact;
+	}
+
+	/**
+	 * Returns the version of the project information owned by the client and null
+	 * otherwise.
+	 *
+	 * @return the version of the project information owned by the client and null
+	 *         otherwise.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of the project information owned by the client.
+	 *
+	 * @param version the version of the project information owned by the client.
+	 */
+	public void setVersion(String version) {
+		this.version = version;
+	}
 }
@@ -17,7 +17,17 @@ import java.util.List;
 import java.util.Set;
 
 /**
- * The MicroProfile project properties change event.
+ * The MicroProfile project properties change event, sent with the
+ * 'microprofile/propertiesChanged' notification.
+ *
+ * <p>
+ * The same notification is used to notify that the availability of a local
+ * server used by the JAX-RS URL code lenses has changed: the event has then an
+ * empty type, empty project URIs and {@link #isServerAvailabilityChanged()}
+ * returns true. The client must only refresh the code lenses. A client which
+ * doesn't know the 'serverAvailabilityChanged' flag receives an event without
+ * scope and without project, which doesn't change the cached properties.
+ * </p>
  *
  * @author Angelo ZERR
  *
@@ -28,6 +38,14 @@ public class MicroProfilePropertiesChangeEvent {
 
 	private Set<String> projectURIs;
 
+	private Set<String> addedClasspathEntries;
+
+	private Set<String> removedClasspathEntries;
+
+	private Set<String> javaFileURIs;
+
+	private boolean serverAvailabilityChanged;
+
 	/**
 	 * Returns the search scope to collect the MicroProfile properties.
 	 *
@@ -64,4 +82,106 @@ public class MicroProfilePropertiesChangeEvent {
 		this.projectURIs = projectURIs;
 	}
 
+	/**
+	 * Returns the paths of the JARs added to the classpath of the project and null
+	 * if the classpath change is unknown.
+	 *
+	 * <p>
+	 * When the added and removed classpath entries are both known, only the
+	 * properties of those JARs must be collected again, otherwise the properties
+	 * of the whole classpath must be collected again.
+	 * </p>
+	 *
+	 * @return the paths of the JARs added to the classpath of the project and null
+	 *         if the classpath change is unknown.
+	 */
+	public Set<String> getAddedClasspathEntries() {
+		return addedClasspathEntries;
+	}
+
+	/**
+	 * Set the paths of the JARs added to the classpath of the project.
+	 *
+	 * @param addedClasspathEntries the paths of the JARs added to the classpath of
+	 *                              the project.
+	 */
+	public void setAddedClasspathEntries(Set<String> addedClasspathEntries) {
+		this.addedClasspathEntries = addedClasspathEntries;
+	}
+
+	/**
+	 * Returns the paths of the JARs removed from the classpath of the project and
+	 * null if the classpath change is unknown.
+	 *
+	 * @return the paths of the JARs removed from the classpath of the project and
+	 *         null if the classpath change is unknown.
+	 */
+	public Set<String> getRemovedClasspathEntries() {
+		return removedClasspathEntries;
+	}
+
+	/**
+	 * Set the paths of the JARs removed from the classpath of the project.
+	 *
+	 * @param removedClasspathEntries the paths of the JARs removed from the
+	 *                                classpath of the project.
+	 */
+	public void setRemovedClasspathEntries(Set<String> removedClasspathEntries) {
+		this.removedClasspathEntries = removedClasspathEntries;
+	}
+
+	/**
+	 * Returns the URIs of the changed Java files and null if the changed Java
+	 * files are unknown.
+	 *
+	 * <p>
+	 * When the event type is only sources and the changed Java files are known,
+	 * only the properties of those Java files must be collected again, otherwise
+	 * the properties of the whole Java sources must be collected again.
+	 * </p>
+	 *
+	 * @return the URIs of the changed Java files and null if the changed Java
+	 *         files are unknown.
+	 */
+	public Set<String> getJavaFileURIs() {
+		return javaFileURIs;
+	}
+
+	/**
+	 * Set the URIs of the changed Java files.
+	 *
+	 * @param javaFileURIs the URIs of the changed Java files.
+	 */
+	public void setJavaFileURIs(Set<String> javaFileURIs) {
+		this.javaFileURIs = javaFileURIs;
+	}
+
+	/**
+	 * Returns true if the availability of a local server used by the JAX-RS URL
+	 * code lenses has changed and false otherwise.
+	 *
+	 * <p>
+	 * This event has no type, the properties have not changed and only the code
+	 * lenses must be refreshed.
+	 * </p>
+	 *
+	 * @return true if the availability of a local server used by the JAX-RS URL
+	 *         code lenses has changed and false otherwise.
+	 */
+	public boolean isServerAvailabilityChanged() {
+		return serverAvailabilityChanged;
+	}
+
+	/**
+	 * Set true if the availability of a local server used by the JAX-RS URL code
+	 * lenses has changed and false otherwise.
+	 *
+	 * @param serverAvailabilityChanged true if the availability of a local server
+	 *                                  used by the JAX-RS URL code lenses has
+	 *                                  changed and false otherwise.
+	 */
+	public void setServerAvailabilityChanged(boolean serverAvailabilityChanged) {
+		this.serverAvailabilityChanged = serverAvailabilityChanged;
+	}
+
 }
@@ -0,0 +1,255 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact representation of a list of {@link ItemMetadata} used to transfer
+ * the MicroProfile properties from the JDT LS extension to the MicroProfile
+ * language server.
+ *
+ * <p>
+ * Each string (name, type, source type, extension name, etc) is stored only
+ * once in a string table and a property is an array of indexes in this table.
+ * The JSON payload is smaller because the types, the source types and the
+ * extension names are shared by a lot of properties, and the decoded
+ * properties share the same {@link String} instances.
+ * </p>
+ *
+ * <p>
+ * Descriptions can be omitted for the properties which have a Java origin:
+ * they are fetched on demand with the MicroProfile property documentation
+ * request.
+ * </p>
+ *
+ */
+public class CompactProperties {
+
+	private static final int NAME = 0;
+	private static final int TYPE = 1;
+	private static final int DESCRIPTION = 2;
+	private static final int SOURCE_TYPE = 3;
+	private static final int SOURCE_FIELD = 4;
+	private static final int SOURCE_METHOD = 5;
+	private static final int DEFAULT_VALUE = 6;
+	private static final int EXTENSION_NAME = 7;
+	private static final int ORIGIN = 8;
+	private static final int CONVERTER_KINDS = 9;
+	private static final int PHASE = 10;
+	private static final int FLAGS = 11;
+	private static final int SOURCE_JARS = 12;
+	private static final int LENGTH = 13;
+
+	private static final int NULL = -1;
+
+	private static final String SOURCE_JARS_SEPARATOR = "\n";
+
+	private static final int REQUIRED_FLAG = 1;
+	private static final int SOURCE_FLAG = 2;
+	private static final int BINARY_FLAG = 4;
+
+	private List<String> strings;
+
+	private List<int[]> properties;
+
+	/**
+	 * Returns the string table.
+	 *
+	 * @return the string table.
+	 */
+	public List<String> getStrings() {
+		return strings;
+	}
+
+	/**
+	 * Set the string table.
+	 *
+	 * @param strings the string table.
+	 */
+	public void setStrings(List<String> strings) {
+		this.strings = strings;
+	}
+
+	/**
+	 * Returns the encoded properties.
+	 *
+	 * @return the encoded properties.
+	 */
+	public List<int[]> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Set the encoded properties.
+	 *
+	 * @param properties the encoded properties.
+	 */
+	public void setProperties(List<int[]> properties) {
+		this.properties = properties;
+	}
+
+	/**
+	 * Returns the compact representation of the given properties.
+	 *
+	 * @param properties           the properties to encode.
+	 * @param omitJavaDescriptions true if the descriptions of the properties which
+	 *                             have a Java origin must be omitted and false
+	 *                             otherwise.
+	 * @return the compact representation of the given properties.
+	 */
+	public static CompactProperties encode(List<ItemMetadata> properties, boolean omitJavaDescriptions) {
+		List<String> strings = new ArrayList<>();
+		Map<String, Integer> indexes = new HashMap<>();
+		List<int[]> encoded = new ArrayList<>(properties.size());
+		for (ItemMetadata property : properties) {
+			int[] item = new int[LENGTH];
+			item[NAME] = index(property.getName(), strings, indexes);
+			item[TYPE] = index(property.getType(), strings, indexes);
+			item[DESCRIPTION] = omitJavaDescriptions && isDocumentationProvided(property) ? NULL
+					: index(property.getDescription(), strings, indexes);
+			item[SOURCE_TYPE] = index(property.getSourceType(), strings, indexes);
+			item[SOURCE_FIELD] = index(property.getSourceField(), strings, indexes);
+			item[SOURCE_METHOD] = index(property.getSourceMethod(), strings, indexes);
+			item[DEFAULT_VALUE] = index(property.getDefaultValue(), strings, indexes);
+			item[EXTENSION_NAME] = index(property.getExtensionName(), strings, indexes);
+			item[ORIGIN] = index(property.getOrigin(), strings, indexes);
+			item[CONVERTER_KINDS] = index(toString(property.getConverterKinds()), strings, indexes);
+			item[PHASE] = property.getPhase();
+			int flags = property.isRequired() ? REQUIRED_FLAG : 0;
+			if (property.getSource() != null) {
+				flags |= SOURCE_FLAG;
+				if (property.isBinary()) {
+					flags |= BINARY_FLAG;
+				}
+			}
+			item[FLAGS] = flags;
+			item[SOURCE_JARS] = index(joinSourceJars(property.getSourceJars()), strings, indexes);
+			encoded.add(item);
+		}
+		CompactProperties result = new CompactProperties();
+		result.setStrings(strings);
+		result.setProperties(encoded);
+		return result;
+	}
+
+	/**
+	 * Returns the decoded properties.
+	 *
+	 * @return the decoded properties.
+	 */
+	public List<ItemMetadata> decode() {
+		if (properties == null) {
+			return new ArrayList<>();
+		}
+		List<ItemMetadata> result = new ArrayList<>(properties.size());
+		for (int[] item : properties) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(string(item[NAME]));
+			property.setType(string(item[TYPE]));
+			property.setDescription(string(item[DESCRIPTION]));
+			property.setSourceType(string(item[SOURCE_TYPE]));
+			property.setSourceField(string(item[SOURCE_FIELD]));
+			property.setSourceMethod(string(item[SOURCE_METHOD]));
+			property.setDefaultValue(string(item[DEFAULT_VALUE]));
+			property.setExtensionName(string(item[EXTENSION_NAME]));
+			property.setOrigin(string(item[ORIGIN]));
+			property.setConverterKinds(toConverterKinds(string(item[CONVERTER_KINDS])));
+			property.setPhase(item[PHASE]);
+			int flags = item[FLAGS];
+			property.setRequired((flags & REQUIRED_FLAG) != 0);
+			if ((flags & SOURCE_FLAG) != 0) {
+				property.setSource((flags & BINARY_FLAG) == 0);
+			}
+			if (item.length > SOURCE_JARS) {
+				property.setSourceJars(splitSourceJars(string(item[SOURCE_JARS])));
+			}
+			result.add(property);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns true if the description of the given property can be fetched with
+	 * the MicroProfile property documentation request and false otherwise.
+	 *
+	 * @param property the property.
+	 * @return true if the description of the given property can be fetched with
+	 *         the MicroProfile property documentation request and false otherwise.
+	 */
+	public static boolean isDocumentationProvided(ItemMetadata property) {
+		return property.isJavaOrigin() && property.getSourceType() != null;
+	}
+
+	private String string(int index) {
+		return index == NULL ? null : strings.get(index);
+	}
+
+	private static int index(String value, List<String> strings, Map<String, Integer> indexes) {
+		if (value == null) {
+			return NULL;
+		}
+		Integer index = indexes.get(value);
+		if (index == null) {
+			index = strings.size();
+			strings.add(value);
+			indexes.put(value, index);
+		}
+		return index;
+	}
+
+	private static String toString(List<ConverterKind> converterKinds) {
+		if (converterKinds == null) {
+			return null;
+		}
+		StringBuilder result = new StringBuilder();
+		for (ConverterKind converterKind : converterKinds) {
+			if (result.length() > 0) {
+				result.append(',');
+			}
+			result.append(converterKind.getValue());
+		}
+		return result.toString();
+	}
+
+	private static String joinSourceJars(List<String> sourceJars) {
+		// the paths of the JARs are stored in one string, most of the properties are
+		// contributed by one JAR and share the same string.
+		return sourceJars != null ? String.join(SOURCE_JARS_SEPARATOR, sourceJars) : null;
+	}
+
+	private static List<String> splitSourceJars(String value) {
+		if (value == null) {
+			return null;
+		}
+		return new ArrayList<>(Arrays.asList(value.split(SOURCE_JARS_SEPARATOR)));
+	}
+
+	private static List<ConverterKind> toConverterKinds(String value) {
+		if (value == null) {
+			return null;
+		}
+		List<ConverterKind> converterKinds = new ArrayList<>();
+		if (!value.isEmpty()) {
+			for (String kind : value.split(",")) {
+				converterKinds.add(ConverterKind.forValue(Integer.parseInt(kind)));
+			}
+		}
+		return converterKinds;
+	}
+}
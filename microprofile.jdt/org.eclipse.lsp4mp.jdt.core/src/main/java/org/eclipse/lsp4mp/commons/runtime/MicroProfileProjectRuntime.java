@@ -13,12 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.runtime;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
 import java.lang.reflect.Type;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -106,6 +111,44 @@ public class MicroProfileProjectRuntime implements TypeProvider {
 		return converterRuntimeSupport.findConverter(type, enumConstNamesProvider);
 	}
 
+	/**
+	 * Warms up the converter runtime of the given execution mode: bootstraps the
+	 * MicroProfile Config and resolves the converters of the given types, so that
+	 * the first value validation doesn't pay for it.
+	 *
+	 * @param types                  the property types (ex : java.lang.Integer).
+	 * @param enumConstNamesProvider the enum constant names provider.
+	 * @param preferredMode          the execution mode.
+	 * @param isCanceled             returns true if the warm-up must be stopped
+	 *                               (ex : the project runtime is not used
+	 *                               anymore).
+	 */
+	public void warmUp(Collection<String> types, EnumConstantsProvider enumConstNamesProvider,
+			ExecutionMode preferredMode, BooleanSupplier isCanceled) {
+		long start = System.currentTimeMillis();
+		try {
+			ConverterRuntimeSupportApi converterRuntimeSupport = getConvertRuntimeSupport(preferredMode);
+			long configTime = System.currentTimeMillis() - start;
+			int nbConverters = 0;
+			for (String type : types) {
+				if (isCanceled.getAsBoolean()) {
+					return;
+				}
+				if (converterRuntimeSupport.findConverter(type, enumConstNamesProvider) != null) {
+					nbConverters++;
+				}
+			}
+			if (LOGGER.isLoggable(Level.FINE)) {
+				LOGGER.log(Level.FINE, String.format(
+						"Warm-up of the %s converter runtime done in %d ms (config: %d ms, %d converters)",
+						converterRuntimeSupport.getExecutionMode(), System.currentTimeMillis() - start, configTime,
+						nbConverters));
+			}
+		} catch (Throwable t) {
+			LOGGER.log(Level.WARNING, "Error while warming up the converter runtime", t);
+		}
+	}
+
 	/**
 	 * Loads all available MicroProfileRuntimeSupport implementations via
 	 * ServiceLoader.
@@ -164,10 +207,16 @@ public class MicroProfileProjectRuntime implements TypeProvider {
 	 */
 	public void updateClassPath(Set<String> classpath) {
 		this.classpath = classpath;
+		ProjectClassLoader oldClassLoader = this.runtimeClassLoader;
 		// Create a ParentLast URLClassLoader specific for this project
 		this.runtimeClassLoader = new ProjectClassLoader(classpath, parentClassLoader);
 		fullRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
 		safeRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
+		if (oldClassLoader != null) {
+			// The jars which are still used by the new class loader are not closed
+			closeClassLoader(oldClassLoader);
+		}
+		logClassLoaderStatistics();
 	}
 
 	/**
@@ -246,6 +295,65 @@ public class MicroProfileProjectRuntime implements TypeProvider {
 		runtimeClassLoader.clearProjectClassCache();
 	}
 
+	/**
+	 * Closes the class loader of the project runtime, to call when the project
+	 * runtime is not used anymore.
+	 */
+	public void close() {
+		closeClassLoader(runtimeClassLoader);
+		fullRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
+		safeRuntimesSupport.values().forEach(MicroProfileRuntimeSupport::reset);
+		logClassLoaderStatistics();
+	}
+
+	private static void closeClassLoader(ProjectClassLoader classLoader) {
+		try {
+			classLoader.close();
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while closing the class loader of the project runtime", e);
+		}
+	}
+
+	/**
+	 * Returns the number of project class loaders which are not closed.
+	 *
+	 * @return the number of project class loaders which are not closed.
+	 */
+	public static int getClassLoaderCount() {
+		return ProjectClassLoader.getOpenedCount();
+	}
+
+	/**
+	 * Returns the number of class loaders of project jars which are not closed.
+	 * The project class loaders with the same jars share the same class loader.
+	 *
+	 * @return the number of class loaders of project jars which are not closed.
+	 */
+	public static int getJarClassLoaderCount() {
+		return JarClassLoaderPool.getClassLoaderCount();
+	}
+
+	/**
+	 * Returns the used metaspace (in bytes) of the JVM and -1 if it is unknown.
+	 *
+	 * @return the used metaspace (in bytes) of the JVM and -1 if it is unknown.
+	 */
+	public static long getMetaspaceUsed() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if ("Metaspace".equals(pool.getName())) {
+				return pool.getUsage().getUsed();
+			}
+		}
+		return -1;
+	}
+
+	private static void logClassLoaderStatistics() {
+		if (LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine(String.format("Project class loaders: %d, jar class loaders: %d, metaspace used: %d KB",
+					getClassLoaderCount(), getJarClassLoaderCount(), getMetaspaceUsed() / 1024));
+		}
+	}
+
 	/**
 	 * Returns the classpath.
 	 * 
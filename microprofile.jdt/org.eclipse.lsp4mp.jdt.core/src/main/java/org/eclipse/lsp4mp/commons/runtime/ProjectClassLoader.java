@@ -23,23 +23,64 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * ProjectClassLoader loads classes from the project output directories and
  * project jars using a parent-last strategy. Classes from the parent
  * ClassLoader are used only if the class cannot be found in the project
  * directories or jars.
+ *
+ * <p>
+ * The class loader is parallel capable: classes are loaded with a lock per
+ * class name. The class files of the project output directories are indexed
+ * in memory and the class names which cannot be found are cached until
+ * {@link #clearProjectClassCache()} is called.
+ * </p>
  */
 class ProjectClassLoader extends ClassLoader {
 
-	private final URLClassLoader jarClassLoader; // classloader for project jars
+	private static final Logger LOGGER = Logger.getLogger(ProjectClassLoader.class.getName());
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	private static final int MAX_MISSING_CLASSES = 10000;
+
+	// number of project class loaders which are not closed
+	private static final AtomicInteger OPENED_COUNT = new AtomicInteger();
+
+	private final URLClassLoader jarClassLoader; // shared classloader for project jars
 	private final List<Path> classesDirectories; // output folders (target/classes, build/classes)
 	private final Map<String, Class<?>> projectClassCache = new ConcurrentHashMap<>();
 
+	private boolean closed;
+
+	// class file path (ex : org/acme/Foo.class) -> class file of the output folders,
+	// null if the output folders are not indexed
+	private volatile Map<String, Path> classFiles;
+
+	// class names which cannot be found in the project and in the parent
+	private final Map<String, Boolean> missingClasses = new LinkedHashMap<String, Boolean>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+			return size() > MAX_MISSING_CLASSES;
+		}
+	};
+
 	/**
 	 * Create a ProjectClassLoader for a set of paths (jars + dirs).
 	 *
@@ -65,45 +106,58 @@ class ProjectClassLoader extends ClassLoader {
 			}
 		}
 
-		// jarClassLoader has null parent: we handle delegation ourselves
-		this.jarClassLoader = new URLClassLoader(jarUrls.toArray(new URL[0]), null);
+		// jarClassLoader is shared by the project class loaders with the same jars
+		this.jarClassLoader = JarClassLoaderPool.acquire(jarUrls);
 		this.classesDirectories = dirPaths;
+		OPENED_COUNT.incrementAndGet();
 	}
 
 	/**
 	 * Parent-last loadClass: tries project dirs -> project jars -> parent
 	 */
 	@Override
-	protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
-		// 1. Check project cache
-		Class<?> cached = projectClassCache.get(name);
-		if (cached != null) {
-			if (resolve)
-				resolveClass(cached);
-			return cached;
-		}
+	protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+		synchronized (getClassLoadingLock(name)) {
+			// 1. Check project cache
+			Class<?> cached = projectClassCache.get(name);
+			if (cached != null) {
+				if (resolve)
+					resolveClass(cached);
+				return cached;
+			}
 
-		// 2. Try project output directories
-		try {
-			Class<?> cls = findClass(name);
-			if (resolve)
-				resolveClass(cls);
-			return cls;
-		} catch (ClassNotFoundException ignored) {
-		}
+			// 2. Check the classes which have not been found
+			if (isMissingClass(name)) {
+				throw new ClassNotFoundException(name);
+			}
 
-		// 3. Try project jars
-		try {
-			Class<?> cls = jarClassLoader.loadClass(name);
-			if (resolve)
-				resolveClass(cls);
-			projectClassCache.put(name, cls); // cache for future
-			return cls;
-		} catch (ClassNotFoundException ignored) {
-		}
+			// 3. Try project output directories
+			try {
+				Class<?> cls = findClass(name);
+				if (resolve)
+					resolveClass(cls);
+				return cls;
+			} catch (ClassNotFoundException ignored) {
+			}
 
-		// 4. Fallback to parent classloader
-		return super.loadClass(name, resolve);
+			// 4. Try project jars
+			try {
+				Class<?> cls = jarClassLoader.loadClass(name);
+				if (resolve)
+					resolveClass(cls);
+				projectClassCache.put(name, cls); // cache for future
+				return cls;
+			} catch (ClassNotFoundException ignored) {
+			}
+
+			// 5. Fallback to parent classloader
+			try {
+				return super.loadClass(name, resolve);
+			} catch (ClassNotFoundException e) {
+				addMissingClass(name);
+				throw e;
+			}
+		}
 	}
 
 	/**
@@ -118,23 +172,68 @@ class ProjectClassLoader extends ClassLoader {
 
 		String relPath = name.replace('.', '/') + ".class";
 
-		for (Path dir : classesDirectories) {
-			Path classFile = dir.resolve(relPath);
-			if (Files.exists(classFile)) {
-				try {
-					byte[] bytes = Files.readAllBytes(classFile);
-					Class<?> cls = defineClass(name, bytes, 0, bytes.length);
-					projectClassCache.put(name, cls);
-					return cls;
-				} catch (IOException e) {
-					throw new RuntimeException("Failed to read class file: " + classFile, e);
-				}
+		Path classFile = getClassFiles().get(relPath);
+		if (classFile != null) {
+			try {
+				byte[] bytes = Files.readAllBytes(classFile);
+				Class<?> cls = defineClass(name, bytes, 0, bytes.length);
+				projectClassCache.put(name, cls);
+				return cls;
+			} catch (IOException e) {
+				throw new RuntimeException("Failed to read class file: " + classFile, e);
 			}
 		}
 
 		throw new ClassNotFoundException(name);
 	}
 
+	/**
+	 * Returns the class files of the project output directories indexed by their
+	 * path relative to the output directory.
+	 */
+	private Map<String, Path> getClassFiles() {
+		Map<String, Path> files = classFiles;
+		if (files == null) {
+			synchronized (this) {
+				files = classFiles;
+				if (files == null) {
+					files = indexClassFiles(classesDirectories);
+					classFiles = files;
+				}
+			}
+		}
+		return files;
+	}
+
+	private static Map<String, Path> indexClassFiles(List<Path> classesDirectories) {
+		Map<String, Path> files = new HashMap<>();
+		for (Path dir : classesDirectories) {
+			try (Stream<Path> paths = Files.walk(dir)) {
+				paths.filter(path -> path.toString().endsWith(".class") && Files.isRegularFile(path))
+						.forEach(path -> {
+							// the first output directory wins, like the class lookup order
+							String relPath = dir.relativize(path).toString().replace('\\', '/');
+							files.putIfAbsent(relPath, path);
+						});
+			} catch (IOException e) {
+				LOGGER.log(Level.WARNING, "Error while indexing the class files of '" + dir + "'", e);
+			}
+		}
+		return files;
+	}
+
+	private boolean isMissingClass(String name) {
+		synchronized (missingClasses) {
+			return missingClasses.get(name) != null;
+		}
+	}
+
+	private void addMissingClass(String name) {
+		synchronized (missingClasses) {
+			missingClasses.put(name, Boolean.TRUE);
+		}
+	}
+
 	@Override
 	protected URL findResource(String name) {
 		// 1. Project output directories
@@ -191,6 +290,37 @@ class ProjectClassLoader extends ClassLoader {
 	 */
 	public void clearProjectClassCache() {
 		projectClassCache.clear();
+		classFiles = null;
+		synchronized (missingClasses) {
+			missingClasses.clear();
+		}
+	}
+
+	/**
+	 * Releases the loaded classes and the project jars, which are closed if they
+	 * are not used by another project class loader.
+	 *
+	 * @throws IOException if a jar cannot be closed.
+	 */
+	public void close() throws IOException {
+		clearProjectClassCache();
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+		OPENED_COUNT.decrementAndGet();
+		JarClassLoaderPool.release(jarClassLoader);
+	}
+
+	/**
+	 * Returns the number of project class loaders which are not closed.
+	 *
+	 * @return the number of project class loaders which are not closed.
+	 */
+	static int getOpenedCount() {
+		return OPENED_COUNT.get();
 	}
 
 	/**
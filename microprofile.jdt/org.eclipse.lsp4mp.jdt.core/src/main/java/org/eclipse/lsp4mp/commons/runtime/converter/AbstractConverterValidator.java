@@ -95,6 +95,9 @@ public abstract class AbstractConverterValidator<T> implements ConverterValidato
 
 		try {
 			convert(value);
+		} catch (ConverterTimeoutException e) {
+			// The value has not been converted, it is neither valid nor invalid
+			throw e;
 		} catch (Throwable e) {
 			String errorMessage = getErrorMessage(e);
 			if (errorMessage != null) {
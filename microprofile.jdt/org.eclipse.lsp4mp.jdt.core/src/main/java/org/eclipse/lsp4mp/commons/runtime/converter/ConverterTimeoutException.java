@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime.converter;
+
+/**
+ * Thrown by a {@link ConverterValidator} when the converter has not converted
+ * the value before the deadline. The value is neither valid nor invalid, no
+ * diagnostic must be reported for it.
+ */
+public class ConverterTimeoutException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates a new exception with the given message.
+	 *
+	 * @param message the message.
+	 */
+	public ConverterTimeoutException(String message) {
+		super(message);
+	}
+}
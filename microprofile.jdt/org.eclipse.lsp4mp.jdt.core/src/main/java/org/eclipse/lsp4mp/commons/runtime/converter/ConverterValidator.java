@@ -62,6 +62,18 @@ public interface ConverterValidator {
 	 */
 	boolean canValidate();
 
+	/**
+	 * Returns true if the diagnostics reported for a value depend only on the
+	 * value and can be cached until the project classpath changes, and false
+	 * otherwise (ex : the enum constants of a project enum can change).
+	 *
+	 * @return true if the diagnostics reported for a value can be cached and
+	 *         false otherwise.
+	 */
+	default boolean isCacheable() {
+		return true;
+	}
+
 	/**
 	 * Returns the converter full qualified class name and null otherwise.
 	 * 
@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Red Hat Inc. and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+ * which is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+ *
+ * Contributors:
+ *     Red Hat Inc. - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime.converter.full;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4mp.commons.runtime.converter.ConverterTimeoutException;
+
+/**
+ * Bounded executor which runs the project converters (FULL mode) with a
+ * deadline, so that a slow or blocking converter cannot stall the validation
+ * thread.
+ *
+ * <p>
+ * The deadline starts when the converter call starts running. A thread whose
+ * call exceeds the deadline is considered as stuck: a new thread replaces it in
+ * the pool until the stuck call ends, up to {@link #MAX_STUCK_THREADS} stuck
+ * threads.
+ * </p>
+ */
+class ConverterExecutor {
+
+	/** Deadline (in ms) of a converter call */
+	static final long CONVERTER_TIMEOUT_MS = 500;
+
+	/** Maximum time (in ms) a converter call waits for a free thread */
+	static final long MAX_PENDING_TIME_MS = 5000;
+
+	static final int MAX_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+	static final int MAX_STUCK_THREADS = 16;
+
+	private static final int MAX_PENDING_CALLS = 64;
+
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	private static final ThreadPoolExecutor EXECUTOR;
+
+	private static int stuckThreads;
+
+	static {
+		EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(MAX_PENDING_CALLS), r -> {
+					Thread t = new Thread(r, "MicroProfile-Converter-" + THREAD_COUNTER.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+		EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * A converter call executed with the class loader of the caller.
+	 */
+	private static class ConverterCall<V> implements Callable<V> {
+
+		private static final int PENDING = 0;
+		private static final int RUNNING = 1;
+		private static final int DONE = 2;
+		private static final int STUCK = 3;
+
+		private final Callable<V> callable;
+
+		private final ClassLoader contextClassLoader;
+
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		private final AtomicInteger state = new AtomicInteger(PENDING);
+
+		private volatile long startTime;
+
+		public ConverterCall(Callable<V> callable, ClassLoader contextClassLoader) {
+			this.callable = callable;
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public V call() throws Exception {
+			startTime = System.nanoTime();
+			state.set(RUNNING);
+			started.countDown();
+			Thread thread = Thread.currentThread();
+			ClassLoader oldClassLoader = thread.getContextClassLoader();
+			thread.setContextClassLoader(contextClassLoader);
+			try {
+				return callable.call();
+			} finally {
+				thread.setContextClassLoader(oldClassLoader);
+				if (!state.compareAndSet(RUNNING, DONE)) {
+					// The stuck call has ended, its thread is available again
+					stuckThreadReleased();
+				}
+			}
+		}
+
+		/**
+		 * Returns true if the call was running and is now marked as stuck.
+		 */
+		public boolean markStuck() {
+			return state.compareAndSet(RUNNING, STUCK);
+		}
+	}
+
+	private ConverterExecutor() {
+	}
+
+	/**
+	 * Calls the given converter code on the converter executor and waits for its
+	 * result until the deadline.
+	 *
+	 * @param <V>      the result type.
+	 * @param callable the converter code.
+	 * @return the result of the converter code.
+	 * @throws ConverterTimeoutException if the converter code has not been
+	 *                                   executed before the deadline.
+	 * @throws Exception                 the exception thrown by the converter
+	 *                                   code.
+	 */
+	static <V> V call(Callable<V> callable) throws Exception {
+		// The converter is executed with the class loader of the caller
+		ConverterCall<V> call = new ConverterCall<>(callable, Thread.currentThread().getContextClassLoader());
+		Future<V> future;
+		try {
+			future = EXECUTOR.submit(call);
+		} catch (RejectedExecutionException e) {
+			// All the converter threads are busy (ex : blocked by converters)
+			throw new ConverterTimeoutException("Too many pending converter calls");
+		}
+		try {
+			if (!call.started.await(MAX_PENDING_TIME_MS, TimeUnit.MILLISECONDS)) {
+				future.cancel(false);
+				throw new ConverterTimeoutException(
+						"Converter call not started after " + MAX_PENDING_TIME_MS + " ms");
+			}
+			long elapsed = System.nanoTime() - call.startTime;
+			return future.get(TimeUnit.MILLISECONDS.toNanos(CONVERTER_TIMEOUT_MS) - elapsed, TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			if (call.markStuck()) {
+				stuckThreadAdded();
+			}
+			future.cancel(true);
+			throw new ConverterTimeoutException("Converter call exceeded " + CONVERTER_TIMEOUT_MS + " ms");
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the number of converter calls which wait for a free thread.
+	 *
+	 * @return the number of converter calls which wait for a free thread.
+	 */
+	static int getPendingCalls() {
+		return EXECUTOR.getQueue().size();
+	}
+
+	private static synchronized void stuckThreadAdded() {
+		stuckThreads++;
+		if (stuckThreads <= MAX_STUCK_THREADS) {
+			// Replace the stuck thread with a new thread
+			EXECUTOR.setMaximumPoolSize(MAX_THREADS + stuckThreads);
+			EXECUTOR.setCorePoolSize(MAX_THREADS + stuckThreads);
+		}
+	}
+
+	private static synchronized void stuckThreadReleased() {
+		stuckThreads--;
+		if (stuckThreads < MAX_STUCK_THREADS) {
+			EXECUTOR.setCorePoolSize(MAX_THREADS + stuckThreads);
+			EXECUTOR.setMaximumPoolSize(MAX_THREADS + stuckThreads);
+		}
+	}
+}
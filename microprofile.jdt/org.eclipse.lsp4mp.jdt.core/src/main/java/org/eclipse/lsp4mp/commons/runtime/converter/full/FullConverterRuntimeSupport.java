@@ -16,13 +16,20 @@ package org.eclipse.lsp4mp.commons.runtime.converter.full;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4mp.commons.runtime.DiagnosticsCollector;
+import org.eclipse.lsp4mp.commons.runtime.EnumConstantsProvider;
 import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
 import org.eclipse.lsp4mp.commons.runtime.converter.AbstractConverterRuntimeSupport;
+import org.eclipse.lsp4mp.commons.runtime.converter.ConverterRuntimeSupportApi;
+import org.eclipse.lsp4mp.commons.runtime.converter.ConverterTimeoutException;
 import org.eclipse.lsp4mp.commons.runtime.converter.ConverterValidator;
 
 /**
@@ -51,6 +58,11 @@ import org.eclipse.lsp4mp.commons.runtime.converter.ConverterValidator;
  * Once the {@code Config} is loaded, validation and conversion are delegated to
  * {@link FullConverterValidator}.
  * </p>
+ *
+ * <p>
+ * The project converters are called with a deadline. When the converter of a
+ * type keeps timing out, the values of this type are validated in SAFE mode.
+ * </p>
  * 
  * @author Angelo
  */
@@ -61,6 +73,15 @@ public class FullConverterRuntimeSupport extends AbstractConverterRuntimeSupport
 	/** Default resolver class names to try first */
 	private static final String[] DEFAULT_RESOLVERS = { "io.smallrye.config.SmallRyeConfigProviderResolver" };
 
+	/** Number of timeouts after which a type is validated in SAFE mode */
+	private static final int MAX_TIMEOUTS_PER_TYPE = 3;
+
+	/** Number of converter timeouts per type */
+	private final Map<String, Integer> timeouts = new ConcurrentHashMap<>();
+
+	/** Total number of converter timeouts */
+	private final AtomicLong timeoutCount = new AtomicLong();
+
 	/**
 	 * Creates a new FULL runtime support instance for the given project.
 	 *
@@ -103,6 +124,72 @@ public class FullConverterRuntimeSupport extends AbstractConverterRuntimeSupport
 		return null;
 	}
 
+	@Override
+	public void validate(String value, String type, EnumConstantsProvider enumConstNamesProvider,
+			DiagnosticsCollector collector) {
+		if (isDemoted(type)) {
+			getSafeRuntimeSupport().validate(value, type, enumConstNamesProvider, collector);
+			return;
+		}
+		super.validate(value, type, enumConstNamesProvider, collector);
+	}
+
+	@Override
+	public ConverterValidator findConverter(String type, EnumConstantsProvider enumConstNamesProvider) {
+		if (isDemoted(type)) {
+			return getSafeRuntimeSupport().findConverter(type, enumConstNamesProvider);
+		}
+		return super.findConverter(type, enumConstNamesProvider);
+	}
+
+	@Override
+	protected void converterTimedOut(String type, ConverterTimeoutException e) {
+		timeoutCount.incrementAndGet();
+		int count = timeouts.merge(type, 1, Integer::sum);
+		if (count == MAX_TIMEOUTS_PER_TYPE) {
+			LOGGER.log(Level.WARNING, "The converter of type '" + type + "' has timed out " + count
+					+ " times, the values of this type are validated in SAFE mode");
+		} else {
+			super.converterTimedOut(type, e);
+		}
+	}
+
+	/**
+	 * Returns true if the values of the given type are validated in SAFE mode
+	 * because its converter keeps timing out and false otherwise.
+	 *
+	 * @param type the fully-qualified type name
+	 * @return true if the values of the given type are validated in SAFE mode and
+	 *         false otherwise.
+	 */
+	public boolean isDemoted(String type) {
+		Integer count = timeouts.get(type);
+		return count != null && count >= MAX_TIMEOUTS_PER_TYPE;
+	}
+
+	/**
+	 * Returns the total number of converter calls which have timed out.
+	 *
+	 * @return the total number of converter calls which have timed out.
+	 */
+	public long getTimeoutCount() {
+		return timeoutCount.get();
+	}
+
+	/**
+	 * Resets the cached configuration and converters and gives a new chance to
+	 * the converters which have timed out.
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		timeouts.clear();
+	}
+
+	private ConverterRuntimeSupportApi getSafeRuntimeSupport() {
+		return getProject().getRuntimeSupport(ConverterRuntimeSupportApi.class, ExecutionMode.SAFE);
+	}
+
 	/**
 	 * Creates a new {@link FullConverterValidator} for the specified type using the
 	 * loaded {@code Config}.
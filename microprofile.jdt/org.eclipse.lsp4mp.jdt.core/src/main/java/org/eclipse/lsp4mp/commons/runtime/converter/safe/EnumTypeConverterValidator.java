@@ -160,6 +160,17 @@ public class EnumTypeConverterValidator implements ConverterValidator {
 		return true;
 	}
 
+	/**
+	 * The enum constants can be refreshed, the validation of a value cannot be
+	 * cached.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean isCacheable() {
+		return false;
+	}
+
 	@Override
 	public String getConverterClassName() {
 		return null;
@@ -70,7 +70,9 @@ public abstract class AbstractStaticPropertiesProvider extends AbstractPropertie
 
 	@Override
 	public final void endSearch(SearchContext context, IProgressMonitor monitor) {
-		if (isAdaptedFor(context, monitor)) {
+		// Static properties depend on the classpath of the project, they are not
+		// collected in the context of one dependency JAR
+		if (context.getDependency() == null && isAdaptedFor(context, monitor)) {
 			collectStaticProperties(context, monitor);
 		}
 	}
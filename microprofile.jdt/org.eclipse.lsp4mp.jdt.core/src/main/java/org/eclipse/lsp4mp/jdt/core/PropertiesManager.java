@@ -13,10 +13,15 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -30,17 +35,21 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
@@ -60,14 +69,19 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDefinitionParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
 import org.eclipse.lsp4mp.jdt.internal.core.FakeJavaProject;
+import org.eclipse.lsp4mp.jdt.internal.core.JarMetadataCache;
+import org.eclipse.lsp4mp.jdt.internal.core.MicroProfileProjectInfoVersions;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesCollector;
 import org.eclipse.lsp4mp.jdt.internal.core.PropertiesProviderRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.StaticPropertyProviderRegistry;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * MicroProfile properties manager used to:
@@ -106,7 +120,39 @@ public class PropertiesManager {
 			// The uri doesn't belong to a Java project
 			return createInfo(file.getProject(), ClasspathKind.NONE);
 		}
-		return getMicroProfileProjectInfo(file, params.getScopes(), utils, params.getDocumentFormat(), progress);
+		if (params.getClasspathEntries() != null) {
+			// Collect only the properties of some JARs (added to / removed from the
+			// classpath)
+			String projectName = file.getProject().getName();
+			IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel()
+					.getJavaProject(projectName);
+			ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
+			return getMicroProfileProjectInfo(javaProject, params.getClasspathEntries(), classpathKind, utils,
+					params.getDocumentFormat(), progress);
+		}
+		if (params.getJavaFileURIs() != null && MicroProfilePropertiesScope.isOnlySources(params.getScopes())) {
+			// Collect only the properties of some Java files (saved)
+			String projectName = file.getProject().getName();
+			IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel()
+					.getJavaProject(projectName);
+			ClasspathKind classpathKind = JDTMicroProfileUtils.getClasspathKind(file, javaProject);
+			List<ICompilationUnit> javaFiles = new ArrayList<>();
+			for (String javaFileURI : params.getJavaFileURIs()) {
+				ICompilationUnit javaFile = utils.resolveCompilationUnit(javaFileURI);
+				if (javaFile != null && javaProject.equals(javaFile.getJavaProject())) {
+					javaFiles.add(javaFile);
+				}
+			}
+			return getMicroProfileProjectInfoForJavaFiles(javaProject, javaFiles, classpathKind, utils,
+					params.getDocumentFormat(), progress);
+		}
+		MicroProfileProjectInfo info = getMicroProfileProjectInfo(file, params.getScopes(), utils,
+				params.getDocumentFormat(), progress);
+		if (params.isCompact()) {
+			MicroProfileProjectInfoVersions.getInstance().toCompact(info, params.getUri(), params.getScopes(),
+					params.getDocumentFormat(), params.getVersion());
+		}
+		return info;
 	}
 
 	public MicroProfileProjectInfo getMicroProfileProjectInfo(IFile file, List<MicroProfilePropertiesScope> scopes,
@@ -167,6 +213,220 @@ public class PropertiesManager {
 		return info;
 	}
 
+	/**
+	 * Returns the MicroProfile properties and hints contributed by the given JARs.
+	 *
+	 * <p>
+	 * The JARs which belong to the classpath of the project are scanned (or loaded
+	 * from the {@link JarMetadataCache}), the properties of the JARs which have
+	 * been removed from the classpath are loaded from the {@link JarMetadataCache}.
+	 * When the properties of a JAR cannot be retrieved, or when the search
+	 * classpath is extended by a properties provider (ex : Quarkus deployment
+	 * JARs), the returned project information has null properties and hints and
+	 * the properties of the whole classpath must be collected again.
+	 * </p>
+	 *
+	 * @param javaProject      the Java project.
+	 * @param classpathEntries the paths of the JARs.
+	 * @param classpathKind    the classpath kind.
+	 * @param utils            the JDT LS utilities
+	 * @param documentFormat   the document format to use to format Javadoc.
+	 * @param monitor          the progress monitor.
+	 * @return the MicroProfile properties and hints contributed by the given JARs.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfo(IJavaProject javaProject,
+			Set<String> classpathEntries, ClasspathKind classpathKind, IJDTUtils utils,
+			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
+		if (classpathKind == ClasspathKind.NONE) {
+			return info;
+		}
+		List<MicroProfilePropertiesScope> scopes = Collections
+				.singletonList(MicroProfilePropertiesScope.dependencies);
+		SubMonitor mainMonitor = SubMonitor.convert(monitor, "Scanning properties for '"
+				+ javaProject.getProject().getName() + "' project in " + classpathEntries.size() + " JARs", 100);
+		try {
+			IJavaProject javaProjectForSearch = configureSearchClasspath(javaProject, false, scopes,
+					mainMonitor.split(20));
+			if (javaProjectForSearch instanceof FakeJavaProject) {
+				// The extra JARs depend on the whole classpath
+				return createUnknownInfo(info);
+			}
+			Map<String, IPackageFragmentRoot> dependencies = new HashMap<>();
+			for (IPackageFragmentRoot root : getApplicationLibraries(javaProjectForSearch, scopes)) {
+				String path = JDTMicroProfileUtils.getArchivePath(root);
+				if (path != null) {
+					dependencies.put(path, root);
+				}
+			}
+
+			PropertiesCollector collector = new PropertiesCollector(info, scopes);
+			List<IPackageFragmentRoot> dependenciesToScan = new ArrayList<>();
+			for (String classpathEntry : classpathEntries) {
+				IPackageFragmentRoot root = dependencies.get(classpathEntry);
+				if (root != null) {
+					dependenciesToScan.add(root);
+				} else {
+					// The JAR has been removed from the classpath
+					ConfigurationMetadata metadata = JarMetadataCache.getInstance().get(new File(classpathEntry),
+							documentFormat, getPropertiesProvidersId());
+					if (metadata == null) {
+						return createUnknownInfo(info);
+					}
+					collector.mergeDependency(metadata, classpathEntry);
+				}
+			}
+			if (!dependenciesToScan.isEmpty()) {
+				SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat,
+						scopes);
+				beginSearch(context, mainMonitor);
+				scanDependencies(createSearchPattern(), javaProjectForSearch, dependenciesToScan, false,
+						documentFormat, scopes, collector, utils, mainMonitor.split(80));
+				// Static properties which are available when a JAR is added
+				endSearch(context, mainMonitor);
+			}
+		} finally {
+			mainMonitor.done();
+		}
+		Set<String> classpath = JDTMicroProfileProjectManager.getInstance().getJDTMicroProfileProject(javaProject)
+				.getProjectRuntime().getClasspath();
+		info.setClasspath(classpath);
+		return info;
+	}
+
+	/**
+	 * Returns the MicroProfile properties and hints collected from the given Java
+	 * files.
+	 *
+	 * <p>
+	 * The properties of a Java file can depend on the types that it references
+	 * (ex : the hint of an enum type is collected from the class which uses the
+	 * enum in a <code>@ConfigProperty</code> field), so the Java files which
+	 * reference the types of the given Java files are scanned too. The fully
+	 * qualified names of the top-level types of the scanned Java files are
+	 * available with {@link MicroProfileProjectInfo#getSourceTypes()}: the
+	 * properties of those types must be replaced with the returned properties.
+	 * </p>
+	 *
+	 * @param javaProject    the Java project.
+	 * @param javaFiles      the changed Java files.
+	 * @param classpathKind  the classpath kind.
+	 * @param utils          the JDT LS utilities
+	 * @param documentFormat the document format to use to format Javadoc.
+	 * @param monitor        the progress monitor.
+	 * @return the MicroProfile properties and hints collected from the given Java
+	 *         files.
+	 * @throws JavaModelException
+	 * @throws CoreException
+	 */
+	public MicroProfileProjectInfo getMicroProfileProjectInfoForJavaFiles(IJavaProject javaProject,
+			List<ICompilationUnit> javaFiles, ClasspathKind classpathKind, IJDTUtils utils,
+			DocumentFormat documentFormat, IProgressMonitor monitor) throws JavaModelException, CoreException {
+		MicroProfileProjectInfo info = createInfo(javaProject.getProject(), classpathKind);
+		if (classpathKind == ClasspathKind.NONE) {
+			return info;
+		}
+		List<MicroProfilePropertiesScope> scopes = MicroProfilePropertiesScope.ONLY_SOURCES;
+		SubMonitor mainMonitor = SubMonitor.convert(monitor, "Scanning properties for '"
+				+ javaProject.getProject().getName() + "' project in " + javaFiles.size() + " Java files", 100);
+		try {
+			boolean excludeTestCode = classpathKind == ClasspathKind.SRC;
+			IJavaProject javaProjectForSearch = configureSearchClasspath(javaProject, excludeTestCode, scopes,
+					mainMonitor.split(20));
+
+			// Collect the Java files to scan
+			Set<String> sourceTypes = new HashSet<>();
+			List<IType> types = new ArrayList<>();
+			for (ICompilationUnit javaFile : javaFiles) {
+				// the properties of the primary type must be removed if the type doesn't
+				// exist anymore
+				sourceTypes.add(getPrimaryTypeName(javaFile));
+				if (javaFile.exists()) {
+					types.addAll(Arrays.asList(javaFile.getAllTypes()));
+				}
+			}
+			Set<ICompilationUnit> compilationUnits = new LinkedHashSet<>(javaFiles);
+			compilationUnits.addAll(
+					findReferencingCompilationUnits(javaProject, types, excludeTestCode, mainMonitor.split(30)));
+			List<IJavaElement> elementsToSearch = new ArrayList<>();
+			for (ICompilationUnit compilationUnit : compilationUnits) {
+				if (compilationUnit.exists()) {
+					elementsToSearch.add(compilationUnit);
+					for (IType type : compilationUnit.getTypes()) {
+						sourceTypes.add(type.getFullyQualifiedName('$'));
+					}
+				}
+			}
+
+			// Scan the Java files
+			PropertiesCollector collector = new PropertiesCollector(info, scopes);
+			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
+			beginSearch(context, mainMonitor);
+			if (!elementsToSearch.isEmpty()) {
+				IJavaSearchScope scope = BasicSearchEngine.createJavaSearchScope(excludeTestCode,
+						elementsToSearch.toArray(new IJavaElement[elementsToSearch.size()]),
+						IJavaSearchScope.SOURCES);
+				search(createSearchPattern(), scope, context, mainMonitor.split(50));
+			}
+			endSearch(context, mainMonitor);
+			info.setSourceTypes(sourceTypes);
+		} finally {
+			mainMonitor.done();
+		}
+		return info;
+	}
+
+	/**
+	 * Returns the Java source files of the given project which reference the given
+	 * types.
+	 */
+	private static Set<ICompilationUnit> findReferencingCompilationUnits(IJavaProject javaProject,
+			List<IType> types, boolean excludeTestCode, IProgressMonitor monitor) throws CoreException {
+		Set<ICompilationUnit> compilationUnits = new HashSet<>();
+		SearchPattern pattern = null;
+		for (IType type : types) {
+			SearchPattern typePattern = SearchPattern.createPattern(type, IJavaSearchConstants.REFERENCES);
+			pattern = pattern == null ? typePattern : SearchPattern.createOrPattern(pattern, typePattern);
+		}
+		if (pattern == null) {
+			return compilationUnits;
+		}
+		IJavaSearchScope scope = BasicSearchEngine.createJavaSearchScope(excludeTestCode,
+				new IJavaElement[] { javaProject }, IJavaSearchScope.SOURCES);
+		SearchEngine engine = new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
+				new SearchRequestor() {
+
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						if (match.getElement() instanceof IJavaElement element) {
+							IJavaElement compilationUnit = element.getAncestor(IJavaElement.COMPILATION_UNIT);
+							if (compilationUnit != null) {
+								compilationUnits.add((ICompilationUnit) compilationUnit);
+							}
+						}
+					}
+				}, monitor);
+		return compilationUnits;
+	}
+
+	private static String getPrimaryTypeName(ICompilationUnit compilationUnit) {
+		String typeName = JavaCore.removeJavaLikeExtension(compilationUnit.getElementName());
+		IJavaElement parent = compilationUnit.getParent();
+		if (parent instanceof IPackageFragment packageFragment && !packageFragment.isDefaultPackage()) {
+			return packageFragment.getElementName() + '.' + typeName;
+		}
+		return typeName;
+	}
+
+	private static MicroProfileProjectInfo createUnknownInfo(MicroProfileProjectInfo info) {
+		info.setProperties(null);
+		info.setHints(null);
+		return info;
+	}
+
 	/**
 	 * Configure the classpath used for the search of MicroProfile properties. At
 	 * this step we can add new JARs to use for the search (ex : for Quarkus we add
@@ -221,37 +481,214 @@ public class PropertiesManager {
 			subMonitor.split(5); // give feedback to the user that something is happening
 
 			SearchPattern pattern = createSearchPattern();
-			SearchEngine engine = new SearchEngine();
-			IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode, subMonitor);
+			List<IPackageFragmentRoot> dependencies = getDependenciesToCache(javaProjectForSearch, scopes);
 
 			// Execute the search
 			PropertiesCollector collector = new PropertiesCollector(info, scopes);
 			SearchContext context = new SearchContext(javaProjectForSearch, collector, utils, documentFormat, scopes);
 			beginSearch(context, subMonitor);
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
-					new SearchRequestor() {
+			if (dependencies.isEmpty()) {
+				IJavaSearchScope scope = createSearchScope(javaProjectForSearch, scopes, excludeTestCode,
+						subMonitor);
+				search(pattern, scope, context, subMonitor);
+			} else {
+				// Search in the sources of the project and search each dependency JAR
+				// separately to cache its properties. The properties of the sources are
+				// collected first (like with the classpath of a Maven / Gradle project where
+				// the output folders are before the JARs), and the dependencies are collected
+				// in the classpath order.
+				if (scopes.contains(MicroProfilePropertiesScope.sources)) {
+					IJavaSearchScope scope = createSearchScope(javaProjectForSearch,
+							MicroProfilePropertiesScope.ONLY_SOURCES, excludeTestCode, subMonitor);
+					search(pattern, scope, context, subMonitor.split(20));
+				}
+				scanDependencies(pattern, javaProjectForSearch, dependencies, excludeTestCode, documentFormat, scopes,
+						collector, utils, subMonitor.split(70));
+			}
+			endSearch(context, subMonitor);
+		} finally {
+			subMonitor.done();
+		}
+	}
 
-						@Override
-						public void acceptSearchMatch(SearchMatch match) throws CoreException {
-							// We collect only references from java code and not from JavaDoc
+	/**
+	 * Collect the properties of the given dependencies. The properties of a JAR
+	 * which has not changed since the last scan are loaded from the
+	 * {@link JarMetadataCache}, the other dependencies are searched with their own
+	 * search context (which begins and ends like the search of the project) and the
+	 * collected properties are cached.
+	 *
+	 * @param pattern              the Java search pattern.
+	 * @param javaProjectForSearch Java project which hosts original JARs and new
+	 *                             JARs to use for the search.
+	 * @param dependencies         the dependencies to scan.
+	 * @param excludeTestCode      true if test must be excluded and false
+	 *                             otherwise.
+	 * @param documentFormat       the document format to use to format Javadoc.
+	 * @param scopes               the scopes
+	 * @param collector            the properties collector of the project.
+	 * @param utils                the JDT LS utilities
+	 * @param monitor              the progress monitor.
+	 * @throws CoreException
+	 */
+	private void scanDependencies(SearchPattern pattern, IJavaProject javaProjectForSearch,
+			List<IPackageFragmentRoot> dependencies, boolean excludeTestCode, DocumentFormat documentFormat,
+			List<MicroProfilePropertiesScope> scopes, PropertiesCollector collector, IJDTUtils utils,
+			IProgressMonitor monitor) throws CoreException {
+		JarMetadataCache cache = JarMetadataCache.getInstance();
+		String providers = getPropertiesProvidersId();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, dependencies.size());
+		int cached = 0;
+		for (IPackageFragmentRoot root : dependencies) {
+			if (subMonitor.isCanceled()) {
+				throw new OperationCanceledException();
+			}
+			File jar = getArchiveFile(root);
+			ConfigurationMetadata metadata = jar != null ? cache.get(jar, documentFormat, providers) : null;
+			if (metadata != null) {
+				cached++;
+				subMonitor.worked(1);
+			} else {
+				metadata = new ConfigurationMetadata();
+				PropertiesCollector dependencyCollector = new PropertiesCollector(metadata, scopes);
+				SearchContext dependencyContext = new SearchContext(javaProjectForSearch, dependencyCollector, utils,
+						documentFormat, scopes, root);
+				IJavaSearchScope scope = createJavaSearchScope(javaProjectForSearch, excludeTestCode,
+						new IJavaElement[] { root }, IJavaSearchScope.APPLICATION_LIBRARIES);
+				SubMonitor dependencyMonitor = subMonitor.split(1);
+				beginSearch(dependencyContext, dependencyMonitor);
+				search(pattern, scope, dependencyContext, dependencyMonitor);
+				endSearch(dependencyContext, dependencyMonitor);
+				if (jar != null) {
+					cache.put(jar, documentFormat, providers, metadata);
+				}
+			}
+			collector.mergeDependency(metadata, JDTMicroProfileUtils.getArchivePath(root));
+		}
+		if (LOGGER.isLoggable(Level.INFO)) {
+			LOGGER.info("Properties of " + cached + "/" + dependencies.size() + " dependencies loaded from the cache.");
+		}
+	}
 
-							// --> In this case ConfigProperties will be collected :
-							// @ConfigProperties
-							// class A
+	/**
+	 * Returns the identifier of the registered properties providers (with the
+	 * version of the bundles which contribute them) used to invalidate the
+	 * {@link JarMetadataCache} when the providers change.
+	 */
+	private String getPropertiesProvidersId() {
+		return getPropertiesProviders().stream() //
+				.map(provider -> {
+					Class<?> providerClass = provider.getClass();
+					Bundle bundle = FrameworkUtil.getBundle(providerClass);
+					return bundle != null ? providerClass.getName() + '@' + bundle.getVersion()
+							: providerClass.getName();
+				}) //
+				.collect(Collectors.joining(","));
+	}
 
-							// --> In this case ConfigProperties will not be collected :
-							// /* Demonstrate {@link ConfigProperties} */
-							// class A
+	private void search(SearchPattern pattern, IJavaSearchScope scope, SearchContext context,
+			IProgressMonitor monitor) throws CoreException {
+		SearchEngine engine = new SearchEngine();
+		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, scope,
+				new SearchRequestor() {
 
-							if (!match.isInsideDocComment()) {
-								collectProperties(match, context, subMonitor);
-							}
+					@Override
+					public void acceptSearchMatch(SearchMatch match) throws CoreException {
+						// We collect only references from java code and not from JavaDoc
+
+						// --> In this case ConfigProperties will be collected :
+						// @ConfigProperties
+						// class A
+
+						// --> In this case ConfigProperties will not be collected :
+						// /* Demonstrate {@link ConfigProperties} */
+						// class A
+
+						if (!match.isInsideDocComment()) {
+							collectProperties(match, context, monitor);
 						}
-					}, subMonitor);
-			endSearch(context, subMonitor);
-		} finally {
-			subMonitor.done();
+					}
+				}, monitor);
+	}
+
+	/**
+	 * Returns the application libraries of the given project which are searched
+	 * one by one to cache their properties and an empty list if the whole
+	 * classpath must be searched at once.
+	 *
+	 * @param javaProjectForSearch the Java project used for the search.
+	 * @param scopes               the scopes.
+	 * @return the application libraries of the given project which are searched
+	 *         one by one to cache their properties.
+	 * @throws JavaModelException
+	 */
+	private static List<IPackageFragmentRoot> getDependenciesToCache(IJavaProject javaProjectForSearch,
+			List<MicroProfilePropertiesScope> scopes) throws JavaModelException {
+		if (!scopes.contains(MicroProfilePropertiesScope.dependencies) || !JarMetadataCache.getInstance().isEnabled()) {
+			return Collections.emptyList();
 		}
+		return getApplicationLibraries(javaProjectForSearch, scopes);
+	}
+
+	/**
+	 * Returns the application libraries (without the JRE) of the given project and
+	 * the extra JARs of the fake project.
+	 *
+	 * @param javaProjectForSearch the Java project used for the search.
+	 * @param scopes               the scopes.
+	 * @return the application libraries of the given project.
+	 * @throws JavaModelException
+	 */
+	private static List<IPackageFragmentRoot> getApplicationLibraries(IJavaProject javaProjectForSearch,
+			List<MicroProfilePropertiesScope> scopes) throws JavaModelException {
+		List<IPackageFragmentRoot> dependencies = new ArrayList<>();
+		IJavaProject rootProject = FakeJavaProject.getRealJavaProject(javaProjectForSearch);
+		for (IPackageFragmentRoot root : rootProject.getPackageFragmentRoots()) {
+			if (root.getKind() == IPackageFragmentRoot.K_BINARY && isApplicationLibrary(root, rootProject)) {
+				dependencies.add(root);
+			}
+		}
+		if (javaProjectForSearch instanceof FakeJavaProject fakeProject) {
+			// Extra JARs (ex : Quarkus deployment JARs)
+			for (IJavaElement element : fakeProject.getElementsToSearch(scopes)) {
+				if (element instanceof IPackageFragmentRoot root && !dependencies.contains(root)) {
+					dependencies.add(root);
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	private static boolean isApplicationLibrary(IPackageFragmentRoot root, IJavaProject javaProject)
+			throws JavaModelException {
+		IClasspathEntry rawEntry = root.getRawClasspathEntry();
+		if (rawEntry == null) {
+			return false;
+		}
+		switch (rawEntry.getEntryKind()) {
+		case IClasspathEntry.CPE_LIBRARY:
+		case IClasspathEntry.CPE_VARIABLE:
+			return true;
+		case IClasspathEntry.CPE_CONTAINER:
+			// Exclude the JRE container
+			IClasspathContainer container = JavaCore.getClasspathContainer(rawEntry.getPath(), javaProject);
+			return container != null && container.getKind() == IClasspathContainer.K_APPLICATION;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the JAR file of the given package fragment root and null if it is
+	 * not a JAR (ex : class folder) and must not be cached.
+	 */
+	private static File getArchiveFile(IPackageFragmentRoot root) {
+		String path = JDTMicroProfileUtils.getArchivePath(root);
+		if (path == null) {
+			return null;
+		}
+		File file = new File(path);
+		return file.isFile() ? file : null;
 	}
 
 	private void beginSearch(SearchContext context, IProgressMonitor monitor) {
@@ -594,6 +1031,14 @@ public class PropertiesManager {
 		if (file == null) {
 			throw new UnsupportedOperationException(String.format("Cannot find IFile for '%s'", params.getUri()));
 		}
+		// The description may have been omitted from the project information returned
+		// in compact mode
+		String description = MicroProfileProjectInfoVersions.getInstance().getDescription(
+				JDTMicroProfileUtils.getProjectURI(file.getProject()), params.getSourceType(),
+				params.getSourceField(), params.getSourceMethod(), params.getDocumentFormat());
+		if (description != null) {
+			return description;
+		}
 		String projectName = file.getProject().getName();
 		IJavaProject javaProject = JavaModelManager.getJavaModelManager().getJavaModel().getJavaProject(projectName);
 
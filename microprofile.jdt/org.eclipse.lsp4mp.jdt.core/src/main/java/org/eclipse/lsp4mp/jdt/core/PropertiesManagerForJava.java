@@ -17,6 +17,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -80,11 +85,13 @@ import org.eclipse.lsp4mp.jdt.core.java.inlayhint.JavaInlayHintsContext;
 import org.eclipse.lsp4mp.jdt.core.utils.ASTNodeUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.config.java.ConfigPropertyReferences;
 import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4mp.jdt.internal.core.java.codelens.JavaCodeLensDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.completion.JavaCompletionDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.definition.JavaDefinitionDefinition;
+import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.hover.JavaHoverDefinition;
 import org.eclipse.lsp4mp.jdt.internal.core.java.inlayhint.JavaInlayHintDefinition;
@@ -98,6 +105,8 @@ import org.eclipse.lsp4mp.jdt.internal.core.java.symbols.JavaWorkspaceSymbolsDef
  */
 public class PropertiesManagerForJava {
 
+	private static final Logger LOGGER = Logger.getLogger(PropertiesManagerForJava.class.getName());
+
 	private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
 	public static PropertiesManagerForJava getInstance() {
@@ -106,10 +115,30 @@ public class PropertiesManagerForJava {
 
 	private final CodeActionHandler codeActionHandler;
 
+	private ForkJoinPool diagnosticsPool;
+
 	private PropertiesManagerForJava() {
 		this.codeActionHandler = new CodeActionHandler();
 	}
 
+	/**
+	 * Returns the pool used to collect the diagnostics of several Java files in
+	 * parallel. The pool is bounded by the number of available processors.
+	 *
+	 * @return the pool used to collect the diagnostics of several Java files in
+	 *         parallel.
+	 */
+	private synchronized ForkJoinPool getDiagnosticsPool() {
+		if (diagnosticsPool == null) {
+			diagnosticsPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("MicroProfile-Java-Diagnostics-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		}
+		return diagnosticsPool;
+	}
+
 	/**
 	 * Returns the Java file information (ex : package name) from the given file URI
 	 * and null otherwise.
@@ -353,6 +382,12 @@ public class PropertiesManagerForJava {
 	/**
 	 * Returns diagnostics for the given uris list.
 	 *
+	 * <p>
+	 * When several Java files are validated, their diagnostics are collected in
+	 * parallel and returned in the order of the given uris. A Java file whose
+	 * validation fails has empty diagnostics.
+	 * </p>
+	 *
 	 * @param params the diagnostics parameters
 	 * @param utils  the utilities class
 	 * @return diagnostics for the given uris list.
@@ -366,11 +401,41 @@ public class PropertiesManagerForJava {
 		}
 		DocumentFormat documentFormat = params.getDocumentFormat();
 		List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
+		ConfigPropertyReferences references = ConfigPropertyReferences.getInstance();
 		for (String uri : uris) {
-			List<Diagnostic> diagnostics = new ArrayList<>();
-			PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-			publishDiagnostics.add(publishDiagnostic);
-			collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+			if (!references.isAffected(uri, params.getChangedPropertyKeys())) {
+				// The Java file doesn't refer to the changed properties, its diagnostics
+				// don't change
+				continue;
+			}
+			publishDiagnostics.add(new PublishDiagnosticsParams(uri, new ArrayList<>()));
+		}
+		if (publishDiagnostics.size() == 1) {
+			PublishDiagnosticsParams publishDiagnostic = publishDiagnostics.get(0);
+			collectDiagnostics(publishDiagnostic.getUri(), utils, documentFormat, params.getSettings(),
+					publishDiagnostic.getDiagnostics(), monitor);
+		} else if (!publishDiagnostics.isEmpty()) {
+			// Each Java file is validated with its own context and diagnostics list in a
+			// task of the pool
+			ForkJoinPool pool = getDiagnosticsPool();
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(publishDiagnostics.size());
+			for (PublishDiagnosticsParams publishDiagnostic : publishDiagnostics) {
+				tasks.add(pool.submit(() -> {
+					if (monitor.isCanceled()) {
+						return;
+					}
+					try {
+						collectDiagnostics(publishDiagnostic.getUri(), utils, documentFormat, params.getSettings(),
+								publishDiagnostic.getDiagnostics(), monitor);
+					} catch (Exception e) {
+						// The error of one Java file must not fail the validation of the other files
+						LOGGER.log(Level.SEVERE,
+								"Error while collecting the diagnostics of '" + publishDiagnostic.getUri() + "'.", e);
+						publishDiagnostic.getDiagnostics().clear();
+					}
+				}));
+			}
+			tasks.forEach(ForkJoinTask::join);
 		}
 		if (monitor.isCanceled()) {
 			return Collections.emptyList();
@@ -381,10 +446,29 @@ public class PropertiesManagerForJava {
 	private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
 			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
 		ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
+		JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
 		if (typeRoot == null) {
+			ConfigPropertyReferences.getInstance().remove(uri);
+			cache.remove(uri);
 			return;
 		}
 
+		// Returns the cached diagnostics when the Java file content and its project
+		// have not changed
+		IBuffer buffer = getBuffer(typeRoot);
+		String projectName = typeRoot.getJavaProject().getElementName();
+		long contentStamp = buffer != null ? cache.getContentStamp(uri, buffer) : 0;
+		long projectGeneration = cache.getProjectGeneration(projectName);
+		if (buffer != null) {
+			List<Diagnostic> cachedDiagnostics = cache.getDiagnostics(uri, contentStamp, projectName, documentFormat,
+					settings);
+			if (cachedDiagnostics != null) {
+				diagnostics.addAll(cachedDiagnostics);
+				return;
+			}
+		}
+		ConfigPropertyReferences.getInstance().startIndexing(uri);
+
 		// Collect all adapted diagnostics participant
 		JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings,
 				diagnostics);
@@ -401,6 +485,18 @@ public class PropertiesManagerForJava {
 			definition.collectDiagnostics(context, monitor);
 		});
 		definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+
+		if (buffer != null && !monitor.isCanceled()) {
+			cache.putDiagnostics(uri, contentStamp, projectGeneration, documentFormat, settings, diagnostics);
+		}
+	}
+
+	private static IBuffer getBuffer(ITypeRoot typeRoot) {
+		try {
+			return typeRoot.getBuffer();
+		} catch (JavaModelException e) {
+			return null;
+		}
 	}
 
 	/**
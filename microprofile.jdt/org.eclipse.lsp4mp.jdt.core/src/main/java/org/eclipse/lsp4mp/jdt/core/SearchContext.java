@@ -16,6 +16,7 @@ package org.eclipse.lsp4mp.jdt.core;
 import java.util.List;
 
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
@@ -30,13 +31,20 @@ public class SearchContext extends BaseContext {
 	private final IPropertiesCollector collector;
 	private final IJDTUtils utils;
 	private final DocumentFormat documentFormat;
+	private final IPackageFragmentRoot dependency;
 
 	public SearchContext(IJavaProject javaProject, IPropertiesCollector collector, IJDTUtils utils,
 			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes) {
+		this(javaProject, collector, utils, documentFormat, scopes, null);
+	}
+
+	public SearchContext(IJavaProject javaProject, IPropertiesCollector collector, IJDTUtils utils,
+			DocumentFormat documentFormat, List<MicroProfilePropertiesScope> scopes, IPackageFragmentRoot dependency) {
 		super(javaProject, scopes);
 		this.collector = collector;
 		this.utils = utils;
 		this.documentFormat = documentFormat;
+		this.dependency = dependency;
 	}
 
 	/**
@@ -65,4 +73,15 @@ public class SearchContext extends BaseContext {
 	public DocumentFormat getDocumentFormat() {
 		return documentFormat;
 	}
+
+	/**
+	 * Returns the dependency JAR searched alone with this context (to cache its
+	 * properties) and null if the context is used to search the project.
+	 *
+	 * @return the dependency JAR searched alone with this context and null if the
+	 *         context is used to search the project.
+	 */
+	public IPackageFragmentRoot getDependency() {
+		return dependency;
+	}
 }
@@ -13,25 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core.jaxrs;
 
-import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
-import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
-import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
-
-import java.util.concurrent.atomic.AtomicReference;
-
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchMatch;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.lsp4mp.jdt.core.java.codelens.JavaCodeLensContext;
-import org.eclipse.lsp4mp.jdt.core.utils.JDTTypeUtils;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
 
 /**
  * JAX-RS context.
@@ -45,12 +32,6 @@ public class JaxRsContext {
 
 	private static final String CONTEXT_KEY = JaxRsContext.class.getName();
 
-	private static final SearchPattern SEARCH_PATTERN = SearchPattern.createOrPattern(
-			SearchPattern.createPattern(JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
-					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH),
-			SearchPattern.createPattern(JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
-					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH));
-
 	private int serverPort;
 
 	// The quarkus.http.root-path property in application.properties
@@ -105,13 +86,8 @@ public class JaxRsContext {
 		if (applicationPathLoaded) {
 			return applicationPath;
 		}
-		IType applicationPathType = JDTTypeUtils.findType(javaProject,
-				JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION);
-		if (applicationPathType == null) {
-			applicationPathType = JDTTypeUtils.findType(javaProject,
-					JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION);
-		}
-		applicationPath = findApplicationPath(javaProject, monitor);
+		applicationPath = JaxRsEndpointIndex.getInstance().getApplicationPath(javaProject,
+				monitor != null ? monitor : new NullProgressMonitor());
 		applicationPathLoaded = true;
 		return applicationPath;
 	}
@@ -161,46 +137,4 @@ public class JaxRsContext {
 		return localBaseURL.toString();
 	}
 
-	/**
-	 * Use the java search engine to search the java project for the location and
-	 * value of the @ApplicationPath annotation, or null if not found
-	 *
-	 * @param annotationType the type representing the @ApplicationPath annotation
-	 * @param context        the java code lens context
-	 * @param monitor        the progress monitor
-	 * @return the value of the @ApplicationPath annotation, or null if not found
-	 * @throws CoreException
-	 */
-	private static String findApplicationPath(IJavaProject javaProject,
-			IProgressMonitor monitor) throws CoreException {
-		AtomicReference<String> applicationPathRef = new AtomicReference<String>();
-		SearchEngine engine = new SearchEngine();
-		engine.search(SEARCH_PATTERN, new SearchParticipant[] {
-				SearchEngine.getDefaultSearchParticipant()
-		}, createSearchScope(javaProject), new SearchRequestor() {
-
-			@Override
-			public void acceptSearchMatch(SearchMatch match) throws CoreException {
-				Object o = match.getElement();
-				if (o instanceof IType) {
-					collectApplicationPath((IType) o);
-				}
-			}
-
-			private void collectApplicationPath(IType type) throws CoreException {
-				String applicationPathValue = getJaxRsApplicationPathValue(type);
-				if (applicationPathValue != null) {
-					applicationPathRef.set(applicationPathValue);
-				}
-			}
-		}, monitor);
-		return applicationPathRef.get();
-	}
-
-	private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
-		return SearchEngine.createJavaSearchScope(new IJavaProject[] {
-				javaProject
-		}, IJavaSearchScope.SOURCES);
-	}
-
 }
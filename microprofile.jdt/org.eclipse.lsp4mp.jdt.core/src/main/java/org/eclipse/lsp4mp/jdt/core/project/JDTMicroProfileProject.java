@@ -37,6 +37,7 @@ import org.eclipse.lsp4mp.commons.utils.ConfigSourcePropertiesProviderUtils;
 import org.eclipse.lsp4mp.commons.utils.IConfigSourcePropertiesProvider;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.jdt.internal.core.ConfigSourceProviderRegistry;
+import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 import org.eclipse.lsp4mp.jdt.internal.core.project.ConfigSourcePropertiesProvider;
 
 /**
@@ -216,6 +217,7 @@ public class JDTMicroProfileProject {
 	 * of properties, yaml file is saved.
 	 */
 	public void evictConfigSourcesCache() {
+		JavaDiagnosticsCache.getInstance().projectChanged(javaProject.getElementName());
 		configSources = null;
 		propertyValueExpander = null;
 		aggregatedPropertiesProvider = null;
@@ -230,13 +232,35 @@ public class JDTMicroProfileProject {
 	 *         otherwise (ex: target/classes/microprofile-config.properties)
 	 */
 	public boolean updateConfigSource(IFile file) {
+		JavaDiagnosticsCache.getInstance().projectChanged(javaProject.getElementName());
 		if (configSources != null) {
 			for (IConfigSource configSource : configSources) {
 				// If file comes from target folder, the file will not be updated.
 				if (configSource.getSourceConfigFileURI().endsWith(file.getLocation().toString())) {
+					PropertyValueExpander expander = propertyValueExpander;
+					if (expander == null) {
+						configSource.reset();
+						aggregatedPropertiesProvider = null;
+						return true;
+					}
+					// Update the expander with only the keys changed by the config file
+					Map<String, String> oldValues = getPropertyValues(configSource);
 					configSource.reset();
-					propertyValueExpander = null;
-					aggregatedPropertiesProvider = null;
+					Map<String, String> newValues = getPropertyValues(configSource);
+					Set<String> changedKeys = new HashSet<>();
+					for (Map.Entry<String, String> oldValue : oldValues.entrySet()) {
+						if (!oldValue.getValue().equals(newValues.get(oldValue.getKey()))) {
+							changedKeys.add(oldValue.getKey());
+						}
+					}
+					for (String key : newValues.keySet()) {
+						if (!oldValues.containsKey(key)) {
+							changedKeys.add(key);
+						}
+					}
+					IConfigSourcePropertiesProvider provider = getAggregatedPropertiesProvider();
+					expander.update(provider, changedKeys);
+					aggregatedPropertiesProvider = provider;
 					return true;
 				}
 			}
@@ -244,6 +268,17 @@ public class JDTMicroProfileProject {
 		return false;
 	}
 
+	private static Map<String, String> getPropertyValues(IConfigSource configSource) {
+		Map<String, String> values = new HashMap<>();
+		for (String key : configSource.getAllKeys()) {
+			String value = configSource.getProperty(key);
+			if (value != null) {
+				values.put(key, value);
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Load config sources from the given project and sort it by using
 	 * {@link IConfigSource#getOrdinal()}
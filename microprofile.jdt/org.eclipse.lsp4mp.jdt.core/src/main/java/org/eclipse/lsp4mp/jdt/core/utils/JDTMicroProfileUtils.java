@@ -24,6 +24,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.core.JavaProject;
@@ -168,6 +169,28 @@ public class JDTMicroProfileUtils {
 				.toArray(IJavaProject[]::new);
 	}
 
+	/**
+	 * Returns the file system path of the given JAR and null if the given package
+	 * fragment root is not a JAR (ex : source folder, class folder).
+	 *
+	 * <p>
+	 * The package fragment root can be a handle of a JAR removed from the
+	 * classpath.
+	 * </p>
+	 *
+	 * @param root the package fragment root.
+	 * @return the file system path of the given JAR and null if the given package
+	 *         fragment root is not a JAR.
+	 */
+	public static String getArchivePath(IPackageFragmentRoot root) {
+		if (!root.isArchive()) {
+			return null;
+		}
+		IResource resource = root.getResource();
+		IPath location = resource != null ? resource.getLocation() : root.getPath();
+		return location != null ? location.toOSString() : null;
+	}
+
 	/**
 	 * Returns an array of all the projects that are currently loaded into the JDT
 	 * workspace.
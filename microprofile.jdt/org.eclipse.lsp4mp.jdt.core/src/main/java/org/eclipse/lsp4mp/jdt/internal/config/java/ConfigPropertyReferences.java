@@ -0,0 +1,95 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.config.java;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the MicroProfile properties referenced by the Java files.
+ *
+ * <p>
+ * The index is filled by {@link MicroProfileConfigASTValidator} with the
+ * property names of the <code>@ConfigProperty</code> annotations (prefixed with
+ * the <code>@ConfigProperties</code> prefix) each time a Java file is validated.
+ * It is used to validate again only the Java files whose diagnostics can change
+ * when some properties are added, removed or updated in a config file: the
+ * other diagnostics participants don't use the config files.
+ * </p>
+ *
+ */
+public class ConfigPropertyReferences {
+
+	private static final ConfigPropertyReferences INSTANCE = new ConfigPropertyReferences();
+
+	public static ConfigPropertyReferences getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<String /* Java file URI */, Set<String>> references = new ConcurrentHashMap<>();
+
+	/**
+	 * Clear the referenced properties of the given Java file which is validated.
+	 *
+	 * @param uri the Java file URI.
+	 */
+	public void startIndexing(String uri) {
+		references.put(uri, ConcurrentHashMap.newKeySet());
+	}
+
+	/**
+	 * Add the given property name to the properties referenced by the given Java
+	 * file.
+	 *
+	 * @param uri          the Java file URI.
+	 * @param propertyName the referenced property name.
+	 */
+	public void addReference(String uri, String propertyName) {
+		references.computeIfAbsent(uri, k -> ConcurrentHashMap.newKeySet()).add(propertyName);
+	}
+
+	/**
+	 * Returns true if the diagnostics of the given Java file can change when the
+	 * given properties change and false otherwise.
+	 *
+	 * @param uri                 the Java file URI.
+	 * @param changedPropertyKeys the names (without profile) of the properties
+	 *                            which have been added, removed or updated and null
+	 *                            if the changes are unknown.
+	 * @return true if the diagnostics of the given Java file can change when the
+	 *         given properties change and false otherwise.
+	 */
+	public boolean isAffected(String uri, Set<String> changedPropertyKeys) {
+		if (changedPropertyKeys == null) {
+			return true;
+		}
+		Set<String> names = references.get(uri);
+		if (names == null) {
+			// the Java file has never been validated
+			return true;
+		}
+		return !Collections.disjoint(names, changedPropertyKeys);
+	}
+
+	/**
+	 * Remove the given Java file from the index.
+	 *
+	 * @param uri the Java file URI.
+	 */
+	public void remove(String uri) {
+		references.remove(uri);
+	}
+}
@@ -197,6 +197,8 @@ public class MicroProfileConfigASTValidator extends JavaASTValidator {
 			}
 
 			if (name != null) {
+				// the diagnostics of the Java file depend on the value of this property
+				ConfigPropertyReferences.getInstance().addReference(getContext().getUri(), name);
 				if (name.isEmpty()) {
 					String message = MessageFormat.format(EMPTY_KEY_ERROR_MESSAGE, CONFIG_PROPERTY_ANNOTATION_NAME);
 					Diagnostic d = super.addDiagnostic(message, MICRO_PROFILE_CONFIG_DIAGNOSTIC_SOURCE, nameExpression,
@@ -0,0 +1,328 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.lsp4j.jsonrpc.json.adapters.EnumTypeAdapter;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * On-disk cache of the MicroProfile properties and hints contributed by a
+ * dependency JAR.
+ *
+ * <p>
+ * Dependency JARs are immutable, so the properties collected by the properties
+ * providers for a JAR are stored in a JSON file of the plugin state location
+ * and reused across server restarts. A cache entry is valid when the JAR path,
+ * size and last modified time are the same. When only the last modified time
+ * changed (ex : JAR downloaded again by Maven), the SHA-256 hash of the JAR
+ * content is compared with the stored hash.
+ * </p>
+ *
+ * <p>
+ * The entries of a previous cache version, of other properties providers (ex :
+ * a bundle which contributes a provider has been updated) and of JARs which
+ * don't exist anymore are deleted the first time the cache is used with the
+ * current providers.
+ * </p>
+ *
+ */
+public class JarMetadataCache {
+
+	private static final Logger LOGGER = Logger.getLogger(JarMetadataCache.class.getName());
+
+	private static final int CACHE_VERSION = 2;
+
+	private static final String CACHE_FOLDER = "jar-metadata";
+
+	private static final String ENTRY_EXTENSION = ".json";
+
+	private static final JarMetadataCache INSTANCE = new JarMetadataCache(getDefaultCacheDir());
+
+	public static JarMetadataCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * A cache entry stored in JSON.
+	 */
+	private static class Entry {
+
+		private int version;
+
+		private String path;
+
+		private long size;
+
+		private long lastModified;
+
+		private String hash;
+
+		private String documentFormat;
+
+		private String providers;
+
+		private ConfigurationMetadata metadata;
+	}
+
+	private final Path cacheDir;
+
+	private final Gson gson;
+
+	private String evictedProviders;
+
+	/**
+	 * Creates a cache which stores the entries in the given directory.
+	 *
+	 * @param cacheDir the cache directory and null to disable the cache.
+	 */
+	public JarMetadataCache(Path cacheDir) {
+		this.cacheDir = cacheDir;
+		this.gson = new GsonBuilder().registerTypeAdapterFactory(new EnumTypeAdapter.Factory()).create();
+	}
+
+	/**
+	 * Returns true if the cache can be used and false otherwise.
+	 *
+	 * @return true if the cache can be used and false otherwise.
+	 */
+	public boolean isEnabled() {
+		return cacheDir != null;
+	}
+
+	/**
+	 * Returns the cached properties and hints of the given JAR and null if the JAR
+	 * is not cached or has changed.
+	 *
+	 * @param jar            the JAR file.
+	 * @param documentFormat the document format used for the descriptions.
+	 * @param providers      the identifier of the properties providers used to
+	 *                       collect the properties.
+	 * @return the cached properties and hints of the given JAR and null if the JAR
+	 *         is not cached or has changed.
+	 */
+	public ConfigurationMetadata get(File jar, DocumentFormat documentFormat, String providers) {
+		if (!isEnabled() || !jar.isFile()) {
+			return null;
+		}
+		evictOldEntries(providers);
+		Path entryFile = getEntryFile(jar, documentFormat);
+		if (!Files.isRegularFile(entryFile)) {
+			return null;
+		}
+		try {
+			Entry entry;
+			try (Reader reader = Files.newBufferedReader(entryFile, StandardCharsets.UTF_8)) {
+				entry = gson.fromJson(reader, Entry.class);
+			}
+			if (entry == null || entry.version != CACHE_VERSION || entry.metadata == null
+					|| !jar.getAbsolutePath().equals(entry.path)
+					|| !Objects.equals(String.valueOf(documentFormat), entry.documentFormat)
+					|| !Objects.equals(providers, entry.providers) || entry.size != jar.length()) {
+				return null;
+			}
+			long lastModified = jar.lastModified();
+			if (entry.lastModified != lastModified) {
+				// The JAR has been touched, check if the content changed
+				if (!Objects.equals(entry.hash, computeHash(jar))) {
+					return null;
+				}
+				entry.lastModified = lastModified;
+				write(entry, entryFile);
+			}
+			return entry.metadata;
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while reading the cached properties of '" + jar + "'", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the given properties and hints of the given JAR.
+	 *
+	 * @param jar            the JAR file.
+	 * @param documentFormat the document format used for the descriptions.
+	 * @param providers      the identifier of the properties providers used to
+	 *                       collect the properties.
+	 * @param metadata       the properties and hints contributed by the JAR.
+	 */
+	public void put(File jar, DocumentFormat documentFormat, String providers, ConfigurationMetadata metadata) {
+		if (!isEnabled() || !jar.isFile()) {
+			return;
+		}
+		evictOldEntries(providers);
+		try {
+			Entry entry = new Entry();
+			entry.version = CACHE_VERSION;
+			entry.path = jar.getAbsolutePath();
+			entry.size = jar.length();
+			entry.lastModified = jar.lastModified();
+			entry.hash = computeHash(jar);
+			entry.documentFormat = String.valueOf(documentFormat);
+			entry.providers = providers;
+			entry.metadata = metadata;
+			write(entry, getEntryFile(jar, documentFormat));
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Error while caching the properties of '" + jar + "'", e);
+		}
+	}
+
+	/**
+	 * Deletes the entries which cannot be used with the given providers: entries of
+	 * a previous cache version, of other providers and of JARs which don't exist
+	 * anymore. The entries are checked once for the given providers.
+	 *
+	 * @param providers the identifier of the properties providers.
+	 */
+	private void evictOldEntries(String providers) {
+		synchronized (this) {
+			if (Objects.equals(providers, evictedProviders)) {
+				return;
+			}
+			evictedProviders = providers;
+		}
+		if (!Files.isDirectory(cacheDir)) {
+			return;
+		}
+		int evicted = 0;
+		try (DirectoryStream<Path> entryFiles = Files.newDirectoryStream(cacheDir, "*" + ENTRY_EXTENSION)) {
+			for (Path entryFile : entryFiles) {
+				if (isOldEntry(entryFile, providers) && Files.deleteIfExists(entryFile)) {
+					evicted++;
+				}
+			}
+		} catch (IOException e) {
+			LOGGER.log(Level.WARNING, "Error while deleting the old cached properties of JARs", e);
+		}
+		if (evicted > 0 && LOGGER.isLoggable(Level.FINE)) {
+			LOGGER.fine("Deleted " + evicted + " old cached properties of JARs.");
+		}
+	}
+
+	/**
+	 * Returns true if the given entry file cannot be used with the given providers.
+	 * Only the header fields of the entry are read, the metadata (written last) is
+	 * not parsed.
+	 */
+	private static boolean isOldEntry(Path entryFile, String providers) {
+		int version = -1;
+		String path = null;
+		String entryProviders = null;
+		try (JsonReader reader = new JsonReader(Files.newBufferedReader(entryFile, StandardCharsets.UTF_8))) {
+			reader.beginObject();
+			while (reader.hasNext() && (version == -1 || path == null || entryProviders == null)) {
+				switch (reader.nextName()) {
+				case "version":
+					version = reader.nextInt();
+					break;
+				case "path":
+					path = reader.nextString();
+					break;
+				case "providers":
+					entryProviders = reader.nextString();
+					break;
+				default:
+					reader.skipValue();
+				}
+			}
+		} catch (Exception e) {
+			// Corrupted entry
+			return true;
+		}
+		return version != CACHE_VERSION || !Objects.equals(providers, entryProviders) || path == null
+				|| !new File(path).isFile();
+	}
+
+	private void write(Entry entry, Path entryFile) throws IOException {
+		Files.createDirectories(cacheDir);
+		// Write in a temporary file and move it to avoid reading a partial entry from
+		// another thread / process
+		Path tmpFile = Files.createTempFile(cacheDir, entryFile.getFileName().toString(), ".tmp");
+		try {
+			try (Writer writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+				gson.toJson(entry, writer);
+			}
+			Files.move(tmpFile, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmpFile);
+		}
+	}
+
+	private Path getEntryFile(File jar, DocumentFormat documentFormat) {
+		String key = jar.getAbsolutePath() + '|' + documentFormat;
+		return cacheDir.resolve(toHex(digest().digest(key.getBytes(StandardCharsets.UTF_8))) + ENTRY_EXTENSION);
+	}
+
+	private static String computeHash(File jar) throws IOException {
+		MessageDigest digest = digest();
+		byte[] buffer = new byte[8192];
+		try (InputStream in = Files.newInputStream(jar.toPath())) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return toHex(digest.digest());
+	}
+
+	private static MessageDigest digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is supported by every Java platform
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		return HexFormat.of().formatHex(bytes);
+	}
+
+	private static Path getDefaultCacheDir() {
+		try {
+			Bundle bundle = FrameworkUtil.getBundle(JarMetadataCache.class);
+			if (bundle == null) {
+				return null;
+			}
+			return Platform.getStateLocation(bundle).append(CACHE_FOLDER).toFile().toPath();
+		} catch (Exception e) {
+			LOGGER.log(Level.WARNING, "Cannot get the state location, properties of JARs will not be cached", e);
+			return null;
+		}
+	}
+}
@@ -0,0 +1,275 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.CompactProperties;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+
+/**
+ * Versions of the MicroProfile project information returned in compact mode.
+ *
+ * <p>
+ * The last project information returned for a configuration file (ex :
+ * application.properties), a search scope and a document format is stored with
+ * a version. When the client gives this version
+ * when it requests the project information again, only the properties and hints
+ * which have been added and removed since this version are returned. The stored
+ * project information is used too to return the descriptions which have been
+ * omitted in compact mode.
+ * </p>
+ *
+ * <p>
+ * The stored project information of a project is evicted when its classpath
+ * changes or when it is opened, closed, added or removed.
+ * </p>
+ *
+ */
+public class MicroProfileProjectInfoVersions {
+
+	private static final MicroProfileProjectInfoVersions INSTANCE = new MicroProfileProjectInfoVersions();
+
+	public static MicroProfileProjectInfoVersions getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * The last project information returned for a configuration file, a search
+	 * scope and a document format.
+	 */
+	private static class Entry {
+
+		private final String projectURI;
+
+		private final DocumentFormat documentFormat;
+
+		private final String version;
+
+		private final List<ItemMetadata> properties;
+
+		private final List<ItemHint> hints;
+
+		private final Map<String, String> descriptions;
+
+		public Entry(String projectURI, DocumentFormat documentFormat, String version, List<ItemMetadata> properties,
+				List<ItemHint> hints) {
+			this.projectURI = projectURI;
+			this.documentFormat = documentFormat;
+			this.version = version;
+			this.properties = properties;
+			this.hints = hints;
+			this.descriptions = new HashMap<>();
+			for (ItemMetadata property : properties) {
+				if (property.getDescription() != null && CompactProperties.isDocumentationProvided(property)) {
+					descriptions.putIfAbsent(getSourceKey(property.getSourceType(), property.getSourceField(),
+							property.getSourceMethod()), property.getDescription());
+				}
+			}
+		}
+	}
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Update the given project information to return it in compact mode.
+	 *
+	 * <p>
+	 * The properties of the given project information are replaced with their
+	 * compact representation. When the given client version is the version of
+	 * the last project information returned for the same configuration file,
+	 * search scope and document format, the given project information is replaced
+	 * with the delta between both project information.
+	 * </p>
+	 *
+	 * @param info           the project information to update.
+	 * @param uri            the URI of the configuration file (ex :
+	 *                       application.properties) which requests the project
+	 *                       information.
+	 * @param scopes         the search scope used to collect the properties.
+	 * @param documentFormat the document format used for the descriptions.
+	 * @param clientVersion  the version of the project information owned by the
+	 *                       client and null otherwise.
+	 */
+	public void toCompact(MicroProfileProjectInfo info, String uri, List<MicroProfilePropertiesScope> scopes,
+			DocumentFormat documentFormat, String clientVersion) {
+		List<ItemMetadata> properties = info.getProperties() != null ? info.getProperties()
+				: Collections.emptyList();
+		List<ItemHint> hints = info.getHints() != null ? info.getHints() : Collections.emptyList();
+		String key = getKey(info, uri, scopes, documentFormat);
+		String version = UUID.randomUUID().toString();
+		Entry base = entries.get(key);
+		if (base != null && base.version.equals(clientVersion)) {
+			List<ItemMetadata> addedProperties = new ArrayList<>();
+			List<Integer> removedProperties = diff(base.properties, properties, addedProperties);
+			List<ItemHint> addedHints = new ArrayList<>();
+			List<Integer> removedHints = diff(base.hints, hints, addedHints);
+			if (addedProperties.size() + removedProperties.size() < properties.size()) {
+				// The client computes the new properties by removing the removed properties
+				// from the base and by appending the added properties, store them in the same
+				// order to compute the next delta
+				properties = apply(base.properties, removedProperties, addedProperties);
+				hints = apply(base.hints, removedHints, addedHints);
+				entries.put(key, new Entry(info.getProjectURI(), documentFormat, version, properties, hints));
+				info.setBaseVersion(base.version);
+				info.setRemovedProperties(removedProperties);
+				info.setRemovedHints(removedHints);
+				setCompactProperties(info, addedProperties, addedHints, version);
+				return;
+			}
+		}
+		entries.put(key, new Entry(info.getProjectURI(), documentFormat, version, properties, hints));
+		setCompactProperties(info, properties, hints, version);
+	}
+
+	/**
+	 * Evict the project information of the project whose classpath has changed or
+	 * which has been opened, closed, added or removed.
+	 *
+	 * @param delta the Java element delta.
+	 */
+	public void javaElementChanged(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				javaElementChanged(child);
+			}
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags()
+					& (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+				evict(JDTMicroProfileUtils.getProjectURI((IJavaProject) element));
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Evict the project information returned for the given project.
+	 *
+	 * @param projectURI the project URI.
+	 */
+	public void evict(String projectURI) {
+		entries.values().removeIf(entry -> entry.projectURI.equals(projectURI));
+	}
+
+	/**
+	 * Returns the description of the property declared by the given Java member
+	 * which has been omitted in compact mode and null otherwise.
+	 *
+	 * @param projectURI     the project URI.
+	 * @param sourceType     the source type.
+	 * @param sourceField    the source field and null otherwise.
+	 * @param sourceMethod   the source method and null otherwise.
+	 * @param documentFormat the document format of the description.
+	 * @return the description of the property declared by the given Java member
+	 *         which has been omitted in compact mode and null otherwise.
+	 */
+	public String getDescription(String projectURI, String sourceType, String sourceField, String sourceMethod,
+			DocumentFormat documentFormat) {
+		String sourceKey = getSourceKey(sourceType, sourceField, sourceMethod);
+		for (Entry entry : entries.values()) {
+			if (entry.projectURI.equals(projectURI) && entry.documentFormat == documentFormat) {
+				String description = entry.descriptions.get(sourceKey);
+				if (description != null) {
+					return description;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void setCompactProperties(MicroProfileProjectInfo info, List<ItemMetadata> properties,
+			List<ItemHint> hints, String version) {
+		info.setVersion(version);
+		info.setCompactProperties(CompactProperties.encode(properties, true));
+		info.setProperties(null);
+		info.setHints(hints);
+	}
+
+	/**
+	 * Returns the indexes of the base items which are not in the given items and
+	 * fill the given added list with the items which are not in the base items.
+	 */
+	private static <T> List<Integer> diff(List<T> base, List<T> items, List<T> added) {
+		Map<T, Deque<Integer>> baseIndexes = new HashMap<>();
+		for (int i = 0; i < base.size(); i++) {
+			baseIndexes.computeIfAbsent(base.get(i), k -> new ArrayDeque<>()).add(i);
+		}
+		boolean[] kept = new boolean[base.size()];
+		for (T item : items) {
+			Deque<Integer> indexes = baseIndexes.get(item);
+			if (indexes != null && !indexes.isEmpty()) {
+				kept[indexes.poll()] = true;
+			} else {
+				added.add(item);
+			}
+		}
+		List<Integer> removed = new ArrayList<>();
+		for (int i = 0; i < kept.length; i++) {
+			if (!kept[i]) {
+				removed.add(i);
+			}
+		}
+		return removed;
+	}
+
+	private static <T> List<T> apply(List<T> base, List<Integer> removed, List<T> added) {
+		List<T> result = new ArrayList<>(base.size() - removed.size() + added.size());
+		int next = 0;
+		for (int i = 0; i < base.size(); i++) {
+			if (next < removed.size() && removed.get(next) == i) {
+				next++;
+			} else {
+				result.add(base.get(i));
+			}
+		}
+		result.addAll(added);
+		return result;
+	}
+
+	private static String getKey(MicroProfileProjectInfo info, String uri, List<MicroProfilePropertiesScope> scopes,
+			DocumentFormat documentFormat) {
+		// The client stores a base per configuration file and search scope
+		return info.getProjectURI() + '|' + uri + '|'
+				+ scopes.stream().map(MicroProfilePropertiesScope::name).collect(Collectors.joining("+")) + '|'
+				+ info.getClasspathKind() + '|' + documentFormat;
+	}
+
+	private static String getSourceKey(String sourceType, String sourceField, String sourceMethod) {
+		return sourceType + '#' + Objects.toString(sourceField, "") + '#' + Objects.toString(sourceMethod, "");
+	}
+}
@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.Executors;
@@ -35,6 +36,7 @@ import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
@@ -43,6 +45,9 @@ import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProject;
 import org.eclipse.lsp4mp.jdt.core.project.JDTMicroProfileProjectManager;
 import org.eclipse.lsp4mp.jdt.core.utils.JDTMicroProfileUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.eclipse.lsp4mp.jdt.internal.restclient.java.RestClientInjectionIndex;
 
 /**
  * This class tracks :
@@ -85,6 +90,10 @@ public class MicroProfilePropertiesListenerManager {
 
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
+			JavaDiagnosticsCache.getInstance().javaElementChanged(event.getDelta());
+			JaxRsEndpointIndex.getInstance().javaElementChanged(event.getDelta());
+			RestClientInjectionIndex.getInstance().javaElementChanged(event.getDelta());
+			MicroProfileProjectInfoVersions.getInstance().javaElementChanged(event.getDelta());
 			if (listeners.isEmpty()) {
 				return;
 			}
@@ -116,9 +125,16 @@ public class MicroProfilePropertiesListenerManager {
 						event = new MicroProfilePropertiesChangeEvent();
 						event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
 						event.setProjectURIs(new HashSet<String>());
+						event.setAddedClasspathEntries(new HashSet<String>());
+						event.setRemovedClasspathEntries(new HashSet<String>());
 					}
 					IJavaProject project = (IJavaProject) element;
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(project));
+					if (event.getProjectURIs().size() > 1 || isCreatedOrDeleted(delta)
+							|| !collectClasspathChanges(delta, event)) {
+						// The properties of the whole classpath must be collected
+						clearClasspathChanges(event);
+					}
 					try {
 						JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
 								.getJDTMicroProfileProject(project);
@@ -136,6 +152,45 @@ public class MicroProfilePropertiesListenerManager {
 			return event;
 		}
 
+		/**
+		 * Collect the JARs added to / removed from the classpath of the given project
+		 * delta in the given event.
+		 *
+		 * @return true if the classpath changes are only JARs added / removed and
+		 *         false otherwise.
+		 */
+		private boolean collectClasspathChanges(IJavaElementDelta delta, MicroProfilePropertiesChangeEvent event) {
+			if (event.getAddedClasspathEntries() == null || event.getRemovedClasspathEntries() == null) {
+				return false;
+			}
+			if ((delta.getFlags() & (IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+				return false;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (!(child.getElement() instanceof IPackageFragmentRoot root)) {
+					continue;
+				}
+				int flags = child.getFlags();
+				boolean added = (flags & IJavaElementDelta.F_ADDED_TO_CLASSPATH) != 0;
+				boolean removed = (flags & IJavaElementDelta.F_REMOVED_FROM_CLASSPATH) != 0;
+				if (added || removed) {
+					String path = JDTMicroProfileUtils.getArchivePath(root);
+					if (path == null) {
+						// Source / class folder added or removed
+						return false;
+					}
+					if (added) {
+						addClasspathEntry(event, path);
+					} else {
+						removeClasspathEntry(event, path);
+					}
+				} else if ((flags & IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		private boolean isCreatedOrDeleted(IJavaElementDelta delta) {
 			int kind = delta.getKind();
 			return kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED;
@@ -183,6 +238,8 @@ public class MicroProfilePropertiesListenerManager {
 					event.setType(MicroProfilePropertiesScope.ONLY_SOURCES);
 					event.setProjectURIs(new HashSet<String>());
 					event.getProjectURIs().add(JDTMicroProfileUtils.getProjectURI(file.getProject()));
+					event.setJavaFileURIs(new HashSet<String>());
+					event.getJavaFileURIs().add(file.getLocationURI().toString());
 					JDTMicroProfileProject mpProject = JDTMicroProfileProjectManager.getInstance()
 							.getJDTMicroProfileProject(file);
 					if (mpProject != null && mpProject.getProjectRuntime() != null) {
@@ -265,6 +322,38 @@ public class MicroProfilePropertiesListenerManager {
 				target.getProjectURIs().addAll(source.getProjectURIs());
 			}
 
+			// Merge classpath changes
+			if (source.getType() == MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES) {
+				if (target.getType() != MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES) {
+					target.setAddedClasspathEntries(source.getAddedClasspathEntries());
+					target.setRemovedClasspathEntries(source.getRemovedClasspathEntries());
+				} else if (target.getAddedClasspathEntries() != null && target.getRemovedClasspathEntries() != null
+						&& source.getAddedClasspathEntries() != null
+						&& source.getRemovedClasspathEntries() != null) {
+					source.getRemovedClasspathEntries().forEach(path -> removeClasspathEntry(target, path));
+					source.getAddedClasspathEntries().forEach(path -> addClasspathEntry(target, path));
+				} else {
+					clearClasspathChanges(target);
+				}
+			}
+			if (target.getProjectURIs() != null && target.getProjectURIs().size() > 1) {
+				// The classpath changes are tracked for one project
+				clearClasspathChanges(target);
+			}
+
+			// Merge changed Java files
+			if (source.getType() == MicroProfilePropertiesScope.ONLY_SOURCES) {
+				if (target.getType() == MicroProfilePropertiesScope.ONLY_SOURCES) {
+					if (target.getJavaFileURIs() != null && source.getJavaFileURIs() != null) {
+						target.getJavaFileURIs().addAll(source.getJavaFileURIs());
+					} else {
+						target.setJavaFileURIs(null);
+					}
+				} else if (target.getType() != MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES) {
+					target.setJavaFileURIs(source.getJavaFileURIs());
+				}
+			}
+
 			// Handle event type - take the widest scope
 			if (source.getType() == MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES) {
 				target.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
@@ -274,6 +363,25 @@ public class MicroProfilePropertiesListenerManager {
 			}
 		}
 
+		private static void addClasspathEntry(MicroProfilePropertiesChangeEvent event, String path) {
+			// A JAR removed then added again doesn't change the classpath
+			if (!event.getRemovedClasspathEntries().remove(path)) {
+				event.getAddedClasspathEntries().add(path);
+			}
+		}
+
+		private static void removeClasspathEntry(MicroProfilePropertiesChangeEvent event, String path) {
+			// A JAR added then removed again doesn't change the classpath
+			if (!event.getAddedClasspathEntries().remove(path)) {
+				event.getRemovedClasspathEntries().add(path);
+			}
+		}
+
+		private static void clearClasspathChanges(MicroProfilePropertiesChangeEvent event) {
+			event.setAddedClasspathEntries(null);
+			event.setRemovedClasspathEntries(null);
+		}
+
 		/**
 		 * Notifies all registered listeners about the properties change event.
 		 */
@@ -344,6 +452,22 @@ public class MicroProfilePropertiesListenerManager {
 		}
 	}
 
+	/**
+	 * Notify the listeners that the availability of a local server used by the
+	 * JAX-RS URL code lenses has changed.
+	 */
+	public void fireServerAvailabilityChanged() {
+		MicroProfileListener listener = microprofileListener;
+		if (listener == null) {
+			return;
+		}
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setType(Collections.emptyList());
+		event.setProjectURIs(new HashSet<String>());
+		event.setServerAvailabilityChanged(true);
+		listener.notifyListeners(event);
+	}
+
 	/**
 	 * Initialize the classpath listener manager.
 	 */
@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
@@ -40,6 +41,8 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private final boolean onlySources;
 
+	private Map<String, ItemMetadata> propertiesByKey;
+
 	public PropertiesCollector(ConfigurationMetadata configuration, List<MicroProfilePropertiesScope> scopes) {
 		this.configuration = configuration;
 		this.configuration.setProperties(new ArrayList<>());
@@ -70,7 +73,7 @@ public class PropertiesCollector implements IPropertiesCollector {
 		property.setPhase(phase);
 		property.setRequired(defaultValue == null);
 
-		configuration.getProperties().add(property);
+		addProperty(property);
 		return property;
 	}
 
@@ -108,6 +111,88 @@ public class PropertiesCollector implements IPropertiesCollector {
 		}
 	}
 
+	/**
+	 * Merges the properties and hints collected from one dependency JAR with its
+	 * own search context.
+	 *
+	 * <p>
+	 * A property already collected with the same name and the same Java source
+	 * (ex : properties added once per search context by a provider) is not added
+	 * again, other properties are added like they would be with a search on the
+	 * whole classpath. The hints which don't exist are added as is (with their
+	 * description and source type), the values of existing hints are merged.
+	 * </p>
+	 *
+	 * <p>
+	 * The given JAR is added to the source JARs of the merged properties and hints,
+	 * so that the client can remove them by JAR when the JAR is removed from the
+	 * classpath.
+	 * </p>
+	 *
+	 * @param metadata the properties and hints collected from a dependency JAR.
+	 * @param jar      the path of the dependency JAR or null if the dependency is
+	 *                 not an archive.
+	 */
+	public void mergeDependency(ConfigurationMetadata metadata, String jar) {
+		if (propertiesByKey == null) {
+			propertiesByKey = new HashMap<>();
+			for (ItemMetadata property : configuration.getProperties()) {
+				propertiesByKey.putIfAbsent(getPropertyKey(property), property);
+			}
+		}
+		List<ItemMetadata> properties = metadata.getProperties();
+		if (properties != null) {
+			for (ItemMetadata property : properties) {
+				ItemMetadata existingProperty = propertiesByKey.get(getPropertyKey(property));
+				if (existingProperty == null) {
+					property.setSourceJars(createSourceJars(jar));
+					addProperty(property);
+				} else {
+					addSourceJar(existingProperty, jar);
+				}
+			}
+		}
+		List<ItemHint> hints = metadata.getHints();
+		if (hints != null) {
+			for (ItemHint itemHint : hints) {
+				ItemHint existingHint = getExistingItemHint(itemHint.getName());
+				if (existingHint != null) {
+					merge(itemHint, MergingStrategy.IGNORE_IF_EXISTS);
+					addSourceJar(existingHint, jar);
+				} else {
+					itemHint.setSourceJars(createSourceJars(jar));
+					addItemHint(itemHint);
+				}
+			}
+		}
+	}
+
+	private static List<String> createSourceJars(String jar) {
+		if (jar == null) {
+			// An untagged item cannot be removed by JAR
+			return null;
+		}
+		List<String> sourceJars = new ArrayList<>();
+		sourceJars.add(jar);
+		return sourceJars;
+	}
+
+	/**
+	 * Adds the given JAR to the source JARs of the given item which is contributed
+	 * by other JARs. An item of the Java sources is not updated.
+	 */
+	private static void addSourceJar(ItemBase item, String jar) {
+		List<String> sourceJars = item.getSourceJars();
+		if (jar != null && sourceJars != null && !sourceJars.contains(jar)) {
+			sourceJars.add(jar);
+		}
+	}
+
+	private static String getPropertyKey(ItemMetadata property) {
+		return property.getName() + '|' + property.getSourceType() + '|' + property.getSourceField() + '|'
+				+ property.getSourceMethod();
+	}
+
 	// --------------- Properties merge
 
 	private void merge(ItemMetadata property, MergingStrategy mergingStrategy) {
@@ -152,6 +237,9 @@ public class PropertiesCollector implements IPropertiesCollector {
 
 	private void addProperty(ItemMetadata property) {
 		configuration.getProperties().add(property);
+		if (propertiesByKey != null) {
+			propertiesByKey.putIfAbsent(getPropertyKey(property), property);
+		}
 	}
 
 	// --------------- ItemHint merge
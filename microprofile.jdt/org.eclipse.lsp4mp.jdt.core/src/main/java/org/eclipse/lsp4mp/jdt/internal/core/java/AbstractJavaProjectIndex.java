@@ -0,0 +1,112 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+
+/**
+ * Abstract class for the indexes computed per Java project and updated from the
+ * Java element deltas.
+ *
+ * <p>
+ * The index of a project is removed when its classpath changes or when it is
+ * opened, closed, added or removed. Only the changed compilation units of the
+ * other projects are given to
+ * {@link #compilationUnitChanged(Object, ICompilationUnit)}.
+ * </p>
+ *
+ * @param <T> the index type of a project.
+ */
+public abstract class AbstractJavaProjectIndex<T> {
+
+	private final Map<String /* project name */, T> projects = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the index of the given project.
+	 *
+	 * @param javaProject the Java project.
+	 * @return the index of the given project.
+	 */
+	protected T getProjectIndex(IJavaProject javaProject) {
+		return projects.computeIfAbsent(javaProject.getElementName(), k -> createProjectIndex());
+	}
+
+	/**
+	 * Update the index with the given Java element delta.
+	 *
+	 * @param delta the Java element delta.
+	 */
+	public void javaElementChanged(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+		case IJavaElement.PACKAGE_FRAGMENT:
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				javaElementChanged(child);
+			}
+			break;
+		case IJavaElement.JAVA_PROJECT:
+			if (delta.getKind() != IJavaElementDelta.CHANGED || (delta.getFlags()
+					& (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED)) != 0) {
+				projects.remove(element.getElementName());
+			} else {
+				for (IJavaElementDelta child : delta.getAffectedChildren()) {
+					javaElementChanged(child);
+				}
+			}
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+			if (isContentChanged(delta)) {
+				ICompilationUnit unit = (ICompilationUnit) element;
+				T index = projects.get(unit.getJavaProject().getElementName());
+				if (index != null) {
+					compilationUnitChanged(index, unit.getPrimary());
+				}
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static boolean isContentChanged(IJavaElementDelta delta) {
+		return delta.getKind() != IJavaElementDelta.CHANGED
+				|| (delta.getFlags() & (IJavaElementDelta.F_CONTENT | IJavaElementDelta.F_FINE_GRAINED)) != 0;
+	}
+
+	/**
+	 * Returns a new index for a project.
+	 *
+	 * @return a new index for a project.
+	 */
+	protected abstract T createProjectIndex();
+
+	/**
+	 * Update the given project index when the given compilation unit has been
+	 * added, removed or changed.
+	 *
+	 * @param index the project index.
+	 * @param unit  the primary compilation unit which has changed.
+	 */
+	protected abstract void compilationUnitChanged(T index, ICompilationUnit unit);
+
+}
@@ -0,0 +1,370 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+
+/**
+ * Cache of the diagnostics collected for the Java files.
+ *
+ * <p>
+ * The diagnostics of a Java file are cached with the stamp of its buffer
+ * content and the generation of its project. The generation of a project is
+ * incremented when a config source (ex : microprofile-config.properties) of the
+ * project changes, or when the classpath or the structure of the Java sources
+ * (types, members, annotations) of the project or of a required project
+ * changes. A change in a method body doesn't invalidate the cached
+ * diagnostics.
+ * </p>
+ *
+ * <p>
+ * The cache keeps the {@link #MAX_ENTRIES} most recently used Java files and
+ * the entry of a Java file is removed when its buffer is closed.
+ * </p>
+ *
+ */
+public class JavaDiagnosticsCache {
+
+	private static final JavaDiagnosticsCache INSTANCE = new JavaDiagnosticsCache();
+
+	private static final int MAX_ENTRIES = 500;
+
+	private static final int STRUCTURAL_FLAGS = IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_SUPER_TYPES
+			| IJavaElementDelta.F_ANNOTATIONS | IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_REORDER | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+	public static JavaDiagnosticsCache getInstance() {
+		return INSTANCE;
+	}
+
+	private static class CacheEntry {
+
+		private final long contentStamp;
+
+		private final long projectGeneration;
+
+		private final DocumentFormat documentFormat;
+
+		private final MicroProfileJavaDiagnosticsSettings settings;
+
+		private final List<Diagnostic> diagnostics;
+
+		public CacheEntry(long contentStamp, long projectGeneration, DocumentFormat documentFormat,
+				MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
+			this.contentStamp = contentStamp;
+			this.projectGeneration = projectGeneration;
+			this.documentFormat = documentFormat;
+			this.settings = settings;
+			this.diagnostics = diagnostics;
+		}
+	}
+
+	private final Map<String /* Java file URI */, CacheEntry> entries = new LinkedHashMap<String, CacheEntry>(16,
+			0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private final Map<String /* project name */, AtomicLong> projectGenerations = new ConcurrentHashMap<>();
+
+	private final Map<IBuffer, AtomicLong> bufferStamps = new WeakHashMap<>();
+
+	private final AtomicLong stampCounter = new AtomicLong();
+
+	/**
+	 * Returns the stamp of the given buffer content.
+	 *
+	 * <p>
+	 * The stamp changes each time the buffer content changes, without reading the
+	 * content. The cached diagnostics of the given Java file are removed when the
+	 * buffer is closed.
+	 * </p>
+	 *
+	 * @param uri    the Java file URI.
+	 * @param buffer the buffer of the Java file.
+	 * @return the stamp of the given buffer content.
+	 */
+	public long getContentStamp(String uri, IBuffer buffer) {
+		synchronized (bufferStamps) {
+			AtomicLong stamp = bufferStamps.get(buffer);
+			if (stamp == null) {
+				AtomicLong newStamp = new AtomicLong(stampCounter.incrementAndGet());
+				buffer.addBufferChangedListener(event -> {
+					newStamp.set(stampCounter.incrementAndGet());
+					if (event.getBuffer().isClosed()) {
+						// The Java file has been closed
+						remove(uri);
+					}
+				});
+				bufferStamps.put(buffer, newStamp);
+				stamp = newStamp;
+			}
+			return stamp.get();
+		}
+	}
+
+	/**
+	 * Returns the current generation of the given project.
+	 *
+	 * @param projectName the Java project name.
+	 * @return the current generation of the given project.
+	 */
+	public long getProjectGeneration(String projectName) {
+		return getGeneration(projectName).get();
+	}
+
+	/**
+	 * Invalidate the cached diagnostics of the given project (ex : when a config
+	 * source like microprofile-config.properties of the project has changed).
+	 *
+	 * @param projectName the Java project name.
+	 */
+	public void projectChanged(String projectName) {
+		getGeneration(projectName).incrementAndGet();
+	}
+
+	private AtomicLong getGeneration(String projectName) {
+		return projectGenerations.computeIfAbsent(projectName, k -> new AtomicLong());
+	}
+
+	/**
+	 * Invalidate the cached diagnostics of the projects whose classpath or Java
+	 * sources structure is changed by the given Java element delta, and of the
+	 * projects which require them.
+	 *
+	 * @param delta the Java element delta.
+	 */
+	public void javaElementChanged(IJavaElementDelta delta) {
+		Set<String> changedProjects = new HashSet<>();
+		collectChangedProjects(delta, changedProjects);
+		if (changedProjects.isEmpty()) {
+			return;
+		}
+		addRequiringProjects(changedProjects);
+		changedProjects.forEach(this::projectChanged);
+	}
+
+	private static void collectChangedProjects(IJavaElementDelta delta, Set<String> changedProjects) {
+		IJavaElement element = delta.getElement();
+		if (element.getElementType() == IJavaElement.JAVA_MODEL) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				collectChangedProjects(child, changedProjects);
+			}
+		} else if (isStructuralChange(delta)) {
+			changedProjects.add(element.getJavaProject().getElementName());
+		}
+	}
+
+	/**
+	 * Returns true if the given delta changes the classpath or the structure of the
+	 * Java sources and false if it only changes method bodies, saves or opens /
+	 * closes working copies.
+	 */
+	private static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED) {
+			return true;
+		}
+		int flags = delta.getFlags();
+		if ((flags & STRUCTURAL_FLAGS) != 0) {
+			return true;
+		}
+		if (delta.getElement() instanceof ICompilationUnit unit) {
+			if ((flags & IJavaElementDelta.F_PRIMARY_RESOURCE) != 0 && unit.isWorkingCopy()) {
+				// Save of a working copy, its content has been already reconciled
+				return false;
+			}
+			if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0) {
+				// Content changed outside of a reconcile (ex : file changed on the disk)
+				return true;
+			}
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (isStructuralChange(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void addRequiringProjects(Set<String> projectNames) {
+		IJavaProject[] javaProjects;
+		try {
+			javaProjects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		} catch (JavaModelException e) {
+			return;
+		}
+		boolean added;
+		do {
+			added = false;
+			for (IJavaProject javaProject : javaProjects) {
+				if (!projectNames.contains(javaProject.getElementName()) && requires(javaProject, projectNames)) {
+					projectNames.add(javaProject.getElementName());
+					added = true;
+				}
+			}
+		} while (added);
+	}
+
+	private static boolean requires(IJavaProject javaProject, Set<String> projectNames) {
+		try {
+			for (String requiredProjectName : javaProject.getRequiredProjectNames()) {
+				if (projectNames.contains(requiredProjectName)) {
+					return true;
+				}
+			}
+		} catch (JavaModelException e) {
+			// The project is not a Java project anymore
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a copy of the cached diagnostics of the given Java file and null if
+	 * the Java file content, its project or the settings have changed since the
+	 * diagnostics have been cached.
+	 *
+	 * @param uri            the Java file URI.
+	 * @param contentStamp   the stamp of the Java file content.
+	 * @param projectName    the Java project name.
+	 * @param documentFormat the document format.
+	 * @param settings       the diagnostics settings.
+	 * @return a copy of the cached diagnostics of the given Java file and null
+	 *         otherwise.
+	 */
+	public List<Diagnostic> getDiagnostics(String uri, long contentStamp, String projectName,
+			DocumentFormat documentFormat, MicroProfileJavaDiagnosticsSettings settings) {
+		CacheEntry entry;
+		synchronized (entries) {
+			entry = entries.get(uri);
+		}
+		if (entry == null || entry.contentStamp != contentStamp
+				|| entry.projectGeneration != getProjectGeneration(projectName)
+				|| entry.documentFormat != documentFormat || !isSameSettings(entry.settings, settings)) {
+			return null;
+		}
+		return copy(entry.diagnostics);
+	}
+
+	/**
+	 * Cache a copy of the given diagnostics of the given Java file.
+	 *
+	 * <p>
+	 * The content stamp and the project generation must be read before collecting
+	 * the diagnostics, to ignore diagnostics collected while the Java file or the
+	 * project were changing.
+	 * </p>
+	 *
+	 * @param uri               the Java file URI.
+	 * @param contentStamp      the stamp of the Java file content used to collect
+	 *                          the diagnostics.
+	 * @param projectGeneration the project generation used to collect the
+	 *                          diagnostics.
+	 * @param documentFormat    the document format.
+	 * @param settings          the diagnostics settings.
+	 * @param diagnostics       the diagnostics to cache.
+	 */
+	public void putDiagnostics(String uri, long contentStamp, long projectGeneration, DocumentFormat documentFormat,
+			MicroProfileJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics) {
+		CacheEntry entry = new CacheEntry(contentStamp, projectGeneration, documentFormat, settings,
+				copy(diagnostics));
+		synchronized (entries) {
+			entries.put(uri, entry);
+		}
+	}
+
+	/**
+	 * Remove the cached diagnostics of the given Java file.
+	 *
+	 * @param uri the Java file URI.
+	 */
+	public void remove(String uri) {
+		synchronized (entries) {
+			entries.remove(uri);
+		}
+	}
+
+	private static List<Diagnostic> copy(List<Diagnostic> diagnostics) {
+		return diagnostics.stream() //
+				.map(JavaDiagnosticsCache::copy) //
+				.collect(Collectors.toList());
+	}
+
+	private static Diagnostic copy(Diagnostic diagnostic) {
+		Diagnostic copy = new Diagnostic();
+		Range range = diagnostic.getRange();
+		if (range != null) {
+			copy.setRange(new Range(copy(range.getStart()), copy(range.getEnd())));
+		}
+		if (diagnostic.getMessage() != null) {
+			copy.setMessage(diagnostic.getMessage());
+		}
+		copy.setSeverity(diagnostic.getSeverity());
+		copy.setSource(diagnostic.getSource());
+		copy.setCode(diagnostic.getCode());
+		copy.setCodeDescription(diagnostic.getCodeDescription());
+		if (diagnostic.getTags() != null) {
+			copy.setTags(new ArrayList<>(diagnostic.getTags()));
+		}
+		if (diagnostic.getRelatedInformation() != null) {
+			copy.setRelatedInformation(new ArrayList<>(diagnostic.getRelatedInformation()));
+		}
+		copy.setData(diagnostic.getData());
+		return copy;
+	}
+
+	private static Position copy(Position position) {
+		return new Position(position.getLine(), position.getCharacter());
+	}
+
+	private static boolean isSameSettings(MicroProfileJavaDiagnosticsSettings cached,
+			MicroProfileJavaDiagnosticsSettings settings) {
+		if (cached == null || settings == null) {
+			return cached == settings;
+		}
+		return Objects.equals(cached.getPatterns(), settings.getPatterns())
+				&& cached.getValidationValueSeverity() == settings.getValidationValueSeverity()
+				&& cached.getMode() == settings.getMode();
+	}
+}
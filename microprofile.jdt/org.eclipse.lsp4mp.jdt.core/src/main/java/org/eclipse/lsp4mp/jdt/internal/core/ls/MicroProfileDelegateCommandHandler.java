@@ -13,10 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.internal.core.ls;
 
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getBoolean;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getFirst;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
+import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.logging.Level;
@@ -102,6 +105,16 @@ public class MicroProfileDelegateCommandHandler extends AbstractMicroProfileDele
 		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(applicationPropertiesUri);
 		params.setScopes(scopes);
 		params.setDocumentFormat(documentFormat);
+		List<String> classpathEntries = getStringList(obj, "classpathEntries");
+		if (classpathEntries != null) {
+			params.setClasspathEntries(new HashSet<>(classpathEntries));
+		}
+		List<String> javaFileURIs = getStringList(obj, "javaFileURIs");
+		if (javaFileURIs != null) {
+			params.setJavaFileURIs(new HashSet<>(javaFileURIs));
+		}
+		params.setCompact(getBoolean(obj, "compact"));
+		params.setVersion(getString(obj, "version"));
 
 		// Execute the getMicroProfileProjectInfo in a Job to benefit with progress
 		// monitor
@@ -22,6 +22,7 @@ import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getString;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getStringList;
 import static org.eclipse.lsp4mp.jdt.internal.core.ls.ArgumentUtils.getTextDocumentIdentifier;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -491,7 +492,12 @@ public class MicroProfileDelegateCommandHandlerForJava extends AbstractMicroProf
 					severity == 0 ? null : DiagnosticSeverity.forValue(severity),
 					ExecutionMode.forValue(executionMode));
 		}
-		return new MicroProfileJavaDiagnosticsParams(javaFileUri, settings);
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams(javaFileUri, settings);
+		List<String> changedPropertyKeys = getStringList(obj, "changedPropertyKeys");
+		if (changedPropertyKeys != null) {
+			params.setChangedPropertyKeys(new HashSet<>(changedPropertyKeys));
+		}
+		return params;
 	}
 
 	/**
@@ -0,0 +1,335 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsConstants.JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsUtils.getJaxRsApplicationPathValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.IJaxRsInfoProvider;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaProjectIndex;
+import org.eclipse.lsp4mp.jdt.internal.core.java.JavaFeaturesRegistry;
+
+/**
+ * Per project index of the JAX-RS endpoints: the <code>@ApplicationPath</code>
+ * value, the JAX-RS resource classes and their JAX-RS methods.
+ *
+ * <p>
+ * The index is loaded lazily and is updated from the Java element deltas: only
+ * the changed compilation units are collected again. A classpath change of a
+ * project clears its index.
+ * </p>
+ *
+ */
+public class JaxRsEndpointIndex extends AbstractJavaProjectIndex<JaxRsEndpointIndex.ProjectIndex> {
+
+	private static final JaxRsEndpointIndex INSTANCE = new JaxRsEndpointIndex();
+
+	public static JaxRsEndpointIndex getInstance() {
+		return INSTANCE;
+	}
+
+	private static final String APPLICATION_PATH = "ApplicationPath";
+
+	private static final SearchPattern APPLICATION_PATH_SEARCH_PATTERN = SearchPattern.createOrPattern(
+			SearchPattern.createPattern(JAVAX_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH),
+			SearchPattern.createPattern(JAKARTA_WS_RS_APPLICATIONPATH_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+					IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH));
+
+	private static class MethodInfos {
+
+		private final String baseURL;
+
+		private final List<JaxRsMethodInfo> infos;
+
+		public MethodInfos(String baseURL, List<JaxRsMethodInfo> infos) {
+			this.baseURL = baseURL;
+			this.infos = infos;
+		}
+	}
+
+	static class ProjectIndex {
+
+		// Incremented each time a compilation unit changes, to ignore the information
+		// loaded (without holding the lock) while the compilation unit was changing
+		private long generation;
+
+		private boolean applicationPathLoaded;
+
+		private String applicationPath;
+
+		// The compilation unit which declares the @ApplicationPath annotation
+		private ITypeRoot applicationPathTypeRoot;
+
+		// The JAX-RS resource classes and null if they are not loaded
+		private Set<ITypeRoot> resourceTypes;
+
+		// The changed compilation units which must be checked again
+		private final Set<ITypeRoot> changedTypes = new HashSet<>();
+
+		private final Map<ITypeRoot, MethodInfos> methodInfos = new HashMap<>();
+
+	}
+
+	private JaxRsEndpointIndex() {
+	}
+
+	/**
+	 * Returns the value of the <code>@ApplicationPath</code> annotation of the
+	 * given project and null otherwise.
+	 *
+	 * @param javaProject the Java project.
+	 * @param monitor     the progress monitor.
+	 * @return the value of the <code>@ApplicationPath</code> annotation of the
+	 *         given project and null otherwise.
+	 * @throws CoreException
+	 */
+	public String getApplicationPath(IJavaProject javaProject, IProgressMonitor monitor) throws CoreException {
+		ProjectIndex index = getProjectIndex(javaProject);
+		long generation;
+		synchronized (index) {
+			if (index.applicationPathLoaded) {
+				return index.applicationPath;
+			}
+			generation = index.generation;
+		}
+		// The search is done without holding the lock which is required by the Java
+		// element delta listener
+		IType applicationPathType = findApplicationPathType(javaProject, monitor);
+		String applicationPath = applicationPathType != null ? getJaxRsApplicationPathValue(applicationPathType)
+				: null;
+		synchronized (index) {
+			if (index.generation == generation && !monitor.isCanceled()) {
+				index.applicationPath = applicationPath;
+				index.applicationPathTypeRoot = applicationPathType != null ? applicationPathType.getTypeRoot()
+						: null;
+				index.applicationPathLoaded = true;
+			}
+		}
+		return applicationPath;
+	}
+
+	/**
+	 * Use the java search engine to search the java project for the type annotated
+	 * with @ApplicationPath, or null if not found
+	 *
+	 * @param javaProject the Java project
+	 * @param monitor     the progress monitor
+	 * @return the type annotated with @ApplicationPath, or null if not found
+	 * @throws CoreException
+	 */
+	private static IType findApplicationPathType(IJavaProject javaProject, IProgressMonitor monitor)
+			throws CoreException {
+		AtomicReference<IType> applicationPathTypeRef = new AtomicReference<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(APPLICATION_PATH_SEARCH_PATTERN, new SearchParticipant[] {
+				SearchEngine.getDefaultSearchParticipant()
+		}, SearchEngine.createJavaSearchScope(new IJavaProject[] {
+				javaProject
+		}, IJavaSearchScope.SOURCES), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				Object o = match.getElement();
+				if (o instanceof IType type && getJaxRsApplicationPathValue(type) != null) {
+					applicationPathTypeRef.set(type);
+				}
+			}
+		}, monitor);
+		return applicationPathTypeRef.get();
+	}
+
+	/**
+	 * Returns the JAX-RS methods of the JAX-RS resource classes of the given
+	 * project.
+	 *
+	 * @param javaProject  the Java project.
+	 * @param jaxrsContext the JAX-RS context.
+	 * @param utils        the JDT utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS methods of the JAX-RS resource classes of the given
+	 *         project.
+	 */
+	public List<JaxRsMethodInfo> getAllJaxRsMethodInfo(IJavaProject javaProject, JaxRsContext jaxrsContext,
+			IJDTUtils utils, IProgressMonitor monitor) {
+		ProjectIndex index = getProjectIndex(javaProject);
+		List<ITypeRoot> resourceTypes = null;
+		long generation;
+		synchronized (index) {
+			if (index.resourceTypes != null) {
+				// The changed compilation units are resource classes if they have JAX-RS
+				// methods
+				index.resourceTypes.addAll(index.changedTypes);
+				index.changedTypes.clear();
+				resourceTypes = new ArrayList<>(index.resourceTypes);
+			}
+			generation = index.generation;
+		}
+		if (resourceTypes == null) {
+			// The search is done without holding the lock which is required by the Java
+			// element delta listener
+			Set<ITypeRoot> types = new HashSet<>();
+			for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+				types.addAll(provider.getAllJaxRsClasses(javaProject, monitor));
+				if (monitor.isCanceled()) {
+					return Collections.emptyList();
+				}
+			}
+			synchronized (index) {
+				if (index.generation == generation && index.resourceTypes == null) {
+					index.resourceTypes = types;
+					index.changedTypes.clear();
+				}
+			}
+			resourceTypes = new ArrayList<>(types);
+		}
+
+		List<JaxRsMethodInfo> infos = new ArrayList<>();
+		for (ITypeRoot typeRoot : resourceTypes) {
+			if (!typeRoot.exists()) {
+				continue;
+			}
+			List<JaxRsMethodInfo> typeInfos = getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+			if (monitor.isCanceled()) {
+				return Collections.emptyList();
+			}
+			if (typeInfos.isEmpty()) {
+				synchronized (index) {
+					if (index.resourceTypes != null && !index.changedTypes.contains(typeRoot)) {
+						index.resourceTypes.remove(typeRoot);
+					}
+				}
+			}
+			infos.addAll(typeInfos);
+		}
+		return infos;
+	}
+
+	/**
+	 * Returns the JAX-RS methods of the given class file / compilation unit.
+	 *
+	 * @param typeRoot     the class file / compilation unit.
+	 * @param jaxrsContext the JAX-RS context.
+	 * @param utils        the JDT utilities.
+	 * @param monitor      the progress monitor.
+	 * @return the JAX-RS methods of the given class file / compilation unit.
+	 */
+	public List<JaxRsMethodInfo> getJaxRsMethodInfo(ITypeRoot typeRoot, JaxRsContext jaxrsContext, IJDTUtils utils,
+			IProgressMonitor monitor) {
+		ProjectIndex index = getProjectIndex(typeRoot.getJavaProject());
+		String baseURL = jaxrsContext.getLocalBaseURL();
+		// The working copies of other owners than the primary owner are not indexed
+		boolean cacheable = !(typeRoot instanceof ICompilationUnit unit) || unit.getOwner() == null;
+		long generation = 0;
+		if (cacheable) {
+			synchronized (index) {
+				MethodInfos methodInfos = index.methodInfos.get(typeRoot);
+				if (methodInfos != null && methodInfos.baseURL.equals(baseURL)) {
+					return methodInfos.infos;
+				}
+				generation = index.generation;
+			}
+		}
+		IJaxRsInfoProvider provider = getProviderForType(typeRoot, monitor);
+		if (provider == null) {
+			return Collections.emptyList();
+		}
+		List<JaxRsMethodInfo> infos = provider.getJaxRsMethodInfo(typeRoot, jaxrsContext, utils, monitor);
+		if (cacheable && !monitor.isCanceled()) {
+			synchronized (index) {
+				if (index.generation == generation) {
+					index.methodInfos.put(typeRoot, new MethodInfos(baseURL, infos));
+				}
+			}
+		}
+		return infos;
+	}
+
+	@Override
+	protected ProjectIndex createProjectIndex() {
+		return new ProjectIndex();
+	}
+
+	@Override
+	protected void compilationUnitChanged(ProjectIndex index, ICompilationUnit unit) {
+		synchronized (index) {
+			index.generation++;
+			index.methodInfos.remove(unit);
+			if (index.resourceTypes != null) {
+				index.resourceTypes.remove(unit);
+				index.changedTypes.add(unit);
+			}
+			if (index.applicationPathLoaded
+					&& (unit.equals(index.applicationPathTypeRoot) || declaresApplicationPath(unit))) {
+				index.applicationPathLoaded = false;
+				index.applicationPath = null;
+				index.applicationPathTypeRoot = null;
+			}
+		}
+	}
+
+	private static boolean declaresApplicationPath(ICompilationUnit unit) {
+		try {
+			String source = unit.exists() ? unit.getSource() : null;
+			return source != null && source.contains(APPLICATION_PATH);
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the provider that can provide JAX-RS method info for the given class,
+	 * or null if no provider can provide info.
+	 *
+	 * @param typeRoot the class to collect JAX-RS method info for
+	 * @param monitor  the progress monitor
+	 * @return the provider that can provide JAX-RS method info for the given class,
+	 *         or null if no provider can provide info
+	 */
+	private static IJaxRsInfoProvider getProviderForType(ITypeRoot typeRoot, IProgressMonitor monitor) {
+		for (IJaxRsInfoProvider provider : JavaFeaturesRegistry.getInstance().getJaxRsInfoProviders()) {
+			if (provider.canProvideJaxRsMethodInfoForClass(typeRoot, monitor)) {
+				return provider;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
+
+/**
+ * Monitor of the availability of the local servers used by the JAX-RS URL
+ * code lenses.
+ *
+ * <p>
+ * {@link #isAvailable(String, int)} never connects to the server: it returns
+ * the last known availability and the servers are probed in background. The
+ * servers which have been requested recently are probed periodically and the
+ * client is notified to refresh the code lenses when the availability of a
+ * server changes (ex : the dev server has been started).
+ * </p>
+ *
+ */
+public class ServerAvailabilityMonitor {
+
+	private static final ServerAvailabilityMonitor INSTANCE = new ServerAvailabilityMonitor();
+
+	public static ServerAvailabilityMonitor getInstance() {
+		return INSTANCE;
+	}
+
+	private static final int PING_TIMEOUT = 2000;
+
+	// Delay while the availability of a server is considered up to date
+	private static final long CHECK_DELAY_MS = 5000;
+
+	// Delay after the last request while a server is monitored
+	private static final long MONITOR_DURATION_MS = TimeUnit.MINUTES.toMillis(5);
+
+	private static class ServerStatus {
+
+		private final String host;
+
+		private final int port;
+
+		private volatile Boolean available;
+
+		private volatile long lastRequest;
+
+		private volatile boolean probing;
+
+		public ServerStatus(String host, int port) {
+			this.host = host;
+			this.port = port;
+		}
+	}
+
+	private final Map<String /* host:port */, ServerStatus> servers = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService scheduler;
+
+	private ServerAvailabilityMonitor() {
+	}
+
+	/**
+	 * Returns the last known availability of the given server and false if it is
+	 * unknown. This method never blocks, the server is probed in background.
+	 *
+	 * @param host the server host.
+	 * @param port the server port.
+	 * @return the last known availability of the given server and false if it is
+	 *         unknown.
+	 */
+	public boolean isAvailable(String host, int port) {
+		ServerStatus status = servers.computeIfAbsent(host + ":" + port, k -> new ServerStatus(host, port));
+		status.lastRequest = System.currentTimeMillis();
+		if (status.available == null) {
+			probeAsync(status);
+		}
+		return Boolean.TRUE.equals(status.available);
+	}
+
+	private synchronized ScheduledExecutorService getScheduler() {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "MicroProfile-Server-Availability");
+				t.setDaemon(true);
+				return t;
+			});
+			scheduler.scheduleWithFixedDelay(this::probeMonitoredServers, CHECK_DELAY_MS, CHECK_DELAY_MS,
+					TimeUnit.MILLISECONDS);
+		}
+		return scheduler;
+	}
+
+	private void probeAsync(ServerStatus status) {
+		synchronized (status) {
+			if (status.probing) {
+				return;
+			}
+			status.probing = true;
+		}
+		getScheduler().execute(() -> probe(status));
+	}
+
+	private void probeMonitoredServers() {
+		long now = System.currentTimeMillis();
+		servers.values().removeIf(status -> now - status.lastRequest > MONITOR_DURATION_MS);
+		servers.values().forEach(this::probe);
+	}
+
+	private void probe(ServerStatus status) {
+		try {
+			Boolean oldAvailable = status.available;
+			boolean available = isServerAvailable(status.host, status.port, PING_TIMEOUT);
+			status.available = available;
+			if (oldAvailable != null ? oldAvailable != available : available) {
+				// The code lenses have been computed with another availability
+				MicroProfilePropertiesListenerManager.getInstance().fireServerAvailabilityChanged();
+			}
+		} finally {
+			status.probing = false;
+		}
+	}
+
+	private static boolean isServerAvailable(String host, int port, int timeout) {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, port), timeout);
+			return true;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+}
@@ -18,8 +18,6 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAV
 import static org.eclipse.lsp4mp.jdt.internal.restclient.MicroProfileRestClientConstants.REGISTER_REST_CLIENT_ANNOTATION;
 import static org.eclipse.lsp4mp.jdt.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.IField;
@@ -27,13 +25,6 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeRoot;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchMatch;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
@@ -200,42 +191,15 @@ public class MicroProfileRestClientDiagnosticsParticipant implements IJavaDiagno
 			return;
 		}
 
-		final AtomicInteger nbReferences = new AtomicInteger(0);
-		SearchPattern pattern = SearchPattern.createPattern(interfaceType, IJavaSearchConstants.REFERENCES);
-		SearchEngine engine = new SearchEngine();
-		engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-				createSearchScope(interfaceType.getJavaProject()), new SearchRequestor() {
-
-					@Override
-					public void acceptSearchMatch(SearchMatch match) throws CoreException {
-						Object o = match.getElement();
-						if (o instanceof IField) {
-							validateReferenceField((IField) o);
-						}
-					}
-
-					private void validateReferenceField(IField field) throws CoreException {
-						boolean hasInjectAnnotation = AnnotationUtils.hasAnnotation(field, INJECT_JAVAX_ANNOTATION)
-								|| AnnotationUtils.hasAnnotation(field, INJECT_JAKARTA_ANNOTATION);
-						boolean hasRestClientAnnotation = AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
-						if (hasInjectAnnotation && hasRestClientAnnotation) {
-							nbReferences.incrementAndGet();
-						}
-					}
-				}, monitor);
-
-		if (nbReferences.get() > 0) {
+		int nbReferences = RestClientInjectionIndex.getInstance().getInjectedReferencesCount(interfaceType, monitor);
+		if (nbReferences > 0) {
 			Range restInterfaceRange = PositionUtils.toNameRange(interfaceType, context.getUtils());
 			context.addDiagnostic(
 					"The interface `" + interfaceType.getElementName()
-							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences.get()
+							+ "` does not have the @RegisterRestClient annotation. The " + nbReferences
 							+ " fields references will not be injected as CDI beans.",
 					restInterfaceRange, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
 					MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing);
 		}
 	}
-
-	private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
-		return SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject }, IJavaSearchScope.SOURCES);
-	}
 }
@@ -0,0 +1,250 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.restclient.java;
+
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAKARTA_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.core.MicroProfileConfigConstants.INJECT_JAVAX_ANNOTATION;
+import static org.eclipse.lsp4mp.jdt.internal.restclient.MicroProfileRestClientConstants.REST_CLIENT_ANNOTATION;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.lsp4mp.jdt.core.utils.AnnotationUtils;
+import org.eclipse.lsp4mp.jdt.internal.core.java.AbstractJavaProjectIndex;
+
+/**
+ * Per project index of the fields annotated with <code>@Inject</code> and
+ * <code>@RestClient</code>, grouped by compilation unit and by field type.
+ *
+ * <p>
+ * The index is loaded lazily with one search of the <code>@RestClient</code>
+ * annotation references and is updated from the Java element deltas: only the
+ * changed compilation units are scanned again.
+ * </p>
+ *
+ */
+public class RestClientInjectionIndex extends AbstractJavaProjectIndex<RestClientInjectionIndex.ProjectIndex> {
+
+	private static final RestClientInjectionIndex INSTANCE = new RestClientInjectionIndex();
+
+	public static RestClientInjectionIndex getInstance() {
+		return INSTANCE;
+	}
+
+	private static final SearchPattern REST_CLIENT_SEARCH_PATTERN = SearchPattern.createPattern(
+			REST_CLIENT_ANNOTATION, IJavaSearchConstants.ANNOTATION_TYPE,
+			IJavaSearchConstants.ANNOTATION_TYPE_REFERENCE, SearchPattern.R_EXACT_MATCH);
+
+	static class ProjectIndex {
+
+		// Incremented each time a compilation unit changes, to ignore the injections
+		// collected (without holding the lock) while the compilation unit was changing
+		private long generation;
+
+		// The number of injected fields per field type of each compilation unit and
+		// null if they are not loaded
+		private Map<ITypeRoot, Map<String /* field type */, Integer>> injections;
+
+		// The changed compilation units which must be scanned again
+		private final Set<ITypeRoot> changedTypes = new HashSet<>();
+
+	}
+
+	private RestClientInjectionIndex() {
+	}
+
+	/**
+	 * Returns the number of fields of the project of the given interface which
+	 * are annotated with <code>@Inject</code> and <code>@RestClient</code> and
+	 * whose type is the given interface.
+	 *
+	 * @param interfaceType the interface type.
+	 * @param monitor       the progress monitor.
+	 * @return the number of fields annotated with <code>@Inject</code> and
+	 *         <code>@RestClient</code> whose type is the given interface.
+	 * @throws CoreException
+	 */
+	public int getInjectedReferencesCount(IType interfaceType, IProgressMonitor monitor) throws CoreException {
+		ProjectIndex index = getProjectIndex(interfaceType.getJavaProject());
+		Map<ITypeRoot, Map<String, Integer>> injections = null;
+		List<ITypeRoot> changedTypes = null;
+		long generation;
+		synchronized (index) {
+			if (index.injections != null) {
+				if (index.changedTypes.isEmpty()) {
+					return countInjections(index.injections, interfaceType);
+				}
+				changedTypes = new ArrayList<>(index.changedTypes);
+			}
+			generation = index.generation;
+		}
+		// The search and the scan are done without holding the lock which is required
+		// by the Java element delta listener
+		if (changedTypes == null) {
+			injections = loadInjections(interfaceType.getJavaProject(), monitor);
+		} else {
+			injections = new HashMap<>();
+			for (ITypeRoot typeRoot : changedTypes) {
+				if (monitor.isCanceled()) {
+					break;
+				}
+				injections.put(typeRoot, typeRoot.exists() ? collectInjections(typeRoot) : null);
+			}
+		}
+		synchronized (index) {
+			if (index.generation == generation && !monitor.isCanceled()) {
+				if (changedTypes == null) {
+					index.injections = injections;
+					index.changedTypes.clear();
+				} else {
+					for (Map.Entry<ITypeRoot, Map<String, Integer>> entry : injections.entrySet()) {
+						if (entry.getValue() != null) {
+							index.injections.put(entry.getKey(), entry.getValue());
+						} else {
+							index.injections.remove(entry.getKey());
+						}
+					}
+					index.changedTypes.removeAll(changedTypes);
+				}
+			}
+			if (index.injections != null) {
+				return countInjections(index.injections, interfaceType);
+			}
+		}
+		return countInjections(injections, interfaceType);
+	}
+
+	private static Map<ITypeRoot, Map<String, Integer>> loadInjections(IJavaProject javaProject,
+			IProgressMonitor monitor) throws CoreException {
+		Set<ITypeRoot> typeRoots = new HashSet<>();
+		SearchEngine engine = new SearchEngine();
+		engine.search(REST_CLIENT_SEARCH_PATTERN, new SearchParticipant[] {
+				SearchEngine.getDefaultSearchParticipant()
+		}, SearchEngine.createJavaSearchScope(new IJavaProject[] {
+				javaProject
+		}, IJavaSearchScope.SOURCES), new SearchRequestor() {
+
+			@Override
+			public void acceptSearchMatch(SearchMatch match) throws CoreException {
+				Object o = match.getElement();
+				if (o instanceof IField field) {
+					typeRoots.add(field.getTypeRoot());
+				}
+			}
+		}, monitor);
+		Map<ITypeRoot, Map<String, Integer>> injections = new HashMap<>();
+		for (ITypeRoot typeRoot : typeRoots) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			injections.put(typeRoot, collectInjections(typeRoot));
+		}
+		return injections;
+	}
+
+	private static Map<String, Integer> collectInjections(ITypeRoot typeRoot) throws JavaModelException {
+		Map<String, Integer> injections = new HashMap<>();
+		collectInjections(typeRoot.getChildren(), injections);
+		return injections;
+	}
+
+	private static void collectInjections(IJavaElement[] elements, Map<String, Integer> injections)
+			throws JavaModelException {
+		for (IJavaElement element : elements) {
+			if (element.getElementType() == IJavaElement.TYPE) {
+				IType type = (IType) element;
+				// The fields of a declaration with several variables (ex : MyService service1,
+				// service2;) share the same declaration start and are one reference of the type
+				Set<Integer> declarations = new HashSet<>();
+				for (IField field : type.getFields()) {
+					if (declarations.add(field.getSourceRange().getOffset()) && isInjectedRestClient(field)) {
+						String fieldTypeName = getResolvedTypeName(field);
+						if (fieldTypeName != null) {
+							injections.merge(fieldTypeName, 1, Integer::sum);
+						}
+					}
+				}
+				collectInjections(type.getTypes(), injections);
+			}
+		}
+	}
+
+	/**
+	 * Returns the resolved type name of the given field and null otherwise. The
+	 * type is resolved against the declaring type of the field (and not the primary
+	 * type of the compilation unit), to resolve the member types and the imports of
+	 * a field of a nested class.
+	 */
+	private static String getResolvedTypeName(IField field) {
+		try {
+			return JavaModelUtil.getResolvedTypeName(field.getTypeSignature(), field.getDeclaringType(), '$');
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private static boolean isInjectedRestClient(IField field) throws JavaModelException {
+		return (AnnotationUtils.hasAnnotation(field, INJECT_JAVAX_ANNOTATION)
+				|| AnnotationUtils.hasAnnotation(field, INJECT_JAKARTA_ANNOTATION))
+				&& AnnotationUtils.hasAnnotation(field, REST_CLIENT_ANNOTATION);
+	}
+
+	private static int countInjections(Map<ITypeRoot, Map<String, Integer>> injections, IType interfaceType) {
+		String interfaceName = interfaceType.getFullyQualifiedName();
+		int count = 0;
+		for (Map<String, Integer> typeRootInjections : injections.values()) {
+			if (typeRootInjections != null) {
+				count += typeRootInjections.getOrDefault(interfaceName, 0);
+			}
+		}
+		return count;
+	}
+
+	@Override
+	protected ProjectIndex createProjectIndex() {
+		return new ProjectIndex();
+	}
+
+	@Override
+	protected void compilationUnitChanged(ProjectIndex index, ICompilationUnit unit) {
+		synchronized (index) {
+			index.generation++;
+			if (index.injections != null) {
+				index.changedTypes.add(unit);
+			}
+		}
+	}
+
+}
@@ -13,13 +13,20 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.jdt.core;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.JavaFileInfo;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsParams;
 import org.eclipse.lsp4mp.commons.MicroProfileJavaFileInfoParams;
 import org.junit.Assert;
 import org.junit.Test;
@@ -76,4 +83,54 @@ public class PropertiesManagerForJavaTest extends BasePropertiesManagerTest {
 		Assert.assertNull(javaFileInfo);
 
 	}
+
+	@Test
+	public void diagnosticsInRequestOrder() throws CoreException, Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+		IProject project = javaProject.getProject();
+		String implementUri = getJavaFileUri(project, "src/main/java/org/acme/health/ImplementHealthCheck.java");
+		String badUri = getJavaFileUri(project, "src/main/java/BAD_JAVA_FILE.java");
+		String dontImplementUri = getJavaFileUri(project,
+				"src/main/java/org/acme/health/DontImplementHealthCheck.java");
+
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(Arrays.asList(implementUri, badUri, dontImplementUri));
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		List<PublishDiagnosticsParams> diagnostics = PropertiesManagerForJava.getInstance().diagnostics(params,
+				JDT_UTILS, new NullProgressMonitor());
+
+		// The diagnostics of the Java files are collected in parallel and returned in
+		// the order of the request
+		Assert.assertEquals(Arrays.asList(implementUri, badUri, dontImplementUri),
+				diagnostics.stream().map(PublishDiagnosticsParams::getUri).collect(Collectors.toList()));
+		Assert.assertEquals(1, diagnostics.get(0).getDiagnostics().size());
+		Assert.assertTrue(diagnostics.get(0).getDiagnostics().get(0).getMessage()
+				.contains("`org.acme.health.ImplementHealthCheck`"));
+		Assert.assertTrue(diagnostics.get(1).getDiagnostics().isEmpty());
+		Assert.assertEquals(1, diagnostics.get(2).getDiagnostics().size());
+		Assert.assertTrue(diagnostics.get(2).getDiagnostics().get(0).getMessage()
+				.contains("`org.acme.health.DontImplementHealthCheck`"));
+	}
+
+	@Test
+	public void diagnosticsWithCanceledMonitor() throws CoreException, Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.microprofile_health_quickstart);
+		IProject project = javaProject.getProject();
+
+		MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+		params.setUris(Arrays.asList(
+				getJavaFileUri(project, "src/main/java/org/acme/health/ImplementHealthCheck.java"),
+				getJavaFileUri(project, "src/main/java/org/acme/health/DontImplementHealthCheck.java")));
+		params.setDocumentFormat(DocumentFormat.Markdown);
+		NullProgressMonitor monitor = new NullProgressMonitor();
+		monitor.setCanceled(true);
+		List<PublishDiagnosticsParams> diagnostics = PropertiesManagerForJava.getInstance().diagnostics(params,
+				JDT_UTILS, monitor);
+		Assert.assertTrue(diagnostics.isEmpty());
+	}
+
+	private static String getJavaFileUri(IProject project, String path) {
+		IFile javaFile = project.getFile(new Path(path));
+		return javaFile.getLocation().toFile().toURI().toString();
+	}
 }
@@ -17,9 +17,19 @@ import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertProperties;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.assertPropertiesDuplicate;
 import static org.eclipse.lsp4mp.jdt.core.MicroProfileAssert.p;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
 import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.PropertiesManager;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -157,4 +167,29 @@ public class MicroProfileConfigPropertyTest extends BasePropertiesManagerTest {
 
 		assertPropertiesDuplicate(infoFromJavaSources);
 	}
+
+	@Test
+	public void configQuickstartFromJavaFiles() throws Exception {
+		IJavaProject javaProject = loadMavenProject(MicroProfileMavenProjectName.config_quickstart);
+		ICompilationUnit javaFile = javaProject.findType("org.acme.config.GreetingResource").getCompilationUnit();
+
+		MicroProfileProjectInfo infoFromJavaFiles = PropertiesManager.getInstance()
+				.getMicroProfileProjectInfoForJavaFiles(javaProject, Arrays.asList(javaFile), ClasspathKind.SRC,
+						JDT_UTILS, DocumentFormat.Markdown, new NullProgressMonitor());
+
+		Assert.assertEquals(Collections.singleton("org.acme.config.GreetingResource"),
+				infoFromJavaFiles.getSourceTypes());
+		assertProperties(infoFromJavaFiles,
+
+				p(null, "greeting.message", "java.lang.String", null, false, "org.acme.config.GreetingResource",
+						"message", null, 0, null),
+
+				p(null, "greeting.suffix", "java.lang.String", null, false, "org.acme.config.GreetingResource",
+						"suffix", null, 0, "!"));
+
+		// The properties of the other Java files are not collected
+		Assert.assertTrue(infoFromJavaFiles.getProperties().stream().allMatch(
+				p -> p.getSourceType() == null || "org.acme.config.GreetingResource".equals(p.getSourceType())));
+		assertPropertiesDuplicate(infoFromJavaFiles);
+	}
 }
@@ -0,0 +1,176 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.core.jaxrs.java;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.ls.core.internal.ProjectUtils;
+import org.eclipse.lsp4mp.jdt.core.BasePropertiesManagerTest;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsContext;
+import org.eclipse.lsp4mp.jdt.core.jaxrs.JaxRsMethodInfo;
+import org.eclipse.lsp4mp.jdt.internal.jaxrs.java.JaxRsEndpointIndex;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test with {@link JaxRsEndpointIndex} updated from the Java element deltas.
+ *
+ */
+public class JaxRsEndpointIndexTest extends BasePropertiesManagerTest {
+
+	private static final String APPLICATION = "org/acme/MyApplication.java";
+
+	private static final String RESOURCE = "org/acme/ApplicationPathResource.java";
+
+	private static final String NEW_RESOURCE = "org/acme/NewResource.java";
+
+	@BeforeClass
+	public static void setupTests() throws Exception {
+		BasePropertiesManagerTest.loadJavaProjects(new String[] {
+				"maven/" + MicroProfileMavenProjectName.microprofile_applicationpath
+		});
+	}
+
+	@Test
+	public void resourceClassChanged() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+		saveApplication(javaProject, "/api");
+		saveResource(javaProject, "/path");
+		try {
+			assertUrls(javaProject, "http://localhost:8080/api/path");
+
+			// The changed resource class is collected again
+			saveResource(javaProject, "/other");
+			assertUrls(javaProject, "http://localhost:8080/api/other");
+
+			// The new resource class is added to the index
+			saveFile(NEW_RESOURCE, "package org.acme;\r\n" + //
+					"import javax.ws.rs.GET;\r\n" + //
+					"import javax.ws.rs.Path;\r\n" + //
+					"@Path(\"/new\")\r\n" + //
+					"public class NewResource {\r\n" + //
+					"    @GET\r\n" + //
+					"    public String get() { return \"\"; }\r\n" + //
+					"}\r\n", javaProject, true);
+			assertUrls(javaProject, "http://localhost:8080/api/new", "http://localhost:8080/api/other");
+
+			// The removed resource class is removed from the index
+			deleteFile(NEW_RESOURCE, javaProject, true);
+			assertUrls(javaProject, "http://localhost:8080/api/other");
+		} finally {
+			saveResource(javaProject, "/path");
+		}
+	}
+
+	@Test
+	public void applicationPathAddedAndRemoved() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+		saveApplication(javaProject, "/api");
+		try {
+			Assert.assertEquals("/api", getApplicationPath(javaProject));
+
+			// The @ApplicationPath annotation is removed
+			saveFile(APPLICATION, "package org.acme;\r\n" + //
+					"import javax.ws.rs.core.Application;\r\n" + //
+					"public class MyApplication extends Application {}\r\n", javaProject, true);
+			Assert.assertNull(getApplicationPath(javaProject));
+			assertUrls(javaProject, "http://localhost:8080/path");
+
+			// The @ApplicationPath annotation is added
+			saveApplication(javaProject, "/v2");
+			Assert.assertEquals("/v2", getApplicationPath(javaProject));
+			assertUrls(javaProject, "http://localhost:8080/v2/path");
+		} finally {
+			saveApplication(javaProject, "/api");
+		}
+	}
+
+	@Test
+	public void classpathChanged() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.microprofile_applicationpath);
+		saveApplication(javaProject, "/api");
+		ITypeRoot typeRoot = javaProject.findType("org.acme.ApplicationPathResource").getTypeRoot();
+		List<JaxRsMethodInfo> infos = getJaxRsMethodInfo(typeRoot);
+		Assert.assertSame("The JAX-RS methods are indexed", infos, getJaxRsMethodInfo(typeRoot));
+
+		IClasspathEntry[] classpath = javaProject.getRawClasspath();
+		IClasspathEntry[] newClasspath = Arrays.copyOf(classpath, classpath.length + 1);
+		newClasspath[classpath.length] = JavaCore
+				.newLibraryEntry(javaProject.getProject().getFullPath().append("lib.jar"), null, null);
+		javaProject.setRawClasspath(newClasspath, new NullProgressMonitor());
+		try {
+			// The classpath change clears the index of the project
+			List<JaxRsMethodInfo> newInfos = getJaxRsMethodInfo(typeRoot);
+			Assert.assertNotSame("The index of the project is cleared", infos, newInfos);
+			Assert.assertEquals(getUrls(infos), getUrls(newInfos));
+		} finally {
+			javaProject.setRawClasspath(classpath, new NullProgressMonitor());
+		}
+	}
+
+	private static void saveApplication(IJavaProject javaProject, String applicationPath) throws Exception {
+		saveFile(APPLICATION, "package org.acme;\r\n" + //
+				"import javax.ws.rs.ApplicationPath;\r\n" + //
+				"import javax.ws.rs.core.Application;\r\n" + //
+				"@ApplicationPath(\"" + applicationPath + "\")\r\n" + //
+				"public class MyApplication extends Application {}\r\n", javaProject, true);
+	}
+
+	private static void saveResource(IJavaProject javaProject, String path) throws Exception {
+		// Same content as the resource class of the project, with the given path
+		saveFile(RESOURCE, "package org.acme;\n" + //
+				"\n" + //
+				"import javax.ws.rs.GET;\n" + //
+				"import javax.ws.rs.Path;\n" + //
+				"import javax.ws.rs.Produces;\n" + //
+				"import javax.ws.rs.core.MediaType;\n" + //
+				"\n" + //
+				"@Path(\"" + path + "\")\n" + //
+				"public class ApplicationPathResource {\n" + //
+				"\n" + //
+				"    @GET\n" + //
+				"    @Produces(MediaType.TEXT_PLAIN)\n" + //
+				"    public String onPath() {\n" + //
+				"        return \"Followed the application path\";\n" + //
+				"    }\n" + //
+				"}", javaProject, true);
+	}
+
+	private static String getApplicationPath(IJavaProject javaProject) throws Exception {
+		return JaxRsEndpointIndex.getInstance().getApplicationPath(javaProject, new NullProgressMonitor());
+	}
+
+	private static List<JaxRsMethodInfo> getJaxRsMethodInfo(ITypeRoot typeRoot) {
+		return JaxRsEndpointIndex.getInstance().getJaxRsMethodInfo(typeRoot,
+				new JaxRsContext(typeRoot.getJavaProject()), JDT_UTILS, new NullProgressMonitor());
+	}
+
+	private static void assertUrls(IJavaProject javaProject, String... expected) {
+		List<JaxRsMethodInfo> infos = JaxRsEndpointIndex.getInstance().getAllJaxRsMethodInfo(javaProject,
+				new JaxRsContext(javaProject), JDT_UTILS, new NullProgressMonitor());
+		Assert.assertEquals(Arrays.asList(expected), getUrls(infos));
+	}
+
+	private static List<String> getUrls(List<JaxRsMethodInfo> infos) {
+		return infos.stream().map(JaxRsMethodInfo::getUrl).sorted().collect(Collectors.toList());
+	}
+}
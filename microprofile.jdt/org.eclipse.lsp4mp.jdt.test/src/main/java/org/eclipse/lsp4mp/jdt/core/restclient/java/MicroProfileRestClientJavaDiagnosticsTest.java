@@ -183,6 +183,43 @@ public class MicroProfileRestClientJavaDiagnosticsTest extends BasePropertiesMan
 								"\r\n\r\nimport org.eclipse.microprofile.rest.client.inject.RegisterRestClient;\r\n\r\n@RegisterRestClient\r\n")));
 	}
 
+	@Test
+	public void restClientAnnotationMissingForInterfaceInjectedInSecondaryType() throws Exception {
+		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.rest_client_quickstart);
+		IJDTUtils utils = JDT_UTILS;
+
+		// The field type of the secondary type is the MyService interface, and not the
+		// MyService member type of the primary type
+		saveFile("org/acme/restclient/SecondaryTypeFields.java", "package org.acme.restclient;\r\n" + //
+				"import javax.inject.Inject;\r\n" + //
+				"import org.eclipse.microprofile.rest.client.inject.RestClient;\r\n" + //
+				"public class SecondaryTypeFields {\r\n" + //
+				"	interface MyService {}\r\n" + //
+				"}\r\n" + //
+				"class SecondaryType {\r\n" + //
+				"	@Inject\r\n" + //
+				"	@RestClient\r\n" + //
+				"	public MyService service;\r\n" + //
+				"}\r\n", javaProject, true);
+		try {
+			MicroProfileJavaDiagnosticsParams params = new MicroProfileJavaDiagnosticsParams();
+			IFile javaFile = javaProject.getProject()
+					.getFile(new Path("src/main/java/org/acme/restclient/MyService.java"));
+			params.setUris(Arrays.asList(javaFile.getLocation().toFile().toURI().toString()));
+			params.setDocumentFormat(DocumentFormat.Markdown);
+
+			Diagnostic d = d(2, 17, 26,
+					"The interface `MyService` does not have the @RegisterRestClient annotation. The 2 fields references will not be injected as CDI beans.",
+					DiagnosticSeverity.Warning, MicroProfileRestClientConstants.DIAGNOSTIC_SOURCE,
+					MicroProfileRestClientErrorCode.RegisterRestClientAnnotationMissing);
+
+			assertJavaDiagnostics(params, utils, //
+					d);
+		} finally {
+			deleteFile("org/acme/restclient/SecondaryTypeFields.java", javaProject, true);
+		}
+	}
+
 	@Test
 	public void restClientAnnotationMissingForInterfaceJakarta() throws Exception {
 		IJavaProject javaProject = ProjectUtils.getJavaProject(MicroProfileMavenProjectName.open_liberty);
@@ -0,0 +1,161 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test for {@link JarMetadataCache}.
+ *
+ */
+public class JarMetadataCacheTest {
+
+	private static final String PROVIDERS = "provider1,provider2";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void putAndGet() throws Exception {
+		File jar = createJar("content");
+		JarMetadataCache cache = new JarMetadataCache(folder.newFolder("cache").toPath());
+		assertNull(cache.get(jar, DocumentFormat.Markdown, PROVIDERS));
+
+		cache.put(jar, DocumentFormat.Markdown, PROVIDERS, createMetadata());
+
+		// A new cache instance reads the entry stored on the disk
+		cache = new JarMetadataCache(folder.getRoot().toPath().resolve("cache"));
+		ConfigurationMetadata metadata = cache.get(jar, DocumentFormat.Markdown, PROVIDERS);
+		assertNotNull(metadata);
+		assertEquals(1, metadata.getProperties().size());
+		assertEquals("quarkus.application.name", metadata.getProperties().get(0).getName());
+		assertEquals(1, metadata.getHints().size());
+		assertEquals("org.acme.MyEnum", metadata.getHints().get(0).getSourceType());
+
+		// Other document format, other providers
+		assertNull(cache.get(jar, DocumentFormat.PlainText, PROVIDERS));
+		assertNull(cache.get(jar, DocumentFormat.Markdown, "provider1"));
+	}
+
+	@Test
+	public void changedJar() throws Exception {
+		File jar = createJar("content");
+		JarMetadataCache cache = new JarMetadataCache(folder.newFolder("cache").toPath());
+		cache.put(jar, DocumentFormat.Markdown, PROVIDERS, createMetadata());
+
+		// Only the last modified time changed
+		jar.setLastModified(jar.lastModified() - 10000);
+		assertNotNull(cache.get(jar, DocumentFormat.Markdown, PROVIDERS));
+
+		// The content changed with the same size
+		Files.write(jar.toPath(), "CONTENT".getBytes(StandardCharsets.UTF_8));
+		jar.setLastModified(jar.lastModified() + 10000);
+		assertNull(cache.get(jar, DocumentFormat.Markdown, PROVIDERS));
+	}
+
+	@Test
+	public void evictOldEntries() throws Exception {
+		File jar = createJar("content");
+		File removedJar = folder.newFile("removed.jar");
+		Path cacheDir = folder.newFolder("cache").toPath();
+		JarMetadataCache cache = new JarMetadataCache(cacheDir);
+		cache.put(jar, DocumentFormat.Markdown, PROVIDERS, createMetadata());
+		cache.put(removedJar, DocumentFormat.Markdown, PROVIDERS, createMetadata());
+		assertEquals(2, countEntries(cacheDir));
+
+		// The JAR has been removed, its entry is deleted by the next cache instance
+		assertTrue(removedJar.delete());
+		cache = new JarMetadataCache(cacheDir);
+		assertNotNull(cache.get(jar, DocumentFormat.Markdown, PROVIDERS));
+		assertEquals(1, countEntries(cacheDir));
+
+		// A provider bundle has been updated, the entries of the old providers are
+		// deleted
+		cache = new JarMetadataCache(cacheDir);
+		String updatedProviders = "provider1@1.0.1,provider2";
+		assertNull(cache.get(jar, DocumentFormat.Markdown, updatedProviders));
+		assertEquals(0, countEntries(cacheDir));
+	}
+
+	@Test
+	public void disabled() throws Exception {
+		File jar = createJar("content");
+		JarMetadataCache cache = new JarMetadataCache(null);
+		cache.put(jar, DocumentFormat.Markdown, PROVIDERS, createMetadata());
+		assertNull(cache.get(jar, DocumentFormat.Markdown, PROVIDERS));
+	}
+
+	@Test
+	public void mergeDependency() {
+		ConfigurationMetadata configuration = new ConfigurationMetadata();
+		PropertiesCollector collector = new PropertiesCollector(configuration,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		collector.mergeDependency(createMetadata(), "/m2/a.jar");
+		collector.mergeDependency(createMetadata(), "/m2/b.jar");
+
+		assertEquals(1, configuration.getProperties().size());
+		assertEquals(Arrays.asList("/m2/a.jar", "/m2/b.jar"), configuration.getProperties().get(0).getSourceJars());
+		assertEquals(1, configuration.getHints().size());
+		assertEquals(Arrays.asList("/m2/a.jar", "/m2/b.jar"), configuration.getHints().get(0).getSourceJars());
+		assertEquals("org.acme.MyEnum", configuration.getHints().get(0).getSourceType());
+		assertEquals(0, configuration.getHints().get(0).getValues().size());
+	}
+
+	private static long countEntries(Path cacheDir) throws Exception {
+		try (Stream<Path> files = Files.list(cacheDir)) {
+			return files.count();
+		}
+	}
+
+	private File createJar(String content) throws Exception {
+		Path jar = folder.getRoot().toPath().resolve("dependency.jar");
+		Files.write(jar, content.getBytes(StandardCharsets.UTF_8));
+		return jar.toFile();
+	}
+
+	private static ConfigurationMetadata createMetadata() {
+		ConfigurationMetadata metadata = new ConfigurationMetadata();
+		ItemMetadata property = new ItemMetadata();
+		property.setName("quarkus.application.name");
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.Config");
+		metadata.setProperties(new ArrayList<>(Arrays.asList(property)));
+		ItemHint hint = new ItemHint();
+		hint.setName("org.acme.MyEnum");
+		hint.setSourceType("org.acme.MyEnum");
+		hint.setValues(new ArrayList<>());
+		metadata.setHints(new ArrayList<>(Arrays.asList(hint)));
+		return metadata;
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.lsp4mp.commons.ClasspathKind;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.junit.Test;
+
+/**
+ * Test for {@link MicroProfileProjectInfoVersions}.
+ *
+ */
+public class MicroProfileProjectInfoVersionsTest {
+
+	private static final String PROJECT_URI = "file:///project-versions";
+
+	private static final String APPLICATION_PROPERTIES_URI = PROJECT_URI + "/src/main/resources/application.properties";
+
+	private static final String MICROPROFILE_CONFIG_PROPERTIES_URI = PROJECT_URI
+			+ "/src/main/resources/META-INF/microprofile-config.properties";
+
+	@Test
+	public void compactAndDelta() {
+		MicroProfileProjectInfoVersions versions = new MicroProfileProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a", "b", "c", "d");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, null);
+		String version = info.getVersion();
+		assertNotNull(version);
+		assertNull(info.getBaseVersion());
+		assertNull(info.getProperties());
+		assertEquals(Arrays.asList("a", "b", "c", "d"), getNames(info));
+		// Descriptions of Java properties are omitted
+		assertNull(info.getCompactProperties().decode().get(0).getDescription());
+		assertEquals("Description of a", versions.getDescription(PROJECT_URI, "org.acme.Config", "a", null,
+				DocumentFormat.Markdown));
+		assertNull(versions.getDescription(PROJECT_URI, "org.acme.Config", "a", null, DocumentFormat.PlainText));
+
+		// b removed, e added -> delta
+		info = createInfo("a", "c", "d", "e");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, version);
+		assertEquals(version, info.getBaseVersion());
+		assertNotEquals(version, info.getVersion());
+		assertEquals(Arrays.asList(1), info.getRemovedProperties());
+		assertEquals(Collections.emptyList(), info.getRemovedHints());
+		assertEquals(Arrays.asList("e"), getNames(info));
+
+		// Unknown client version -> the whole properties
+		info = createInfo("a", "c", "d", "e");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, version);
+		assertNull(info.getBaseVersion());
+		assertEquals(Arrays.asList("a", "c", "d", "e"), getNames(info));
+	}
+
+	@Test
+	public void versionPerConfigFile() {
+		MicroProfileProjectInfoVersions versions = new MicroProfileProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a", "b");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, null);
+		String applicationPropertiesVersion = info.getVersion();
+		info = createInfo("a", "b");
+		versions.toCompact(info, MICROPROFILE_CONFIG_PROPERTIES_URI,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, DocumentFormat.Markdown, null);
+		String microprofileConfigVersion = info.getVersion();
+
+		// Each configuration file keeps its own base
+		info = createInfo("a", "b", "c");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, applicationPropertiesVersion);
+		assertEquals(applicationPropertiesVersion, info.getBaseVersion());
+		assertEquals(Arrays.asList("c"), getNames(info));
+		info = createInfo("a", "b", "c");
+		versions.toCompact(info, MICROPROFILE_CONFIG_PROPERTIES_URI,
+				MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES, DocumentFormat.Markdown,
+				microprofileConfigVersion);
+		assertEquals(microprofileConfigVersion, info.getBaseVersion());
+		assertEquals(Arrays.asList("c"), getNames(info));
+	}
+
+	@Test
+	public void evict() {
+		MicroProfileProjectInfoVersions versions = new MicroProfileProjectInfoVersions();
+		MicroProfileProjectInfo info = createInfo("a", "b");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, null);
+		String version = info.getVersion();
+		assertNotNull(versions.getDescription(PROJECT_URI, "org.acme.Config", "a", null, DocumentFormat.Markdown));
+
+		// The classpath of the project has changed
+		versions.evict(PROJECT_URI);
+		assertNull(versions.getDescription(PROJECT_URI, "org.acme.Config", "a", null, DocumentFormat.Markdown));
+		info = createInfo("a", "b", "c");
+		versions.toCompact(info, APPLICATION_PROPERTIES_URI, MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES,
+				DocumentFormat.Markdown, version);
+		assertNull(info.getBaseVersion());
+		assertEquals(Arrays.asList("a", "b", "c"), getNames(info));
+	}
+
+	private static List<String> getNames(MicroProfileProjectInfo info) {
+		return info.getCompactProperties().decode().stream().map(ItemMetadata::getName).collect(Collectors.toList());
+	}
+
+	private static MicroProfileProjectInfo createInfo(String... names) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProjectURI(PROJECT_URI);
+		info.setClasspathKind(ClasspathKind.SRC);
+		List<ItemMetadata> properties = new ArrayList<>();
+		for (String name : names) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			property.setType("java.lang.String");
+			property.setDescription("Description of " + name);
+			property.setSourceType("org.acme.Config");
+			property.setSourceField(name);
+			properties.add(property);
+		}
+		info.setProperties(properties);
+		info.setHints(new ArrayList<>());
+		return info;
+	}
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.core.java.diagnostics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileJavaDiagnosticsSettings;
+import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
+import org.junit.Test;
+
+/**
+ * Test for {@link JavaDiagnosticsCache}.
+ *
+ */
+public class JavaDiagnosticsCacheTest {
+
+	private static final String URI = "file:///project/src/main/java/org/acme/GreetingResource.java";
+
+	private static final String PROJECT = "project";
+
+	@Test
+	public void getDiagnostics() {
+		JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
+		long contentStamp = 1;
+		MicroProfileJavaDiagnosticsSettings settings = createSettings(DiagnosticSeverity.Warning);
+		List<Diagnostic> diagnostics = Arrays.asList(createDiagnostic());
+
+		cache.putDiagnostics(URI, contentStamp, cache.getProjectGeneration(PROJECT), DocumentFormat.Markdown, settings,
+				diagnostics);
+		assertEquals(diagnostics, cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.Markdown,
+				createSettings(DiagnosticSeverity.Warning)));
+
+		// Java file content changed
+		assertNull(cache.getDiagnostics(URI, 2, PROJECT, DocumentFormat.Markdown, settings));
+		// Settings changed
+		assertNull(cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.PlainText, settings));
+		assertNull(cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.Markdown,
+				createSettings(DiagnosticSeverity.Error)));
+
+		// Another project changed
+		cache.projectChanged("other-project");
+		assertEquals(diagnostics, cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.Markdown, settings));
+
+		// Project changed
+		cache.projectChanged(PROJECT);
+		assertNull(cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.Markdown, settings));
+
+		// Java file removed
+		cache.putDiagnostics(URI, contentStamp, cache.getProjectGeneration(PROJECT), DocumentFormat.Markdown, settings,
+				diagnostics);
+		cache.remove(URI);
+		assertNull(cache.getDiagnostics(URI, contentStamp, PROJECT, DocumentFormat.Markdown, settings));
+	}
+
+	@Test
+	public void getDiagnosticsReturnsCopies() {
+		JavaDiagnosticsCache cache = JavaDiagnosticsCache.getInstance();
+		MicroProfileJavaDiagnosticsSettings settings = createSettings(DiagnosticSeverity.Warning);
+		Diagnostic diagnostic = createDiagnostic();
+		cache.putDiagnostics(URI, 1, cache.getProjectGeneration(PROJECT), DocumentFormat.Markdown, settings,
+				Arrays.asList(diagnostic));
+		diagnostic.getRange().getStart().setLine(10);
+
+		Diagnostic cachedDiagnostic = cache.getDiagnostics(URI, 1, PROJECT, DocumentFormat.Markdown, settings).get(0);
+		assertEquals(0, cachedDiagnostic.getRange().getStart().getLine());
+		cachedDiagnostic.setMessage("updated");
+		cachedDiagnostic.getRange().getEnd().setCharacter(20);
+
+		Diagnostic otherCachedDiagnostic = cache.getDiagnostics(URI, 1, PROJECT, DocumentFormat.Markdown, settings)
+				.get(0);
+		assertNotSame(cachedDiagnostic, otherCachedDiagnostic);
+		assertEquals("Unknown property", otherCachedDiagnostic.getMessage());
+		assertEquals(5, otherCachedDiagnostic.getRange().getEnd().getCharacter());
+	}
+
+	private static Diagnostic createDiagnostic() {
+		return new Diagnostic(new Range(new Position(0, 0), new Position(0, 5)), "Unknown property");
+	}
+
+	private static MicroProfileJavaDiagnosticsSettings createSettings(DiagnosticSeverity severity) {
+		return new MicroProfileJavaDiagnosticsSettings(Collections.emptyList(), severity, ExecutionMode.SAFE);
+	}
+}
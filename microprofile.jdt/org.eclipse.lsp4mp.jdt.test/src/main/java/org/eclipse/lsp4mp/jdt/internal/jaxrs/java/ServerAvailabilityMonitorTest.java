@@ -0,0 +1,66 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.jdt.internal.jaxrs.java;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4mp.jdt.core.IMicroProfilePropertiesChangedListener;
+import org.eclipse.lsp4mp.jdt.internal.core.MicroProfilePropertiesListenerManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test with {@link ServerAvailabilityMonitor}
+ *
+ */
+public class ServerAvailabilityMonitorTest {
+
+	// Longer than the delay between two probes of a monitored server
+	private static final long PROBE_DELAY_MS = 6000;
+
+	@Test
+	public void serverStarted() throws Exception {
+		AtomicInteger events = new AtomicInteger();
+		IMicroProfilePropertiesChangedListener listener = event -> {
+			if (event.isServerAvailabilityChanged()) {
+				events.incrementAndGet();
+			}
+		};
+		MicroProfilePropertiesListenerManager manager = MicroProfilePropertiesListenerManager.getInstance();
+		manager.addMicroProfilePropertiesChangedListener(listener);
+		try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+			ServerAvailabilityMonitor monitor = ServerAvailabilityMonitor.getInstance();
+			String host = server.getInetAddress().getHostAddress();
+			int port = server.getLocalPort();
+
+			// The availability of the server is unknown, it is probed in background
+			Assert.assertFalse(monitor.isAvailable(host, port));
+			long deadline = System.currentTimeMillis() + 10000;
+			while ((!monitor.isAvailable(host, port) || events.get() == 0) && System.currentTimeMillis() < deadline) {
+				Thread.sleep(50);
+			}
+			Assert.assertTrue(monitor.isAvailable(host, port));
+			Assert.assertEquals("The unknown to available transition is notified once", 1, events.get());
+
+			// The periodic probe of the still available server doesn't notify again
+			Thread.sleep(PROBE_DELAY_MS);
+			Assert.assertTrue(monitor.isAvailable(host, port));
+			Assert.assertEquals("The unchanged availability is not notified", 1, events.get());
+		} finally {
+			manager.removeMicroProfilePropertiesChangedListener(listener);
+		}
+	}
+}
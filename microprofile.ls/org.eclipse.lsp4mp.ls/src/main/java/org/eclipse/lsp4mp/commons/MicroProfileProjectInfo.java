@@ -13,13 +13,17 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collector;
 
+import org.eclipse.lsp4mp.commons.metadata.CompactProperties;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadataIndex;
+import org.eclipse.lsp4mp.commons.metadata.ModificationCountList;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.runtime.EnumConstantsProvider;
 
@@ -46,6 +50,24 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata implements En
 
 	private Set<String> classpath;
 
+	private Set<String> sourceTypes;
+
+	private String version;
+
+	private String baseVersion;
+
+	private List<Integer> removedProperties;
+
+	private List<Integer> removedHints;
+
+	private CompactProperties compactProperties;
+
+	private transient volatile ItemMetadataIndex propertiesIndex;
+
+	private transient ModificationCountList<ItemMetadata> indexedProperties;
+
+	private transient int indexedModificationCount;
+
 	/**
 	 * Returns the project URI.
 	 *
@@ -90,6 +112,248 @@ public class MicroProfileProjectInfo extends ConfigurationMetadata implements En
 		this.classpath = classpath;
 	}
 
+	/**
+	 * Returns the fully qualified names of the top-level Java types which have
+	 * been scanned when only some Java files have been scanned and null
+	 * otherwise.
+	 *
+	 * @return the fully qualified names of the top-level Java types which have
+	 *         been scanned when only some Java files have been scanned and null
+	 *         otherwise.
+	 */
+	public Set<String> getSourceTypes() {
+		return sourceTypes;
+	}
+
+	/**
+	 * Set the fully qualified names of the scanned top-level Java types.
+	 *
+	 * @param sourceTypes the fully qualified names of the scanned top-level Java
+	 *                    types.
+	 */
+	public void setSourceTypes(Set<String> sourceTypes) {
+		this.sourceTypes = sourceTypes;
+	}
+
+	/**
+	 * Returns the version of this project information and null otherwise.
+	 *
+	 * @return the version of this project information and null otherwise.
+	 */
+	public String getVersion() {
+		return version;
+	}
+
+	/**
+	 * Set the version of this project information.
+	 *
+	 * @param version the version of this project information.
+	 */
+	public void setVersion(String version) {
+		this.version = version;
+	}
+
+	/**
+	 * Returns the version of the project information this project information is
+	 * a delta of and null if this project information is complete.
+	 *
+	 * <p>
+	 * The properties (resp. hints) of a delta are computed by removing the
+	 * properties (resp. hints) at the indexes {@link #getRemovedProperties()}
+	 * (resp. {@link #getRemovedHints()}) from the base project information and by
+	 * appending the properties (resp. hints) of the delta.
+	 * </p>
+	 *
+	 * @return the version of the project information this project information is
+	 *         a delta of and null if this project information is complete.
+	 */
+	public String getBaseVersion() {
+		return baseVersion;
+	}
+
+	/**
+	 * Set the version of the project information this project information is a
+	 * delta of.
+	 *
+	 * @param baseVersion the version of the project information this project
+	 *                    information is a delta of.
+	 */
+	public void setBaseVersion(String baseVersion) {
+		this.baseVersion = baseVersion;
+	}
+
+	/**
+	 * Returns the indexes of the properties removed from the base project
+	 * information when this project information is a delta.
+	 *
+	 * @return the indexes of the properties removed from the base project
+	 *         information when this project information is a delta.
+	 */
+	public List<Integer> getRemovedProperties() {
+		return removedProperties;
+	}
+
+	/**
+	 * Set the indexes of the properties removed from the base project
+	 * information.
+	 *
+	 * @param removedProperties the indexes of the properties removed from the base
+	 *                          project information.
+	 */
+	public void setRemovedProperties(List<Integer> removedProperties) {
+		this.removedProperties = removedProperties;
+	}
+
+	/**
+	 * Returns the indexes of the hints removed from the base project information
+	 * when this project information is a delta.
+	 *
+	 * @return the indexes of the hints removed from the base project information
+	 *         when this project information is a delta.
+	 */
+	public List<Integer> getRemovedHints() {
+		return removedHints;
+	}
+
+	/**
+	 * Set the indexes of the hints removed from the base project information.
+	 *
+	 * @param removedHints the indexes of the hints removed from the base project
+	 *                     information.
+	 */
+	public void setRemovedHints(List<Integer> removedHints) {
+		this.removedHints = removedHints;
+	}
+
+	/**
+	 * Returns the compact representation of the properties when the properties
+	 * have been requested in compact mode and null otherwise.
+	 *
+	 * @return the compact representation of the properties when the properties
+	 *         have been requested in compact mode and null otherwise.
+	 */
+	public CompactProperties getCompactProperties() {
+		return compactProperties;
+	}
+
+	/**
+	 * Set the compact representation of the properties.
+	 *
+	 * @param compactProperties the compact representation of the properties.
+	 */
+	public void setCompactProperties(CompactProperties compactProperties) {
+		this.compactProperties = compactProperties;
+	}
+
+	@Override
+	public List<ItemMetadata> getProperties() {
+		List<ItemMetadata> properties = super.getProperties();
+		if (properties == null || properties instanceof ModificationCountList) {
+			return properties;
+		}
+		synchronized (this) {
+			// The properties list has been set directly (ex: with Gson
+			// deserialization), track its modifications.
+			properties = super.getProperties();
+			if (properties != null && !(properties instanceof ModificationCountList)) {
+				properties = new ModificationCountList<>(properties);
+				super.setProperties(properties);
+			}
+			return properties;
+		}
+	}
+
+	@Override
+	public synchronized void setProperties(List<ItemMetadata> properties) {
+		super.setProperties(properties == null || properties instanceof ModificationCountList ? properties
+				: new ModificationCountList<>(properties));
+		propertiesIndex = null;
+	}
+
+	/**
+	 * Returns the first MicroProfile property which matches the given property
+	 * name (by taking care of <code>{*}</code> and <code>[*]</code> wildcards) and
+	 * null otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return the first MicroProfile property which matches the given property
+	 *         name and null otherwise.
+	 */
+	public ItemMetadata getProperty(String propertyName) {
+		ItemMetadataIndex index = getPropertiesIndex();
+		return index != null ? index.find(propertyName) : null;
+	}
+
+	/**
+	 * Returns the MicroProfile properties whose name starts with the given prefix,
+	 * sorted by name.
+	 *
+	 * @param prefix the property name prefix.
+	 * @return the MicroProfile properties whose name starts with the given prefix,
+	 *         sorted by name.
+	 */
+	public List<ItemMetadata> getPropertiesStartingWith(String prefix) {
+		ItemMetadataIndex index = getPropertiesIndex();
+		return index != null ? index.findByPrefix(prefix) : Collections.emptyList();
+	}
+
+	/**
+	 * Remove the given properties and add the new properties both in the
+	 * properties list and in the properties index.
+	 *
+	 * @param oldProperties the properties to remove.
+	 * @param newProperties the properties to add.
+	 */
+	protected synchronized void updateProperties(Collection<ItemMetadata> oldProperties,
+			Collection<ItemMetadata> newProperties) {
+		ModificationCountList<ItemMetadata> properties = (ModificationCountList<ItemMetadata>) getProperties();
+		boolean upToDate = propertiesIndex != null && !isPropertiesIndexOutOfDate(properties);
+		if (oldProperties != null) {
+			properties.removeAll(oldProperties);
+		}
+		if (newProperties != null) {
+			properties.addAll(newProperties);
+		}
+		if (upToDate) {
+			// update the index incrementally
+			propertiesIndex.removeAll(oldProperties);
+			propertiesIndex.addAll(newProperties);
+			indexedModificationCount = properties.getModificationCount();
+		}
+	}
+
+	private ItemMetadataIndex getPropertiesIndex() {
+		ModificationCountList<ItemMetadata> properties = (ModificationCountList<ItemMetadata>) getProperties();
+		if (properties == null) {
+			return null;
+		}
+		ItemMetadataIndex index = propertiesIndex;
+		if (index != null && !isPropertiesIndexOutOfDate(properties)) {
+			return index;
+		}
+		synchronized (this) {
+			properties = (ModificationCountList<ItemMetadata>) getProperties();
+			if (properties == null) {
+				return null;
+			}
+			index = propertiesIndex;
+			if (index == null || isPropertiesIndexOutOfDate(properties)) {
+				// The properties list has been set or updated directly (ex: with
+				// getProperties().add(...)), rebuild the whole index.
+				index = new ItemMetadataIndex();
+				index.addAll(properties);
+				indexedProperties = properties;
+				indexedModificationCount = properties.getModificationCount();
+				propertiesIndex = index;
+			}
+			return index;
+		}
+	}
+
+	private boolean isPropertiesIndexOutOfDate(ModificationCountList<ItemMetadata> properties) {
+		return indexedProperties != properties || indexedModificationCount != properties.getModificationCount();
+	}
+
 	@Override
 	public List<String> getConstants(String enumType) {
 		ItemHint hint = getHint(enumType);
@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.metadata;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,12 @@ public class ConfigurationMetadata {
 
 	private List<ItemHint> hints;
 
+	private transient volatile ItemHintIndex hintsIndex;
+
+	private transient ModificationCountList<ItemHint> indexedHints;
+
+	private transient int indexedHintsModificationCount;
+
 	public List<ItemMetadata> getProperties() {
 		return properties;
 	}
@@ -37,11 +44,24 @@ public class ConfigurationMetadata {
 	}
 
 	public List<ItemHint> getHints() {
-		return hints;
+		List<ItemHint> hints = this.hints;
+		if (hints == null || hints instanceof ModificationCountList) {
+			return hints;
+		}
+		synchronized (this) {
+			// The hints list has been set directly (ex: with Gson deserialization),
+			// track its modifications.
+			if (this.hints != null && !(this.hints instanceof ModificationCountList)) {
+				this.hints = new ModificationCountList<>(this.hints);
+			}
+			return this.hints;
+		}
 	}
 
-	public void setHints(List<ItemHint> hints) {
-		this.hints = hints;
+	public synchronized void setHints(List<ItemHint> hints) {
+		this.hints = hints == null || hints instanceof ModificationCountList ? hints
+				: new ModificationCountList<>(hints);
+		this.hintsIndex = null;
 	}
 
 	/**
@@ -66,14 +86,73 @@ public class ConfigurationMetadata {
 		if (hints == null || hint == null) {
 			return null;
 		}
-		for (ItemHint itemHint : hints) {
-			for (String name : hint) {
-				if (itemHint.getName().equals(name)) {
-					return itemHint;
-				}
+		ItemHintIndex index = getHintsIndex();
+		return index != null ? index.find(hint) : null;
+	}
+
+	/**
+	 * Remove the given hints and add the new hints both in the hints list and in
+	 * the hints index.
+	 *
+	 * @param oldHints the hints to remove.
+	 * @param newHints the hints to add.
+	 */
+	protected synchronized void updateHints(Collection<ItemHint> oldHints, Collection<ItemHint> newHints) {
+		ModificationCountList<ItemHint> hints = (ModificationCountList<ItemHint>) getHints();
+		boolean upToDate = hintsIndex != null && !isHintsIndexOutOfDate(hints);
+		if (oldHints != null) {
+			hints.removeAll(oldHints);
+		}
+		if (newHints != null) {
+			hints.addAll(newHints);
+		}
+		if (upToDate) {
+			// update the index incrementally
+			hintsIndex.removeAll(oldHints);
+			hintsIndex.addAll(newHints);
+			indexedHintsModificationCount = hints.getModificationCount();
+		} else if (hintsIndex != null) {
+			// The hints list has been updated directly (ex: with
+			// getHints().add(...)), rebuild the whole index.
+			rebuildHintsIndex(hints);
+		}
+	}
+
+	private ItemHintIndex getHintsIndex() {
+		ModificationCountList<ItemHint> hints = (ModificationCountList<ItemHint>) getHints();
+		if (hints == null) {
+			return null;
+		}
+		ItemHintIndex index = hintsIndex;
+		if (index != null && !isHintsIndexOutOfDate(hints)) {
+			return index;
+		}
+		synchronized (this) {
+			hints = (ModificationCountList<ItemHint>) getHints();
+			if (hints == null) {
+				return null;
+			}
+			index = hintsIndex;
+			if (index == null || isHintsIndexOutOfDate(hints)) {
+				// The hints list has been set or updated directly (ex: with
+				// getHints().add(...)), rebuild the whole index.
+				index = rebuildHintsIndex(hints);
 			}
+			return index;
 		}
-		return null;
+	}
+
+	private ItemHintIndex rebuildHintsIndex(ModificationCountList<ItemHint> hints) {
+		ItemHintIndex index = new ItemHintIndex();
+		index.addAll(hints);
+		indexedHints = hints;
+		indexedHintsModificationCount = hints.getModificationCount();
+		hintsIndex = index;
+		return index;
+	}
+
+	private boolean isHintsIndexOutOfDate(ModificationCountList<ItemHint> hints) {
+		return indexedHints != hints || indexedHintsModificationCount != hints.getModificationCount();
 	}
 
 }
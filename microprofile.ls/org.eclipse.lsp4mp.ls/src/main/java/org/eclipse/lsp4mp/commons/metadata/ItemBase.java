@@ -13,6 +13,8 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.commons.metadata;
 
+import java.util.List;
+
 /**
  * Configuration item base.
  *
@@ -32,6 +34,8 @@ public class ItemBase {
 
 	private String origin;
 
+	private List<String> sourceJars;
+
 	public String getName() {
 		return name;
 	}
@@ -97,6 +101,26 @@ public class ItemBase {
 		return origin == null;
 	}
 
+	/**
+	 * Returns the paths of the dependency JARs which contribute the item and null
+	 * if the item is not contributed by a dependency (ex : Java sources).
+	 *
+	 * @return the paths of the dependency JARs which contribute the item and null
+	 *         if the item is not contributed by a dependency.
+	 */
+	public List<String> getSourceJars() {
+		return sourceJars;
+	}
+
+	/**
+	 * Set the paths of the dependency JARs which contribute the item.
+	 *
+	 * @param sourceJars the paths of the dependency JARs which contribute the item.
+	 */
+	public void setSourceJars(List<String> sourceJars) {
+		this.sourceJars = sourceJars;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -106,6 +130,7 @@ public class ItemBase {
 		result = prime * result + ((origin == null) ? 0 : origin.hashCode());
 		result = prime * result + ((source == null) ? 0 : source.hashCode());
 		result = prime * result + ((sourceType == null) ? 0 : sourceType.hashCode());
+		result = prime * result + ((sourceJars == null) ? 0 : sourceJars.hashCode());
 		return result;
 	}
 
@@ -143,6 +168,11 @@ public class ItemBase {
 				return false;
 		} else if (!sourceType.equals(other.sourceType))
 			return false;
+		if (sourceJars == null) {
+			if (other.sourceJars != null)
+				return false;
+		} else if (!sourceJars.equals(other.sourceJars))
+			return false;
 		return true;
 	}
 
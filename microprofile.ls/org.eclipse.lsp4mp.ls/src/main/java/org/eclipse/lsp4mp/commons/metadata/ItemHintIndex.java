@@ -0,0 +1,137 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Name-keyed lookup index for {@link ItemHint}.
+ *
+ * <p>
+ * When several hints match the searched names, the first one which was added
+ * wins, which is the same result as a linear scan of the hints list.
+ * </p>
+ *
+ */
+class ItemHintIndex {
+
+	/**
+	 * Indexed hint with its insertion order.
+	 */
+	private static class Entry {
+
+		final ItemHint hint;
+
+		final long order;
+
+		Entry(ItemHint hint, long order) {
+			this.hint = hint;
+			this.order = order;
+		}
+	}
+
+	private final Map<String, List<Entry>> hintsByName;
+
+	private long order;
+
+	public ItemHintIndex() {
+		this.hintsByName = new HashMap<>();
+	}
+
+	/**
+	 * Add the given hints to the index.
+	 *
+	 * @param hints the hints to add.
+	 */
+	public synchronized void addAll(Collection<? extends ItemHint> hints) {
+		if (hints == null) {
+			return;
+		}
+		for (ItemHint hint : hints) {
+			if (hint == null || hint.getName() == null) {
+				continue;
+			}
+			Entry entry = new Entry(hint, order++);
+			List<Entry> entries = hintsByName.get(hint.getName());
+			if (entries == null) {
+				// Most of hint names are bound to only one hint
+				hintsByName.put(hint.getName(), Collections.singletonList(entry));
+			} else {
+				List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
+				newEntries.addAll(entries);
+				newEntries.add(entry);
+				hintsByName.put(hint.getName(), newEntries);
+			}
+		}
+	}
+
+	/**
+	 * Remove from the index all hints which are equal to one of the given hints
+	 * (same semantic than {@link List#removeAll(Collection)}).
+	 *
+	 * @param hints the hints to remove.
+	 */
+	public synchronized void removeAll(Collection<? extends ItemHint> hints) {
+		if (hints == null) {
+			return;
+		}
+		for (ItemHint hint : hints) {
+			if (hint == null || hint.getName() == null) {
+				continue;
+			}
+			List<Entry> entries = hintsByName.get(hint.getName());
+			if (entries == null) {
+				continue;
+			}
+			List<Entry> newEntries = new ArrayList<>(entries.size());
+			for (Entry entry : entries) {
+				if (!hint.equals(entry.hint)) {
+					newEntries.add(entry);
+				}
+			}
+			if (newEntries.isEmpty()) {
+				hintsByName.remove(hint.getName());
+			} else {
+				hintsByName.put(hint.getName(), newEntries);
+			}
+		}
+	}
+
+	/**
+	 * Returns the first indexed hint which matches one of the given names and null
+	 * otherwise.
+	 *
+	 * @param names the hint names.
+	 * @return the first indexed hint which matches one of the given names and null
+	 *         otherwise.
+	 */
+	public synchronized ItemHint find(String... names) {
+		Entry result = null;
+		for (String name : names) {
+			List<Entry> entries = name != null ? hintsByName.get(name) : null;
+			if (entries != null) {
+				Entry entry = entries.get(0);
+				if (result == null || entry.order < result.order) {
+					result = entry;
+				}
+			}
+		}
+		return result != null ? result.hint : null;
+	}
+}
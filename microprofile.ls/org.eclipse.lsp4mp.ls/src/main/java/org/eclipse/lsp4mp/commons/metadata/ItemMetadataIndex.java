@@ -0,0 +1,660 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Lookup index for {@link ItemMetadata} by property name.
+ *
+ * <p>
+ * The index is composed of:
+ * </p>
+ * <ul>
+ * <li>an exact-name hash map for property names (and wildcard expansions) which
+ * don't contain any <code>{*}</code> / <code>[*]</code> wildcard.</li>
+ * <li>a segment trie for the wildcard patterns, keyed by the literal segments
+ * which precede the first wildcard (ex : <code>quarkus.log.category.{*}.level</code>
+ * is stored under <code>quarkus -> log -> category</code>).</li>
+ * <li>a sorted map of the raw property names, used to collect the properties
+ * which start with a given prefix (ex : for property key completion). The
+ * property names which contain a wildcard or a quoted segment (ex :
+ * <code>quarkus.log.category.{*}.level</code>) are kept aside in a second
+ * segment trie keyed by their literal segments, since a typed key (ex :
+ * <code>quarkus.log.category.org.</code>) can match them without starting with
+ * their raw name.</li>
+ * </ul>
+ *
+ * <p>
+ * A lookup costs O(key length) plus the verification of the few wildcard
+ * patterns found along the trie path. When several metadata match a property
+ * name, the first one which was added wins, which is the same result as a
+ * linear scan of the properties list.
+ * </p>
+ *
+ */
+public class ItemMetadataIndex {
+
+	private static final String KEY_MAP_WILDCARD = "{*}";
+
+	private static final String INDEX_ARRAY_WILDCARD = "[*]";
+
+	/**
+	 * Indexed metadata with its insertion order.
+	 */
+	private static class Entry {
+
+		final ItemMetadata metadata;
+
+		final String pattern;
+
+		final long order;
+
+		Entry(ItemMetadata metadata, String pattern, long order) {
+			this.metadata = metadata;
+			this.pattern = pattern;
+			this.order = order;
+		}
+	}
+
+	/**
+	 * Segment trie node.
+	 */
+	private static class Node {
+
+		private Map<String, Node> children;
+
+		private List<Entry> patterns;
+
+		Node getChild(String segment) {
+			return children != null ? children.get(segment) : null;
+		}
+
+		Node getOrCreateChild(String segment) {
+			if (children == null) {
+				children = new HashMap<>();
+			}
+			return children.computeIfAbsent(segment, k -> new Node());
+		}
+	}
+
+	private final Map<String, List<Entry>> exactNames;
+
+	private final Node root;
+
+	private final TreeMap<String, List<Entry>> sortedNames;
+
+	private final Node patternNamesRoot;
+
+	private long order;
+
+	public ItemMetadataIndex() {
+		this.exactNames = new HashMap<>();
+		this.root = new Node();
+		this.sortedNames = new TreeMap<>();
+		this.patternNamesRoot = new Node();
+	}
+
+	/**
+	 * Add the given metadata to the index.
+	 *
+	 * @param properties the metadata to add.
+	 */
+	public synchronized void addAll(Collection<? extends ItemMetadata> properties) {
+		if (properties == null) {
+			return;
+		}
+		for (ItemMetadata property : properties) {
+			add(property);
+		}
+	}
+
+	private void add(ItemMetadata property) {
+		if (property == null || property.getName() == null) {
+			return;
+		}
+		long order = this.order++;
+		for (String pattern : getPatterns(property)) {
+			Entry entry = new Entry(property, pattern, order);
+			if (isWildcardPattern(pattern)) {
+				Node node = getOrCreateNode(pattern);
+				node.patterns = add(node.patterns, entry);
+			} else {
+				exactNames.put(pattern, add(exactNames.get(pattern), entry));
+			}
+		}
+		String name = property.getName();
+		int variableSegmentIndex = getVariableSegmentIndex(name);
+		if (variableSegmentIndex != -1) {
+			Node node = getOrCreatePatternNameNode(name, variableSegmentIndex);
+			node.patterns = add(node.patterns, new Entry(property, name, order));
+		} else {
+			sortedNames.put(name, add(sortedNames.get(name), new Entry(property, name, order)));
+		}
+	}
+
+	private static List<Entry> add(List<Entry> entries, Entry entry) {
+		if (entries == null) {
+			// Most of names are bound to only one metadata
+			return Collections.singletonList(entry);
+		}
+		List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
+		newEntries.addAll(entries);
+		newEntries.add(entry);
+		return newEntries;
+	}
+
+	/**
+	 * Remove from the index all metadata which are equal to one of the given
+	 * metadata (same semantic than {@link List#removeAll(Collection)}).
+	 *
+	 * @param properties the metadata to remove.
+	 */
+	public synchronized void removeAll(Collection<? extends ItemMetadata> properties) {
+		if (properties == null) {
+			return;
+		}
+		for (ItemMetadata property : properties) {
+			remove(property);
+		}
+	}
+
+	private void remove(ItemMetadata property) {
+		if (property == null || property.getName() == null) {
+			return;
+		}
+		for (String pattern : getPatterns(property)) {
+			if (isWildcardPattern(pattern)) {
+				Node node = getNode(pattern);
+				if (node != null) {
+					node.patterns = remove(node.patterns, property);
+				}
+			} else {
+				List<Entry> entries = remove(exactNames.get(pattern), property);
+				if (entries == null) {
+					exactNames.remove(pattern);
+				} else {
+					exactNames.put(pattern, entries);
+				}
+			}
+		}
+		String name = property.getName();
+		int variableSegmentIndex = getVariableSegmentIndex(name);
+		if (variableSegmentIndex != -1) {
+			Node node = getPatternNameNode(name, variableSegmentIndex);
+			if (node != null) {
+				node.patterns = remove(node.patterns, property);
+			}
+		} else {
+			List<Entry> entries = remove(sortedNames.get(name), property);
+			if (entries == null) {
+				sortedNames.remove(name);
+			} else {
+				sortedNames.put(name, entries);
+			}
+		}
+	}
+
+	private static List<Entry> remove(List<Entry> entries, ItemMetadata property) {
+		if (entries == null) {
+			return null;
+		}
+		List<Entry> newEntries = null;
+		for (Entry entry : entries) {
+			if (!property.equals(entry.metadata)) {
+				if (newEntries == null) {
+					newEntries = new ArrayList<>(entries.size());
+				}
+				newEntries.add(entry);
+			}
+		}
+		return newEntries;
+	}
+
+	/**
+	 * Clear the index.
+	 */
+	public synchronized void clear() {
+		exactNames.clear();
+		sortedNames.clear();
+		root.children = null;
+		root.patterns = null;
+		patternNamesRoot.children = null;
+		patternNamesRoot.patterns = null;
+	}
+
+	/**
+	 * Returns the first indexed metadata which matches the given property name and
+	 * null otherwise.
+	 *
+	 * @param propertyName the property name.
+	 * @return the first indexed metadata which matches the given property name and
+	 *         null otherwise.
+	 */
+	public synchronized ItemMetadata find(String propertyName) {
+		if (propertyName == null || propertyName.isEmpty()) {
+			return null;
+		}
+		Entry result = null;
+		List<Entry> entries = exactNames.get(propertyName);
+		if (entries != null) {
+			result = entries.get(0);
+		}
+		// Walk the segment trie to collect the wildcard patterns which could match the
+		// property name
+		Node node = root;
+		int start = 0;
+		while (node != null) {
+			if (node.patterns != null) {
+				for (Entry entry : node.patterns) {
+					if ((result == null || entry.order < result.order) && match(propertyName, entry.pattern)) {
+						result = entry;
+					}
+				}
+			}
+			if (start > propertyName.length()) {
+				break;
+			}
+			int end = propertyName.indexOf('.', start);
+			if (end == -1) {
+				end = propertyName.length();
+			}
+			node = node.getChild(propertyName.substring(start, end));
+			start = end + 1;
+		}
+		return result != null ? result.metadata : null;
+	}
+
+	/**
+	 * Returns the indexed metadata whose raw name starts with the given prefix and
+	 * the indexed metadata whose name contains a wildcard or a quoted segment
+	 * which could match a property name starting with the given prefix, sorted by
+	 * name.
+	 *
+	 * <p>
+	 * Ex : for the prefix <code>quarkus.log.category.org.</code>, the result
+	 * contains <code>quarkus.log.category.{*}.level</code>.
+	 * </p>
+	 *
+	 * @param prefix the property name prefix.
+	 * @return the indexed metadata which could match a property name starting with
+	 *         the given prefix, sorted by name.
+	 */
+	public synchronized List<ItemMetadata> findByPrefix(String prefix) {
+		boolean noPrefix = prefix == null || prefix.isEmpty();
+		Map<String, List<Entry>> names = noPrefix ? sortedNames
+				: sortedNames.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+		List<ItemMetadata> result = new ArrayList<>(names.size());
+		for (List<Entry> entries : names.values()) {
+			for (Entry entry : entries) {
+				result.add(entry.metadata);
+			}
+		}
+		int size = result.size();
+		if (noPrefix) {
+			collectPatternNames(patternNamesRoot, null, result);
+		} else {
+			// Walk the pattern names trie along the complete segments of the prefix
+			Node node = patternNamesRoot;
+			int start = 0;
+			while (node != null) {
+				collectPatternNames(node.patterns, prefix, result);
+				int end = prefix.indexOf('.', start);
+				if (end == -1) {
+					// The last segment of the prefix is partial (ex : 'cat' for
+					// 'quarkus.log.cat'), collect the branches which start with it
+					if (node.children != null) {
+						String segment = prefix.substring(start);
+						for (Map.Entry<String, Node> child : node.children.entrySet()) {
+							if (child.getKey().startsWith(segment)) {
+								collectPatternNames(child.getValue(), prefix, result);
+							}
+						}
+					}
+					break;
+				}
+				node = node.getChild(prefix.substring(start, end));
+				start = end + 1;
+			}
+		}
+		if (result.size() > size) {
+			result.sort(Comparator.comparing(ItemMetadata::getName));
+		}
+		return result;
+	}
+
+	private static void collectPatternNames(Node node, String prefix, List<ItemMetadata> result) {
+		collectPatternNames(node.patterns, prefix, result);
+		if (node.children != null) {
+			for (Node child : node.children.values()) {
+				collectPatternNames(child, prefix, result);
+			}
+		}
+	}
+
+	private static void collectPatternNames(List<Entry> entries, String prefix, List<ItemMetadata> result) {
+		if (entries == null) {
+			return;
+		}
+		for (Entry entry : entries) {
+			String name = entry.pattern;
+			// literal segments before the first wildcard / quoted segment
+			String literalPrefix = name.substring(0, getVariableSegmentIndex(name));
+			if (prefix == null || literalPrefix.startsWith(prefix) || prefix.startsWith(literalPrefix)) {
+				result.add(entry.metadata);
+			}
+		}
+	}
+
+	/**
+	 * Returns the node of the pattern names trie for the literal segments which
+	 * precede the first wildcard / quoted segment of the given property name.
+	 *
+	 * <p>
+	 * Ex : <code>quarkus.log.category.{*}.level</code> is stored under
+	 * <code>quarkus -> log -> category</code>,
+	 * <code>quarkus.datasource.urls[*].host</code> under
+	 * <code>quarkus -> datasource</code>.
+	 * </p>
+	 */
+	private Node getOrCreatePatternNameNode(String name, int variableSegmentIndex) {
+		Node node = patternNamesRoot;
+		int start = 0;
+		int end = name.lastIndexOf('.', variableSegmentIndex) + 1;
+		while (start < end) {
+			int dot = name.indexOf('.', start);
+			node = node.getOrCreateChild(name.substring(start, dot));
+			start = dot + 1;
+		}
+		return node;
+	}
+
+	private Node getPatternNameNode(String name, int variableSegmentIndex) {
+		Node node = patternNamesRoot;
+		int start = 0;
+		int end = name.lastIndexOf('.', variableSegmentIndex) + 1;
+		while (node != null && start < end) {
+			int dot = name.indexOf('.', start);
+			node = node.getChild(name.substring(start, dot));
+			start = dot + 1;
+		}
+		return node;
+	}
+
+	private Node getOrCreateNode(String pattern) {
+		Node node = root;
+		int start = 0;
+		int end = getLiteralPrefixEnd(pattern);
+		while (start < end) {
+			int dot = pattern.indexOf('.', start);
+			node = node.getOrCreateChild(pattern.substring(start, dot));
+			start = dot + 1;
+		}
+		return node;
+	}
+
+	private Node getNode(String pattern) {
+		Node node = root;
+		int start = 0;
+		int end = getLiteralPrefixEnd(pattern);
+		while (node != null && start < end) {
+			int dot = pattern.indexOf('.', start);
+			node = node.getChild(pattern.substring(start, dot));
+			start = dot + 1;
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the end offset (exclusive) of the literal segments which precede the
+	 * first wildcard of the given pattern.
+	 *
+	 * <p>
+	 * Ex : <code>quarkus.log.category.{*}.level</code> -> offset of
+	 * <code>{*}</code>, <code>quarkus.datasource.jdbc[*]</code> -> offset of
+	 * <code>jdbc[*]</code>.
+	 * </p>
+	 */
+	private static int getLiteralPrefixEnd(String pattern) {
+		int wildcard = getFirstWildcardIndex(pattern);
+		return pattern.lastIndexOf('.', wildcard) + 1;
+	}
+
+	private static int getFirstWildcardIndex(String pattern) {
+		int keyMap = pattern.indexOf(KEY_MAP_WILDCARD);
+		int indexArray = pattern.indexOf(INDEX_ARRAY_WILDCARD);
+		if (keyMap == -1) {
+			return indexArray;
+		}
+		if (indexArray == -1) {
+			return keyMap;
+		}
+		return Math.min(keyMap, indexArray);
+	}
+
+	/**
+	 * Returns the index of the first wildcard or quote of the given property name
+	 * and -1 otherwise.
+	 */
+	private static int getVariableSegmentIndex(String name) {
+		int wildcard = getFirstWildcardIndex(name);
+		int quote = name.indexOf('"');
+		if (wildcard == -1) {
+			return quote;
+		}
+		if (quote == -1) {
+			return wildcard;
+		}
+		return Math.min(wildcard, quote);
+	}
+
+	private static boolean isWildcardPattern(String pattern) {
+		return getFirstWildcardIndex(pattern) != -1;
+	}
+
+	private static List<String> getPatterns(ItemMetadata metadata) {
+		String rawPattern = metadata.getName();
+		if (rawPattern.indexOf('{') != -1 || rawPattern.indexOf('[') != -1) {
+			// Example of expansion:
+			// Pattern: quarkus.log.category.{*}.level
+			// expandPatterns(pattern) -> [
+			// "quarkus.log.category.{*}.level",
+			// "quarkus.log.category.level"
+			// ]
+			List<String> patterns = metadata.getWildcardExpansions();
+			if (patterns == null) {
+				patterns = expandPatterns(rawPattern);
+				metadata.setWildcardExpansions(patterns);
+			}
+			return patterns;
+		}
+		return Collections.singletonList(rawPattern);
+	}
+
+	/**
+	 * Returns true if the given property name matches the given pattern and false
+	 * otherwise.
+	 *
+	 * The pattern can be:
+	 *
+	 * <ul>
+	 * <li>a simple pattern: it means that pattern is equals to the property
+	 * name</li>
+	 * <li>a map pattern: pattern which contains {*}.
+	 * </ul>
+	 *
+	 * @param propertyName the property name
+	 * @param pattern      the pattern
+	 * @return true if the given property name matches the given pattern and false
+	 *         otherwise.
+	 */
+	public static boolean match(String propertyName, String pattern) {
+		int i2 = 0;
+		int len = Math.max(propertyName.length(), pattern.length());
+		for (int i1 = 0; i1 < len; i1++) {
+			char c1 = getCharAt(pattern, i1);
+			boolean keyMapOrArrayIndex = false;
+			if ('{' == c1 && '*' == getCharAt(pattern, i1 + 1) && '}' == getCharAt(pattern, i1 + 2)) {
+				// It's a key map {*}.
+				i1 = i1 + 2;
+				keyMapOrArrayIndex = true;
+			} else if ('[' == c1 && '*' == getCharAt(pattern, i1 + 1) && ']' == getCharAt(pattern, i1 + 2)) {
+				// It's an array index [*].
+				i1 = i1 + 2;
+				keyMapOrArrayIndex = true;
+			}
+
+			char c2 = getCharAt(propertyName, i2);
+			if (keyMapOrArrayIndex) {
+				if (c2 == '\u0000') {
+					return false;
+				}
+				boolean endsWithQuote = (c2 == '"');
+				while (c2 != '\u0000') {
+					c2 = getCharAt(propertyName, ++i2);
+					if (endsWithQuote) {
+						if (c2 == '"') {
+							i2++;
+							break;
+						}
+					} else if ('.' == c2 && propertyName.charAt(i2 - 1) != '\\'
+							&& propertyName.charAt(i2 - 2) != '\\') {
+						break;
+					}
+				}
+				keyMapOrArrayIndex = false;
+			} else {
+				if (c2 != c1) {
+					return false;
+				}
+				i2++;
+			}
+		}
+		return true;
+	}
+
+	private static char getCharAt(String text, int index) {
+		if (index >= text.length()) {
+			return '\u0000';
+		}
+		return text.charAt(index);
+	}
+
+	/**
+	 * Generates all possible variants of a pattern containing the wildcards
+	 * {@code "{*}"} or {@code "[*]"}.
+	 * Each wildcard can be either kept or removed, producing 2^n combinations
+	 * for n wildcards. When removing a wildcard, any dot immediately to the left
+	 * of it is also removed.
+	 *
+	 * <p><b>Example:</b></p>
+	 * <pre>
+	 * Input : {@code foo.{*}.bar.[*].baz}
+	 * Output: [
+	 *   {@code foo.{*}.bar.[*].baz},
+	 *   {@code foo.bar.[*].baz},
+	 *   {@code foo.{*}.bar.baz},
+	 *   {@code foo.bar.baz}
+	 * ]
+	 * </pre>
+	 *
+	 * <p><b>Quarkus example:</b></p>
+	 * <pre>
+	 * Input : {@code quarkus.log.category.{*}.level}
+	 * Output: [
+	 *   {@code quarkus.log.category.{*}.level},
+	 *   {@code quarkus.log.category.level}
+	 * ]
+	 * </pre>
+	 *
+	 * <p>Notes:</p>
+	 * <ul>
+	 *   <li>Only {@code "{*}"} and {@code "[*]"} are recognized as wildcards.</li>
+	 * </ul>
+	 */
+	public static List<String> expandPatterns(String pattern) {
+		List<int[]> wildcards = new ArrayList<>();
+		int len = pattern.length();
+
+		// detect all {...} and [...] blocks
+		for (int i = 0; i < len; i++) {
+			char c = pattern.charAt(i);
+			if (c == '{' || c == '[') {
+				char close = (c == '{') ? '}' : ']';
+				int start = i;
+				int end = i + 1;
+				// find the closing bracket
+				while (end < len && pattern.charAt(end) != close) {
+					end++;
+				}
+				if (end < len && pattern.charAt(end) == close) {
+					wildcards.add(new int[] { start, end });
+					i = end; // skip processed block
+				}
+			}
+		}
+
+		if (wildcards.isEmpty()) {
+			return Collections.singletonList(pattern);
+		}
+
+		List<String> result = new ArrayList<>();
+		int combos = 1 << wildcards.size(); // 2^n combinations
+
+		// generate all combinations
+		for (int mask = 0; mask < combos; mask++) {
+			StringBuilder sb = new StringBuilder(len);
+			int lastPos = 0;
+
+			for (int w = 0; w < wildcards.size(); w++) {
+				int[] wc = wildcards.get(w);
+				int start = wc[0];
+				int end = wc[1] + 1; // inclusive
+
+				// append before wildcard
+				if (lastPos < start) {
+					sb.append(pattern, lastPos, start);
+				}
+
+				if (((mask >> w) & 1) == 0) {
+					// keep wildcard
+					sb.append(pattern, start, end);
+				} else {
+					// remove wildcard and optional dot before
+					if (sb.length() > 0 && sb.charAt(sb.length() - 1) == '.') {
+						sb.setLength(sb.length() - 1);
+					}
+				}
+
+				lastPos = end;
+			}
+
+			// append remaining part
+			if (lastPos < len) {
+				sb.append(pattern, lastPos, len);
+			}
+
+			result.add(sb.toString());
+		}
+
+		return result;
+	}
+}
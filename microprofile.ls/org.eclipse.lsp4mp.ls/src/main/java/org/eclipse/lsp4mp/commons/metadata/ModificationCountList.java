@@ -0,0 +1,287 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * List which counts the modifications of a wrapped list, to know when an index
+ * built from the list is out of date.
+ *
+ * <p>
+ * The iterations (iterator, stream, forEach) are delegated to the wrapped list,
+ * so that they keep its concurrency guarantees (ex : the snapshot iterator of a
+ * {@link java.util.concurrent.CopyOnWriteArrayList}).
+ * </p>
+ *
+ * @param <E> the element type.
+ */
+public class ModificationCountList<E> extends AbstractList<E> implements RandomAccess {
+
+	private final List<E> list;
+
+	private final AtomicInteger modificationCount = new AtomicInteger();
+
+	public ModificationCountList(List<E> list) {
+		this.list = list;
+	}
+
+	/**
+	 * Returns the number of modifications of this list.
+	 *
+	 * @return the number of modifications of this list.
+	 */
+	public int getModificationCount() {
+		return modificationCount.get();
+	}
+
+	private void modified() {
+		modificationCount.incrementAndGet();
+	}
+
+	@Override
+	public E get(int index) {
+		return list.get(index);
+	}
+
+	@Override
+	public int size() {
+		return list.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return list.isEmpty();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return list.contains(o);
+	}
+
+	@Override
+	public int indexOf(Object o) {
+		return list.indexOf(o);
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return list.lastIndexOf(o);
+	}
+
+	@Override
+	public Object[] toArray() {
+		return list.toArray();
+	}
+
+	@Override
+	public <T> T[] toArray(T[] a) {
+		return list.toArray(a);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return new ModificationCountIterator(list.listIterator());
+	}
+
+	@Override
+	public ListIterator<E> listIterator() {
+		return new ModificationCountIterator(list.listIterator());
+	}
+
+	@Override
+	public ListIterator<E> listIterator(int index) {
+		return new ModificationCountIterator(list.listIterator(index));
+	}
+
+	@Override
+	public Spliterator<E> spliterator() {
+		return list.spliterator();
+	}
+
+	@Override
+	public Stream<E> stream() {
+		return list.stream();
+	}
+
+	@Override
+	public Stream<E> parallelStream() {
+		return list.parallelStream();
+	}
+
+	@Override
+	public void forEach(Consumer<? super E> action) {
+		list.forEach(action);
+	}
+
+	@Override
+	public E set(int index, E element) {
+		E old = list.set(index, element);
+		modified();
+		return old;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		list.add(index, element);
+		modified();
+	}
+
+	@Override
+	public E remove(int index) {
+		E old = list.remove(index);
+		modified();
+		return old;
+	}
+
+	@Override
+	public boolean add(E element) {
+		boolean added = list.add(element);
+		modified();
+		return added;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		boolean removed = list.remove(o);
+		modified();
+		return removed;
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		boolean added = list.addAll(c);
+		modified();
+		return added;
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		boolean added = list.addAll(index, c);
+		modified();
+		return added;
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c) {
+		boolean removed = list.removeAll(c);
+		modified();
+		return removed;
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c) {
+		boolean removed = list.retainAll(c);
+		modified();
+		return removed;
+	}
+
+	@Override
+	public boolean removeIf(Predicate<? super E> filter) {
+		boolean removed = list.removeIf(filter);
+		modified();
+		return removed;
+	}
+
+	@Override
+	public void replaceAll(UnaryOperator<E> operator) {
+		list.replaceAll(operator);
+		modified();
+	}
+
+	@Override
+	public void sort(Comparator<? super E> c) {
+		list.sort(c);
+		modified();
+	}
+
+	@Override
+	public void clear() {
+		list.clear();
+		modified();
+	}
+
+	/**
+	 * Iterator of the wrapped list which counts the modifications done with the
+	 * iterator.
+	 */
+	private class ModificationCountIterator implements ListIterator<E> {
+
+		private final ListIterator<E> iterator;
+
+		ModificationCountIterator(ListIterator<E> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public E next() {
+			return iterator.next();
+		}
+
+		@Override
+		public boolean hasPrevious() {
+			return iterator.hasPrevious();
+		}
+
+		@Override
+		public E previous() {
+			return iterator.previous();
+		}
+
+		@Override
+		public int nextIndex() {
+			return iterator.nextIndex();
+		}
+
+		@Override
+		public int previousIndex() {
+			return iterator.previousIndex();
+		}
+
+		@Override
+		public void remove() {
+			iterator.remove();
+			modified();
+		}
+
+		@Override
+		public void set(E e) {
+			iterator.set(e);
+			modified();
+		}
+
+		@Override
+		public void add(E e) {
+			iterator.add(e);
+			modified();
+		}
+	}
+}
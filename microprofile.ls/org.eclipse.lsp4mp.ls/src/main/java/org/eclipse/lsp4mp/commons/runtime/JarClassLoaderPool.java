@@ -0,0 +1,110 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pool of the class loaders of the project jars, shared by the
+ * {@link ProjectClassLoader} which have the same jars (ex : the modules of a
+ * multi-module project, or a project whose classpath has been updated without
+ * changing its jars).
+ *
+ * <p>
+ * The class loaders are reference counted: a class loader is closed when the
+ * last {@link ProjectClassLoader} which uses it releases it.
+ * </p>
+ */
+class JarClassLoaderPool {
+
+	private static class PooledClassLoader {
+
+		private final URLClassLoader classLoader;
+
+		private int references;
+
+		public PooledClassLoader(URLClassLoader classLoader) {
+			this.classLoader = classLoader;
+		}
+	}
+
+	// ordered jar URLs -> class loader of the jars. The order is part of the key
+	// because it decides which jar wins when several jars contain the same class
+	private static final Map<List<String>, PooledClassLoader> CLASS_LOADERS = new HashMap<>();
+
+	private JarClassLoaderPool() {
+	}
+
+	/**
+	 * Returns the shared class loader of the given jars, in the same order. The
+	 * class loader must be released with {@link #release(URLClassLoader)} when it is not used anymore.
+	 *
+	 * @param jarUrls the jar URLs.
+	 * @return the shared class loader of the given jars.
+	 */
+	static URLClassLoader acquire(List<URL> jarUrls) {
+		List<String> key = new ArrayList<>(jarUrls.size());
+		for (URL jarUrl : jarUrls) {
+			key.add(jarUrl.toString());
+		}
+		synchronized (CLASS_LOADERS) {
+			PooledClassLoader pooled = CLASS_LOADERS.computeIfAbsent(key,
+					// jarClassLoader has null parent: the ProjectClassLoader handles delegation
+					k -> new PooledClassLoader(new URLClassLoader(jarUrls.toArray(new URL[0]), null)));
+			pooled.references++;
+			return pooled.classLoader;
+		}
+	}
+
+	/**
+	 * Releases the given shared class loader and closes it if it is not used
+	 * anymore.
+	 *
+	 * @param classLoader the shared class loader.
+	 * @throws IOException if a jar cannot be closed.
+	 */
+	static void release(URLClassLoader classLoader) throws IOException {
+		synchronized (CLASS_LOADERS) {
+			for (Iterator<PooledClassLoader> it = CLASS_LOADERS.values().iterator(); it.hasNext();) {
+				PooledClassLoader pooled = it.next();
+				if (pooled.classLoader == classLoader) {
+					if (--pooled.references > 0) {
+						return;
+					}
+					it.remove();
+					break;
+				}
+			}
+		}
+		classLoader.close();
+	}
+
+	/**
+	 * Returns the number of opened class loaders of jars.
+	 *
+	 * @return the number of opened class loaders of jars.
+	 */
+	static int getClassLoaderCount() {
+		synchronized (CLASS_LOADERS) {
+			return CLASS_LOADERS.size();
+		}
+	}
+}
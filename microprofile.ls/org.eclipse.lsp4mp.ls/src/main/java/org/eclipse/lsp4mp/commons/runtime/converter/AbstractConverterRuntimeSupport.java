@@ -17,8 +17,11 @@ import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -42,7 +45,9 @@ import org.eclipse.lsp4mp.commons.runtime.converter.safe.EnumTypeConverterValida
  *
  * <p>
  * This class caches converters per type to improve performance and handles
- * collections, maps, optionals, suppliers, and arrays.
+ * collections, maps, optionals, suppliers, and arrays. The diagnostics reported
+ * for a value are cached per type and value too, to avoid calling the
+ * converter again when an unchanged value is validated again.
  * </p>
  *
  * <p>
@@ -64,6 +69,8 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 
 	private static final Logger LOGGER = Logger.getLogger(AbstractConverterRuntimeSupport.class.getName());
 
+	private static final int MAX_VALIDATION_RESULTS = 5000;
+
 	/** Null converter that does nothing */
 	private static final ConverterValidator NULL_CONVERTER = new ConverterValidator() {
 		@Override
@@ -96,6 +103,18 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 	/** Cache of ConverterValidator per type */
 	private final Map<String, ConverterValidator> converterCache = new ConcurrentHashMap<>();
 
+	/** Cache of the diagnostics reported per type and value */
+	private final Map<ValidationKey, List<CollectedDiagnostic>> validationCache = new LinkedHashMap<ValidationKey, List<CollectedDiagnostic>>(
+			16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ValidationKey, List<CollectedDiagnostic>> eldest) {
+			return size() > MAX_VALIDATION_RESULTS;
+		}
+	};
+
 	/**
 	 * Constructs a new runtime support instance.
 	 *
@@ -130,14 +149,50 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 			if (validator.canValidate()) {
 				// Refresh if needed Enum type if validator manages enum type
 				validator.refreshEnumType(enumConstNamesProvider, getProject(), getExecutionMode());
-				// Validate value
-				validator.validate(value, collector);
+				if (!validator.isCacheable()) {
+					// Validate value
+					validator.validate(value, collector);
+					return;
+				}
+				ValidationKey key = new ValidationKey(type, value);
+				List<CollectedDiagnostic> diagnostics;
+				synchronized (validationCache) {
+					diagnostics = validationCache.get(key);
+				}
+				if (diagnostics == null) {
+					// Validate value and cache the reported diagnostics
+					List<CollectedDiagnostic> collected = new ArrayList<>();
+					validator.validate(value, (errorMessage, source, errorCode, start, end) -> collected
+							.add(new CollectedDiagnostic(errorMessage, source, errorCode, start, end)));
+					synchronized (validationCache) {
+						validationCache.put(key, collected);
+					}
+					diagnostics = collected;
+				}
+				for (CollectedDiagnostic diagnostic : diagnostics) {
+					collector.collect(diagnostic.errorMessage, diagnostic.source, diagnostic.errorCode,
+							diagnostic.start, diagnostic.end);
+				}
 			}
+		} catch (ConverterTimeoutException e) {
+			converterTimedOut(type, e);
 		} catch (Throwable e) {
 			LOGGER.log(Level.WARNING, "Error while validating '" + value + "' value with type '" + type + "'", e);
 		}
 	}
 
+	/**
+	 * Called when the converter of the given type has not validated a value
+	 * before the deadline. No diagnostic has been reported for the value.
+	 *
+	 * @param type the fully-qualified type name
+	 * @param e    the timeout exception
+	 */
+	protected void converterTimedOut(String type, ConverterTimeoutException e) {
+		LOGGER.log(Level.WARNING, "Converter timeout while validating a value with type '" + type + "': "
+				+ e.getMessage());
+	}
+
 	@Override
 	public ConverterValidator findConverter(String type, EnumConstantsProvider enumConstNamesProvider) {
 		try {
@@ -160,9 +215,14 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 	/**
 	 * Returns the configuration instance, initializing it lazily if necessary.
 	 *
+	 * <p>
+	 * The configuration is initialized once, even if it is requested by a
+	 * validation while the runtime is warmed up in background.
+	 * </p>
+	 *
 	 * @return the configuration instance, or null if unavailable
 	 */
-	protected T getConfig() {
+	protected synchronized T getConfig() {
 		if (config != null || initialized) {
 			return config;
 		}
@@ -189,18 +249,22 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 	 *         otherwise
 	 */
 	public boolean hasConfigProviderResolver() {
-		getConfig();
-		return initialized && config != null;
+		return getConfig() != null;
 	}
 
 	/**
-	 * Resets the cached configuration and converters.
+	 * Resets the cached configuration, converters and validation results.
 	 */
 	@Override
 	public void reset() {
-		config = null;
-		initialized = false;
+		synchronized (this) {
+			config = null;
+			initialized = false;
+		}
 		converterCache.clear();
+		synchronized (validationCache) {
+			validationCache.clear();
+		}
 	}
 
 	/**
@@ -282,6 +346,62 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 		}
 	}
 
+	/**
+	 * Key of the validation cache.
+	 */
+	private static class ValidationKey {
+
+		private final String type;
+
+		private final String value;
+
+		ValidationKey(String type, String value) {
+			this.type = type;
+			this.value = value;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(type, value);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof ValidationKey)) {
+				return false;
+			}
+			ValidationKey other = (ValidationKey) obj;
+			return Objects.equals(type, other.type) && Objects.equals(value, other.value);
+		}
+	}
+
+	/**
+	 * Diagnostic reported by a converter, stored in the validation cache.
+	 */
+	private static class CollectedDiagnostic {
+
+		private final String errorMessage;
+
+		private final String source;
+
+		private final String errorCode;
+
+		private final int start;
+
+		private final int end;
+
+		CollectedDiagnostic(String errorMessage, String source, String errorCode, int start, int end) {
+			this.errorMessage = errorMessage;
+			this.source = source;
+			this.errorCode = errorCode;
+			this.start = start;
+			this.end = end;
+		}
+	}
+
 	/**
 	 * Converter implementation for collections (List, Set, array) that delegates
 	 * validation to an underlying element converter.
@@ -304,6 +424,11 @@ public abstract class AbstractConverterRuntimeSupport<T> extends AbstractMicroPr
 			return delegate.canValidate();
 		}
 
+		@Override
+		public boolean isCacheable() {
+			return delegate.isCacheable();
+		}
+
 		@Override
 		public void validate(String value, int start, DiagnosticsCollector collector) {
 			int startOffset = start;
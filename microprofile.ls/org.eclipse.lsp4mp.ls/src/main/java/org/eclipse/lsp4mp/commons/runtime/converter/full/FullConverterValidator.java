@@ -74,11 +74,23 @@ class FullConverterValidator extends AbstractConverterValidator<Object> {
 	 * Converts the given string value using the project converter obtained via
 	 * reflection.
 	 *
+	 * <p>
+	 * The project converter is called on the {@link ConverterExecutor} with a
+	 * deadline.
+	 * </p>
+	 *
 	 * @param value the string value to convert
 	 * @throws Exception if conversion fails
 	 */
 	@Override
 	protected void convert(String value) throws Exception {
+		ConverterExecutor.call(() -> {
+			doConvert(value);
+			return null;
+		});
+	}
+
+	private void doConvert(String value) throws Exception {
 		Object config = getConfig();
 		Class<?> forType = getForType();
 		Object converterInstance;
@@ -108,6 +120,12 @@ class FullConverterValidator extends AbstractConverterValidator<Object> {
 	 */
 	@Override
 	protected boolean initialize() throws Exception {
+		// The project converter is instantiated on the ConverterExecutor with a
+		// deadline
+		return ConverterExecutor.call(this::doInitialize);
+	}
+
+	private boolean doInitialize() throws Exception {
 		Object config = getConfig();
 		Type forType = getForType();
 
@@ -153,6 +171,13 @@ class FullConverterValidator extends AbstractConverterValidator<Object> {
 		}
 	}
 
+	@Override
+	public boolean isCacheable() {
+		// The enum type can be refreshed
+		Class<?> forType = getForType();
+		return forType == null || !forType.isEnum();
+	}
+
 	@Override
 	public String getConverterClassName() {
 		return converterInstance != null ? converterInstance.getClass().getName() : null;
@@ -14,7 +14,11 @@
 package org.eclipse.lsp4mp.commons.utils;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -23,8 +27,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
-import com.google.common.graph.EndpointPair;
-import com.google.common.graph.Graph;
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.Graphs;
 import com.google.common.graph.MutableGraph;
@@ -40,6 +42,10 @@ import io.smallrye.common.expression.Expression.Flag;
  * Checks for cycles before attempting expansion, and mitigates OOM due to
  * Billion Laughs by counting the number of variable references.
  *
+ * The reference graph and the resolved values are maintained incrementally
+ * with {@link #update(IConfigSourcePropertiesProvider, Collection)}, so that a
+ * property change only re-expands the properties which depend on it.
+ *
  * @author datho7561
  */
 public class PropertyValueExpander {
@@ -48,7 +54,7 @@ public class PropertyValueExpander {
 	private static final long REFERENCE_UPPER_BOUND = 1_000_000;
 
 	private final PropertyGraph propertyGraph;
-	private final IConfigSourcePropertiesProvider properties;
+	private IConfigSourcePropertiesProvider properties;
 	private final Map<String, ResolvedPropertyValueInformation> resolved;
 
 	public PropertyValueExpander(IConfigSourcePropertiesProvider properties) {
@@ -65,7 +71,7 @@ public class PropertyValueExpander {
 	 * @return the expanded value for the give key, or the unexpanded value if the
 	 *         value can't be expanded.
 	 */
-	public String getValue(String key) {
+	public synchronized String getValue(String key) {
 		if (propertyGraph.isAcyclic()) {
 			ResolvedPropertyValueInformation info = getResolvedValue(key);
 			return info == null ? null : info.getValue();
@@ -83,10 +89,44 @@ public class PropertyValueExpander {
 	 * @return A list of all the properties whose value do not depend on this
 	 *         property.
 	 */
-	public List<String> getIndependentProperties(String property) {
+	public synchronized List<String> getIndependentProperties(String property) {
 		return propertyGraph.getIndependentProperties(property);
 	}
 
+	/**
+	 * Updates the expander after the value of the given keys has been changed,
+	 * added or removed.
+	 *
+	 * Only the references of the given keys are recomputed, and only the resolved
+	 * values of the given keys and of the properties which depend on them are
+	 * evicted.
+	 *
+	 * @param properties  the properties which contain the changes.
+	 * @param changedKeys the keys whose value has changed.
+	 */
+	public synchronized void update(IConfigSourcePropertiesProvider properties, Collection<String> changedKeys) {
+		this.properties = properties;
+		for (String key : changedKeys) {
+			propertyGraph.update(key, properties);
+		}
+		evictResolvedValues(changedKeys);
+	}
+
+	private void evictResolvedValues(Collection<String> changedKeys) {
+		// Walk the references backwards to evict the dependent properties
+		Set<String> evicted = new HashSet<>(changedKeys);
+		Deque<String> toEvict = new ArrayDeque<>(changedKeys);
+		while (!toEvict.isEmpty()) {
+			String key = toEvict.pop();
+			resolved.remove(key);
+			for (String dependent : propertyGraph.getReferencingKeys(key)) {
+				if (evicted.add(dependent)) {
+					toEvict.push(dependent);
+				}
+			}
+		}
+	}
+
 	private ResolvedPropertyValueInformation getResolvedValue(String key) {
 
 		if (!properties.hasKey(key)) {
@@ -137,31 +177,118 @@ public class PropertyValueExpander {
 
 	private static class PropertyGraph {
 
-		private Graph<String> graph;
+		// graph of the defined properties, with an edge from a property to the
+		// defined properties that its value references
+		private final MutableGraph<String> graph;
+
+		// key -> all the keys referenced by its value (defined or not)
+		private final Map<String, Set<String>> references;
+
+		// key -> all the keys whose value references it (defined or not)
+		private final Map<String, Set<String>> referencingKeys;
+
 		private Optional<Boolean> acyclic;
 
 		PropertyGraph(IConfigSourcePropertiesProvider properties) {
-			MutableGraph<String> graph = GraphBuilder.directed().allowsSelfLoops(true).build();
+			graph = GraphBuilder.directed().allowsSelfLoops(true).build();
+			references = new HashMap<>();
+			referencingKeys = new HashMap<>();
 			acyclic = Optional.empty();
 			// add vertices
 			for (String key : properties.keys()) {
-				graph.addNode((String) key);
+				graph.addNode(key);
 			}
 			// add edges
 			for (String key : properties.keys()) {
-				String unresolvedValue = properties.getValue(key);
-				if (StringUtils.hasText(unresolvedValue) && unresolvedValue.contains("${")) {
-					Expression expr = Expression.compile(unresolvedValue, Flag.LENIENT_SYNTAX);
-					expr.evaluate((resolver, builder) -> {
-						if (graph.nodes().contains(resolver.getKey())) {
-							graph.putEdge((String) key, resolver.getKey());
+				addReferences(key, properties.getValue(key));
+			}
+		}
+
+		/**
+		 * Updates the references of the given key and the cycle state.
+		 *
+		 * @param key        the key whose value has changed.
+		 * @param properties the properties.
+		 */
+		void update(String key, IConfigSourcePropertiesProvider properties) {
+			boolean edgesRemoved = removeReferences(key);
+			if (properties.hasKey(key)) {
+				if (graph.addNode(key)) {
+					// the key is now defined, the properties which reference it depend on it
+					for (String referencingKey : getReferencingKeys(key)) {
+						if (graph.nodes().contains(referencingKey)) {
+							graph.putEdge(referencingKey, key);
 						}
-						resolver.expandDefault();
-					});
+					}
+				}
+				addReferences(key, properties.getValue(key));
+				// All the new edges have the key as endpoint: a new cycle goes through it
+				if (acyclic.isPresent() && acyclic.get() && isReachableFromItself(key)) {
+					acyclic = Optional.of(false);
 				}
+			} else if (graph.removeNode(key)) {
+				edgesRemoved = true;
 			}
+			if (edgesRemoved && acyclic.isPresent() && !acyclic.get()) {
+				// the cycle may have been broken, it will be checked again when needed
+				acyclic = Optional.empty();
+			}
+		}
+
+		private void addReferences(String key, String unresolvedValue) {
+			if (StringUtils.hasText(unresolvedValue) && unresolvedValue.contains("${")) {
+				Set<String> keyReferences = new HashSet<>();
+				Expression expr = Expression.compile(unresolvedValue, Flag.LENIENT_SYNTAX);
+				expr.evaluate((resolver, builder) -> {
+					String referencedKey = resolver.getKey();
+					keyReferences.add(referencedKey);
+					referencingKeys.computeIfAbsent(referencedKey, k -> new HashSet<>()).add(key);
+					if (graph.nodes().contains(referencedKey)) {
+						graph.putEdge(key, referencedKey);
+					}
+					resolver.expandDefault();
+				});
+				references.put(key, keyReferences);
+			}
+		}
+
+		private boolean removeReferences(String key) {
+			Set<String> keyReferences = references.remove(key);
+			if (keyReferences == null) {
+				return false;
+			}
+			boolean edgesRemoved = false;
+			for (String referencedKey : keyReferences) {
+				Set<String> keys = referencingKeys.get(referencedKey);
+				if (keys != null) {
+					keys.remove(key);
+					if (keys.isEmpty()) {
+						referencingKeys.remove(referencedKey);
+					}
+				}
+				edgesRemoved |= graph.removeEdge(key, referencedKey);
+			}
+			return edgesRemoved;
+		}
 
-			this.graph = graph;
+		private boolean isReachableFromItself(String key) {
+			Set<String> visited = new HashSet<>();
+			Deque<String> toVisit = new ArrayDeque<>(graph.successors(key));
+			while (!toVisit.isEmpty()) {
+				String node = toVisit.pop();
+				if (node.equals(key)) {
+					return true;
+				}
+				if (visited.add(node)) {
+					toVisit.addAll(graph.successors(node));
+				}
+			}
+			return false;
+		}
+
+		Set<String> getReferencingKeys(String key) {
+			Set<String> keys = referencingKeys.get(key);
+			return keys != null ? keys : Collections.emptySet();
 		}
 
 		boolean isAcyclic() {
@@ -172,10 +299,9 @@ public class PropertyValueExpander {
 		}
 
 		public List<String> getIndependentProperties(String property) {
-			Graph<String> reversed = getReversed();
 			Set<String> reachable = new HashSet<>();
 			List<String> unreachable = new ArrayList<>(graph.nodes().size());
-			for (String reached : Traverser.forGraph(reversed).breadthFirst(property)) {
+			for (String reached : Traverser.forGraph(Graphs.transpose(graph)).breadthFirst(property)) {
 				reachable.add(reached);
 			}
 			for (String node : graph.nodes()) {
@@ -186,17 +312,6 @@ public class PropertyValueExpander {
 			return unreachable;
 		}
 
-		private Graph<String> getReversed() {
-			MutableGraph<String> mutableReversed = GraphBuilder.directed().allowsSelfLoops(true).build();
-			for (String node : graph.nodes()) {
-				mutableReversed.addNode(node);
-			}
-			for (EndpointPair<String> edge : graph.edges()) {
-				mutableReversed.putEdge(edge.nodeV(), edge.nodeU());
-			}
-			return mutableReversed;
-		}
-
 	}
 
 	/**
@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.extensions;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+
+/**
+ * Pool of the MicroProfile properties and hints contributed by the
+ * dependencies (JARs) of the projects.
+ *
+ * <p>
+ * In a multi-module workspace, the modules share most of their dependencies and
+ * each project information would hold its own copy of the same binary
+ * properties and hints. As binary properties and hints are never updated once
+ * loaded, they are interned in this pool and the project information of the
+ * modules share the same instances. The pool references them weakly, they are
+ * released when no project information uses them anymore.
+ * </p>
+ *
+ */
+public class DependencyMetadataPool {
+
+	private static final DependencyMetadataPool INSTANCE = new DependencyMetadataPool();
+
+	public static DependencyMetadataPool getInstance() {
+		return INSTANCE;
+	}
+
+	private final Map<ItemMetadata, WeakReference<ItemMetadata>> properties = new WeakHashMap<>();
+
+	private final Map<ItemHint, WeakReference<ItemHint>> hints = new WeakHashMap<>();
+
+	/**
+	 * Replace the binary properties of the given list with their shared instance.
+	 *
+	 * @param properties the properties to intern.
+	 */
+	public void internProperties(List<ItemMetadata> properties) {
+		synchronized (this.properties) {
+			properties.replaceAll(this::intern);
+		}
+	}
+
+	/**
+	 * Replace the binary hints of the given list with their shared instance.
+	 *
+	 * @param hints the hints to intern.
+	 */
+	public void internHints(List<ItemHint> hints) {
+		synchronized (this.hints) {
+			hints.replaceAll(this::intern);
+		}
+	}
+
+	private ItemMetadata intern(ItemMetadata property) {
+		if (property == null || !property.isBinary() || property.getClass() != ItemMetadata.class) {
+			return property;
+		}
+		WeakReference<ItemMetadata> ref = properties.get(property);
+		ItemMetadata shared = ref != null ? ref.get() : null;
+		if (shared == null) {
+			properties.put(property, new WeakReference<>(property));
+			return property;
+		}
+		// equals ignores some attributes of the property
+		return isSame(shared, property) ? shared : property;
+	}
+
+	private ItemHint intern(ItemHint hint) {
+		if (hint == null || !hint.isBinary() || hint.getProviders() != null) {
+			return hint;
+		}
+		WeakReference<ItemHint> ref = hints.get(hint);
+		ItemHint shared = ref != null ? ref.get() : null;
+		if (shared == null) {
+			hints.put(hint, new WeakReference<>(hint));
+			return hint;
+		}
+		return shared.getProviders() == null ? shared : hint;
+	}
+
+	private static boolean isSame(ItemMetadata shared, ItemMetadata property) {
+		return shared.isRequired() == property.isRequired() && shared.getPhase() == property.getPhase()
+				&& Objects.equals(shared.getConverterKinds(), property.getConverterKinds());
+	}
+}
@@ -14,11 +14,17 @@
 package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -66,6 +72,51 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		}
 	}
 
+	/**
+	 * JARs added to / removed from the classpath of the project which are not
+	 * applied to the cached properties.
+	 *
+	 */
+	public static class ClasspathChanges {
+
+		private final Set<String> addedEntries = new HashSet<>();
+
+		private final Set<String> removedEntries = new HashSet<>();
+
+		/**
+		 * Returns the paths of the JARs added to the classpath.
+		 *
+		 * @return the paths of the JARs added to the classpath.
+		 */
+		public Set<String> getAddedEntries() {
+			return addedEntries;
+		}
+
+		/**
+		 * Returns the paths of the JARs removed from the classpath.
+		 *
+		 * @return the paths of the JARs removed from the classpath.
+		 */
+		public Set<String> getRemovedEntries() {
+			return removedEntries;
+		}
+
+		private void add(Set<String> added, Set<String> removed) {
+			for (String path : removed) {
+				// a JAR added then removed doesn't change the classpath
+				if (!addedEntries.remove(path)) {
+					removedEntries.add(path);
+				}
+			}
+			for (String path : added) {
+				// a JAR removed then added doesn't change the classpath
+				if (!removedEntries.remove(path)) {
+					addedEntries.add(path);
+				}
+			}
+		}
+	}
+
 	private final transient MicroProfileProjectRuntime projectRuntime;
 
 	private transient boolean reloadFromSource;
@@ -78,6 +129,10 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 
 	private transient boolean updating;
 
+	private transient ClasspathChanges classpathChanges;
+
+	private transient Set<String> changedJavaFileURIs;
+
 	public ExtendedMicroProfileProjectInfo(MicroProfileProjectInfo delegate) {
 		this(delegate, null);
 	}
@@ -86,12 +141,16 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			MicroProfileProjectRuntime projectRuntime) {
 		this.projectRuntime = projectRuntime;
 		super.setProjectURI(delegate.getProjectURI());
-		// Update hints
-		super.setHints(
-				new CopyOnWriteArrayList<>(delegate.getHints() != null ? delegate.getHints() : new ArrayList<>()));
+		// Update hints, the hints of the dependencies are shared with the other
+		// projects
+		List<ItemHint> hints = delegate.getHints() != null ? new ArrayList<>(delegate.getHints())
+				: new ArrayList<>();
+		DependencyMetadataPool.getInstance().internHints(hints);
+		super.setHints(new CopyOnWriteArrayList<>(hints));
 		// Get dynamic and static properties from delegate project info
 		List<ItemMetadata> staticProperties = delegate.getProperties() != null ? delegate.getProperties()
 				: new ArrayList<>();
+		DependencyMetadataPool.getInstance().internProperties(staticProperties);
 		List<ItemMetadata> dynamicProperties = computeDynamicProperties(staticProperties);
 		staticProperties.removeAll(dynamicProperties);
 		expandProperties(staticProperties, dynamicProperties, getHint);
@@ -113,13 +172,238 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 	 * Clear the cache only for MicroProfile properties coming from java sources.
 	 */
 	public void clearPropertiesFromSource() {
+		clearPropertiesFromSource(null);
+	}
+
+	/**
+	 * Clear the cache only for MicroProfile properties coming from the given Java
+	 * files.
+	 *
+	 * @param javaFileURIs the URIs of the changed Java files and null if the
+	 *                     properties of the whole Java sources must be collected.
+	 */
+	public synchronized void clearPropertiesFromSource(Set<String> javaFileURIs) {
+		if (javaFileURIs == null || (reloadFromSource && changedJavaFileURIs == null)) {
+			setReloadFromSource(true);
+			return;
+		}
+		if (!reloadFromSource) {
+			changedJavaFileURIs = new HashSet<>();
+			reloadFromSource = true;
+		}
+		changedJavaFileURIs.addAll(javaFileURIs);
+	}
+
+	/**
+	 * Returns the URIs of the Java files whose properties must be collected again
+	 * and null if the properties of the whole Java sources must be collected.
+	 *
+	 * @return the URIs of the Java files whose properties must be collected again
+	 *         and null if the properties of the whole Java sources must be
+	 *         collected.
+	 */
+	public synchronized Set<String> getChangedJavaFileURIs() {
+		return changedJavaFileURIs != null ? new HashSet<>(changedJavaFileURIs) : null;
+	}
+
+	/**
+	 * Register the given JARs added to / removed from the classpath of the project.
+	 *
+	 * @param addedEntries   the paths of the JARs added to the classpath.
+	 * @param removedEntries the paths of the JARs removed from the classpath.
+	 */
+	public synchronized void classpathChanged(Set<String> addedEntries, Set<String> removedEntries) {
+		if (classpathChanges == null) {
+			classpathChanges = new ClasspathChanges();
+		}
+		classpathChanges.add(addedEntries, removedEntries);
+	}
+
+	/**
+	 * Returns the classpath changes which are not applied to the cached properties
+	 * and null otherwise.
+	 *
+	 * @return the classpath changes which are not applied to the cached properties
+	 *         and null otherwise.
+	 */
+	public synchronized ClasspathChanges takeClasspathChanges() {
+		ClasspathChanges changes = classpathChanges;
+		classpathChanges = null;
+		return changes;
+	}
+
+	/**
+	 * Update the MicroProfile properties and hints in the cache contributed by the
+	 * JARs added to / removed from the classpath.
+	 *
+	 * <p>
+	 * The properties and hints of the removed JARs are removed by their source JARs
+	 * (see {@link ItemBase#getSourceJars()}): a property which is contributed by a
+	 * removed JAR and by another JAR of the classpath is kept.
+	 * </p>
+	 *
+	 * @param added          the properties and hints of the JARs added to the
+	 *                       classpath.
+	 * @param removed        the properties and hints of the JARs removed from the
+	 *                       classpath.
+	 * @param removedEntries the paths of the JARs removed from the classpath.
+	 * @return true if the cache has been updated and false if the properties of the
+	 *         whole classpath must be loaded again.
+	 */
+	public synchronized boolean updateDependenciesProperties(MicroProfileProjectInfo added,
+			MicroProfileProjectInfo removed, Set<String> removedEntries) {
+		if (added.getProperties() == null || added.getHints() == null || removed.getProperties() == null
+				|| removed.getHints() == null) {
+			// The properties of a JAR are unknown
+			return false;
+		}
+		if (!computeDynamicProperties(added.getProperties()).isEmpty()
+				|| !computeDynamicProperties(removed.getProperties()).isEmpty()) {
+			// dynamic properties are expanded with the hints of the whole classpath
+			return false;
+		}
+		Map<String, ItemHint> hints = new HashMap<>();
+		for (ItemHint hint : getHints()) {
+			if (hint != null) {
+				hints.put(hint.getName(), hint);
+			}
+		}
+		Set<String> changedHintNames = new HashSet<>();
+		for (ItemHint hint : added.getHints()) {
+			if (hints.containsKey(hint.getName())) {
+				// the values of the hint are merged with the existing hint
+				return false;
+			}
+			changedHintNames.add(hint.getName());
+		}
+		for (ItemHint hint : removed.getHints()) {
+			ItemHint existingHint = hints.get(hint.getName());
+			if (existingHint != null && (existingHint.getSourceJars() == null
+					|| !removedEntries.containsAll(existingHint.getSourceJars()))) {
+				// the values of the hint come from other JARs or from the Java sources
+				return false;
+			}
+		}
+		List<ItemHint> oldHints = new ArrayList<>();
+		for (ItemHint hint : hints.values()) {
+			if (hint.getSourceJars() != null && removedEntries.containsAll(hint.getSourceJars())) {
+				oldHints.add(hint);
+				changedHintNames.add(hint.getName());
+			}
+		}
+		for (ItemMetadata metadata : getDynamicProperties()) {
+			if (changedHintNames.contains(getHintName(metadata))) {
+				// the expanded properties of the dynamic property change
+				return false;
+			}
+		}
+
+		Map<String, ItemMetadata> properties = new HashMap<>();
+		for (ItemMetadata property : getProperties()) {
+			if (property != null) {
+				properties.putIfAbsent(getPropertyKey(property), property);
+			}
+		}
+		for (ItemMetadata property : removed.getProperties()) {
+			ItemMetadata existingProperty = properties.get(getPropertyKey(property));
+			if (existingProperty != null && existingProperty.getSourceJars() == null) {
+				// the JARs which contribute the property are unknown
+				return false;
+			}
+		}
+		// remove the removed JARs from the source JARs of the properties
+		List<ItemMetadata> oldProperties = new ArrayList<>();
+		List<ItemMetadata> newProperties = new ArrayList<>();
+		for (ItemMetadata property : getProperties()) {
+			List<String> sourceJars = property != null ? property.getSourceJars() : null;
+			if (sourceJars == null || Collections.disjoint(sourceJars, removedEntries)) {
+				continue;
+			}
+			oldProperties.add(property);
+			List<String> remainingJars = sourceJars.stream() //
+					.filter(jar -> !removedEntries.contains(jar)) //
+					.collect(Collectors.toList());
+			if (remainingJars.isEmpty()) {
+				properties.remove(getPropertyKey(property));
+			} else {
+				// the property is contributed by another JAR of the classpath
+				ItemMetadata remainingProperty = copy(property, remainingJars);
+				newProperties.add(remainingProperty);
+				properties.put(getPropertyKey(property), remainingProperty);
+			}
+		}
+		// add the properties of the added JARs
+		for (ItemMetadata property : added.getProperties()) {
+			String key = getPropertyKey(property);
+			ItemMetadata existingProperty = properties.get(key);
+			if (existingProperty == null) {
+				newProperties.add(property);
+				properties.put(key, property);
+			} else if (existingProperty.getSourceJars() != null && property.getSourceJars() != null) {
+				// the property is contributed by several JARs
+				List<String> sourceJars = new ArrayList<>(existingProperty.getSourceJars());
+				property.getSourceJars().stream() //
+						.filter(jar -> !sourceJars.contains(jar)) //
+						.forEach(sourceJars::add);
+				ItemMetadata mergedProperty = copy(existingProperty, sourceJars);
+				if (!newProperties.remove(existingProperty)) {
+					oldProperties.add(existingProperty);
+				}
+				newProperties.add(mergedProperty);
+				properties.put(key, mergedProperty);
+			}
+		}
+		List<ItemHint> newHints = new ArrayList<>(added.getHints());
+		DependencyMetadataPool.getInstance().internProperties(newProperties);
+		DependencyMetadataPool.getInstance().internHints(newHints);
+		updateHints(oldHints, newHints);
+		updateProperties(oldProperties, newProperties);
+		// The properties from Java sources can use the types of the JARs
 		setReloadFromSource(true);
+		return true;
 	}
 
 	private static List<ItemMetadata> computeDynamicProperties(List<ItemMetadata> properties) {
 		return properties.stream().filter(p -> p != null && p.getName().contains("${")).collect(Collectors.toList());
 	}
 
+	/**
+	 * Returns the key of the given property: the properties of the JARs are merged
+	 * by this key when they are collected.
+	 */
+	private static String getPropertyKey(ItemMetadata property) {
+		return property.getName() + '|' + property.getSourceType() + '|' + property.getSourceField() + '|'
+				+ property.getSourceMethod();
+	}
+
+	/**
+	 * Returns a copy of the given property contributed by the given JARs.
+	 */
+	private static ItemMetadata copy(ItemMetadata property, List<String> sourceJars) {
+		ItemMetadata copy = new ItemMetadata();
+		copy.setName(property.getName());
+		copy.setDescription(property.getDescription());
+		copy.setSourceType(property.getSourceType());
+		copy.setSource(property.getSource());
+		copy.setOrigin(property.getOrigin());
+		copy.setType(property.getType());
+		copy.setSourceField(property.getSourceField());
+		copy.setSourceMethod(property.getSourceMethod());
+		copy.setDefaultValue(property.getDefaultValue());
+		copy.setExtensionName(property.getExtensionName());
+		copy.setRequired(property.isRequired());
+		copy.setPhase(property.getPhase());
+		copy.setConverterKinds(property.getConverterKinds());
+		copy.setSourceJars(sourceJars);
+		return copy;
+	}
+
+	private static String getHintName(ItemMetadata dynamicProperty) {
+		int start = dynamicProperty.getName().indexOf("${");
+		int end = dynamicProperty.getName().indexOf("}", start);
+		return dynamicProperty.getName().substring(start, end + 1);
+	}
+
 	/**
 	 * Update the new MicroProfile properties in the cache coming java sources.
 	 *
@@ -130,7 +414,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			List<ItemHint> hintsFromJavaSource) {
 		// remove old hints from Java sources
 		if (hintsFromJavaSource != null) {
-			updateListFromPropertiesSources(getHints(), hintsFromJavaSource);
+			updateHints(getPropertiesFromSources(getHints()), hintsFromJavaSource);
 		}
 		// remove old properties from Java sources
 		if (propertiesFromJavaSource != null) {
@@ -143,7 +427,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 			// expand properties by using old dynamic properties (coming from binary
 			// properties)
 			expandProperties(staticProperties, getDynamicProperties(), getHint);
-			updateListFromPropertiesSources(getProperties(), staticProperties);
+			updateProperties(getPropertiesFromSources(getProperties()), staticProperties);
 			updateListFromPropertiesSources(getDynamicProperties(), dynamicProperties);
 		}
 		// Update custom properties
@@ -151,23 +435,137 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		setReloadFromSource(false);
 	}
 
+	/**
+	 * Update the MicroProfile properties in the cache coming from the given Java
+	 * types.
+	 *
+	 * @param propertiesFromJavaSource properties collected from the Java types.
+	 * @param hintsFromJavaSource      hints collected from the Java types.
+	 * @param sourceTypes              the fully qualified names of the scanned
+	 *                                 top-level Java types and null if the whole
+	 *                                 Java sources have been scanned.
+	 */
+	public synchronized void updateSourcesProperties(List<ItemMetadata> propertiesFromJavaSource,
+			List<ItemHint> hintsFromJavaSource, Set<String> sourceTypes) {
+		if (sourceTypes == null) {
+			updateSourcesProperties(propertiesFromJavaSource, hintsFromJavaSource);
+			return;
+		}
+		Predicate<String> isScanned = sourceType -> sourceType != null
+				&& sourceTypes.contains(getTopLevelType(sourceType));
+		// replace the hints of the scanned types
+		if (hintsFromJavaSource != null) {
+			Map<String, ItemHint> scannedHints = new HashMap<>();
+			for (ItemHint hint : getPropertiesFromSources(hintsFromJavaSource)) {
+				if (hint != null) {
+					scannedHints.put(hint.getName(), hint);
+				}
+			}
+			List<ItemHint> oldHints = new ArrayList<>();
+			List<ItemHint> newHints = new ArrayList<>();
+			for (ItemHint hint : getPropertiesFromSources(getHints())) {
+				if (hint == null) {
+					continue;
+				}
+				ItemHint scannedHint = scannedHints.remove(hint.getName());
+				if (isScanned.test(hint.getSourceType())) {
+					// hint of a scanned type (ex : enum)
+					oldHints.add(hint);
+					if (scannedHint != null) {
+						newHints.add(scannedHint);
+					}
+				} else if (hint.getValues() != null) {
+					// hint whose values come from several types (ex : REST client classes)
+					ItemHint updatedHint = updateHintValues(hint, scannedHint, isScanned);
+					if (updatedHint != null) {
+						oldHints.add(hint);
+						newHints.add(updatedHint);
+					}
+				}
+			}
+			newHints.addAll(scannedHints.values());
+			updateHints(oldHints, newHints);
+		}
+		// replace the properties of the scanned types
+		if (propertiesFromJavaSource != null) {
+			// replace the dynamic properties of the scanned types
+			getDynamicProperties().removeIf(p -> !p.isBinary() && isScanned.test(p.getSourceType()));
+			for (ItemMetadata dynamicProperty : computeDynamicProperties(propertiesFromJavaSource)) {
+				if (!getDynamicProperties().contains(dynamicProperty)) {
+					getDynamicProperties().add(dynamicProperty);
+				}
+			}
+
+			Set<ItemMetadata> oldProperties = new HashSet<>();
+			for (ItemMetadata property : getProperties()) {
+				if (property instanceof ComputedItemMetadata
+						|| (property != null && !property.isBinary() && isScanned.test(property.getSourceType()))) {
+					oldProperties.add(property);
+				}
+			}
+			List<ItemMetadata> newProperties = propertiesFromJavaSource.stream() //
+					.filter(p -> p != null && !p.getName().contains("${") && isScanned.test(p.getSourceType())) //
+					.collect(Collectors.toList());
+			// expand again the dynamic properties with the updated hints
+			expandProperties(newProperties, getDynamicProperties(), getHint);
+			updateProperties(oldProperties, newProperties);
+		}
+		// Update custom properties
+		updateCustomProperties(null);
+		setReloadFromSource(false);
+	}
+
+	/**
+	 * Returns a copy of the given hint where the values of the scanned types are
+	 * replaced with the values of the given scanned hint and null if the values
+	 * don't change.
+	 */
+	private static ItemHint updateHintValues(ItemHint hint, ItemHint scannedHint, Predicate<String> isScanned) {
+		List<ValueHint> values = hint.getValues().stream() //
+				.filter(value -> !isScanned.test(value.getSourceType())) //
+				.collect(Collectors.toList());
+		if (scannedHint != null && scannedHint.getValues() != null) {
+			scannedHint.getValues().stream() //
+					.filter(value -> isScanned.test(value.getSourceType())) //
+					.forEach(values::add);
+		}
+		if (values.equals(hint.getValues())) {
+			return null;
+		}
+		ItemHint updatedHint = new ItemHint();
+		updatedHint.setName(hint.getName());
+		updatedHint.setDescription(hint.getDescription());
+		updatedHint.setSourceType(hint.getSourceType());
+		updatedHint.setSource(hint.getSource());
+		updatedHint.setOrigin(hint.getOrigin());
+		updatedHint.setProviders(hint.getProviders());
+		updatedHint.setValues(values);
+		return updatedHint;
+	}
+
+	private static String getTopLevelType(String sourceType) {
+		int index = sourceType.indexOf('$');
+		return index != -1 ? sourceType.substring(0, index) : sourceType;
+	}
+
 	private static <T extends ItemBase> void updateListFromPropertiesSources(List<T> allProperties,
 			List<T> propertiesFromJavaSources) {
-		List<? extends ItemBase> oldPropertiesFromJavaSources = allProperties.stream().filter(h -> {
-			return h == null || !h.isBinary();
-		}).collect(Collectors.toList());
+		List<T> oldPropertiesFromJavaSources = getPropertiesFromSources(allProperties);
 		allProperties.removeAll(oldPropertiesFromJavaSources);
 		// add new properties from Java sources
 		allProperties.addAll(propertiesFromJavaSources);
 	}
 
+	private static <T extends ItemBase> List<T> getPropertiesFromSources(List<T> allProperties) {
+		return allProperties.stream().filter(h -> {
+			return h == null || !h.isBinary();
+		}).collect(Collectors.toList());
+	}
+
 	private static void expandProperties(List<ItemMetadata> allProperties, List<ItemMetadata> dynamicProperties,
 			Function<String, ItemHint> getHint) {
 		for (ItemMetadata metadata : dynamicProperties) {
-			int start = metadata.getName().indexOf("${");
-			int end = metadata.getName().indexOf("}", start);
-			String hint = metadata.getName().substring(start, end + 1);
-			ItemHint itemHint = getHint.apply(hint);
+			ItemHint itemHint = getHint.apply(getHintName(metadata));
 			if (itemHint != null) {
 				for (ValueHint value : itemHint.getValues()) {
 					allProperties.add(new ComputedItemMetadata(metadata, itemHint, value));
@@ -180,8 +578,9 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 		return reloadFromSource;
 	}
 
-	void setReloadFromSource(boolean reloadFromSource) {
+	synchronized void setReloadFromSource(boolean reloadFromSource) {
 		this.reloadFromSource = reloadFromSource;
+		this.changedJavaFileURIs = null;
 	}
 
 	public List<ItemMetadata> getDynamicProperties() {
@@ -229,12 +628,7 @@ public class ExtendedMicroProfileProjectInfo extends MicroProfileProjectInfo {
 					provider.update(document);
 					List<ItemMetadata> newProperties = provider.getProperties();
 					if (!Objects.deepEquals(oldProperties, newProperties)) {
-						if (oldProperties != null) {
-							getProperties().removeAll(oldProperties);
-						}
-						if (newProperties != null) {
-							getProperties().addAll(newProperties);
-						}
+						updateProperties(oldProperties, newProperties);
 					}
 				}
 			}
@@ -62,7 +62,9 @@ import org.eclipse.lsp4mp.ls.java.JavaFileTextDocumentService;
 import org.eclipse.lsp4mp.ls.java.JavaTextDocuments;
 import org.eclipse.lsp4mp.ls.properties.PropertiesFileTextDocumentService;
 import org.eclipse.lsp4mp.services.properties.CompletionData;
+import org.eclipse.lsp4mp.settings.MicroProfileCacheSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileCodeLensSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileExecutionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileGeneralClientSettings;
@@ -268,8 +270,21 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
+		if (event.isServerAvailabilityChanged()) {
+			// A local server has been started / stopped, refresh the JAX-RS URL codelens
+			// of all opened editors
+			if (microprofileLanguageServer.getCapabilityManager().getClientCapabilities()
+					.isCodeLensesRefreshSupported()) {
+				microprofileLanguageServer.getLanguageClient().refreshCodeLenses();
+			}
+			if (event.getType() == null || event.getType().isEmpty()) {
+				// The properties have not changed
+				return;
+			}
+		}
 		propertiesTextDocumentService.propertiesChanged(event);
-		javaTextDocumentService.propertiesChanged(event);
+		javaTextDocumentService.propertiesChanged(event,
+				propertiesTextDocumentService.takeChangedPropertyNames());
 	}
 
 	public void updateClientSettings(MicroProfileGeneralClientSettings clientSettings) {
@@ -281,11 +296,16 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		if (newFormatting != null) {
 			updateFormattingSettings(newFormatting);
 		}
+		MicroProfileCompletionSettings newCompletion = clientSettings.getCompletion();
+		if (newCompletion != null) {
+			updateCompletionSettings(newCompletion);
+		}
 
 		boolean executionSettingsChanged = updateExecutionSettings(clientSettings.getExecution());
 		boolean validationSettingsChanged = updateValidationSettings(clientSettings.getValidation());
 		boolean codeLensSettingsChanged = updateCodeLensSettings(clientSettings.getCodeLens());
 		boolean inlayHintSettingsChanged = updateInlayHintSettings(clientSettings.getInlayHint());
+		updateCacheSettings(clientSettings.getCache());
 
 		if (validationSettingsChanged || executionSettingsChanged) {
 			propertiesTextDocumentService.triggerValidationAll();
@@ -318,8 +338,18 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		propertiesTextDocumentService.updateFormattingSettings(newFormatting);
 	}
 
+	private void updateCompletionSettings(MicroProfileCompletionSettings newCompletion) {
+		// The completion settings are read by each completion request, there is
+		// nothing to refresh when they change.
+		sharedSettings.getCompletionSettings().update(newCompletion);
+	}
+
 	private boolean updateExecutionSettings(MicroProfileExecutionSettings newExecution) {
-		return sharedSettings.getExecutionSettings().update(newExecution);
+		if (sharedSettings.getExecutionSettings().update(newExecution)) {
+			propertiesTextDocumentService.updateExecutionSettings();
+			return true;
+		}
+		return false;
 	}
 
 	private boolean updateValidationSettings(MicroProfileValidationSettings newValidation) {
@@ -335,6 +365,12 @@ public class MicroProfileTextDocumentService implements TextDocumentService {
 		return sharedSettings.getInlayHintSettings().update(newInlayHint);
 	}
 
+	private void updateCacheSettings(MicroProfileCacheSettings newCache) {
+		if (sharedSettings.getCacheSettings().update(newCache)) {
+			propertiesTextDocumentService.updateCacheSettings();
+		}
+	}
+
 	private TextDocumentService getTextDocumentService(TextDocumentIdentifier document) {
 		String fileExtension = getFileExtension(document);
 		return fileExtension != null ? textDocumentServicesMap.get(fileExtension) : null;
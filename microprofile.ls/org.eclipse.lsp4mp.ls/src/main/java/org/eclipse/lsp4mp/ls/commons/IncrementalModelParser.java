@@ -0,0 +1,46 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Incremental parser which updates a model parsed with a previous text of a
+ * document instead of parsing the whole text.
+ *
+ * @param <T> the model type (ex : DOM Document)
+ */
+@FunctionalInterface
+public interface IncrementalModelParser<T> {
+
+	/**
+	 * Returns the model of the changed text of the document, computed from the
+	 * given model.
+	 *
+	 * <p>
+	 * The given model must not be modified, since it can still be used by the
+	 * requests which are running.
+	 * </p>
+	 *
+	 * @param model         the model parsed with a previous text of the document.
+	 * @param document      the text document.
+	 * @param start         the start offset of the changed text and -1 if only the
+	 *                      version of the document has changed.
+	 * @param oldEnd        the end offset of the changed text in the previous text.
+	 * @param newEnd        the end offset of the changed text in the current text.
+	 * @param cancelChecker the cancel checker.
+	 * @return the new model and null if the whole text must be parsed.
+	 */
+	T parse(T model, TextDocument document, int start, int oldEnd, int newEnd, CancelChecker cancelChecker);
+}
@@ -13,10 +13,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.commons;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
 
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
@@ -33,16 +35,42 @@ public class ModelTextDocument<T> extends TextDocument {
 
 	private final BiFunction<TextDocument, CancelChecker, T> parse;
 
+	private final IncrementalModelParser<T> incrementalParse;
+
+	private final Object changesLock = new Object();
+
 	private T model;
 
+	// the model parsed with a previous text of the document which can be updated
+	// with the changed text (changeStart, changeOldEnd, changeNewEnd)
+	private T outOfDateModel;
+
+	private int changeStart = -1;
+
+	private int changeOldEnd;
+
+	private int changeNewEnd;
+
 	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(document, parse, null);
+	}
+
+	public ModelTextDocument(TextDocumentItem document, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		super(document);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse) {
+		this(text, uri, parse, null);
+	}
+
+	public ModelTextDocument(String text, String uri, BiFunction<TextDocument, CancelChecker, T> parse,
+			IncrementalModelParser<T> incrementalParse) {
 		super(text, uri);
 		this.parse = parse;
+		this.incrementalParse = incrementalParse;
 	}
 
 	public T getExistingModel() {
@@ -74,8 +102,10 @@ public class ModelTextDocument<T> extends TextDocument {
 			// Stop of parse process can be done when completable future is canceled or when
 			// version of document changes
 			CancelChecker cancelChecker = new TextDocumentVersionChecker(this, version);
-			// parse the model
-			model = parse.apply(this, cancelChecker);
+			// compute the model from the previous model and the changed text or parse the
+			// model
+			T updatedModel = updateModel(cancelChecker);
+			model = updatedModel != null ? updatedModel : parse.apply(this, cancelChecker);
 		} catch (CancellationException e) {
 			LOGGER.fine("Stop parsing parsing of model with version '" + version + "' in "
 					+ (System.currentTimeMillis() - start) + "ms");
@@ -87,24 +117,95 @@ public class ModelTextDocument<T> extends TextDocument {
 		return model;
 	}
 
+	/**
+	 * Returns the model computed from the previous model and the changed text and
+	 * null if the model must be parsed.
+	 *
+	 * @param cancelChecker the cancel checker.
+	 * @return the model computed from the previous model and the changed text and
+	 *         null if the model must be parsed.
+	 */
+	private T updateModel(CancelChecker cancelChecker) {
+		// The text cannot be changed while the previous model is updated
+		synchronized (changesLock) {
+			T previousModel = outOfDateModel;
+			if (previousModel == null) {
+				return null;
+			}
+			T model = incrementalParse.parse(previousModel, this, changeStart, changeOldEnd, changeNewEnd,
+					cancelChecker);
+			// The previous model is not modified by the parse, it is kept when the parse
+			// is canceled
+			outOfDateModel = null;
+			return model;
+		}
+	}
+
+	@Override
+	public void update(List<TextDocumentContentChangeEvent> changes) {
+		synchronized (changesLock) {
+			cancelModel();
+			super.update(changes);
+		}
+	}
+
+	@Override
+	protected void textReplaced(int startOffset, int length, String text) {
+		if (outOfDateModel == null) {
+			return;
+		}
+		// Merge the change with the previous changes
+		int end = startOffset + length;
+		if (changeStart == -1) {
+			changeStart = startOffset;
+			changeOldEnd = end;
+			changeNewEnd = end;
+		} else {
+			int delta = changeNewEnd - changeOldEnd;
+			changeStart = Math.min(changeStart, startOffset);
+			changeNewEnd = Math.max(changeNewEnd, end);
+			changeOldEnd = changeNewEnd - delta;
+		}
+		changeNewEnd += text.length() - length;
+	}
+
 	@Override
 	public void setText(String text) {
-		super.setText(text);
-		// text changed, mark the model as dirty
-		cancelModel();
+		synchronized (changesLock) {
+			super.setText(text);
+			// the whole text has changed, the model must be parsed
+			outOfDateModel = null;
+			model = null;
+		}
+	}
+
+	@Override
+	protected void setContent(Rope content) {
+		synchronized (changesLock) {
+			super.setContent(content);
+			// text changed, mark the model as dirty
+			cancelModel();
+		}
 	}
 
 	@Override
 	public void setVersion(int version) {
-		super.setVersion(version);
-		// version changed, mark the model as dirty
-		cancelModel();
+		synchronized (changesLock) {
+			super.setVersion(version);
+			// version changed, mark the model as dirty
+			cancelModel();
+		}
 	}
 
 	/**
 	 * Mark the model as dirty
 	 */
 	private void cancelModel() {
+		if (model != null && incrementalParse != null) {
+			// keep the model to update it with the next changes
+			outOfDateModel = model;
+			changeStart = -1;
+		}
 		model = null;
 	}
 
@@ -0,0 +1,308 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+/**
+ * Immutable text stored in a balanced tree of text chunks.
+ *
+ * <p>
+ * Replacing a part of the text creates a new rope which shares the unchanged
+ * chunks with the previous rope in O(log n). The text is materialized as a
+ * {@link String} only when {@link #toString()} is called.
+ * </p>
+ *
+ */
+public final class Rope implements CharSequence {
+
+	private static final int MAX_LEAF_LENGTH = 1024;
+
+	private static final Rope EMPTY = new Rope(new Leaf(""));
+
+	/**
+	 * Rope node.
+	 */
+	private static abstract class Node {
+
+		final int length;
+
+		final int height;
+
+		Node(int length, int height) {
+			this.length = length;
+			this.height = height;
+		}
+	}
+
+	/**
+	 * Text chunk.
+	 */
+	private static class Leaf extends Node {
+
+		final String text;
+
+		Leaf(String text) {
+			super(text.length(), 0);
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Concatenation of two nodes.
+	 */
+	private static class Concat extends Node {
+
+		final Node left;
+
+		final Node right;
+
+		Concat(Node left, Node right) {
+			super(left.length + right.length, Math.max(left.height, right.height) + 1);
+			this.left = left;
+			this.right = right;
+		}
+	}
+
+	/**
+	 * The last accessed leaf with its start offset, to read the text sequentially
+	 * with {@link Rope#charAt(int)} in constant time.
+	 */
+	private static class LeafPosition {
+
+		final Leaf leaf;
+
+		final int start;
+
+		LeafPosition(Leaf leaf, int start) {
+			this.leaf = leaf;
+			this.start = start;
+		}
+	}
+
+	private final Node root;
+
+	private LeafPosition lastLeaf;
+
+	private volatile String text;
+
+	private Rope(Node root) {
+		this.root = root;
+	}
+
+	/**
+	 * Returns the rope of the given text.
+	 *
+	 * @param text the text.
+	 * @return the rope of the given text.
+	 */
+	public static Rope of(CharSequence text) {
+		if (text instanceof Rope) {
+			return (Rope) text;
+		}
+		if (text.length() == 0) {
+			return EMPTY;
+		}
+		return new Rope(create(text.toString(), 0, text.length()));
+	}
+
+	/**
+	 * Returns a new rope where the text from the <code>start</code> offset
+	 * (inclusive) to the <code>end</code> offset (exclusive) is replaced with the
+	 * given text.
+	 *
+	 * @param start the start offset.
+	 * @param end   the end offset.
+	 * @param text  the new text.
+	 * @return a new rope where the text from the <code>start</code> offset to the
+	 *         <code>end</code> offset is replaced with the given text.
+	 */
+	public Rope replace(int start, int end, CharSequence text) {
+		if (start < 0 || end > length() || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+		}
+		Node node = concat(prefix(root, start), text.length() > 0 ? of(text).root : null);
+		return new Rope(concat(node, suffix(root, end)));
+	}
+
+	@Override
+	public int length() {
+		return root.length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length()) {
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+		}
+		LeafPosition position = lastLeaf;
+		if (position == null || index < position.start || index >= position.start + position.leaf.length) {
+			Node node = root;
+			int start = 0;
+			while (node instanceof Concat) {
+				Concat concat = (Concat) node;
+				if (index - start < concat.left.length) {
+					node = concat.left;
+				} else {
+					start += concat.left.length;
+					node = concat.right;
+				}
+			}
+			position = new LeafPosition((Leaf) node, start);
+			lastLeaf = position;
+		}
+		return position.leaf.text.charAt(index - position.start);
+	}
+
+	@Override
+	public String subSequence(int start, int end) {
+		if (start < 0 || end > length() || start > end) {
+			throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+		}
+		String text = this.text;
+		if (text != null) {
+			return text.substring(start, end);
+		}
+		StringBuilder result = new StringBuilder(end - start);
+		append(root, start, end, result);
+		return result.toString();
+	}
+
+	@Override
+	public String toString() {
+		String text = this.text;
+		if (text == null) {
+			StringBuilder result = new StringBuilder(length());
+			append(root, 0, length(), result);
+			text = result.toString();
+			this.text = text;
+		}
+		return text;
+	}
+
+	private static Node create(String text, int start, int end) {
+		if (end - start <= MAX_LEAF_LENGTH) {
+			return new Leaf(text.substring(start, end));
+		}
+		int middle = (start + end) >>> 1;
+		return new Concat(create(text, start, middle), create(text, middle, end));
+	}
+
+	private static void append(Node node, int start, int end, StringBuilder result) {
+		if (start >= end) {
+			return;
+		}
+		if (node instanceof Leaf) {
+			result.append(((Leaf) node).text, start, end);
+			return;
+		}
+		Concat concat = (Concat) node;
+		int leftLength = concat.left.length;
+		if (start < leftLength) {
+			append(concat.left, start, Math.min(end, leftLength), result);
+		}
+		if (end > leftLength) {
+			append(concat.right, Math.max(start, leftLength) - leftLength, end - leftLength, result);
+		}
+	}
+
+	/**
+	 * Returns the node of the text from 0 to the given offset (exclusive) and null
+	 * if the text is empty.
+	 */
+	private static Node prefix(Node node, int offset) {
+		if (offset == 0) {
+			return null;
+		}
+		if (offset == node.length) {
+			return node;
+		}
+		if (node instanceof Leaf) {
+			return new Leaf(((Leaf) node).text.substring(0, offset));
+		}
+		Concat concat = (Concat) node;
+		if (offset <= concat.left.length) {
+			return prefix(concat.left, offset);
+		}
+		return concat(concat.left, prefix(concat.right, offset - concat.left.length));
+	}
+
+	/**
+	 * Returns the node of the text from the given offset (inclusive) to the end
+	 * and null if the text is empty.
+	 */
+	private static Node suffix(Node node, int offset) {
+		if (offset == node.length) {
+			return null;
+		}
+		if (offset == 0) {
+			return node;
+		}
+		if (node instanceof Leaf) {
+			return new Leaf(((Leaf) node).text.substring(offset));
+		}
+		Concat concat = (Concat) node;
+		if (offset >= concat.left.length) {
+			return suffix(concat.right, offset - concat.left.length);
+		}
+		return concat(suffix(concat.left, offset), concat.right);
+	}
+
+	/**
+	 * Returns the balanced concatenation of the given nodes.
+	 */
+	private static Node concat(Node left, Node right) {
+		if (left == null || left.length == 0) {
+			return right != null ? right : EMPTY.root;
+		}
+		if (right == null || right.length == 0) {
+			return left;
+		}
+		if (left.height > right.height + 1) {
+			Concat concat = (Concat) left;
+			return balance(concat.left, concat(concat.right, right));
+		}
+		if (right.height > left.height + 1) {
+			Concat concat = (Concat) right;
+			return balance(concat(left, concat.left), concat.right);
+		}
+		if (left instanceof Leaf && right instanceof Leaf && left.length + right.length <= MAX_LEAF_LENGTH) {
+			// merge small chunks
+			return new Leaf(((Leaf) left).text + ((Leaf) right).text);
+		}
+		return new Concat(left, right);
+	}
+
+	/**
+	 * Returns the concatenation of the given nodes whose height differs at most of
+	 * 2, with a rotation if needed.
+	 */
+	private static Node balance(Node left, Node right) {
+		if (left.height > right.height + 1) {
+			Concat concat = (Concat) left;
+			if (concat.left.height >= concat.right.height) {
+				return new Concat(concat.left, new Concat(concat.right, right));
+			}
+			Concat middle = (Concat) concat.right;
+			return new Concat(new Concat(concat.left, middle.left), new Concat(middle.right, right));
+		}
+		if (right.height > left.height + 1) {
+			Concat concat = (Concat) right;
+			if (concat.right.height >= concat.left.height) {
+				return new Concat(new Concat(left, concat.left), concat.right);
+			}
+			Concat middle = (Concat) concat.left;
+			return new Concat(new Concat(left, middle.left), new Concat(middle.right, concat.right));
+		}
+		return new Concat(left, right);
+	}
+}
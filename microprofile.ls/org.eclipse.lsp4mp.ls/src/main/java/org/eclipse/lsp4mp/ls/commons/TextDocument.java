@@ -14,6 +14,7 @@
 package org.eclipse.lsp4mp.ls.commons;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -40,6 +41,10 @@ public class TextDocument extends TextDocumentItem {
 
 	private boolean incremental;
 
+	// the text of the document: a String or a Rope when the document has been
+	// updated with incremental changes
+	private volatile CharSequence content;
+
 	public TextDocument(TextDocumentItem document) {
 		this(document.getText(), document.getUri());
 		super.setVersion(document.getVersion());
@@ -48,7 +53,73 @@ public class TextDocument extends TextDocumentItem {
 
 	public TextDocument(String text, String uri) {
 		super.setUri(uri);
-		super.setText(text);
+		this.content = text;
+	}
+
+	/**
+	 * Returns the text of the document.
+	 *
+	 * <p>
+	 * When the document has been updated with incremental changes, the text is
+	 * materialized on the first call. Use {@link #getContent()} to read parts of
+	 * the text without materializing it.
+	 * </p>
+	 *
+	 * @return the text of the document.
+	 */
+	@Override
+	public String getText() {
+		CharSequence content = this.content;
+		return content != null ? content.toString() : null;
+	}
+
+	@Override
+	public void setText(String text) {
+		this.content = text;
+	}
+
+	/**
+	 * Returns the text content of the document which can be read without
+	 * materializing the whole text as a {@link String}.
+	 *
+	 * @return the text content of the document.
+	 */
+	public CharSequence getContent() {
+		return content;
+	}
+
+	/**
+	 * Set the text content of the document updated with incremental changes.
+	 *
+	 * @param content the text content.
+	 */
+	protected void setContent(Rope content) {
+		this.content = content;
+	}
+
+	// The text field inherited from TextDocumentItem is not updated (the text is
+	// stored in content), equals, hashCode and toString must use getText().
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		TextDocument other = (TextDocument) obj;
+		return Objects.equals(getUri(), other.getUri()) && Objects.equals(getLanguageId(), other.getLanguageId())
+				&& getVersion() == other.getVersion() && Objects.equals(getText(), other.getText());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(getUri(), getLanguageId(), getVersion(), getText());
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [uri=" + getUri() + ", languageId=" + getLanguageId() + ", version="
+				+ getVersion() + ", text=" + getText() + "]";
 	}
 
 	public void setIncremental(boolean incremental) {
@@ -82,8 +153,7 @@ public class TextDocument extends TextDocumentItem {
 	public String lineText(int lineNumber) throws BadLocationException {
 		ILineTracker lineTracker = getLineTracker();
 		Line line = lineTracker.getLineInformation(lineNumber);
-		String text = super.getText();
-		return text.substring(line.offset, line.offset + line.length);
+		return getContent().subSequence(line.offset, line.offset + line.length).toString();
 	}
 
 	public String lineDelimiter(int lineNumber) throws BadLocationException {
@@ -105,8 +175,7 @@ public class TextDocument extends TextDocumentItem {
 			Position pos = positionAt(textOffset);
 			ILineTracker lineTracker = getLineTracker();
 			Line line = lineTracker.getLineInformation(pos.getLine());
-			String text = super.getText();
-			String lineText = text.substring(line.offset, textOffset);
+			String lineText = getContent().subSequence(line.offset, textOffset).toString();
 			int position = lineText.length();
 			Matcher m = wordDefinition.matcher(lineText);
 			int currentPosition = 0;
@@ -139,7 +208,7 @@ public class TextDocument extends TextDocumentItem {
 			return lineTracker;
 		}
 		ILineTracker lineTracker = isIncremental() ? new TreeLineTracker(new ListLineTracker()) : new ListLineTracker();
-		lineTracker.set(super.getText());
+		lineTracker.set(getText());
 		return lineTracker;
 	}
 
@@ -158,8 +227,8 @@ public class TextDocument extends TextDocumentItem {
 			try {
 				long start = System.currentTimeMillis();
 				synchronized (lock) {
-					// Initialize buffer and line tracker from the current text document
-					StringBuilder buffer = new StringBuilder(getText());
+					// Initialize buffer from the current text document
+					Rope buffer = Rope.of(getContent());
 
 					// Loop for each changes and update the buffer
 					for (int i = 0; i < changes.size(); i++) {
@@ -177,11 +246,13 @@ public class TextDocument extends TextDocumentItem {
 						}
 						String text = changeEvent.getText();
 						int startOffset = offsetAt(range.getStart());
-						buffer.replace(startOffset, startOffset + length, text);
+						buffer = buffer.replace(startOffset, startOffset + length, text);
 						lineTracker.replace(startOffset, length, text);
+						textReplaced(startOffset, length, text);
 					}
-					// Update the new text content from the updated buffer
-					setText(buffer.toString());
+					// Update the new text content from the updated buffer, the text is
+					// materialized only when it is required
+					setContent(buffer);
 				}
 				LOGGER.fine("Text document content updated in " + (System.currentTimeMillis() - start) + "ms");
 			} catch (BadLocationException e) {
@@ -199,4 +270,16 @@ public class TextDocument extends TextDocumentItem {
 		}
 	}
 
+	/**
+	 * Called for each change applied by {@link #update(List)} in incremental mode,
+	 * before the document text is updated.
+	 *
+	 * @param startOffset the start offset of the replaced text.
+	 * @param length      the length of the replaced text.
+	 * @param text        the new text.
+	 */
+	protected void textReplaced(int startOffset, int length, String text) {
+		// Do nothing
+	}
+
 }
@@ -371,10 +371,22 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	 * @param projectURIs list of project URIs filter and null otherwise.
 	 */
 	private void triggerValidationForAll(Set<String> projectURIs) {
+		triggerValidationForAll(projectURIs, null);
+	}
+
+	/**
+	 * Validate all opened Java files which belong to a MicroProfile project.
+	 *
+	 * @param projectURIs         list of project URIs filter and null otherwise.
+	 * @param changedPropertyKeys the names (without profile) of the properties
+	 *                            which have been changed in the config files and
+	 *                            null if the changes are unknown.
+	 */
+	private void triggerValidationForAll(Set<String> projectURIs, Set<String> changedPropertyKeys) {
 		triggerValidationFor(documents.all().stream() //
 				.filter(document -> projectURIs == null || projectURIs.contains(document.getProjectURI())) //
 				.map(TextDocument::getUri) //
-				.collect(Collectors.toList()));
+				.collect(Collectors.toList()), changedPropertyKeys);
 	}
 
 	/**
@@ -383,6 +395,23 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	 * @param uris Java files uris to validate.
 	 */
 	private void triggerValidationFor(List<String> uris) {
+		triggerValidationFor(uris, null);
+	}
+
+	/**
+	 * Validate the given Java files uris.
+	 *
+	 * <p>
+	 * When the changed properties are known, the Java files which don't reference
+	 * them are not validated and their diagnostics are kept.
+	 * </p>
+	 *
+	 * @param uris                Java files uris to validate.
+	 * @param changedPropertyKeys the names (without profile) of the properties
+	 *                            which have been changed in the config files and
+	 *                            null if the changes are unknown.
+	 */
+	private void triggerValidationFor(List<String> uris, Set<String> changedPropertyKeys) {
 		if (uris.isEmpty()) {
 			return;
 		}
@@ -394,6 +423,7 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 		MicroProfileJavaDiagnosticsParams javaParams = new MicroProfileJavaDiagnosticsParams(uris,
 				new MicroProfileJavaDiagnosticsSettings(excludedUnassignedProperties, validationValueSeverity,
 						executionMode));
+		javaParams.setChangedPropertyKeys(changedPropertyKeys);
 		boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
 		if (markdownSupported) {
 			javaParams.setDocumentFormat(DocumentFormat.Markdown);
@@ -411,11 +441,27 @@ public class JavaFileTextDocumentService extends AbstractTextDocumentService {
 	}
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
-		if (documents.propertiesChanged(event) || MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
-			// Classpath changed or some properties config files (ex :
-			// microprofile-config.properties) has been
-			// saved, revalidate all opened java files.
+		propertiesChanged(event, null);
+	}
+
+	/**
+	 * Revalidate the opened Java files when the classpath or some config files
+	 * have changed.
+	 *
+	 * @param event               the properties change event.
+	 * @param changedPropertyKeys the names (without profile) of the properties
+	 *                            which have been changed in the saved config files
+	 *                            and null if the changes are unknown.
+	 */
+	public void propertiesChanged(MicroProfilePropertiesChangeEvent event, Set<String> changedPropertyKeys) {
+		if (documents.propertiesChanged(event)) {
+			// Classpath changed, revalidate all opened java files.
 			triggerValidationForAll(null);
+		} else if (MicroProfilePropertiesScope.isOnlyConfigFiles(event.getType())) {
+			// some properties config files (ex : microprofile-config.properties) has been
+			// saved, revalidate the opened java files which reference the changed
+			// properties.
+			triggerValidationForAll(null, changedPropertyKeys);
 		}
 	}
 
@@ -13,13 +13,30 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.ls.properties;
 
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -28,8 +45,14 @@ import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.ItemBase;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.metadata.ValueHint;
+import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
 import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
 import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo.ClasspathChanges;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
 
 /**
@@ -42,15 +65,156 @@ class MicroProfileProjectInfoCache {
 
 	private static final Logger LOGGER = Logger.getLogger(MicroProfileProjectInfoCache.class.getName());
 
+	// Estimated sizes (in bytes) used to compute the heap size of the cache
+	private static final long REFERENCE_SIZE = 8;
+	private static final long OBJECT_SIZE = 64;
+	private static final long STRING_SIZE = 40;
+
+	private static final int MAX_WARM_UP_THREADS = 2;
+
+	private static final int MAX_PENDING_WARM_UPS = 16;
+
+	private static final AtomicInteger WARM_UP_THREAD_COUNTER = new AtomicInteger();
+
+	/**
+	 * Bounded executor which warms up the project runtimes, so that the warm-ups
+	 * don't occupy the common pool. A warm-up which cannot be queued is skipped and
+	 * the first validation pays for it.
+	 */
+	private static final ThreadPoolExecutor WARM_UP_EXECUTOR;
+
+	static {
+		WARM_UP_EXECUTOR = new ThreadPoolExecutor(MAX_WARM_UP_THREADS, MAX_WARM_UP_THREADS, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(MAX_PENDING_WARM_UPS), r -> {
+					Thread t = new Thread(r, "MicroProfile-WarmUp-" + WARM_UP_THREAD_COUNTER.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}, (r, executor) -> LOGGER.log(Level.FINE, "Too many pending warm-ups, the warm-up is skipped"));
+		WARM_UP_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+
+	// Build files of the nested modules of a project
+	private static final String[] BUILD_FILES = { "pom.xml", "build.gradle", "build.gradle.kts" };
+
 	private final Map<String /* application.properties URI */, CompletableFuture<MicroProfileProjectInfo>> cache;
+	private final Map<String /* project URI */, CompletableFuture<MicroProfileProjectInfo>> projects;
+	private final Map<ExtendedMicroProfileProjectInfo, CompletableFuture<MicroProfileProjectInfo>> sourcesReloads;
 	private final Map<String /* project URI */, MicroProfileProjectRuntime> projectRuntimes;
 
+	private final Map<String /* application.properties URI + scopes */, ProjectInfoBase> bases;
+
 	private final MicroProfileProjectInfoProvider provider;
 
+	private final Predicate<String> isOpened;
+
+	private final Map<String /* application.properties URI */, Long> lastAccesses;
+
+	private final AtomicLong accessCounter;
+
+	private volatile long maxMemory;
+
+	private volatile ExecutionMode executionMode = ExecutionMode.SAFE;
+
+	/**
+	 * The last properties and hints returned in compact mode by the JDT LS
+	 * extension for an application.properties URI and a search scope, used to
+	 * apply the next delta.
+	 */
+	private static class ProjectInfoBase {
+
+		private final String version;
+
+		private final List<ItemMetadata> properties;
+
+		private final List<ItemHint> hints;
+
+		public ProjectInfoBase(String version, List<ItemMetadata> properties, List<ItemHint> hints) {
+			this.version = version;
+			this.properties = properties;
+			this.hints = hints;
+		}
+	}
+
+	/**
+	 * The config files which share a cached project info.
+	 */
+	private static class CacheEntry {
+
+		private final CompletableFuture<MicroProfileProjectInfo> projectInfo;
+
+		private final ExtendedMicroProfileProjectInfo info;
+
+		private final List<String> uris;
+
+		private boolean opened;
+
+		private long lastAccess;
+
+		/**
+		 * Estimated heap size of the project info, without the binary items shared
+		 * with other project info
+		 */
+		private long size;
+
+		public CacheEntry(CompletableFuture<MicroProfileProjectInfo> projectInfo,
+				ExtendedMicroProfileProjectInfo info) {
+			this.projectInfo = projectInfo;
+			this.info = info;
+			this.uris = new ArrayList<>();
+		}
+
+		public boolean isOpened() {
+			return opened;
+		}
+
+		public long getLastAccess() {
+			return lastAccess;
+		}
+	}
+
 	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider) {
+		this(provider, uri -> false);
+	}
+
+	/**
+	 * MicroProfile project information cache constructor.
+	 *
+	 * @param provider the project information provider.
+	 * @param isOpened returns true if the given config file URI is opened in an
+	 *                 editor and false otherwise.
+	 */
+	public MicroProfileProjectInfoCache(MicroProfileProjectInfoProvider provider, Predicate<String> isOpened) {
 		this.provider = provider;
+		this.isOpened = isOpened;
 		this.cache = new ConcurrentHashMap<>();
+		this.projects = new ConcurrentHashMap<>();
 		this.projectRuntimes = new ConcurrentHashMap<>();
+		this.bases = new ConcurrentHashMap<>();
+		this.sourcesReloads = new ConcurrentHashMap<>();
+		this.lastAccesses = new ConcurrentHashMap<>();
+		this.accessCounter = new AtomicLong();
+	}
+
+	/**
+	 * Set the estimated heap size (in bytes) which can be used by the cached
+	 * project information and 0 if there is no limit.
+	 *
+	 * @param maxMemory the estimated heap size (in bytes) which can be used by the
+	 *                  cached project information and 0 if there is no limit.
+	 */
+	public void setMaxMemory(long maxMemory) {
+		this.maxMemory = maxMemory;
+		evictIfNeeded();
+	}
+
+	/**
+	 * Set the execution mode used to warm up the runtime of the loaded projects.
+	 *
+	 * @param executionMode the execution mode used to validate the property
+	 *                      values.
+	 */
+	public void setExecutionMode(ExecutionMode executionMode) {
+		this.executionMode = executionMode;
 	}
 
 	/**
@@ -71,28 +235,81 @@ class MicroProfileProjectInfoCache {
 	}
 
 	CompletableFuture<MicroProfileProjectInfo> getProjectInfoFromCache(MicroProfileProjectInfoParams params) {
-		// Search future which load project info in cache
-		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(params.getUri());
-		if (projectInfo == null || projectInfo.isCancelled() || projectInfo.isCompletedExceptionally()) {
-			// not found in the cache, load the project info from the JDT LS Extension
+		// Search future which load project info in cache, or share the project info
+		// of another config file of the same project, or load the project info from the
+		// JDT LS Extension. The whole is atomic to load the project info only once.
+		lastAccesses.put(params.getUri(), accessCounter.incrementAndGet());
+		boolean[] loading = new boolean[1];
+		CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.compute(params.getUri(), (uri, cached) -> {
+			if (isValid(cached)) {
+				return cached;
+			}
+			CompletableFuture<MicroProfileProjectInfo> shared = findProjectInfoOfSameProject(uri);
+			if (shared != null) {
+				return shared;
+			}
 			params.setScopes(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
-			CompletableFuture<MicroProfileProjectInfo> future = provider.getProjectInfo(params). //
+			loading[0] = true;
+			return loadProjectInfo(params). //
 					thenApply(info -> new ExtendedMicroProfileProjectInfo(info, getOrCreateProjectRuntime(info)));
-			// cache the future.
-			cache.put(params.getUri(), future);
-			return future;
+		});
+		if (loading[0]) {
+			// the loaded project info is shared by the config files of the project and can
+			// exceed the memory budget
+			projectInfo.thenRun(() -> {
+				projectLoaded(projectInfo);
+				evictIfNeeded();
+			});
 		}
-		if (!projectInfo.isDone()) {
+		if (!projectInfo.isDone() || projectInfo.isCompletedExceptionally()) {
 			return projectInfo;
 		}
 
 		ExtendedMicroProfileProjectInfo wrapper = getProjectInfoWrapper(projectInfo);
+		ClasspathChanges classpathChanges = wrapper.takeClasspathChanges();
+		if (classpathChanges != null) {
+			// Some JARs have been added / removed from the classpath, get the
+			// MicroProfile properties of those JARs only.
+			return getDependenciesProjectInfo(params, classpathChanges.getAddedEntries()) //
+					.thenCombine(getDependenciesProjectInfo(params, classpathChanges.getRemovedEntries()),
+							(added, removed) -> wrapper.updateDependenciesProperties(added, removed,
+									classpathChanges.getRemovedEntries())) //
+					.handle((updated, ex) -> {
+						if (ex != null) {
+							LOGGER.log(Level.WARNING, String.format(
+									"Error while getting MicroProfileProjectInfo (dependencies) for '%s'",
+									params.getUri()), ex);
+						}
+						if (ex != null || !updated) {
+							// load the properties of the whole classpath
+							evict(projectInfo);
+						}
+						return null;
+					}) //
+					.thenCompose(unused -> getProjectInfoFromCache(params));
+		}
 		if (wrapper.isReloadFromSource()) {
 			// There are some java sources changed, get the MicroProfile properties from
 			// java
-			// sources.
-			params.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
-			return provider.getProjectInfo(params). //
+			// sources. The config files of the project share the same reload.
+			CompletableFuture<MicroProfileProjectInfo> reload = new CompletableFuture<>();
+			CompletableFuture<MicroProfileProjectInfo> pendingReload = sourcesReloads.putIfAbsent(wrapper, reload);
+			if (pendingReload != null) {
+				return pendingReload;
+			}
+			Set<String> javaFileURIs = wrapper.getChangedJavaFileURIs();
+			MicroProfileProjectInfoParams sourcesParams = params;
+			if (javaFileURIs != null) {
+				// get only the MicroProfile properties of the changed Java files
+				sourcesParams = new MicroProfileProjectInfoParams(params.getUri());
+				sourcesParams.setDocumentFormat(params.getDocumentFormat());
+				sourcesParams.setJavaFileURIs(javaFileURIs);
+			}
+			sourcesParams.setScopes(MicroProfilePropertiesScope.ONLY_SOURCES);
+			CompletableFuture<MicroProfileProjectInfo> sourcesInfo = javaFileURIs != null
+					? provider.getProjectInfo(sourcesParams)
+					: loadProjectInfo(sourcesParams);
+			sourcesInfo. //
 					exceptionally(ex -> {
 						LOGGER.log(Level.WARNING, String.format(
 								"Error while getting MicroProfileProjectInfo (sources) for '%s'", params.getUri()), ex);
@@ -101,18 +318,414 @@ class MicroProfileProjectInfoCache {
 					.thenApply(info ->
 					// then update the cache with the new properties
 					{
-						wrapper.updateSourcesProperties(info.getProperties(), info.getHints());
-						return wrapper;
+						wrapper.updateSourcesProperties(info.getProperties(), info.getHints(), info.getSourceTypes());
+						return (MicroProfileProjectInfo) wrapper;
+					}) //
+					.whenComplete((info, ex) -> {
+						sourcesReloads.remove(wrapper, reload);
+						if (ex != null) {
+							reload.completeExceptionally(ex);
+						} else {
+							reload.complete(info);
+						}
 					});
+			return reload;
 		}
 
 		// Returns the cached project info
 		return projectInfo;
 	}
 
+	/**
+	 * Returns as promise the MicroProfile properties contributed by the given JARs.
+	 *
+	 * @param params           the URI of the application.properties.
+	 * @param classpathEntries the paths of the JARs.
+	 * @return as promise the MicroProfile properties contributed by the given JARs.
+	 */
+	private CompletableFuture<MicroProfileProjectInfo> getDependenciesProjectInfo(
+			MicroProfileProjectInfoParams params, Set<String> classpathEntries) {
+		if (classpathEntries.isEmpty()) {
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProperties(Collections.emptyList());
+			info.setHints(Collections.emptyList());
+			return CompletableFuture.completedFuture(info);
+		}
+		MicroProfileProjectInfoParams dependenciesParams = new MicroProfileProjectInfoParams(params.getUri());
+		dependenciesParams.setScopes(Collections.singletonList(MicroProfilePropertiesScope.dependencies));
+		dependenciesParams.setDocumentFormat(params.getDocumentFormat());
+		dependenciesParams.setClasspathEntries(classpathEntries);
+		return provider.getProjectInfo(dependenciesParams);
+	}
+
+	/**
+	 * Returns as promise the MicroProfile project information for the given
+	 * params loaded in compact mode.
+	 *
+	 * <p>
+	 * When the properties have already been loaded for the same
+	 * application.properties URI and search scope, the JDT LS extension returns
+	 * only the properties and hints which have been added and removed since the
+	 * last load.
+	 * </p>
+	 *
+	 * @param params the URI of the application.properties and the search scope.
+	 * @return as promise the MicroProfile project information for the given
+	 *         params loaded in compact mode.
+	 */
+	private CompletableFuture<MicroProfileProjectInfo> loadProjectInfo(MicroProfileProjectInfoParams params) {
+		String key = params.getUri() + '|' + params.getScopes();
+		ProjectInfoBase base = bases.get(key);
+		params.setCompact(true);
+		params.setVersion(base != null ? base.version : null);
+		return provider.getProjectInfo(params) //
+				.thenCompose(info -> {
+					if (info.getVersion() == null) {
+						// The project information has been returned in the default mode (ex : old JDT
+						// LS extension)
+						bases.remove(key);
+						return CompletableFuture.completedFuture(info);
+					}
+					if (info.getBaseVersion() != null
+							&& (base == null || !base.version.equals(info.getBaseVersion()))) {
+						// The delta doesn't match the base, load the whole project information
+						bases.remove(key);
+						return loadProjectInfo(params);
+					}
+					return CompletableFuture.completedFuture(expandProjectInfo(key, base, info));
+				});
+	}
+
+	/**
+	 * Replace the compact properties and the delta of the given project
+	 * information with the whole list of properties and hints.
+	 */
+	private MicroProfileProjectInfo expandProjectInfo(String key, ProjectInfoBase base,
+			MicroProfileProjectInfo info) {
+		List<ItemMetadata> properties = info.getCompactProperties() != null ? info.getCompactProperties().decode()
+				: info.getProperties();
+		List<ItemHint> hints = info.getHints();
+		if (properties == null) {
+			properties = Collections.emptyList();
+		}
+		if (hints == null) {
+			hints = Collections.emptyList();
+		}
+		if (info.getBaseVersion() != null) {
+			properties = applyDelta(base.properties, info.getRemovedProperties(), properties);
+			hints = applyDelta(base.hints, info.getRemovedHints(), hints);
+		}
+		bases.put(key, new ProjectInfoBase(info.getVersion(), properties, hints));
+		// The project information wrapper updates the lists, copy them
+		info.setProperties(new ArrayList<>(properties));
+		info.setHints(new ArrayList<>(hints));
+		info.setCompactProperties(null);
+		info.setBaseVersion(null);
+		info.setRemovedProperties(null);
+		info.setRemovedHints(null);
+		return info;
+	}
+
+	/**
+	 * Returns the items of the given base without the items at the given removed
+	 * indexes, followed by the given added items.
+	 *
+	 * @param base    the base items.
+	 * @param removed the sorted indexes of the removed base items.
+	 * @param added   the added items.
+	 * @return the items of the given base without the items at the given removed
+	 *         indexes, followed by the given added items.
+	 */
+	static <T> List<T> applyDelta(List<T> base, List<Integer> removed, List<T> added) {
+		Set<Integer> removedIndexes = removed != null ? new HashSet<>(removed) : Collections.emptySet();
+		List<T> result = new ArrayList<>(base.size() - removedIndexes.size() + added.size());
+		for (int i = 0; i < base.size(); i++) {
+			if (!removedIndexes.contains(i)) {
+				result.add(base.get(i));
+			}
+		}
+		result.addAll(added);
+		return result;
+	}
+
+	/**
+	 * Returns the project info (loaded or being loaded) of another config file of
+	 * the same project as the given config file URI and null otherwise.
+	 *
+	 * <p>
+	 * A config file belongs to the same project as another config file stored in
+	 * the same folder (ex : application.properties and
+	 * application-dev.properties), or to a loaded project when it is stored in the
+	 * folder of the project and not in a nested module (ex :
+	 * config/application.properties and
+	 * src/main/resources/META-INF/microprofile-config.properties).
+	 * </p>
+	 *
+	 * @param uri the config file URI.
+	 * @return the project info of another config file of the same project as the
+	 *         given config file URI and null otherwise.
+	 */
+	private CompletableFuture<MicroProfileProjectInfo> findProjectInfoOfSameProject(String uri) {
+		String folder = getFolder(uri);
+		for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : cache.entrySet()) {
+			if (isValid(entry.getValue()) && folder.equals(getFolder(entry.getKey()))) {
+				return entry.getValue();
+			}
+		}
+		// the project info of the deepest loaded project which contains the config file
+		String path = toPath(uri);
+		String sharedProjectURI = null;
+		CompletableFuture<MicroProfileProjectInfo> shared = null;
+		for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> entry : projects.entrySet()) {
+			String projectURI = entry.getKey();
+			if (isValid(entry.getValue()) && isInProject(path, projectURI)
+					&& (sharedProjectURI == null || projectURI.length() > sharedProjectURI.length())) {
+				sharedProjectURI = projectURI;
+				shared = entry.getValue();
+			}
+		}
+		return shared;
+	}
+
+	/**
+	 * Key the given loaded project info by its project URI, to share it with the
+	 * config files of the project stored in other folders. When the project info of
+	 * the same project has been loaded for another config file in the same time,
+	 * the config files of the given project info share the other project info.
+	 *
+	 * @param projectInfo the loaded project info.
+	 */
+	private void projectLoaded(CompletableFuture<MicroProfileProjectInfo> projectInfo) {
+		ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(projectInfo);
+		if (info == null || info.getProjectURI() == null || !cache.containsValue(projectInfo)) {
+			// failed or evicted
+			return;
+		}
+		CompletableFuture<MicroProfileProjectInfo> shared = projects.compute(info.getProjectURI(),
+				(projectURI, loaded) -> isValid(loaded) && cache.containsValue(loaded) ? loaded : projectInfo);
+		if (shared != projectInfo) {
+			cache.replaceAll((uri, cached) -> cached == projectInfo ? shared : cached);
+		}
+	}
+
+	private static boolean isValid(CompletableFuture<MicroProfileProjectInfo> projectInfo) {
+		return projectInfo != null && !projectInfo.isCancelled() && !projectInfo.isCompletedExceptionally();
+	}
+
+	private static String getFolder(String uri) {
+		int index = uri.lastIndexOf('/');
+		return index != -1 ? uri.substring(0, index) : "";
+	}
+
+	private static String toPath(String uri) {
+		try {
+			return Paths.get(new URI(uri)).toString();
+		} catch (Exception e) {
+			// not a file URI
+			return uri;
+		}
+	}
+
+	private static boolean isInProject(String path, String projectURI) {
+		if (projectURI.isEmpty()
+				|| !(path.startsWith(projectURI + File.separator) || path.startsWith(projectURI + '/'))) {
+			return false;
+		}
+		try {
+			// a config file of a nested module doesn't belong to the project
+			Path projectFolder = Paths.get(projectURI);
+			Path folder = Paths.get(path).getParent();
+			while (folder != null && !folder.equals(projectFolder)) {
+				for (String buildFile : BUILD_FILES) {
+					if (Files.exists(folder.resolve(buildFile))) {
+						return false;
+					}
+				}
+				folder = folder.getParent();
+			}
+		} catch (Exception e) {
+			// not a file path
+		}
+		return true;
+	}
+
+	/**
+	 * Evict the given project info for all the config files which share it.
+	 *
+	 * @param projectInfo the project info to evict.
+	 */
+	private void evict(CompletableFuture<MicroProfileProjectInfo> projectInfo) {
+		cache.values().removeIf(cached -> cached == projectInfo);
+		projects.values().removeIf(shared -> shared == projectInfo);
+	}
+
+	/**
+	 * Evict the least recently used project information while the estimated heap
+	 * size of the cached project information exceeds the memory budget. The
+	 * project information of config files which are not opened are evicted first,
+	 * and the class loader of the evicted projects is closed. An evicted project
+	 * information is loaded again on the next access.
+	 */
+	private synchronized void evictIfNeeded() {
+		long maxMemory = this.maxMemory;
+		if (maxMemory <= 0) {
+			return;
+		}
+		// the config files of a project share the same project info
+		Map<CompletableFuture<MicroProfileProjectInfo>, CacheEntry> entries = new IdentityHashMap<>();
+		for (Map.Entry<String, CompletableFuture<MicroProfileProjectInfo>> cached : cache.entrySet()) {
+			CompletableFuture<MicroProfileProjectInfo> projectInfo = cached.getValue();
+			ExtendedMicroProfileProjectInfo info = isValid(projectInfo) ? getProjectInfoWrapper(projectInfo) : null;
+			if (info == null) {
+				// loading
+				continue;
+			}
+			String uri = cached.getKey();
+			CacheEntry entry = entries.computeIfAbsent(projectInfo, f -> new CacheEntry(f, info));
+			entry.uris.add(uri);
+			entry.opened |= isOpened.test(uri);
+			entry.lastAccess = Math.max(entry.lastAccess, lastAccesses.getOrDefault(uri, 0L));
+		}
+		List<CacheEntry> lru = new ArrayList<>(entries.values());
+		lru.sort(Comparator.comparing(CacheEntry::isOpened).thenComparingLong(CacheEntry::getLastAccess));
+		// the size of each project info is estimated once and the binary items shared
+		// by several project info are counted once, until the last project info which
+		// uses them is evicted
+		Map<ItemBase, long[]> sharedItems = new IdentityHashMap<>();
+		long size = 0;
+		for (CacheEntry entry : lru) {
+			entry.size = estimateSize(entry.info.getProperties(), sharedItems)
+					+ estimateSize(entry.info.getHints(), sharedItems);
+			size += entry.size;
+		}
+		for (long[] sharedItem : sharedItems.values()) {
+			size += sharedItem[1];
+		}
+		// the most recently used project info is kept
+		int evicted = 0;
+		while (evicted < lru.size() - 1 && size > maxMemory) {
+			CacheEntry entry = lru.get(evicted++);
+			size -= entry.size + releaseSharedItems(entry.info.getProperties(), sharedItems)
+					+ releaseSharedItems(entry.info.getHints(), sharedItems);
+			evict(entry);
+		}
+	}
+
+	private void evict(CacheEntry entry) {
+		evict(entry.projectInfo);
+		for (String uri : entry.uris) {
+			lastAccesses.remove(uri);
+			bases.keySet().removeIf(key -> key.startsWith(uri + '|'));
+		}
+		// close the class loader of the project if it is not used by another
+		// project info
+		String projectURI = entry.info.getProjectURI();
+		boolean used = cache.values().stream() //
+				.map(projectInfo -> isValid(projectInfo) ? getProjectInfoWrapper(projectInfo) : null) //
+				.anyMatch(info -> info != null && Objects.equals(projectURI, info.getProjectURI()));
+		if (!used && projectURI != null) {
+			MicroProfileProjectRuntime projectRuntime = projectRuntimes.remove(projectURI);
+			if (projectRuntime != null) {
+				projectRuntime.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the estimated heap size (in bytes) of the given items, without the
+	 * properties and hints of the dependencies which can be shared by several
+	 * project information. The shared items are collected in the given map with
+	 * their number of references and their estimated heap size.
+	 */
+	private static long estimateSize(List<? extends ItemBase> items, Map<ItemBase, long[]> sharedItems) {
+		if (items == null) {
+			return 0;
+		}
+		long size = items.size() * REFERENCE_SIZE;
+		for (ItemBase item : items) {
+			if (item == null) {
+				continue;
+			}
+			if (item.isBinary()) {
+				sharedItems.computeIfAbsent(item, i -> new long[] { 0, estimateSize(i) })[0]++;
+			} else {
+				size += estimateSize(item);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Releases the references of the given items to the shared items and returns
+	 * the estimated heap size (in bytes) of the shared items which are not
+	 * referenced anymore.
+	 */
+	private static long releaseSharedItems(List<? extends ItemBase> items, Map<ItemBase, long[]> sharedItems) {
+		if (items == null) {
+			return 0;
+		}
+		long size = 0;
+		for (ItemBase item : items) {
+			long[] sharedItem = item != null && item.isBinary() ? sharedItems.get(item) : null;
+			if (sharedItem != null && --sharedItem[0] == 0) {
+				size += sharedItem[1];
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(ItemBase item) {
+		long size = OBJECT_SIZE + sizeOf(item.getName()) + sizeOf(item.getDescription())
+				+ sizeOf(item.getSourceType());
+		if (item instanceof ItemMetadata) {
+			ItemMetadata metadata = (ItemMetadata) item;
+			size += sizeOf(metadata.getType()) + sizeOf(metadata.getDefaultValue())
+					+ sizeOf(metadata.getSourceField()) + sizeOf(metadata.getSourceMethod())
+					+ sizeOf(metadata.getExtensionName());
+		} else if (item instanceof ItemHint && ((ItemHint) item).getValues() != null) {
+			for (ValueHint value : ((ItemHint) item).getValues()) {
+				size += OBJECT_SIZE + sizeOf(value.getValue()) + sizeOf(value.getDescription())
+						+ sizeOf(value.getSourceType());
+			}
+		}
+		return size;
+	}
+
+	private static long sizeOf(String value) {
+		return value != null ? STRING_SIZE + 2L * value.length() : 0;
+	}
+
 	private MicroProfileProjectRuntime getOrCreateProjectRuntime(MicroProfileProjectInfo info) {
-		return projectRuntimes.computeIfAbsent(info.getProjectURI(), f -> new MicroProfileProjectRuntime(
-				info.getClasspath() != null ? info.getClasspath() : Collections.emptySet()));
+		boolean[] created = new boolean[1];
+		MicroProfileProjectRuntime projectRuntime = projectRuntimes.computeIfAbsent(info.getProjectURI(), f -> {
+			created[0] = true;
+			return new MicroProfileProjectRuntime(
+					info.getClasspath() != null ? info.getClasspath() : Collections.emptySet());
+		});
+		if (created[0]) {
+			warmUp(info, projectRuntime);
+		}
+		return projectRuntime;
+	}
+
+	/**
+	 * Warms up in background the converter runtime of the given project runtime
+	 * with the types of the project properties, to avoid paying the MicroProfile
+	 * Config bootstrap and the converters loading on the first validation. The
+	 * warm-up stops if the project runtime is closed.
+	 */
+	private void warmUp(MicroProfileProjectInfo info, MicroProfileProjectRuntime projectRuntime) {
+		if (info.getProperties() == null) {
+			return;
+		}
+		String projectURI = info.getProjectURI();
+		ExecutionMode mode = executionMode;
+		Set<String> types = info.getProperties().stream() //
+				.map(ItemMetadata::getType) //
+				.filter(Objects::nonNull) //
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+		WARM_UP_EXECUTOR.execute(() -> projectRuntime.warmUp(types, info, mode,
+				() -> projectRuntimes.get(projectURI) != projectRuntime));
 	}
 
 	private static ExtendedMicroProfileProjectInfo getProjectInfoWrapper(
@@ -131,28 +744,46 @@ class MicroProfileProjectInfoCache {
 		if (changedOnlyInSources) {
 			// Some Java sources files has been saved, evict the cache for item metadata
 			// (properties) computed from Java source files only.
-			return javaSourceChanged(event.getProjectURIs());
+			return javaSourceChanged(event.getProjectURIs(), event.getJavaFileURIs());
 		}
-		// Classpath changed (ex : add, remove maven/gradle dependencies) evict the full
-		// cache.
-		return classpathChanged(event.getProjectURIs());
+		// Classpath changed (ex : add, remove maven/gradle dependencies)
+		return classpathChanged(event);
 	}
 
-	private Collection<String> classpathChanged(Set<String> projectURIs) {
+	private Collection<String> classpathChanged(MicroProfilePropertiesChangeEvent event) {
+		Set<String> projectURIs = event.getProjectURIs();
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		applicationPropertiesURIs.forEach(cache::remove);
+		Set<String> addedEntries = event.getAddedClasspathEntries();
+		Set<String> removedEntries = event.getRemovedClasspathEntries();
+		// the config files of a project share the same project info
+		Set<CompletableFuture<MicroProfileProjectInfo>> projectInfos = Collections
+				.newSetFromMap(new IdentityHashMap<>());
+		for (String uri : applicationPropertiesURIs) {
+			CompletableFuture<MicroProfileProjectInfo> projectInfo = cache.get(uri);
+			if (projectInfo == null || !projectInfos.add(projectInfo)) {
+				continue;
+			}
+			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(projectInfo);
+			if (info != null && addedEntries != null && removedEntries != null) {
+				// Only some JARs have been added / removed, update the cache with the
+				// properties of those JARs when the project info will be required.
+				info.classpathChanged(addedEntries, removedEntries);
+			} else {
+				// evict the full cache.
+				evict(projectInfo);
+			}
+		}
 		updateProjectRuntimes(projectURIs);
 		return applicationPropertiesURIs;
 	}
 
-	private Collection<String> javaSourceChanged(Set<String> projectURIs) {
+	private Collection<String> javaSourceChanged(Set<String> projectURIs, Set<String> javaFileURIs) {
 		List<String> applicationPropertiesURIs = getApplicationPropertiesURIs(projectURIs);
-		for (String uri : applicationPropertiesURIs) {
-			ExtendedMicroProfileProjectInfo info = getProjectInfoWrapper(cache.get(uri));
-			if (info != null) {
-				info.clearPropertiesFromSource();
-			}
-		}
+		applicationPropertiesURIs.stream() //
+				.map(uri -> getProjectInfoWrapper(cache.get(uri))) //
+				.filter(info -> info != null) //
+				.distinct() //
+				.forEach(info -> info.clearPropertiesFromSource(javaFileURIs));
 		updateProjectRuntimes(projectURIs);
 		return applicationPropertiesURIs;
 	}
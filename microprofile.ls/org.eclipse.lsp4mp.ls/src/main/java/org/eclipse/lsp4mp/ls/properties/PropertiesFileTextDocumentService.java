@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -85,12 +86,14 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	private final ValidatorDelayer<ModelTextDocument<PropertiesModel>> validatorDelayer;
 
+	private final SavedConfigFiles savedConfigFiles = new SavedConfigFiles();
+
 	public PropertiesFileTextDocumentService(MicroProfileLanguageServer microprofileLanguageServer,
 			SharedSettings sharedSettings) {
 		super(microprofileLanguageServer, sharedSettings);
 		this.documents = new ModelTextDocuments<PropertiesModel>((document, cancelChecker) -> {
 			return PropertiesModel.parse(document, cancelChecker);
-		});
+		}, PropertiesModel::parse);
 		this.validatorDelayer = new ValidatorDelayer<ModelTextDocument<PropertiesModel>>((document) -> {
 			triggerValidationFor(document);
 		});
@@ -99,6 +102,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
 		ModelTextDocument<PropertiesModel> document = documents.onDidOpenTextDocument(params);
+		savedConfigFiles.opened(document.getUri(), document.getModel());
 		validate(document, false);
 	}
 
@@ -112,6 +116,7 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 	public void didClose(DidCloseTextDocumentParams params) {
 		documents.onDidCloseTextDocument(params);
 		String uri = params.getTextDocument().getUri();
+		savedConfigFiles.closed(uri);
 		validatorDelayer.cleanPendingValidation(uri);
 		microprofileLanguageServer.getLanguageClient()
 				.publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
@@ -119,7 +124,10 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	@Override
 	public void didSave(DidSaveTextDocumentParams params) {
-
+		ModelTextDocument<PropertiesModel> document = getDocument(params.getTextDocument().getUri());
+		if (document != null) {
+			savedConfigFiles.saved(document.getUri(), document.getModel());
+		}
 	}
 
 	@Override
@@ -137,8 +145,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			// then return completion by using the MicroProfile project information and the
 			// Properties model document
 			CompletionList list = getPropertiesFileLanguageService().doComplete(document, params.getPosition(),
-					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getFormattingSettings(),
-					cancelChecker);
+					projectInfo, sharedSettings.getCompletionCapabilities(), sharedSettings.getCompletionSettings(),
+					sharedSettings.getFormattingSettings(), cancelChecker);
 			return Either.forRight(list);
 		});
 	}
@@ -150,11 +158,12 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 			return CompletableFuture.completedFuture(null);
 		}
 		TextDocumentIdentifier identifier = new TextDocumentIdentifier(uri);
-		return getPropertiesModel(identifier, (document, cancelChecker) -> {
+		return getPropertiesModelCompose(identifier, (document, cancelChecker) -> {
 			MicroProfileProjectInfoParams projectInfoParams = createProjectInfoParams(new TextDocumentIdentifier(uri));
 			MicroProfileProjectInfo projectInfo = getProjectInfoCache().getProjectInfo(projectInfoParams).getNow(null);
-			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, projectInfo,
-					sharedSettings.getCompletionCapabilities(), cancelChecker);
+			return getPropertiesFileLanguageService().resolveCompletionItem(unresolved, projectInfo, uri,
+					sharedSettings.getCompletionCapabilities(), microprofileLanguageServer.getLanguageClient(),
+					cancelChecker);
 		});
 	}
 
@@ -383,6 +392,8 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 
 	public void propertiesChanged(MicroProfilePropertiesChangeEvent event) {
 		Collection<String> uris = getProjectInfoCache().propertiesChanged(event);
+		// the Javadoc of the properties declared in Java files may have changed
+		getPropertiesFileLanguageService().evictDocumentation(uris);
 		for (String uri : uris) {
 			ModelTextDocument<PropertiesModel> document = getDocument(uri);
 			if (document != null) {
@@ -391,6 +402,19 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		}
 	}
 
+	/**
+	 * Returns the names (without profile) of the properties which have been
+	 * added, removed or updated by the config files saved since the last call and
+	 * null if no config file has been saved.
+	 *
+	 * @return the names (without profile) of the properties which have been
+	 *         added, removed or updated by the config files saved since the last
+	 *         call and null if no config file has been saved.
+	 */
+	public Set<String> takeChangedPropertyNames() {
+		return savedConfigFiles.takeChangedPropertyNames();
+	}
+
 	public void updateSymbolSettings(MicroProfileSymbolSettings newSettings) {
 		MicroProfileSymbolSettings symbolSettings = sharedSettings.getSymbolSettings();
 		symbolSettings.setShowAsTree(newSettings.isShowAsTree());
@@ -413,6 +437,26 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		formatting.setSurroundEqualsWithSpaces(newFormatting.isSurroundEqualsWithSpaces());
 	}
 
+	/**
+	 * Updates the memory budget of the project information cache with the cache
+	 * settings configured from the client.
+	 */
+	public void updateCacheSettings() {
+		if (projectInfoCache != null) {
+			projectInfoCache.setMaxMemory(getMaxMemory());
+		}
+	}
+
+	/**
+	 * Updates the execution mode of the project information cache with the
+	 * execution settings configured from the client.
+	 */
+	public void updateExecutionSettings() {
+		if (projectInfoCache != null) {
+			projectInfoCache.setExecutionMode(sharedSettings.getExecutionSettings().getExecutionMode());
+		}
+	}
+
 	public SharedSettings getSharedSettings() {
 		return sharedSettings;
 	}
@@ -428,7 +472,14 @@ public class PropertiesFileTextDocumentService extends AbstractTextDocumentServi
 		if (projectInfoCache != null) {
 			return;
 		}
-		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient());
+		projectInfoCache = new MicroProfileProjectInfoCache(microprofileLanguageServer.getLanguageClient(),
+				uri -> getDocument(uri) != null);
+		projectInfoCache.setMaxMemory(getMaxMemory());
+		projectInfoCache.setExecutionMode(sharedSettings.getExecutionSettings().getExecutionMode());
+	}
+
+	private long getMaxMemory() {
+		return sharedSettings.getCacheSettings().getMaxMemory() * 1024L * 1024L;
 	}
 
 	public CompletableFuture<JsonSchemaForProjectInfo> getJsonSchemaForProjectInfo(
@@ -0,0 +1,129 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.Node.NodeType;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+
+/**
+ * Track the properties of the opened config files as they are saved on the
+ * disk, to know the properties which have been added, removed or updated when
+ * a config file is saved.
+ *
+ */
+class SavedConfigFiles {
+
+	private static class SavedProperty {
+
+		private final String name;
+
+		private final String value;
+
+		public SavedProperty(String name, String value) {
+			this.name = name;
+			this.value = value;
+		}
+	}
+
+	private final Map<String /* config file URI */, Map<String /* property name with profile */, SavedProperty>> savedProperties = new HashMap<>();
+
+	private Set<String> changedPropertyNames;
+
+	/**
+	 * Store the properties of the given opened config file.
+	 *
+	 * @param uri   the config file URI.
+	 * @param model the properties model of the config file.
+	 */
+	public synchronized void opened(String uri, PropertiesModel model) {
+		savedProperties.put(uri, getProperties(model));
+	}
+
+	/**
+	 * Store the properties of the given saved config file and collect the names
+	 * of the properties which have been added, removed or updated since the last
+	 * save.
+	 *
+	 * @param uri   the config file URI.
+	 * @param model the properties model of the config file.
+	 */
+	public synchronized void saved(String uri, PropertiesModel model) {
+		Map<String, SavedProperty> properties = getProperties(model);
+		Map<String, SavedProperty> oldProperties = savedProperties.put(uri, properties);
+		if (oldProperties == null) {
+			oldProperties = new HashMap<>();
+		}
+		if (changedPropertyNames == null) {
+			changedPropertyNames = new HashSet<>();
+		}
+		collectChangedPropertyNames(oldProperties, properties, changedPropertyNames);
+		collectChangedPropertyNames(properties, oldProperties, changedPropertyNames);
+	}
+
+	/**
+	 * Forget the properties of the given closed config file.
+	 *
+	 * @param uri the config file URI.
+	 */
+	public synchronized void closed(String uri) {
+		savedProperties.remove(uri);
+	}
+
+	/**
+	 * Returns the names (without profile) of the properties which have been
+	 * added, removed or updated by the config files saved since the last call and
+	 * null if no config file has been saved.
+	 *
+	 * @return the names (without profile) of the properties which have been
+	 *         added, removed or updated by the config files saved since the last
+	 *         call and null if no config file has been saved.
+	 */
+	public synchronized Set<String> takeChangedPropertyNames() {
+		Set<String> names = changedPropertyNames;
+		changedPropertyNames = null;
+		return names;
+	}
+
+	private static void collectChangedPropertyNames(Map<String, SavedProperty> properties,
+			Map<String, SavedProperty> otherProperties, Set<String> changedPropertyNames) {
+		for (Map.Entry<String, SavedProperty> entry : properties.entrySet()) {
+			SavedProperty otherProperty = otherProperties.get(entry.getKey());
+			if (otherProperty == null || !Objects.equals(entry.getValue().value, otherProperty.value)) {
+				changedPropertyNames.add(entry.getValue().name);
+			}
+		}
+	}
+
+	private static Map<String, SavedProperty> getProperties(PropertiesModel model) {
+		Map<String, SavedProperty> properties = new HashMap<>();
+		for (Node child : model.getChildren()) {
+			if (child.getNodeType() == NodeType.PROPERTY) {
+				Property property = (Property) child;
+				String key = property.getPropertyNameWithProfile();
+				if (key != null) {
+					properties.put(key, new SavedProperty(property.getPropertyName(), property.getPropertyValue()));
+				}
+			}
+		}
+		return properties;
+	}
+}
@@ -28,7 +28,7 @@ import org.eclipse.lsp4mp.ls.commons.TextDocument;
  * @author Angelo ZERR
  *
  */
-public abstract class Node {
+public abstract class Node implements Cloneable {
 
 	private List<Node> children;
 
@@ -140,6 +140,50 @@ public abstract class Node {
 		children.add(node);
 	}
 
+	/**
+	 * Set the children list of the node.
+	 *
+	 * @param children the children list.
+	 */
+	void setChildren(List<Node> children) {
+		this.children = children;
+	}
+
+	/**
+	 * Returns a copy of the node and its children, without parent, whose start/end
+	 * offsets are shifted with the given delta.
+	 *
+	 * <p>
+	 * The node is not modified, so that it can still be used by the model which
+	 * owns it.
+	 * </p>
+	 *
+	 * @param delta the offset delta.
+	 * @return a copy of the node and its children.
+	 */
+	Node copy(int delta) {
+		Node copy;
+		try {
+			copy = (Node) super.clone();
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+		copy.parent = null;
+		if (start != -1) {
+			copy.start += delta;
+		}
+		if (end != -1) {
+			copy.end += delta;
+		}
+		if (children != null) {
+			copy.children = null;
+			for (Node child : children) {
+				copy.addNode(child.copy(delta));
+			}
+		}
+		return copy;
+	}
+
 	/**
 	 * Returns the node type
 	 *
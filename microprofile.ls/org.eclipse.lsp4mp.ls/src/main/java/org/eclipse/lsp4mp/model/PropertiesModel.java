@@ -13,9 +13,13 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.model;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
@@ -68,7 +72,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		public void startProperty(ParseContext context) {
 			this.property = new Property();
 			property.setStart(context.getLocationOffset());
-			model.addNode(property);
+			addNode(property);
 		}
 
 		@Override
@@ -107,7 +111,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		public void startComment(ParseContext context) {
 			this.comment = new Comments();
 			comment.setStart(context.getLocationOffset());
-			model.addNode(comment);
+			addNode(comment);
 		}
 
 		@Override
@@ -157,14 +161,190 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 			List<Node> propFragments = property.getValue().getChildren();
 			propFragments.get(propFragments.size() - 1).setEnd(context.getLocationOffset());
 		}
+
+		protected void addNode(Node node) {
+			model.addNode(node);
+		}
+
+		protected boolean isInProperty() {
+			return property != null;
+		}
+	}
+
+	/**
+	 * This handler collects the nodes of the re-parsed lines of an existing model
+	 * and stops the parse as soon as the parsed text is synchronized with the
+	 * existing nodes of the model which follow the changed text.
+	 *
+	 */
+	private static class IncrementalPropertiesModelHandler extends PropertiesModelHandler {
+
+		private final PropertiesModel model;
+		private final int newEnd;
+		private final int delta;
+		private final List<Node> nodes;
+		private int endIndex;
+		private int end;
+
+		public IncrementalPropertiesModelHandler(PropertiesModel model, int newEnd, int delta) {
+			super(model);
+			this.model = model;
+			this.newEnd = newEnd;
+			this.delta = delta;
+			this.nodes = new ArrayList<>();
+			this.endIndex = model.getChildren().size();
+			this.end = -1;
+		}
+
+		@Override
+		public void startDocument(ParseContext context) {
+			// The parse starts at the first changed line
+		}
+
+		@Override
+		public void endDocument(ParseContext context) {
+			end = context.getLocationOffset();
+		}
+
+		@Override
+		public void startProperty(ParseContext context) {
+			checkSynchronized(context);
+			super.startProperty(context);
+		}
+
+		@Override
+		public void startComment(ParseContext context) {
+			if (!isInProperty()) {
+				checkSynchronized(context);
+			}
+			super.startComment(context);
+		}
+
+		@Override
+		protected void addNode(Node node) {
+			nodes.add(node);
+		}
+
+		/**
+		 * Stop the parse if a node of the existing model starts at the current offset
+		 * (once the changed text has been parsed).
+		 *
+		 * @param context the parse context.
+		 */
+		private void checkSynchronized(ParseContext context) {
+			int offset = context.getLocationOffset();
+			if (offset <= newEnd) {
+				return;
+			}
+			int index = model.findTopLevelNode(offset - delta);
+			if (index != -1) {
+				endIndex = index;
+				end = model.getEnd() + delta;
+				throw new StopParsingException();
+			}
+		}
+	}
+
+	/**
+	 * Children of an incrementally parsed model, which shares the nodes of the
+	 * previous models.
+	 *
+	 * <p>
+	 * Each child is stored as a node without parent (the node of the first parsed
+	 * model or of the re-parsed lines) with the offset delta of this model. The
+	 * child node of this model is copied with the offset delta the first time it
+	 * is accessed.
+	 * </p>
+	 *
+	 */
+	private static class SharedChildren extends AbstractList<Node> implements RandomAccess {
+
+		private final PropertiesModel model;
+		private final Node[] sources;
+		private final int[] deltas;
+		private final AtomicReferenceArray<Node> nodes;
+		private int size;
+
+		public SharedChildren(PropertiesModel model, int size) {
+			this.model = model;
+			this.sources = new Node[size];
+			this.deltas = new int[size];
+			this.nodes = new AtomicReferenceArray<>(size);
+		}
+
+		/**
+		 * Add the children of a previous model from the given range with the given
+		 * offset delta.
+		 *
+		 * @param children  the children of the previous model.
+		 * @param fromIndex the start index (inclusive).
+		 * @param toIndex   the end index (exclusive).
+		 * @param delta     the offset delta.
+		 */
+		void share(List<Node> children, int fromIndex, int toIndex, int delta) {
+			if (children instanceof SharedChildren) {
+				SharedChildren shared = (SharedChildren) children;
+				for (int i = fromIndex; i < toIndex; i++) {
+					sources[size] = shared.sources[i];
+					deltas[size++] = shared.deltas[i] + delta;
+				}
+			} else {
+				for (int i = fromIndex; i < toIndex; i++) {
+					sources[size] = children.get(i);
+					deltas[size++] = delta;
+				}
+			}
+		}
+
+		/**
+		 * Add the nodes of the re-parsed lines.
+		 *
+		 * @param parsedNodes the nodes of the re-parsed lines.
+		 */
+		void addParsedNodes(List<Node> parsedNodes) {
+			for (Node node : parsedNodes) {
+				sources[size++] = node;
+			}
+		}
+
+		@Override
+		public Node get(int index) {
+			Node node = nodes.get(index);
+			if (node == null) {
+				Node copy = sources[index].copy(deltas[index]);
+				copy.parent = model;
+				node = nodes.compareAndSet(index, null, copy) ? copy : nodes.get(index);
+			}
+			return node;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Exception thrown to stop the incremental parse.
+	 */
+	private static class StopParsingException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		public StopParsingException() {
+			super(null, null, false, false);
+		}
 	}
 
 	private final TextDocument document;
-	private CancelChecker cancelChecker;
+	// the text of the document when the model has been parsed
+	private final CharSequence content;
+	private final CancelChecker cancelChecker;
 	private transient Set<String> keys;
 
 	PropertiesModel(TextDocument document, CancelChecker cancelChecker) {
 		this.document = document;
+		this.content = document.getContent();
 		this.cancelChecker = cancelChecker;
 		this.keys = null;
 	}
@@ -208,7 +388,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	public static PropertiesModel parse(TextDocument document, CancelChecker cancelChecker) {
 		PropertiesModel model = new PropertiesModel(document, cancelChecker);
 		PropertiesParser parser = new PropertiesParser();
-		parser.parse(document.getText(), new PropertiesModelHandler(model), new ErrorHandler() {
+		parser.parse(model.content, new PropertiesModelHandler(model), new ErrorHandler() {
 
 			@Override
 			public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
@@ -218,6 +398,156 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 		return model;
 	}
 
+	/**
+	 * Returns the properties model of the current text of the given document,
+	 * computed from the given properties model (parsed with a previous text of the
+	 * document) by re-parsing only the lines which are impacted by the given text
+	 * change.
+	 *
+	 * <p>
+	 * The lines from the first changed line (or the start of the multiline
+	 * property which contains it) are re-parsed until a line which starts a
+	 * property or a comment of the existing model. The new model shares the new
+	 * nodes of those lines and the other nodes, with an offset delta for the
+	 * following nodes: a node is copied with its shifted offsets only when it is
+	 * accessed. The given model is not modified.
+	 * </p>
+	 *
+	 * @param model         the properties model parsed with a previous text of the
+	 *                      document.
+	 * @param document      the text document.
+	 * @param start         the start offset of the changed text and -1 if only the
+	 *                      version of the document has changed.
+	 * @param oldEnd        the end offset of the changed text in the previous text.
+	 * @param newEnd        the end offset of the changed text in the current text.
+	 * @param cancelChecker the cancel checker.
+	 * @return the new properties model and null if the model must be fully
+	 *         parsed.
+	 */
+	public static PropertiesModel parse(PropertiesModel model, TextDocument document, int start, int oldEnd,
+			int newEnd, CancelChecker cancelChecker) {
+		if (model.document != document) {
+			return null;
+		}
+		return model.reparse(start, oldEnd, newEnd, cancelChecker);
+	}
+
+	private PropertiesModel reparse(int start, int oldEnd, int newEnd, CancelChecker cancelChecker) {
+		// The model can still be used by the requests which are running (validation,
+		// completion, etc.), it is not modified: a new model is created which shares
+		// the untouched nodes and the nodes of the re-parsed lines.
+		PropertiesModel model = new PropertiesModel(document, cancelChecker);
+		model.setStart(getStart());
+		List<Node> children = getChildren();
+		if (start == -1) {
+			// Only the version of the document has changed
+			SharedChildren newChildren = new SharedChildren(model, children.size());
+			newChildren.share(children, 0, children.size(), 0);
+			model.setChildren(newChildren);
+			model.setEnd(getEnd());
+			return model;
+		}
+
+		CharSequence text = model.content;
+		int delta = newEnd - oldEnd;
+
+		// The parse starts at the start of the line of the changed text, or at the
+		// start of the multiline property which contains this line.
+		int parseStart = getLineStartOffset(text, start);
+		int index = findFirstNode(parseStart) - 1;
+		while (index >= 0) {
+			Node node = getChildren().get(index);
+			if (node.getNodeType() == NodeType.PROPERTY) {
+				if (node.getEnd() < parseStart) {
+					break;
+				}
+				parseStart = getLineStartOffset(text, node.getStart());
+				index = findFirstNode(parseStart);
+			}
+			index--;
+		}
+		int startIndex = findFirstNode(parseStart);
+
+		// Parse the changed lines.
+		IncrementalPropertiesModelHandler handler = new IncrementalPropertiesModelHandler(this, newEnd, delta);
+		PropertiesParser parser = new PropertiesParser();
+		try {
+			parser.parse(text, parseStart, handler, new ErrorHandler() {
+
+				@Override
+				public void error(ParseContext context, ErrorEvent errorEvent) throws ParseException {
+
+				}
+			}, cancelChecker);
+		} catch (StopParsingException e) {
+			// the parsed text is synchronized with the existing model
+		}
+
+		// Share the nodes before the changed lines, the nodes of the changed lines and
+		// the following nodes with shifted offsets.
+		SharedChildren newChildren = new SharedChildren(model,
+				startIndex + handler.nodes.size() + children.size() - handler.endIndex);
+		newChildren.share(children, 0, startIndex, 0);
+		newChildren.addParsedNodes(handler.nodes);
+		newChildren.share(children, handler.endIndex, children.size(), delta);
+		model.setChildren(newChildren);
+		model.setEnd(handler.end);
+		return model;
+	}
+
+	/**
+	 * Returns the index of the first child which starts at or after the given
+	 * offset.
+	 *
+	 * @param offset the offset.
+	 * @return the index of the first child which starts at or after the given
+	 *         offset.
+	 */
+	private int findFirstNode(int offset) {
+		List<Node> children = getChildren();
+		int low = 0, high = children.size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (children.get(mid).getStart() < offset) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the child which starts at the given offset and which is
+	 * not included in a multiline property and -1 otherwise.
+	 *
+	 * @param offset the offset.
+	 * @return the index of the child which starts at the given offset and which is
+	 *         not included in a multiline property and -1 otherwise.
+	 */
+	private int findTopLevelNode(int offset) {
+		List<Node> children = getChildren();
+		int index = findFirstNode(offset);
+		if (index == children.size() || children.get(index).getStart() != offset) {
+			return -1;
+		}
+		for (int i = index - 1; i >= 0; i--) {
+			Node node = children.get(i);
+			if (node.getNodeType() == NodeType.PROPERTY) {
+				return node.getEnd() < offset ? index : -1;
+			}
+		}
+		return index;
+	}
+
+	private static int getLineStartOffset(CharSequence text, int offset) {
+		int i = offset;
+		while (i > 0 && text.charAt(i - 1) != '\n') {
+			i--;
+		}
+		return i;
+	}
+
 	/**
 	 * Returns the text from the <code>start</code> offset (inclusive) to the
 	 * <code>end</code> offset (exclusive).
@@ -231,10 +561,10 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 	 *         <code>end</code> offset (exclusive).
 	 */
 	public String getText(int start, int end, boolean skipMultiLine) {
-		String text = document.getText();
+		CharSequence text = content;
 		if (!skipMultiLine) {
 			cancelChecker.checkCanceled();
-			return text.substring(start, end);
+			return text.subSequence(start, end).toString();
 		}
 		
 		StringBuilder sb = new StringBuilder();
@@ -285,7 +615,7 @@ public class PropertiesModel extends Node implements IConfigSourcePropertiesProv
 
 	@Override
 	public String getText() {
-		return document.getText();
+		return content.toString();
 	}
 
 	public String getDocumentURI() {
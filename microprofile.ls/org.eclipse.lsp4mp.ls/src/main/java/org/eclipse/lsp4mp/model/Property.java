@@ -69,6 +69,21 @@ public class Property extends Node {
 		this.delimiterAssign.parent = this;
 	}
 
+	@Override
+	Node copy(int delta) {
+		Property copy = (Property) super.copy(delta);
+		if (key != null) {
+			copy.setKey((PropertyKey) key.copy(delta));
+		}
+		if (delimiterAssign != null) {
+			copy.setDelimiterAssign(delimiterAssign.copy(delta));
+		}
+		if (value != null) {
+			copy.setValue((PropertyValue) value.copy(delta));
+		}
+		return copy;
+	}
+
 	/**
 	 * Returns the property key (profile + property name) and null otherwise.
 	 *
@@ -194,6 +194,18 @@ public class PropertyValueExpression extends BasePropertyValue {
 		parseExpression();
 	}
 
+	@Override
+	Node copy(int delta) {
+		PropertyValueExpression copy = (PropertyValueExpression) super.copy(delta);
+		// The expression of the copy will be parsed with its own offsets
+		copy.parsed = false;
+		copy.referenceNameStartOffset = -1;
+		copy.referenceNameEndOffset = -1;
+		copy.defaultValueStartOffset = -1;
+		copy.defaultValueEndOffset = -1;
+		return copy;
+	}
+
 	private synchronized void parseExpression() {
 		if (parsed) {
 			return;
@@ -36,7 +36,7 @@ public class PropertiesParser implements ParseContext {
 	private ErrorHandler errorHandler;
 	private ParseState parseState;
 	private CancelChecker cancelChecker;
-	private String text;
+	private CharSequence text;
 	private int bufferOffset;
 	private int index;
 	private int line;
@@ -65,15 +65,37 @@ public class PropertiesParser implements ParseContext {
 	 *                        react on some {@link ErrorEvent} by throwing
 	 *                        {@code ParseException}s for them
 	 */
-	public void parse(String text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+	public void parse(CharSequence text, PropertiesHandler handler, ErrorHandler errorHandler, CancelChecker cancelChecker) {
+		parse(text, 0, handler, errorHandler, cancelChecker);
+	}
+
+	/**
+	 * Reads the input from the given <code>startOffset</code> and transforms it
+	 * into a sequence of parse events which are sent to the given
+	 * {@link PropertiesHandler}.
+	 *
+	 * <p>
+	 * The <code>startOffset</code> must be the start offset of a line which is not
+	 * the continuation of a multiline property. The offsets of the parse events are
+	 * the offsets in the whole text.
+	 * </p>
+	 *
+	 * @param text          the text to parse
+	 * @param startOffset   the start offset of the first line to parse
+	 * @param handler       the handler to send the parse events to
+	 * @param errorHandler  an {@link ErrorHandler} to notify on parse errors
+	 * @param cancelChecker the cancel checker
+	 */
+	public void parse(CharSequence text, int startOffset, PropertiesHandler handler, ErrorHandler errorHandler,
+			CancelChecker cancelChecker) {
 		this.handler = handler;
 		this.errorHandler = errorHandler;
 		this.parseState = ParseState.Property;
 		this.cancelChecker = cancelChecker;
 		bufferOffset = 0;
-		index = 0;
+		index = startOffset;
 		line = 1;
-		lineOffset = 0;
+		lineOffset = startOffset;
 		current = 0;
 		last = -1;
 
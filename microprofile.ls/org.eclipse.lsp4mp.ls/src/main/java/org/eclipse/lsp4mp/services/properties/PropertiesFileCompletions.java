@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -35,12 +36,14 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ConverterKind;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.commons.utils.PropertyValueExpander;
 import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
 import org.eclipse.lsp4mp.ls.commons.SnippetsBuilder;
 import org.eclipse.lsp4mp.ls.commons.TextDocument;
@@ -54,6 +57,7 @@ import org.eclipse.lsp4mp.model.Property;
 import org.eclipse.lsp4mp.model.PropertyKey;
 import org.eclipse.lsp4mp.model.PropertyValueExpression;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.snippets.LanguageId;
 import org.eclipse.lsp4mp.snippets.SnippetContextForProperties;
@@ -72,6 +76,12 @@ class PropertiesFileCompletions {
 	private static final Logger LOGGER = Logger.getLogger(PropertiesFileCompletions.class.getName());
 	private TextDocumentSnippetRegistry snippetRegistry;
 
+	private final PropertyDocumentationResolver documentationResolver;
+
+	PropertiesFileCompletions(PropertyDocumentationResolver documentationResolver) {
+		this.documentationResolver = documentationResolver;
+	}
+
 	/**
 	 * Returns completion list for the given position
 	 *
@@ -79,12 +89,15 @@ class PropertiesFileCompletions {
 	 * @param position               the position where completion was triggered
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings
+	 * @param formattingSettings     the formatting settings
 	 * @param cancelChecker          the cancel checker
 	 * @return completion list for the given position
 	 */
 	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CancelChecker cancelChecker) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CancelChecker cancelChecker) {
 		CompletionList list = new CompletionList();
 		int offset = -1;
 		Node node = null;
@@ -128,7 +141,7 @@ class PropertiesFileCompletions {
 			} else {
 				// completion on property key if on the left side of =
 				collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-						formattingSettings, list);
+						completionSettings, formattingSettings, list);
 			}
 			break;
 		case PROPERTY_VALUE:
@@ -141,7 +154,7 @@ class PropertiesFileCompletions {
 		default:
 			// completion on property key
 			collectPropertyKeySuggestions(offset, node, document, projectInfo, completionCapabilities,
-					formattingSettings, list);
+					completionSettings, formattingSettings, list);
 			// Collect completion items with snippet
 			collectSnippetSuggestions(offset, node, document, projectInfo, completionCapabilities, getSnippetRegistry(),
 					list);
@@ -162,6 +175,30 @@ class PropertiesFileCompletions {
 	 */
 	public CompletionItem resolveCompletionItem(CompletionItem unresolved, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities, CancelChecker cancelChecker) {
+		return resolveCompletionItem(unresolved, projectInfo, null, completionCapabilities, null, cancelChecker)
+				.getNow(unresolved);
+	}
+
+	/**
+	 * Returns as promise the completion item with the empty fields resolved.
+	 *
+	 * <p>
+	 * The description of a property declared in a Java file which has not been
+	 * loaded with the project information is collected with the given
+	 * documentation provider.
+	 * </p>
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param projectInfo            the MicroProfile project information
+	 * @param uri                    the application.properties URI
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return as promise the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved,
+			MicroProfileProjectInfo projectInfo, String uri, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
 		String propertyName = unresolved.getLabel();
 		int index = propertyName.indexOf(" =" );
 		if (index != -1) {
@@ -170,10 +207,15 @@ class PropertiesFileCompletions {
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		ItemMetadata property = PropertiesFileUtils.getProperty(propertyName, projectInfo);
 		if (property == null) {
-			return unresolved;
+			return CompletableFuture.completedFuture(unresolved);
 		}
-		unresolved.setDocumentation(DocumentationUtils.getDocumentation(property, null, null, markdownSupported));
-		return unresolved;
+		DocumentFormat documentFormat = markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText;
+		return documentationResolver.getDescription(property, uri, documentFormat, documentationProvider) //
+				.thenApply(description -> {
+					unresolved.setDocumentation(DocumentationUtils.getDocumentation(property, description, null, null,
+							markdownSupported));
+					return unresolved;
+				});
 	}
 
 	/**
@@ -183,12 +225,14 @@ class PropertiesFileCompletions {
 	 * @param node                   the property key node
 	 * @param projectInfo            the MicroProfile project information
 	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings
 	 * @param formattingSettings     the formatting settings
 	 * @param list                   the completion list to fill
 	 */
 	private static void collectPropertyKeySuggestions(int offset, Node node, PropertiesModel model,
 			MicroProfileProjectInfo projectInfo, MicroProfileCompletionCapabilities completionCapabilities,
-			MicroProfileFormattingSettings formattingSettings, CompletionList list) {
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CompletionList list) {
 		boolean snippetsSupported = completionCapabilities.isCompletionSnippetsSupported();
 		boolean markdownSupported = completionCapabilities.isDocumentationFormatSupported(MarkupKind.MARKDOWN);
 		boolean completionResolveDocumentationSupported = completionCapabilities
@@ -224,7 +268,19 @@ class PropertiesFileCompletions {
 		}
 
 		// Completion on MicroProfile properties
-		for (ItemMetadata property : projectInfo.getProperties()) {
+		Collection<ItemMetadata> properties = null;
+		int maxItems = -1;
+		if (completionSettings != null && completionSettings.isPropertyKeyPrefixFilteringEnabled()) {
+			// Only the properties which start with the complete segments of the typed key
+			// are collected (the client filters the current segment) and the number of
+			// items is limited: the client will ask again for completion when the user
+			// types more characters.
+			properties = projectInfo.getPropertiesStartingWith(getTypedPropertyNamePrefix(offset, node, model));
+			maxItems = completionSettings.getMaxPropertyKeyItems();
+		} else {
+			properties = projectInfo.getProperties();
+		}
+		for (ItemMetadata property : properties) {
 			if (property == null) {
 				continue;
 			}
@@ -238,6 +294,10 @@ class PropertiesFileCompletions {
 				// unless current node has a key equal to current property name
 				continue;
 			}
+			if (maxItems != -1 && list.getItems().size() >= maxItems) {
+				list.setIsIncomplete(true);
+				break;
+			}
 
 			String defaultValue = null;
 			if (propertyValue == null || propertyValue.isEmpty()) {
@@ -314,6 +374,43 @@ class PropertiesFileCompletions {
 		}
 	}
 
+	/**
+	 * Returns the complete segments of the property name (without profile) typed
+	 * before the given offset (ex : <code>quarkus.http.</code> for
+	 * <code>quarkus.http.po|</code>).
+	 *
+	 * @param offset the offset where completion was invoked
+	 * @param node   the node where completion was invoked
+	 * @param model  the properties model
+	 * @return the complete segments of the property name (without profile) typed
+	 *         before the given offset.
+	 */
+	private static String getTypedPropertyNamePrefix(int offset, Node node, PropertiesModel model) {
+		PropertyKey key = null;
+		if (node != null && node.getNodeType() == NodeType.PROPERTY_KEY) {
+			key = (PropertyKey) node;
+		} else if (node != null && node.getNodeType() == NodeType.ASSIGN) {
+			// quarkus.http|=
+			key = ((Assign) node).getProperty().getKey();
+		}
+		if (key == null) {
+			return "";
+		}
+		int start = key.getStart();
+		String profile = key.getProfile();
+		if (profile != null) {
+			// skip '%dev.'
+			start = start + profile.length() + 2;
+		}
+		int end = Math.min(offset, key.getEnd());
+		if (start >= end) {
+			return "";
+		}
+		String typed = model.getText(start, end, true);
+		// The current segment is filtered by the client with fuzzy matching
+		return typed.substring(0, typed.lastIndexOf('.') + 1);
+	}
+
 	private static String getKeyLabel(String name, String defaultValue) {
 		if (name.endsWith("[*]")) {
 			// No need to show [*] when property ends with [*]
@@ -25,7 +25,6 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4mp.commons.DocumentFormat;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
-import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
 import org.eclipse.lsp4mp.commons.metadata.ConfigurationMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
@@ -55,6 +54,12 @@ class PropertiesFileHover {
 
 	private static final CompletableFuture<Hover> NULL_HOVER = CompletableFuture.completedFuture(null);
 
+	private final PropertyDocumentationResolver documentationResolver;
+
+	PropertiesFileHover(PropertyDocumentationResolver documentationResolver) {
+		this.documentationResolver = documentationResolver;
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -155,7 +160,7 @@ class PropertiesFileHover {
 	 * @param cancelChecker         the cancel checker
 	 * @return the documentation hover for property key represented by token
 	 */
-	private static CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, MicroProfileProjectInfo projectInfo,
+	private CompletableFuture<Hover> getPropertyKeyHover(PropertyKey key, MicroProfileProjectInfo projectInfo,
 			MicroProfileHoverSettings hoverSettings, MicroProfilePropertyDocumentationProvider documentationProvider,
 			String uri, CancelChecker cancelChecker) {
 		boolean markdownSupported = hoverSettings.isContentFormatSupported(MarkupKind.MARKDOWN);
@@ -179,51 +184,26 @@ class PropertiesFileHover {
 
 		if (item != null || propertyValue != null) {
 
-			CompletableFuture<Void> docsCollect = null;
-			if (item != null && item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription())) {
-				// It is a property declared in a Java file, try to collect the Javadoc
-				MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
-				params.setUri(uri);
-				params.setSourceField(item.getSourceField());
-				params.setSourceMethod(item.getSourceMethod());
-				params.setSourceType(item.getSourceType());
-				params.setDocumentFormat(markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText);
-				docsCollect = documentationProvider.getPropertyDocumentation(params) //
-						.thenAccept(docs -> {
-							if (docs != null && !docs.isEmpty()) {
-								item.setDescription(docs);
-							}
-						});
-			}
-
-			if (docsCollect == null) {
+			if (item == null) {
+				// The property was not found, display just the resolved value
 				Hover hover = new Hover();
-				MarkupContent markupContent = null;
-				if (item != null) {
-					// MicroProfile property found, display the documentation as hover
-					markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValue,
-							markdownSupported);
-				} else {
-					// The property was not found, display just the resolved value
-					markupContent = DocumentationUtils.getDocumentation(key.getProfile(), propertyName, propertyValue,
-							markdownSupported);
-				}
-				hover.setContents(markupContent);
+				hover.setContents(DocumentationUtils.getDocumentation(key.getProfile(), propertyName,
+						propertyValue, markdownSupported));
 				hover.setRange(PositionUtils.createRange(key));
 				return CompletableFuture.completedFuture(hover);
 			}
-			return docsCollect.thenApply((_null) -> {
-				Hover hover = new Hover();
-				MarkupContent markupContent = null;
-				// Docs are only collected asynchronously from JDT.LS if the ItemMetadata
-				// resolves
-				// MicroProfile property found, display the documentation as hover
-				markupContent = DocumentationUtils.getDocumentation(item, key.getProfile(), propertyValueFinal,
-						markdownSupported);
-				hover.setContents(markupContent);
-				hover.setRange(PositionUtils.createRange(key));
-				return hover;
-			});
+			// The description of a property declared in a Java file is collected from
+			// the Javadoc on demand
+			DocumentFormat documentFormat = markdownSupported ? DocumentFormat.Markdown : DocumentFormat.PlainText;
+			return documentationResolver.getDescription(item, uri, documentFormat, documentationProvider) //
+					.thenApply(description -> {
+						// MicroProfile property found, display the documentation as hover
+						Hover hover = new Hover();
+						hover.setContents(DocumentationUtils.getDocumentation(item, description, key.getProfile(),
+								propertyValueFinal, markdownSupported));
+						hover.setRange(PositionUtils.createRange(key));
+						return hover;
+					});
 		}
 
 		return NULL_HOVER;
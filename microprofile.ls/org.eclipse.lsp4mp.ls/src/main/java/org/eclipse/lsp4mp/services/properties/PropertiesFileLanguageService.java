@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -43,6 +44,7 @@ import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.services.properties.extensions.PropertiesFileExtensionRegistry;
 import org.eclipse.lsp4mp.settings.MicroProfileCommandCapabilities;
 import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileExecutionSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.eclipse.lsp4mp.settings.MicroProfileHoverSettings;
@@ -65,11 +67,13 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	private final PropertiesFileCodeActions codeActions;
 	private final PropertiesFileDocumentHighlight documentHighlight;
 	private final PropertiesFileInlayHint inlayHint;
+	private final PropertyDocumentationResolver documentationResolver;
 
 	public PropertiesFileLanguageService() {
-		this.completions = new PropertiesFileCompletions();
+		this.documentationResolver = new PropertyDocumentationResolver();
+		this.completions = new PropertiesFileCompletions(documentationResolver);
 		this.symbolsProvider = new PropertiesFileSymbolsProvider();
-		this.hover = new PropertiesFileHover();
+		this.hover = new PropertiesFileHover(documentationResolver);
 		this.definition = new PropertiesFileDefinition();
 		this.diagnostics = new PropertiesFileDiagnostics(this);
 		this.formatter = new PropertiesFileFormatter();
@@ -91,11 +95,31 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
 			MicroProfileCompletionCapabilities completionCapabilities,
 			MicroProfileFormattingSettings formattingSettings, CancelChecker cancelChecker) {
-		updateProperties(projectInfo, document);
-		return completions.doComplete(document, position, projectInfo, completionCapabilities, formattingSettings,
+		return doComplete(document, position, projectInfo, completionCapabilities, null, formattingSettings,
 				cancelChecker);
 	}
 
+	/**
+	 * Returns completion list for the given position
+	 *
+	 * @param document               the properties model document
+	 * @param position               the position where completion was triggered
+	 * @param projectInfo            the MicroProfile project information
+	 * @param completionCapabilities the completion capabilities
+	 * @param completionSettings     the completion settings
+	 * @param formattingSettings     the formatting settings
+	 * @param cancelChecker          the cancel checker
+	 * @return completion list for the given position
+	 */
+	public CompletionList doComplete(PropertiesModel document, Position position, MicroProfileProjectInfo projectInfo,
+			MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfileCompletionSettings completionSettings, MicroProfileFormattingSettings formattingSettings,
+			CancelChecker cancelChecker) {
+		updateProperties(projectInfo, document);
+		return completions.doComplete(document, position, projectInfo, completionCapabilities, completionSettings,
+				formattingSettings, cancelChecker);
+	}
+
 	/**
 	 * Returns the completion item with the empty fields resolved.
 	 *
@@ -110,6 +134,34 @@ public class PropertiesFileLanguageService extends PropertiesFileExtensionRegist
 		return completions.resolveCompletionItem(unresolved, projectInfo, completionCapabilities, cancelChecker);
 	}
 
+	/**
+	 * Returns as promise the completion item with the empty fields resolved.
+	 *
+	 * @param unresolved             the unresolved completion item
+	 * @param projectInfo            the MicroProfile project information
+	 * @param uri                    the application.properties URI
+	 * @param completionCapabilities the completion capabilities
+	 * @param documentationProvider  the documentation provider
+	 * @param cancelChecker          the cancel checker
+	 * @return as promise the completion item with the empty fields resolved.
+	 */
+	public CompletableFuture<CompletionItem> resolveCompletionItem(CompletionItem unresolved,
+			MicroProfileProjectInfo projectInfo, String uri, MicroProfileCompletionCapabilities completionCapabilities,
+			MicroProfilePropertyDocumentationProvider documentationProvider, CancelChecker cancelChecker) {
+		return completions.resolveCompletionItem(unresolved, projectInfo, uri, completionCapabilities,
+				documentationProvider, cancelChecker);
+	}
+
+	/**
+	 * Evict the descriptions of the MicroProfile properties collected on demand
+	 * for the given application.properties URIs.
+	 *
+	 * @param uris the application.properties URIs.
+	 */
+	public void evictDocumentation(Collection<String> uris) {
+		documentationResolver.evict(uris);
+	}
+
 	/**
 	 * Returns Hover object for the currently hovered token
 	 *
@@ -0,0 +1,162 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.commons.utils.StringUtils;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+
+/**
+ * Resolve the description of the MicroProfile properties declared in Java
+ * files which has not been loaded with the project information.
+ *
+ * <p>
+ * The description is not stored in the {@link ItemMetadata}: the source type,
+ * field and method of the property are used as a handle to get the description
+ * with the {@link MicroProfilePropertyDocumentationProvider}, and the last
+ * resolved descriptions are kept in a bounded LRU cache.
+ * </p>
+ *
+ */
+class PropertyDocumentationResolver {
+
+	private static final Logger LOGGER = Logger.getLogger(PropertyDocumentationResolver.class.getName());
+
+	private static final int MAX_ENTRIES = 256;
+
+	/**
+	 * Documentation cache key.
+	 */
+	private static class Key {
+
+		private final String uri;
+
+		private final DocumentFormat documentFormat;
+
+		private final String sourceType;
+
+		private final String sourceField;
+
+		private final String sourceMethod;
+
+		public Key(String uri, DocumentFormat documentFormat, ItemMetadata item) {
+			this.uri = uri;
+			this.documentFormat = documentFormat;
+			this.sourceType = item.getSourceType();
+			this.sourceField = item.getSourceField();
+			this.sourceMethod = item.getSourceMethod();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uri, documentFormat, sourceType, sourceField, sourceMethod);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals(uri, other.uri) && documentFormat == other.documentFormat
+					&& Objects.equals(sourceType, other.sourceType) && Objects.equals(sourceField, other.sourceField)
+					&& Objects.equals(sourceMethod, other.sourceMethod);
+		}
+	}
+
+	private final Map<Key, CompletableFuture<String>> cache = new LinkedHashMap<Key, CompletableFuture<String>>(16,
+			0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<String>> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Returns as promise the description of the given MicroProfile property.
+	 *
+	 * @param item                  the MicroProfile property.
+	 * @param uri                   the application.properties URI.
+	 * @param documentFormat        the document format of the description.
+	 * @param documentationProvider the documentation provider.
+	 * @return as promise the description of the given MicroProfile property.
+	 */
+	public CompletableFuture<String> getDescription(ItemMetadata item, String uri, DocumentFormat documentFormat,
+			MicroProfilePropertyDocumentationProvider documentationProvider) {
+		if (!isResolvable(item) || documentationProvider == null || uri == null) {
+			return CompletableFuture.completedFuture(item.getDescription());
+		}
+		Key key = new Key(uri, documentFormat, item);
+		CompletableFuture<String> description;
+		synchronized (cache) {
+			description = cache.get(key);
+			if (description == null) {
+				// It is a property declared in a Java file, try to collect the Javadoc
+				MicroProfilePropertyDocumentationParams params = new MicroProfilePropertyDocumentationParams();
+				params.setUri(uri);
+				params.setSourceField(item.getSourceField());
+				params.setSourceMethod(item.getSourceMethod());
+				params.setSourceType(item.getSourceType());
+				params.setDocumentFormat(documentFormat);
+				description = documentationProvider.getPropertyDocumentation(params);
+				cache.put(key, description);
+			}
+		}
+		return description.handle((docs, ex) -> {
+			if (ex != null) {
+				LOGGER.log(Level.WARNING, "Error while getting the documentation of '" + item.getName() + "'", ex);
+				synchronized (cache) {
+					cache.remove(key);
+				}
+				return null;
+			}
+			return StringUtils.isEmpty(docs) ? null : docs;
+		});
+	}
+
+	/**
+	 * Evict the cached descriptions of the given application.properties URIs.
+	 *
+	 * @param uris the application.properties URIs.
+	 */
+	public void evict(Collection<String> uris) {
+		synchronized (cache) {
+			cache.keySet().removeIf(key -> uris.contains(key.uri));
+		}
+	}
+
+	/**
+	 * Returns true if the description of the given property must be resolved with
+	 * the documentation provider and false otherwise.
+	 */
+	private static boolean isResolvable(ItemMetadata item) {
+		return item.isJavaOrigin() && StringUtils.isEmpty(item.getDescription()) && item.getSourceType() != null;
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+import java.util.Objects;
+
+/**
+ * MicroProfile cache settings.
+ *
+ */
+public class MicroProfileCacheSettings {
+
+	public static final int DEFAULT_MAX_MEMORY = 256;
+
+	private int maxMemory;
+
+	public MicroProfileCacheSettings() {
+		setMaxMemory(DEFAULT_MAX_MEMORY);
+	}
+
+	/**
+	 * Returns the estimated heap size (in MB) which can be used by the cached
+	 * project information and 0 if there is no limit.
+	 *
+	 * @return the estimated heap size (in MB) which can be used by the cached
+	 *         project information and 0 if there is no limit.
+	 */
+	public int getMaxMemory() {
+		return maxMemory;
+	}
+
+	/**
+	 * Set the estimated heap size (in MB) which can be used by the cached project
+	 * information and 0 if there is no limit.
+	 *
+	 * @param maxMemory the estimated heap size (in MB) which can be used by the
+	 *                  cached project information and 0 if there is no limit.
+	 */
+	public void setMaxMemory(int maxMemory) {
+		this.maxMemory = maxMemory;
+	}
+
+	/**
+	 * Update the cache settings with the given new cache settings.
+	 *
+	 * @param newCache the new cache settings.
+	 * @return true if the settings have changed and false otherwise.
+	 */
+	public boolean update(MicroProfileCacheSettings newCache) {
+		if (newCache == null || Objects.equals(this, newCache)) {
+			return false;
+		}
+		this.setMaxMemory(newCache.getMaxMemory());
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxMemory);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MicroProfileCacheSettings other = (MicroProfileCacheSettings) obj;
+		return maxMemory == other.maxMemory;
+	}
+
+}
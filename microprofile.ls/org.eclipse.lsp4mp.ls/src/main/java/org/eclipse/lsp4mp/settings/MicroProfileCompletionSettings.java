@@ -0,0 +1,91 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.settings;
+
+import java.util.Objects;
+
+/**
+ * MicroProfile completion settings.
+ *
+ */
+public class MicroProfileCompletionSettings {
+
+	private int maxPropertyKeyItems;
+
+	/**
+	 * Returns the maximum number of property key completion items returned for
+	 * the typed key prefix and 0 if all properties must be returned.
+	 *
+	 * <p>
+	 * When the limit is reached, the completion list is marked as incomplete, so
+	 * that the client asks again for completion when the user types more
+	 * characters.
+	 * </p>
+	 *
+	 * @return the maximum number of property key completion items and 0 if all
+	 *         properties must be returned.
+	 */
+	public int getMaxPropertyKeyItems() {
+		return maxPropertyKeyItems;
+	}
+
+	/**
+	 * Set the maximum number of property key completion items returned for the
+	 * typed key prefix (0 to return all properties).
+	 *
+	 * @param maxPropertyKeyItems the maximum number of property key completion
+	 *                            items.
+	 */
+	public void setMaxPropertyKeyItems(int maxPropertyKeyItems) {
+		this.maxPropertyKeyItems = maxPropertyKeyItems;
+	}
+
+	/**
+	 * Returns true if the property key completion is filtered with the typed key
+	 * prefix and limited to {@link #getMaxPropertyKeyItems()} items and false
+	 * otherwise.
+	 *
+	 * @return true if the property key completion is filtered with the typed key
+	 *         prefix and false otherwise.
+	 */
+	public boolean isPropertyKeyPrefixFilteringEnabled() {
+		return maxPropertyKeyItems > 0;
+	}
+
+	public boolean update(MicroProfileCompletionSettings newCompletion) {
+		if (newCompletion == null || Objects.equals(this, newCompletion)) {
+			return false;
+		}
+		this.setMaxPropertyKeyItems(newCompletion.getMaxPropertyKeyItems());
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(maxPropertyKeyItems);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		MicroProfileCompletionSettings other = (MicroProfileCompletionSettings) obj;
+		return maxPropertyKeyItems == other.maxPropertyKeyItems;
+	}
+
+}
@@ -40,10 +40,14 @@ public class MicroProfileGeneralClientSettings {
 
 	private MicroProfileFormattingSettings formatting;
 
+	private MicroProfileCompletionSettings completion;
+
 	private MicroProfileCodeLensSettings codeLens;
 
 	private MicroProfileInlayHintSettings inlayHint;
 
+	private MicroProfileCacheSettings cache;
+
 	/**
 	 * Returns the symbols settings.
 	 *
@@ -116,6 +120,24 @@ public class MicroProfileGeneralClientSettings {
 		this.formatting = formatting;
 	}
 
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletion() {
+		return completion;
+	}
+
+	/**
+	 * Sets the completion settings.
+	 *
+	 * @param completion the completion settings.
+	 */
+	public void setCompletion(MicroProfileCompletionSettings completion) {
+		this.completion = completion;
+	}
+
 	/**
 	 * Returns the code lens settings.
 	 *
@@ -142,6 +164,24 @@ public class MicroProfileGeneralClientSettings {
 		this.inlayHint = inlayHint;
 	}
 
+	/**
+	 * Returns the cache settings.
+	 *
+	 * @return the cache settings.
+	 */
+	public MicroProfileCacheSettings getCache() {
+		return cache;
+	}
+
+	/**
+	 * Sets the cache settings.
+	 *
+	 * @param cache the cache settings.
+	 */
+	public void setCache(MicroProfileCacheSettings cache) {
+		this.cache = cache;
+	}
+
 	/**
 	 * Returns the general settings from the given initialization options
 	 *
@@ -24,6 +24,7 @@ import org.eclipse.lsp4mp.commons.MicroProfileInlayHintSettings;
 public class SharedSettings {
 
 	private final MicroProfileCompletionCapabilities completionCapabilities;
+	private final MicroProfileCompletionSettings completionSettings;
 	private final MicroProfileHoverSettings hoverSettings;
 	private final MicroProfileSymbolSettings symbolSettings;
 	private final MicroProfileExecutionSettings executionSettings;
@@ -32,9 +33,11 @@ public class SharedSettings {
 	private final MicroProfileCommandCapabilities commandCapabilities;
 	private final MicroProfileCodeLensSettings codeLensSettings;
 	private final MicroProfileInlayHintSettings inlayHintSettings;
+	private final MicroProfileCacheSettings cacheSettings;
 
 	public SharedSettings() {
 		this.completionCapabilities = new MicroProfileCompletionCapabilities();
+		this.completionSettings = new MicroProfileCompletionSettings();
 		this.hoverSettings = new MicroProfileHoverSettings();
 		this.symbolSettings = new MicroProfileSymbolSettings();
 		this.executionSettings = new MicroProfileExecutionSettings();
@@ -43,6 +46,7 @@ public class SharedSettings {
 		this.commandCapabilities = new MicroProfileCommandCapabilities();
 		this.codeLensSettings = new MicroProfileCodeLensSettings();
 		this.inlayHintSettings = new MicroProfileInlayHintSettings();
+		this.cacheSettings = new MicroProfileCacheSettings();
 	}
 
 	/**
@@ -54,6 +58,15 @@ public class SharedSettings {
 		return completionCapabilities;
 	}
 
+	/**
+	 * Returns the completion settings.
+	 *
+	 * @return the completion settings.
+	 */
+	public MicroProfileCompletionSettings getCompletionSettings() {
+		return completionSettings;
+	}
+
 	/**
 	 * Returns the hover settings.
 	 *
@@ -126,4 +139,13 @@ public class SharedSettings {
 		return inlayHintSettings;
 	}
 
+	/**
+	 * Returns the cache settings.
+	 *
+	 * @return the cache settings.
+	 */
+	public MicroProfileCacheSettings getCacheSettings() {
+		return cacheSettings;
+	}
+
 }
@@ -42,6 +42,29 @@ public class DocumentationUtils {
 	 * @return the documentation of the given MicroProfile property.
 	 */
 	public static MarkupContent getDocumentation(ItemMetadata item, String profile, String value, boolean markdown) {
+		return getDocumentation(item, item.getDescription(), profile, value, markdown);
+	}
+
+	/**
+	 * Returns the documentation of the given MicroProfile property with the given
+	 * description.
+	 *
+	 * <p>
+	 * The description of a property declared in a Java file may not be loaded
+	 * with the property, and is resolved on demand (see
+	 * {@link org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider}).
+	 * </p>
+	 *
+	 * @param item        the MicroProfile property.
+	 * @param description the description of the property and null otherwise.
+	 * @param profile     the profile
+	 * @param value       the value of the property, or null if it is not known
+	 * @param markdown    true if documentation must be formatted as markdown and
+	 *                    false otherwise.
+	 * @return the documentation of the given MicroProfile property.
+	 */
+	public static MarkupContent getDocumentation(ItemMetadata item, String description, String profile,
+			String value, boolean markdown) {
 
 		StringBuilder documentation = new StringBuilder();
 
@@ -56,7 +79,6 @@ public class DocumentationUtils {
 		documentation.append(System.lineSeparator());
 
 		// Description
-		String description = item.getDescription();
 		if (description != null) {
 			documentation.append(System.lineSeparator());
 			documentation.append(description);
@@ -14,9 +14,7 @@
 package org.eclipse.lsp4mp.utils;
 
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
@@ -186,18 +184,16 @@ public class PropertiesFileUtils {
 		if (StringUtils.isEmpty(propertyName)) {
 			return null;
 		}
-		Collection<ItemMetadata> properties = info.getProperties();
-		for (ItemMetadata property : properties) {
-			if (property != null && match(propertyName, property)) {
-				return property;
-			}
+		ItemMetadata metadata = info.getProperty(propertyName);
+		if (metadata != null) {
+			return metadata;
 		}
 		if (EnvUtils.isWindows && System.getenv(propertyName) != null) {
 			// Here we are on Windows OS and the property name is an Environment variable
 			// As environment variable on Windows OS doesn't take care of case (ex : PATH,
 			// Path, path is the same for Windows OS)
 			// we need to search property by ignore the case.
-			for (ItemMetadata property : properties) {
+			for (ItemMetadata property : info.getProperties()) {
 				if (EnvUtils.ENVIRONMENT_VARIABLES_ORIGIN.equals(property.getOrigin())) {
 					if (propertyName.equalsIgnoreCase(property.getName())) {
 						return property;
@@ -208,198 +204,6 @@ public class PropertiesFileUtils {
 		return null;
 	}
 
-	private static boolean match(String propertyName, ItemMetadata metadata) {
-		String rawPattern = metadata.getName();
-		if (rawPattern.indexOf('{') != -1 || rawPattern.indexOf('[') != -1) {
-			// Example of expansion:
-			// Pattern: quarkus.log.category.{*}.level
-			// expandPatterns(pattern) -> [
-			// "quarkus.log.category.{*}.level",
-			// "quarkus.log.category.level"
-			// ]
-			List<String> patterns = metadata.getWildcardExpansions();
-			if (patterns == null) {
-				patterns = expandPatterns(rawPattern);
-				metadata.setWildcardExpansions(patterns);
-			}
-			for (String expanded : patterns) {
-				if (match(propertyName, expanded)) {
-					return true;
-				}
-			}
-		}
-		return match(propertyName, rawPattern);
-	}
-
-	/**
-	 * Returns true if the given property name matches the given pattern and false
-	 * otherwise.
-	 *
-	 * The pattern can be:
-	 *
-	 * <ul>
-	 * <li>a simple pattern: it means that pattern is equals to the property
-	 * name</li>
-	 * <li>a map pattern: pattern which contains {*}.
-	 * </ul>
-	 *
-	 * @param propertyName the property name
-	 * @param pattern      the pattern
-	 * @return true if the given property name matches the given pattern and false
-	 *         otherwise.
-	 */
-	private static boolean match(String propertyName, String pattern) {
-		int i2 = 0;
-		int len = Math.max(propertyName.length(), pattern.length());
-		for (int i1 = 0; i1 < len; i1++) {
-			char c1 = getCharAt(pattern, i1);
-			boolean keyMapOrArrayIndex = false;
-			if ('{' == c1 && '*' == getCharAt(pattern, i1 + 1) && '}' == getCharAt(pattern, i1 + 2)) {
-				// It's a key map {*}.
-				i1 = i1 + 2;
-				keyMapOrArrayIndex = true;
-			} else if ('[' == c1 && '*' == getCharAt(pattern, i1 + 1) && ']' == getCharAt(pattern, i1 + 2)) {
-				// It's an array index [*].
-				i1 = i1 + 2;
-				keyMapOrArrayIndex = true;
-			}
-
-			char c2 = getCharAt(propertyName, i2);
-			if (keyMapOrArrayIndex) {
-				if (c2 == '\u0000') {
-					return false;
-				}
-				boolean endsWithQuote = (c2 == '"');
-				while (c2 != '\u0000') {
-					c2 = getCharAt(propertyName, ++i2);
-					if (endsWithQuote) {
-						if (c2 == '"') {
-							i2++;
-							break;
-						}
-					} else if ('.' == c2 && propertyName.charAt(i2 - 1) != '\\'
-							&& propertyName.charAt(i2 - 2) != '\\') {
-						break;
-					}
-				}
-				keyMapOrArrayIndex = false;
-			} else {
-				if (c2 != c1) {
-					return false;
-				}
-				i2++;
-			}
-		}
-		return true;
-	}
-
-	private static char getCharAt(String text, int index) {
-		if (index >= text.length()) {
-			return '\u0000';
-		}
-		return text.charAt(index);
-	}
-
-	/**
-	 * Generates all possible variants of a pattern containing the wildcards
-	 * {@code "{*}"} or {@code "[*]"}.
-	 * Each wildcard can be either kept or removed, producing 2^n combinations
-	 * for n wildcards. When removing a wildcard, any dot immediately to the left
-	 * of it is also removed.
-	 *
-	 * <p><b>Example:</b></p>
-	 * <pre>
-	 * Input : {@code foo.{*}.bar.[*].baz}
-	 * Output: [
-	 *   {@code foo.{*}.bar.[*].baz},
-	 *   {@code foo.bar.[*].baz},
-	 *   {@code foo.{*}.bar.baz},
-	 *   {@code foo.bar.baz}
-	 * ]
-	 * </pre>
-	 *
-	 * <p><b>Quarkus example:</b></p>
-	 * <pre>
-	 * Input : {@code quarkus.log.category.{*}.level}
-	 * Output: [
-	 *   {@code quarkus.log.category.{*}.level},
-	 *   {@code quarkus.log.category.level}
-	 * ]
-	 * </pre>
-	 *
-	 * <p>Notes:</p>
-	 * <ul>
-	 *   <li>Only {@code "{*}"} and {@code "[*]"} are recognized as wildcards.</li>
-	 * </ul>
-	 */
-	private static List<String> expandPatterns(String pattern) {
-		List<int[]> wildcards = new ArrayList<>();
-		int len = pattern.length();
-
-		// detect all {...} and [...] blocks
-		for (int i = 0; i < len; i++) {
-			char c = pattern.charAt(i);
-			if (c == '{' || c == '[') {
-				char close = (c == '{') ? '}' : ']';
-				int start = i;
-				int end = i + 1;
-				// find the closing bracket
-				while (end < len && pattern.charAt(end) != close) {
-					end++;
-				}
-				if (end < len && pattern.charAt(end) == close) {
-					wildcards.add(new int[] { start, end });
-					i = end; // skip processed block
-				}
-			}
-		}
-
-		if (wildcards.isEmpty()) {
-			return Collections.singletonList(pattern);
-		}
-
-		List<String> result = new ArrayList<>();
-		int combos = 1 << wildcards.size(); // 2^n combinations
-
-		// generate all combinations
-		for (int mask = 0; mask < combos; mask++) {
-			StringBuilder sb = new StringBuilder(len);
-			int lastPos = 0;
-
-			for (int w = 0; w < wildcards.size(); w++) {
-				int[] wc = wildcards.get(w);
-				int start = wc[0];
-				int end = wc[1] + 1; // inclusive
-
-				// append before wildcard
-				if (lastPos < start) {
-					sb.append(pattern, lastPos, start);
-				}
-
-				if (((mask >> w) & 1) == 0) {
-					// keep wildcard
-					sb.append(pattern, start, end);
-				} else {
-					// remove wildcard and optional dot before
-					if (sb.length() > 0 && sb.charAt(sb.length() - 1) == '.') {
-						sb.setLength(sb.length() - 1);
-					}
-				}
-
-				lastPos = end;
-			}
-
-			// append remaining part
-			if (lastPos < len) {
-				sb.append(pattern, lastPos, len);
-			}
-
-			result.add(sb.toString());
-		}
-
-		return result;
-	}
-
 	public static String formatPropertyForMarkdown(String propertyName) {
 		return formatProperty(propertyName, KEY_MAP_MARKDOWN_REPLACE, INDEX_ARRAY_MARKDOWN_REPLACE).getPropertyName();
 	}
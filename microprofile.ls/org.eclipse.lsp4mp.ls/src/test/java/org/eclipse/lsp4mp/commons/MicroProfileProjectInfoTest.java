@@ -15,9 +15,13 @@ import static org.eclipse.lsp4mp.utils.PropertiesFileUtils.formatPropertyForMark
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.commons.metadata.ValueHint;
 import org.eclipse.lsp4mp.model.PropertiesModel;
 import org.eclipse.lsp4mp.model.Property;
@@ -212,6 +216,32 @@ public class MicroProfileProjectInfoTest {
 		assertEquals("OFF", levels.iterator().next().getValue());
 	}
 
+	@Test
+	public void propertiesIndexFollowsListChanges() {
+		ItemMetadata name = item("quarkus.application.name");
+		ItemMetadata version = item("quarkus.application.version");
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>(Arrays.asList(name, version)));
+		assertSame(name, info.getProperty("quarkus.application.name"));
+
+		// Same size change of the properties list
+		ItemMetadata level = item("quarkus.log.level");
+		info.getProperties().set(0, level);
+		assertSame(level, info.getProperty("quarkus.log.level"));
+		assertNull(info.getProperty("quarkus.application.name"));
+
+		info.getProperties().remove(version);
+		info.getProperties().add(name);
+		assertSame(name, info.getProperty("quarkus.application.name"));
+		assertNull(info.getProperty("quarkus.application.version"));
+	}
+
+	private static ItemMetadata item(String name) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		return item;
+	}
+
 	private static PropertyInfo getProperty(String text, MicroProfileProjectInfo info) {
 		PropertiesModel model = PropertiesModel.parse(text, "application.properties", () -> {});
 		PropertyKey key = (PropertyKey) ((Property) model.getChildren().get(0)).getKey();
@@ -0,0 +1,98 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+
+/**
+ * Unit tests for {@link CompactProperties}.
+ */
+public class CompactPropertiesTest {
+
+	@Test
+	public void encodeAndDecode() {
+		ItemMetadata name = item("quarkus.application.name", "Application name", null);
+		name.setExtensionName("quarkus-core");
+		name.setDefaultValue("app");
+		name.setRequired(true);
+		name.setPhase(ItemMetadata.CONFIG_PHASE_RUN_TIME);
+		name.setSource(Boolean.FALSE);
+		name.setConverterKinds(Arrays.asList(ConverterKind.KEBAB_CASE, ConverterKind.VERBATIM));
+		name.setSourceJars(Arrays.asList("/m2/quarkus-core.jar", "/m2/quarkus-core-deployment.jar"));
+		ItemMetadata version = item("quarkus.application.version", "Application version", null);
+		version.setExtensionName("quarkus-core");
+		version.setSource(Boolean.TRUE);
+		ItemMetadata env = item("MY_ENV", "Environment variable", "env");
+
+		CompactProperties compact = CompactProperties.encode(Arrays.asList(name, version, env), false);
+		// Types and extension names are stored once
+		assertEquals(1, compact.getStrings().stream().filter("java.lang.String"::equals).count());
+		assertEquals(1, compact.getStrings().stream().filter("quarkus-core"::equals).count());
+
+		// JSON round trip
+		Gson gson = new Gson();
+		compact = gson.fromJson(gson.toJson(compact), CompactProperties.class);
+		List<ItemMetadata> properties = compact.decode();
+		assertEquals(Arrays.asList(name, version, env), properties);
+		assertTrue(properties.get(0).isRequired());
+		assertEquals(ItemMetadata.CONFIG_PHASE_RUN_TIME, properties.get(0).getPhase());
+		assertEquals(Arrays.asList(ConverterKind.KEBAB_CASE, ConverterKind.VERBATIM),
+				properties.get(0).getConverterKinds());
+		assertEquals(Boolean.FALSE, properties.get(0).getSource());
+		assertEquals(Boolean.TRUE, properties.get(1).getSource());
+		assertEquals(Arrays.asList("/m2/quarkus-core.jar", "/m2/quarkus-core-deployment.jar"),
+				properties.get(0).getSourceJars());
+		assertNull(properties.get(1).getSourceJars());
+		assertNull(properties.get(2).getSource());
+		assertNull(properties.get(2).getConverterKinds());
+		assertFalse(properties.get(2).isRequired());
+		assertSame(properties.get(0).getType(), properties.get(1).getType());
+	}
+
+	@Test
+	public void omitJavaDescriptions() {
+		ItemMetadata name = item("quarkus.application.name", "Application name", null);
+		ItemMetadata env = item("MY_ENV", "Environment variable", "env");
+
+		List<ItemMetadata> properties = CompactProperties.encode(Arrays.asList(name, env), true).decode();
+		// The description of the Java property is fetched on demand
+		assertNull(properties.get(0).getDescription());
+		assertEquals("org.acme.Config", properties.get(0).getSourceType());
+		assertEquals("Environment variable", properties.get(1).getDescription());
+	}
+
+	private static ItemMetadata item(String name, String description, String origin) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		item.setType("java.lang.String");
+		item.setDescription(description);
+		item.setOrigin(origin);
+		if (origin == null) {
+			item.setSourceType("org.acme.Config");
+			item.setSourceField(name.substring(name.lastIndexOf('.') + 1));
+		}
+		return item;
+	}
+}
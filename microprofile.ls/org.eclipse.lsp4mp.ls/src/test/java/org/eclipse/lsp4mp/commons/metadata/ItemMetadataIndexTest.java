@@ -0,0 +1,157 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.metadata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ItemMetadataIndex}.
+ */
+public class ItemMetadataIndexTest {
+
+	@Test
+	public void exactName() {
+		ItemMetadata threads = item("quarkus.thread-pool.core-threads");
+		ItemMetadata name = item("quarkus.application.name");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(threads, name));
+
+		assertSame(threads, index.find("quarkus.thread-pool.core-threads"));
+		assertSame(name, index.find("quarkus.application.name"));
+		assertNull(index.find("quarkus.application"));
+		assertNull(index.find("quarkus.application.name.foo"));
+		assertNull(index.find(""));
+	}
+
+	@Test
+	public void keyMap() {
+		ItemMetadata level = item("quarkus.log.category.{*}.level");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Collections.singletonList(level));
+
+		assertSame(level, index.find("quarkus.log.category.level"));
+		assertSame(level, index.find("quarkus.log.category.org.level"));
+		assertSame(level, index.find("quarkus.log.category.\"org.acme\".level"));
+		assertNull(index.find("quarkus.log.category.org.acme.level"));
+		assertNull(index.find("quarkus.log.category.org.min-level"));
+	}
+
+	@Test
+	public void indexArray() {
+		ItemMetadata url = item("quarkus.datasource.urls[*]");
+		ItemMetadata root = item("{*}.enabled");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(url, root));
+
+		assertSame(url, index.find("quarkus.datasource.urls[0]"));
+		assertSame(url, index.find("quarkus.datasource.urls"));
+		assertSame(root, index.find("foo.enabled"));
+		assertNull(index.find("quarkus.datasource.url[0]"));
+	}
+
+	@Test
+	public void firstAddedWins() {
+		ItemMetadata pattern = item("quarkus.log.category.{*}.level");
+		ItemMetadata exact = item("quarkus.log.category.level");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(pattern, exact));
+		assertSame(pattern, index.find("quarkus.log.category.level"));
+
+		index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(exact, pattern));
+		assertSame(exact, index.find("quarkus.log.category.level"));
+	}
+
+	@Test
+	public void removeAll() {
+		ItemMetadata pattern = item("quarkus.log.category.{*}.level");
+		ItemMetadata exact = item("quarkus.log.category.level");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(pattern, exact));
+
+		index.removeAll(Collections.singletonList(item("quarkus.log.category.{*}.level")));
+		assertSame(exact, index.find("quarkus.log.category.level"));
+		assertNull(index.find("quarkus.log.category.org.level"));
+
+		index.removeAll(Collections.singletonList(exact));
+		assertNull(index.find("quarkus.log.category.level"));
+
+		index.addAll(Collections.singletonList(pattern));
+		assertSame(pattern, index.find("quarkus.log.category.org.level"));
+	}
+
+	@Test
+	public void findByPrefix() {
+		ItemMetadata port = item("quarkus.http.port");
+		ItemMetadata host = item("quarkus.http.host");
+		ItemMetadata level = item("quarkus.log.level");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(port, level, host));
+
+		assertEquals(Arrays.asList(host, port), index.findByPrefix("quarkus.http."));
+		assertEquals(Arrays.asList(host, port, level), index.findByPrefix(""));
+		assertEquals(Collections.emptyList(), index.findByPrefix("quarkus.https."));
+	}
+
+	@Test
+	public void findByPrefixWithWildcard() {
+		ItemMetadata level = item("quarkus.log.category.{*}.level");
+		ItemMetadata urls = item("quarkus.datasource.urls[*].host");
+		ItemMetadata minLevel = item("quarkus.log.min-level");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(level, urls, minLevel));
+
+		// The typed key doesn't start with the raw name
+		assertEquals(Collections.singletonList(level), index.findByPrefix("quarkus.log.category.org."));
+		assertEquals(Collections.singletonList(urls), index.findByPrefix("quarkus.datasource.urls[0]."));
+		// The raw name starts with the typed key
+		assertEquals(Arrays.asList(level, minLevel), index.findByPrefix("quarkus.log."));
+		assertEquals(Collections.emptyList(), index.findByPrefix("quarkus.http."));
+		// The typed key ends with a partial segment
+		assertEquals(Collections.singletonList(level), index.findByPrefix("quarkus.log.cat"));
+		assertEquals(Collections.singletonList(urls), index.findByPrefix("quarkus.datasource.ur"));
+		assertEquals(Arrays.asList(urls, level, minLevel), index.findByPrefix("quarkus."));
+		assertEquals(Arrays.asList(urls, level, minLevel), index.findByPrefix(null));
+
+		index.removeAll(Collections.singletonList(level));
+		assertEquals(Collections.emptyList(), index.findByPrefix("quarkus.log.category.org."));
+	}
+
+	@Test
+	public void findByPrefixWithQuotedKey() {
+		ItemMetadata url = item("quarkus.datasource.\"name\".url");
+		ItemMetadata username = item("quarkus.datasource.username");
+		ItemMetadataIndex index = new ItemMetadataIndex();
+		index.addAll(Arrays.asList(username, url));
+
+		assertEquals(Collections.singletonList(url), index.findByPrefix("quarkus.datasource.mydb."));
+		assertEquals(Arrays.asList(url, username), index.findByPrefix("quarkus.datasource."));
+
+		index.removeAll(Collections.singletonList(url));
+		assertEquals(Collections.emptyList(), index.findByPrefix("quarkus.datasource.mydb."));
+	}
+
+	private static ItemMetadata item(String name) {
+		ItemMetadata item = new ItemMetadata();
+		item.setName(name);
+		return item;
+	}
+}
@@ -0,0 +1,108 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test with {@link JarClassLoaderPool} and the class loaders lifecycle of
+ * {@link MicroProfileProjectRuntime}.
+ */
+public class JarClassLoaderPoolTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void sameJarsShareClassLoader() throws Exception {
+		URL jar1 = folder.newFile("a.jar").toURI().toURL();
+		URL jar2 = folder.newFile("b.jar").toURI().toURL();
+		int count = JarClassLoaderPool.getClassLoaderCount();
+
+		URLClassLoader classLoader = JarClassLoaderPool.acquire(Arrays.asList(jar1, jar2));
+		assertSame(classLoader, JarClassLoaderPool.acquire(Arrays.asList(jar1, jar2)));
+		URLClassLoader otherClassLoader = JarClassLoaderPool.acquire(Collections.singletonList(jar1));
+		assertNotSame(classLoader, otherClassLoader);
+		// The jars order decides which class is loaded when several jars contain it
+		URLClassLoader reorderedClassLoader = JarClassLoaderPool.acquire(Arrays.asList(jar2, jar1));
+		assertNotSame(classLoader, reorderedClassLoader);
+		assertEquals(count + 3, JarClassLoaderPool.getClassLoaderCount());
+		JarClassLoaderPool.release(reorderedClassLoader);
+		assertEquals(count + 2, JarClassLoaderPool.getClassLoaderCount());
+
+		// The class loader is still used
+		JarClassLoaderPool.release(classLoader);
+		assertEquals(count + 2, JarClassLoaderPool.getClassLoaderCount());
+
+		JarClassLoaderPool.release(classLoader);
+		JarClassLoaderPool.release(otherClassLoader);
+		assertEquals(count, JarClassLoaderPool.getClassLoaderCount());
+
+		// The closed class loader is not reused
+		URLClassLoader newClassLoader = JarClassLoaderPool.acquire(Arrays.asList(jar1, jar2));
+		assertNotSame(classLoader, newClassLoader);
+		JarClassLoaderPool.release(newClassLoader);
+	}
+
+	@Test
+	public void updateClassPathClosesSupersededClassLoader() throws Exception {
+		String jar = folder.newFile("a.jar").getAbsolutePath();
+		int count = MicroProfileProjectRuntime.getClassLoaderCount();
+		int jarCount = MicroProfileProjectRuntime.getJarClassLoaderCount();
+
+		MicroProfileProjectRuntime projectRuntime = new MicroProfileProjectRuntime(
+				new HashSet<>(Collections.singleton(jar)));
+		assertEquals(count + 1, MicroProfileProjectRuntime.getClassLoaderCount());
+		assertEquals(jarCount + 1, MicroProfileProjectRuntime.getJarClassLoaderCount());
+
+		projectRuntime.updateClassPath(new HashSet<>(Collections.singleton(jar)));
+		assertEquals(count + 1, MicroProfileProjectRuntime.getClassLoaderCount());
+		assertEquals(jarCount + 1, MicroProfileProjectRuntime.getJarClassLoaderCount());
+
+		projectRuntime.close();
+		assertEquals(count, MicroProfileProjectRuntime.getClassLoaderCount());
+		assertEquals(jarCount, MicroProfileProjectRuntime.getJarClassLoaderCount());
+	}
+
+	@Test
+	public void closeDeferredWhileWarmingUp() throws Exception {
+		String jar = folder.newFile("a.jar").getAbsolutePath();
+		int count = MicroProfileProjectRuntime.getClassLoaderCount();
+
+		MicroProfileProjectRuntime projectRuntime = new MicroProfileProjectRuntime(
+				new HashSet<>(Collections.singleton(jar)));
+		int[] countWhileWarmingUp = new int[1];
+		projectRuntime.warmUp(Collections.singletonList("java.lang.Integer"), null, ExecutionMode.SAFE, () -> {
+			// The project runtime is evicted while it is warming up
+			projectRuntime.close();
+			countWhileWarmingUp[0] = MicroProfileProjectRuntime.getClassLoaderCount();
+			return false;
+		});
+		assertEquals("The class loader is used by the warm-up", count + 1, countWhileWarmingUp[0]);
+		assertEquals("The class loader is closed after the warm-up", count,
+				MicroProfileProjectRuntime.getClassLoaderCount());
+	}
+}
@@ -0,0 +1,94 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test with {@link ProjectClassLoader}.
+ */
+public class ProjectClassLoaderTest {
+
+	public static class ProjectClass {
+	}
+
+	@Rule
+	public TemporaryFolder classesDirectory = new TemporaryFolder();
+
+	@Test
+	public void loadProjectClass() throws Exception {
+		copyClassFile(ProjectClass.class);
+		ProjectClassLoader classLoader = createClassLoader();
+
+		Class<?> cls = classLoader.loadClass(ProjectClass.class.getName());
+		assertSame(classLoader, cls.getClassLoader());
+		assertNotEquals(ProjectClass.class, cls);
+		assertSame(cls, classLoader.loadClass(ProjectClass.class.getName()));
+	}
+
+	@Test
+	public void loadParentClass() throws Exception {
+		ProjectClassLoader classLoader = createClassLoader();
+
+		assertEquals(ProjectClass.class, classLoader.loadClass(ProjectClass.class.getName()));
+	}
+
+	@Test
+	public void missingClassIsCachedUntilClear() throws Exception {
+		// The parent doesn't know the class, to simulate a class which is not compiled
+		// yet
+		ProjectClassLoader classLoader = createClassLoader(new ClassLoader(null) {
+		});
+		String className = ProjectClass.class.getName();
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(className));
+
+		// The class is compiled: the missing class and the class files index are kept
+		copyClassFile(ProjectClass.class);
+		assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass(className));
+
+		// The project has been rebuilt
+		classLoader.clearProjectClassCache();
+		assertSame(classLoader, classLoader.loadClass(className).getClassLoader());
+	}
+
+	private ProjectClassLoader createClassLoader() {
+		return createClassLoader(ProjectClassLoaderTest.class.getClassLoader());
+	}
+
+	private ProjectClassLoader createClassLoader(ClassLoader parent) {
+		return new ProjectClassLoader(Collections.singleton(classesDirectory.getRoot().toString()), parent);
+	}
+
+	private void copyClassFile(Class<?> cls) throws IOException {
+		String relPath = cls.getName().replace('.', '/') + ".class";
+		Path classFile = classesDirectory.getRoot().toPath().resolve(relPath);
+		Files.createDirectories(classFile.getParent());
+		try (InputStream in = cls.getClassLoader().getResourceAsStream(relPath)) {
+			Files.copy(in, classFile);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime.converter;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.lsp4mp.commons.runtime.DiagnosticsCollector;
+import org.eclipse.lsp4mp.commons.runtime.ExecutionMode;
+import org.eclipse.lsp4mp.commons.runtime.MicroProfileProjectRuntime;
+import org.junit.Test;
+
+/**
+ * Test with the validation cache of {@link AbstractConverterRuntimeSupport}.
+ */
+public class AbstractConverterRuntimeSupportTest {
+
+	/**
+	 * Converter runtime support which counts the converter invocations.
+	 */
+	private static class CountingConverterRuntimeSupport extends AbstractConverterRuntimeSupport<Object> {
+
+		private int convertCount;
+
+		public CountingConverterRuntimeSupport() {
+			super(new MicroProfileProjectRuntime(Collections.emptySet()), ExecutionMode.SAFE);
+		}
+
+		@Override
+		protected ConverterValidator newConverter(Object config, Class<?> type) {
+			return new ConverterValidator() {
+
+				@Override
+				public void validate(String value, int start, DiagnosticsCollector collector) {
+					convertCount++;
+					if ("slow".equals(value)) {
+						throw new ConverterTimeoutException("Converter call exceeded 500 ms");
+					}
+					if (!value.matches("[0-9]+")) {
+						collector.collect("Invalid '" + value + "'", "test", "value", start, start + value.length());
+					}
+				}
+
+				@Override
+				public boolean canValidate() {
+					return true;
+				}
+
+				@Override
+				public String getConverterClassName() {
+					return null;
+				}
+
+				@Override
+				public String getConverterSimpleClassName() {
+					return null;
+				}
+			};
+		}
+
+		@Override
+		protected Object loadConfig() {
+			return new Object();
+		}
+	}
+
+	@Test
+	public void unchangedValueIsNotConvertedAgain() {
+		CountingConverterRuntimeSupport runtimeSupport = new CountingConverterRuntimeSupport();
+
+		assertEquals(Collections.emptyList(), validate(runtimeSupport, "1"));
+		assertEquals(Collections.singletonList("Invalid '1X'"), validate(runtimeSupport, "1X"));
+		assertEquals(2, runtimeSupport.convertCount);
+
+		// Same values: the diagnostics are coming from the cache
+		assertEquals(Collections.emptyList(), validate(runtimeSupport, "1"));
+		assertEquals(Collections.singletonList("Invalid '1X'"), validate(runtimeSupport, "1X"));
+		assertEquals(2, runtimeSupport.convertCount);
+
+		// The classpath has changed
+		runtimeSupport.reset();
+		assertEquals(Collections.singletonList("Invalid '1X'"), validate(runtimeSupport, "1X"));
+		assertEquals(3, runtimeSupport.convertCount);
+	}
+
+	@Test
+	public void timedOutValueIsNotCached() {
+		CountingConverterRuntimeSupport runtimeSupport = new CountingConverterRuntimeSupport();
+
+		assertEquals(Collections.emptyList(), validate(runtimeSupport, "slow"));
+		assertEquals(Collections.emptyList(), validate(runtimeSupport, "slow"));
+		assertEquals(2, runtimeSupport.convertCount);
+	}
+
+	private static List<String> validate(AbstractConverterRuntimeSupport<?> runtimeSupport, String value) {
+		List<String> messages = new ArrayList<>();
+		runtimeSupport.validate(value, "java.lang.Integer", null,
+				(errorMessage, source, errorCode, start, end) -> messages.add(errorMessage));
+		return messages;
+	}
+}
@@ -0,0 +1,161 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.runtime.converter.full;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4mp.commons.runtime.converter.ConverterTimeoutException;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test with {@link ConverterExecutor}.
+ */
+public class ConverterExecutorTest {
+
+	/** Released at the end of each test to end the blocked converter calls */
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	/** Threads which call the converters concurrently */
+	private final ExecutorService callers = Executors.newCachedThreadPool();
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		callers.shutdown();
+	}
+
+	@Test
+	public void callResult() throws Exception {
+		assertEquals("converted", ConverterExecutor.call(() -> "converted"));
+	}
+
+	@Test
+	public void callException() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> ConverterExecutor.call(() -> {
+					throw new IllegalArgumentException("Invalid value");
+				}));
+		assertEquals("Invalid value", e.getMessage());
+	}
+
+	@Test
+	public void blockingCallTimesOut() {
+		long start = System.currentTimeMillis();
+		assertThrows(ConverterTimeoutException.class, () -> ConverterExecutor.call(() -> {
+			release.await();
+			return null;
+		}));
+		assertTrue(System.currentTimeMillis() - start < 10000);
+	}
+
+	@Test
+	public void stuckThreadsAreReplaced() throws Exception {
+		// Block all the converter threads with calls which ignore the interruption
+		List<CompletableFuture<Void>> blockedCalls = new ArrayList<>();
+		for (int i = 0; i < ConverterExecutor.MAX_THREADS; i++) {
+			blockedCalls.add(CompletableFuture.runAsync(() -> {
+				assertThrows(ConverterTimeoutException.class, () -> ConverterExecutor.call(() -> {
+					awaitUninterruptibly(release);
+					return null;
+				}));
+			}, callers));
+		}
+		CompletableFuture.allOf(blockedCalls.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+		assertEquals("converted", ConverterExecutor.call(() -> "converted"));
+	}
+
+	@Test
+	public void deadlineStartsWhenCallRuns() throws Exception {
+		// Occupy all the converter threads for 2 rounds of calls which each run
+		// within the deadline and keep their thread even if they time out
+		long callTime = ConverterExecutor.CONVERTER_TIMEOUT_MS * 4 / 5;
+		CountDownLatch firstRoundRunning = new CountDownLatch(ConverterExecutor.MAX_THREADS);
+		for (int i = 0; i < ConverterExecutor.MAX_THREADS; i++) {
+			callers.execute(() -> callQuietly(() -> {
+				firstRoundRunning.countDown();
+				sleepUninterruptibly(callTime);
+				return null;
+			}));
+		}
+		assertTrue(firstRoundRunning.await(10, TimeUnit.SECONDS));
+		for (int i = 0; i < ConverterExecutor.MAX_THREADS; i++) {
+			callers.execute(() -> callQuietly(() -> {
+				sleepUninterruptibly(callTime);
+				return null;
+			}));
+		}
+		long start = System.currentTimeMillis();
+		while (ConverterExecutor.getPendingCalls() < ConverterExecutor.MAX_THREADS) {
+			assertTrue("Second round of calls not submitted", System.currentTimeMillis() - start < 10000);
+			Thread.yield();
+		}
+
+		// The call waits for a free thread longer than the deadline, but runs within
+		// it
+		assertEquals("converted", ConverterExecutor.call(() -> "converted"));
+	}
+
+	private static void callQuietly(Callable<Object> callable) {
+		try {
+			ConverterExecutor.call(callable);
+		} catch (Exception e) {
+			// The call can exceed the deadline on a slow machine, the next calls are
+			// then executed by new threads
+		}
+	}
+
+	private static void sleepUninterruptibly(long millis) {
+		long end = System.currentTimeMillis() + millis;
+		boolean interrupted = false;
+		long remaining;
+		while ((remaining = end - System.currentTimeMillis()) > 0) {
+			try {
+				Thread.sleep(remaining);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				latch.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
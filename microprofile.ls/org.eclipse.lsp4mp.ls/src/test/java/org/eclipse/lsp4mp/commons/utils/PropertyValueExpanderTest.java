@@ -0,0 +1,113 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.commons.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Test with the incremental update of {@link PropertyValueExpander}.
+ */
+public class PropertyValueExpanderTest {
+
+	/**
+	 * Properties provider which counts the read values.
+	 */
+	private static class MapPropertiesProvider implements IConfigSourcePropertiesProvider {
+
+		private final Map<String, String> values = new HashMap<>();
+
+		private int readCount;
+
+		@Override
+		public Set<String> keys() {
+			return values.keySet();
+		}
+
+		@Override
+		public boolean hasKey(String key) {
+			return values.containsKey(key);
+		}
+
+		@Override
+		public String getValue(String key) {
+			readCount++;
+			return values.get(key);
+		}
+	}
+
+	@Test
+	public void updateEvictsDependentValues() {
+		MapPropertiesProvider properties = new MapPropertiesProvider();
+		properties.values.put("host", "localhost");
+		properties.values.put("url", "http://${host}:${port:8080}");
+		properties.values.put("endpoint", "${url}/api");
+		properties.values.put("other", "${name}");
+		PropertyValueExpander expander = new PropertyValueExpander(properties);
+
+		assertEquals("http://localhost:8080/api", expander.getValue("endpoint"));
+		assertEquals("${name}", expander.getValue("other"));
+
+		// Only the changed property and its dependents are expanded again
+		properties.values.put("host", "example.com");
+		expander.update(properties, Collections.singleton("host"));
+		properties.readCount = 0;
+		assertEquals("http://example.com:8080/api", expander.getValue("endpoint"));
+		assertEquals(3, properties.readCount);
+		assertEquals("${name}", expander.getValue("other"));
+
+		// Added properties are expanded in the properties which reference them
+		properties.values.put("port", "9090");
+		properties.values.put("name", "test");
+		expander.update(properties, Arrays.asList("port", "name"));
+		assertEquals("http://example.com:9090/api", expander.getValue("endpoint"));
+		assertEquals("test", expander.getValue("other"));
+
+		// Removed properties are not expanded anymore
+		properties.values.remove("name");
+		expander.update(properties, Collections.singleton("name"));
+		assertEquals("${name}", expander.getValue("other"));
+	}
+
+	@Test
+	public void updateDetectsCycles() {
+		MapPropertiesProvider properties = new MapPropertiesProvider();
+		properties.values.put("a", "${b}");
+		properties.values.put("b", "${c}");
+		properties.values.put("c", "value");
+		PropertyValueExpander expander = new PropertyValueExpander(properties);
+		assertEquals("value", expander.getValue("a"));
+
+		// Introduce a cycle: the values are not expanded
+		properties.values.put("c", "${a}");
+		expander.update(properties, Collections.singleton("c"));
+		assertEquals("${b}", expander.getValue("a"));
+		assertEquals(Collections.emptyList(), expander.getIndependentProperties("a"));
+
+		// Break the cycle: the values are expanded again
+		properties.values.put("c", "other");
+		expander.update(properties, Collections.singleton("c"));
+		assertEquals("other", expander.getValue("a"));
+		assertEquals(new HashSet<>(Arrays.asList("b", "c")),
+				new HashSet<>(expander.getIndependentProperties("a")));
+	}
+}
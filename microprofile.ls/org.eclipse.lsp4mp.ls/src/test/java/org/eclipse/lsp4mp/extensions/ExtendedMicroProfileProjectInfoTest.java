@@ -11,6 +11,8 @@ package org.eclipse.lsp4mp.extensions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemHint;
@@ -124,8 +126,199 @@ public class ExtendedMicroProfileProjectInfoTest {
 
 	}
 
+	@Test
+	public void updateSourcesPropertiesOfJavaTypes() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("other.message", "org.acme.OtherResource"));
+		info.getProperties().add(createSourceProperty("${mp.register.rest.client.class}/mp-rest/url", null));
+		info.getHints().add(createRestClientHint("org.acme.CountriesService", "org.acme.StreetsService"));
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		assertPropertyExist("org.acme.CountriesService/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.StreetsService/mp-rest/url", wrapper);
+
+		// GreetingResource and CountriesService have been scanned
+		List<ItemMetadata> properties = new ArrayList<>();
+		properties.add(createSourceProperty("greeting.name", "org.acme.GreetingResource"));
+		properties.add(createSourceProperty("${mp.register.rest.client.class}/mp-rest/url", null));
+		ItemHint hint = createRestClientHint();
+		ValueHint value = new ValueHint();
+		value.setValue("countries");
+		value.setSourceType("org.acme.CountriesService");
+		hint.getValues().add(value);
+		wrapper.updateSourcesProperties(properties, new ArrayList<>(Arrays.asList(hint)),
+				new HashSet<>(Arrays.asList("org.acme.GreetingResource", "org.acme.CountriesService")));
+
+		assertPropertyNotExist("greeting.message", wrapper);
+		assertPropertyExist("greeting.name", wrapper);
+		assertPropertyExist("other.message", wrapper);
+		assertPropertyNotExist("org.acme.CountriesService/mp-rest/url", wrapper);
+		assertPropertyExist("countries/mp-rest/url", wrapper);
+		assertPropertyExist("org.acme.StreetsService/mp-rest/url", wrapper);
+		Assert.assertEquals(2, wrapper.getHint("${mp.register.rest.client.class}").getValues().size());
+		Assert.assertFalse(wrapper.isReloadFromSource());
+	}
+
+	@Test
+	public void updateSourcesPropertiesWithDeletedDynamicProperty() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties()
+				.add(createSourceProperty("${mp.register.rest.client.class}/mp-rest/url", "org.acme.RestClientConfig"));
+		info.getHints().add(createRestClientHint("org.acme.CountriesService"));
+
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		assertPropertyExist("org.acme.CountriesService/mp-rest/url", wrapper);
+		Assert.assertEquals(1, wrapper.getDynamicProperties().size());
+
+		// The dynamic property has been deleted from RestClientConfig
+		wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>(),
+				new HashSet<>(Arrays.asList("org.acme.RestClientConfig")));
+
+		assertPropertyExist("greeting.message", wrapper);
+		assertPropertyNotExist("org.acme.CountriesService/mp-rest/url", wrapper);
+		Assert.assertEquals(0, wrapper.getDynamicProperties().size());
+		Assert.assertNotNull(wrapper.getHint("${mp.register.rest.client.class}"));
+	}
+
+	@Test
+	public void updateSourcesHintsAfterHintAddedDirectly() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getHints().add(createRestClientHint("org.acme.CountriesService"));
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+		Assert.assertNotNull(wrapper.getHint("${mp.register.rest.client.class}"));
+
+		// Hint added directly in the list after the index was built (ex : the
+		// connector hint of reactive messaging)
+		ItemHint connectorHint = new ItemHint();
+		connectorHint.setName("${mp.messaging.connector.binary}");
+		connectorHint.setValues(new ArrayList<>());
+		wrapper.getHints().add(connectorHint);
+
+		// The Java sources update must not patch the out of date index
+		wrapper.updateSourcesProperties(new ArrayList<>(),
+				new ArrayList<>(Arrays.asList(createRestClientHint("org.acme.StreetsService"))));
+
+		Assert.assertSame(connectorHint, wrapper.getHint("${mp.messaging.connector.binary}"));
+		Assert.assertEquals("org.acme.StreetsService",
+				wrapper.getHint("${mp.register.rest.client.class}").getValues().get(0).getValue());
+	}
+
+	@Test
+	public void updatePropertiesWhileIterating() {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("greeting.name", "org.acme.GreetingResource"));
+		info.getProperties().add(createSourceProperty("greeting.suffix", "org.acme.GreetingResource"));
+		ExtendedMicroProfileProjectInfo wrapper = new ExtendedMicroProfileProjectInfo(info);
+
+		// The iteration works on a snapshot of the properties when the properties
+		// are removed during the iteration (ex : update of the Java sources)
+		List<String> names = new ArrayList<>();
+		for (ItemMetadata property : wrapper.getProperties()) {
+			if (names.isEmpty()) {
+				wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>());
+			}
+			names.add(property.getName());
+		}
+		Assert.assertEquals(Arrays.asList("greeting.message", "greeting.name", "greeting.suffix"), names);
+		assertPropertyNotExist("greeting.message", wrapper);
+		Assert.assertNull(wrapper.getProperty("greeting.name"));
+
+		wrapper.updateSourcesProperties(
+				new ArrayList<>(Arrays.asList(createSourceProperty("greeting.message", "org.acme.GreetingResource"),
+						createSourceProperty("greeting.name", "org.acme.GreetingResource"))),
+				new ArrayList<>());
+		Assert.assertEquals(2, wrapper.getProperties().stream() //
+				.filter(property -> property.getName().startsWith("greeting.")) //
+				.peek(property -> wrapper.updateSourcesProperties(new ArrayList<>(), new ArrayList<>())) //
+				.count());
+		Assert.assertNull(wrapper.getProperty("greeting.name"));
+	}
+
+	@Test
+	public void dependenciesMetadataSharedByProjects() {
+		ExtendedMicroProfileProjectInfo module1 = new ExtendedMicroProfileProjectInfo(createModuleInfo(false));
+		ExtendedMicroProfileProjectInfo module2 = new ExtendedMicroProfileProjectInfo(createModuleInfo(false));
+		ExtendedMicroProfileProjectInfo module3 = new ExtendedMicroProfileProjectInfo(createModuleInfo(true));
+
+		// The properties and hints of the JARs are shared
+		ItemMetadata jarProperty = getProperty("quarkus.http.port", module1);
+		Assert.assertSame(jarProperty, getProperty("quarkus.http.port", module2));
+		Assert.assertSame(module1.getHint("quarkus.log.level"), module2.getHint("quarkus.log.level"));
+		// The properties of the Java sources are owned by each project
+		Assert.assertNotSame(getProperty("greeting.message", module1), getProperty("greeting.message", module2));
+		// A property which differs only with attributes ignored by equals is not shared
+		ItemMetadata requiredProperty = getProperty("quarkus.http.port", module3);
+		Assert.assertNotSame(jarProperty, requiredProperty);
+		Assert.assertTrue(requiredProperty.isRequired());
+		Assert.assertFalse(jarProperty.isRequired());
+	}
+
+	private static MicroProfileProjectInfo createModuleInfo(boolean required) {
+		MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+		info.setProperties(new ArrayList<>());
+		info.setHints(new ArrayList<>());
+		ItemMetadata property = new ItemMetadata();
+		property.setName("quarkus.http.port");
+		property.setType("int");
+		property.setDefaultValue("8080");
+		property.setRequired(required);
+		info.getProperties().add(property);
+		info.getProperties().add(createSourceProperty("greeting.message", "org.acme.GreetingResource"));
+		ItemHint hint = new ItemHint();
+		hint.setName("quarkus.log.level");
+		hint.setValues(new ArrayList<>());
+		ValueHint value = new ValueHint();
+		value.setValue("INFO");
+		hint.getValues().add(value);
+		info.getHints().add(hint);
+		return info;
+	}
+
+	private static ItemMetadata getProperty(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
+		return wrapper.getProperties().stream().filter(p -> propertyName.equals(p.getName())).findFirst()
+				.orElse(null);
+	}
+
+	private static ItemMetadata createSourceProperty(String name, String sourceType) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType("java.lang.String");
+		property.setSourceType(sourceType);
+		property.setSource(Boolean.TRUE);
+		return property;
+	}
+
+	private static ItemHint createRestClientHint(String... restClients) {
+		ItemHint hint = new ItemHint();
+		hint.setName("${mp.register.rest.client.class}");
+		hint.setSource(Boolean.TRUE);
+		hint.setValues(new ArrayList<>());
+		for (String restClient : restClients) {
+			ValueHint value = new ValueHint();
+			value.setValue(restClient);
+			value.setSourceType(restClient);
+			hint.getValues().add(value);
+		}
+		return hint;
+	}
+
 	private void assertPropertyExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
 		Assert.assertTrue(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
 	}
 
+	private void assertPropertyNotExist(String propertyName, ExtendedMicroProfileProjectInfo wrapper) {
+		Assert.assertFalse(wrapper.getProperties().stream().anyMatch(p -> propertyName.equals(p.getName())));
+	}
+
 }
@@ -0,0 +1,115 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.commons;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.junit.Test;
+
+/**
+ * Tests for {@link Rope} and the incremental update of {@link TextDocument}.
+ *
+ */
+public class RopeTest {
+
+	@Test
+	public void replace() {
+		Rope rope = Rope.of("abcdef");
+		assertRope("aXYZdef", rope.replace(1, 3, "XYZ"));
+		assertRope("abcdef!", rope.replace(6, 6, "!"));
+		assertRope("def", rope.replace(0, 3, ""));
+		assertRope("", rope.replace(0, 6, ""));
+		// the rope is immutable
+		assertRope("abcdef", rope);
+	}
+
+	@Test
+	public void randomReplace() {
+		Random random = new Random(0);
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 10000; i++) {
+			expected.append((char) ('a' + random.nextInt(26)));
+		}
+		Rope rope = Rope.of(expected);
+		for (int i = 0; i < 2000; i++) {
+			int start = random.nextInt(expected.length() + 1);
+			int end = start + random.nextInt(Math.min(expected.length() - start, 3000) + 1);
+			StringBuilder text = new StringBuilder();
+			int length = random.nextInt(i % 100 == 0 ? 5000 : 10);
+			for (int j = 0; j < length; j++) {
+				text.append((char) ('a' + random.nextInt(26)));
+			}
+			expected.replace(start, end, text.toString());
+			rope = rope.replace(start, end, text);
+			assertEquals(expected.length(), rope.length());
+			int index = random.nextInt(expected.length() + 1);
+			if (index < expected.length()) {
+				assertEquals(expected.charAt(index), rope.charAt(index));
+			}
+			int subEnd = index + random.nextInt(Math.min(expected.length() - index, 2000) + 1);
+			assertEquals(expected.substring(index, subEnd), rope.subSequence(index, subEnd));
+		}
+		assertRope(expected.toString(), rope);
+	}
+
+	@Test
+	public void incrementalUpdate() throws BadLocationException {
+		TextDocument document = new TextDocument("a=b\nc=d\n", "application.properties");
+		document.setIncremental(true);
+		document.update(Arrays.asList(change(1, 2, 1, 3, "X"), change(1, 0, 1, 0, "e=f\n")));
+		assertEquals("a=b\ne=f\nc=X\n", document.getText());
+		assertEquals(Rope.class, document.getContent().getClass());
+		assertEquals("e=f", document.lineText(1));
+		assertEquals(new Position(2, 2), document.positionAt(10));
+	}
+
+	@Test
+	public void equalsWithIncrementalUpdate() {
+		TextDocument document = new TextDocument("a=b\n", "application.properties");
+		document.setIncremental(true);
+		document.update(Arrays.asList(change(0, 2, 0, 3, "c")));
+
+		TextDocument expected = new TextDocument("a=c\n", "application.properties");
+		assertEquals(expected, document);
+		assertEquals(expected.hashCode(), document.hashCode());
+		assertNotEquals(new TextDocument("a=b\n", "application.properties"), document);
+		assertTrue(document.toString().contains("text=a=c"));
+	}
+
+	private static TextDocumentContentChangeEvent change(int startLine, int startCharacter, int endLine,
+			int endCharacter, String text) {
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
+				new Range(new Position(startLine, startCharacter), new Position(endLine, endCharacter)), text);
+		change.setRangeLength(endCharacter - startCharacter);
+		return change;
+	}
+
+	private static void assertRope(String expected, Rope rope) {
+		assertEquals(expected.length(), rope.length());
+		StringBuilder actual = new StringBuilder();
+		for (int i = 0; i < rope.length(); i++) {
+			actual.append(rope.charAt(i));
+		}
+		assertEquals(expected, actual.toString());
+		assertEquals(expected, rope.toString());
+	}
+}
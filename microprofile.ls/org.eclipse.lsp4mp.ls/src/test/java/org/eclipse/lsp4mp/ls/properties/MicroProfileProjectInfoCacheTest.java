@@ -11,18 +11,29 @@ package org.eclipse.lsp4mp.ls.properties;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfoParams;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesChangeEvent;
 import org.eclipse.lsp4mp.commons.MicroProfilePropertiesScope;
+import org.eclipse.lsp4mp.commons.metadata.CompactProperties;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.extensions.ExtendedMicroProfileProjectInfo;
 import org.eclipse.lsp4mp.ls.api.MicroProfileProjectInfoProvider;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 /**
  * Test for cache of {@link MicroProfileProjectInfo}
@@ -35,30 +46,34 @@ public class MicroProfileProjectInfoCacheTest {
 	private static final String PROJECT1 = "project1";
 	private static final String PROJECT1_APPLICATION_PROPERTIES = PROJECT1 + "/application.properties";
 
+	@Rule
+	public TemporaryFolder projectsFolder = new TemporaryFolder();
+
 	static class MicroProfileProjectInfoProviderTracker implements MicroProfileProjectInfoProvider {
 
 		private final AtomicInteger instanceCount = new AtomicInteger();
 
+		private final CompletableFuture<Void> loaded = new CompletableFuture<>();
+
 		@Override
 		public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
-			return CompletableFuture.supplyAsync(() -> {
-				instanceCount.incrementAndGet();
-				MicroProfileProjectInfo info = new MicroProfileProjectInfo();
-				info.setProjectURI(params.getUri().substring(0, params.getUri().indexOf('/')));
-				synchronized (info) {
-					try {
-						info.wait(2000);
-					} catch (InterruptedException e) {
-						e.printStackTrace();
-					}
-				}
-				return info;
-			});
+			instanceCount.incrementAndGet();
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(params.getUri().substring(0, params.getUri().indexOf('/')));
+			// The project info is pending until the test completes the load
+			return loaded.thenApplyAsync(v -> info);
 		}
 
 		public int getInstanceCount() {
 			return instanceCount.get();
 		}
+
+		/**
+		 * Completes the pending and the next loads of project info.
+		 */
+		public void completeLoad() {
+			loaded.complete(null);
+		}
 	}
 
 	static class MicroProfileProjectInfoParamsThrowException extends MicroProfileProjectInfoParams {
@@ -94,6 +109,102 @@ public class MicroProfileProjectInfoCacheTest {
 		}
 	}
 
+	/**
+	 * Provider which contributes one property per JAR of the classpath.
+	 */
+	static class MicroProfileProjectInfoProviderWithJars implements MicroProfileProjectInfoProvider {
+
+		final Set<String> classpath = new HashSet<>();
+
+		/**
+		 * JARs which contribute the 'shared.jar.property' property.
+		 */
+		final Set<String> sharedPropertyJars = new HashSet<>();
+
+		private final AtomicInteger fullLoadCount = new AtomicInteger();
+
+		private final AtomicInteger jarsLoadCount = new AtomicInteger();
+
+		@Override
+		public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(PROJECT1);
+			Set<String> jars = params.getClasspathEntries();
+			if (jars != null) {
+				jarsLoadCount.incrementAndGet();
+			} else if (params.getScopes().contains(MicroProfilePropertiesScope.dependencies)) {
+				fullLoadCount.incrementAndGet();
+				jars = classpath;
+			} else {
+				// Java sources
+				jars = Collections.emptySet();
+			}
+			List<ItemMetadata> properties = jars.stream() //
+					.map(jar -> createProperty(jar + ".property", Arrays.asList(jar))) //
+					.collect(Collectors.toList());
+			// like the JDT LS extension, a property contributed by several JARs is
+			// collected once with all its source JARs
+			List<String> sharedJars = jars.stream().filter(sharedPropertyJars::contains).sorted()
+					.collect(Collectors.toList());
+			if (!sharedJars.isEmpty()) {
+				properties.add(createProperty("shared.jar.property", sharedJars));
+			}
+			info.setProperties(properties);
+			info.setHints(new ArrayList<>());
+			return CompletableFuture.completedFuture(info);
+		}
+
+		private static ItemMetadata createProperty(String name, List<String> sourceJars) {
+			ItemMetadata property = new ItemMetadata();
+			property.setName(name);
+			property.setType("java.lang.String");
+			property.setSourceJars(new ArrayList<>(sourceJars));
+			return property;
+		}
+	}
+
+	/**
+	 * Provider which returns the properties in compact mode and returns only the
+	 * added and removed properties since the version given by the client.
+	 */
+	static class MicroProfileProjectInfoProviderWithVersions extends MicroProfileProjectInfoProviderWithJars {
+
+		private final List<String> clientVersions = new ArrayList<>();
+
+		private List<ItemMetadata> lastProperties;
+
+		private int version;
+
+		@Override
+		public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+			MicroProfileProjectInfo info = super.getProjectInfo(params).getNow(null);
+			if (!params.isCompact()) {
+				return CompletableFuture.completedFuture(info);
+			}
+			clientVersions.add(params.getVersion());
+			List<ItemMetadata> properties = info.getProperties();
+			List<ItemMetadata> added = properties;
+			if (lastProperties != null && String.valueOf(version).equals(params.getVersion())) {
+				List<Integer> removed = new ArrayList<>();
+				for (int i = 0; i < lastProperties.size(); i++) {
+					if (!properties.contains(lastProperties.get(i))) {
+						removed.add(i);
+					}
+				}
+				added = properties.stream().filter(p -> !lastProperties.contains(p)).collect(Collectors.toList());
+				info.setBaseVersion(params.getVersion());
+				info.setRemovedProperties(removed);
+				info.setRemovedHints(Collections.emptyList());
+				properties = MicroProfileProjectInfoCache.applyDelta(lastProperties, removed, added);
+			}
+			lastProperties = properties;
+			info.setVersion(String.valueOf(++version));
+			info.setCompactProperties(CompactProperties.encode(added, true));
+			info.setProperties(null);
+			return CompletableFuture.completedFuture(info);
+		}
+	}
+
 	@Test
 	public void getProjectInfoFromCache() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProviderTracker tracker = new MicroProfileProjectInfoProviderTracker();
@@ -106,6 +217,8 @@ public class MicroProfileProjectInfoCacheTest {
 
 		Assert.assertTrue("Same futures for getProjectInfo in same time with 2 completion requests",
 				request1 == request2);
+		Assert.assertFalse("Project info loading", request1.isDone());
+		tracker.completeLoad();
 		Assert.assertTrue("Same instances of getProjectInfo in same time with 2 completion requests",
 				request1.get() == request2.get());
 		Assert.assertEquals("Number of call of getProjectInfo in same time with 2 completion requests", 1,
@@ -136,6 +249,324 @@ public class MicroProfileProjectInfoCacheTest {
 
 	}
 
+	@Test
+	public void getProjectInfoSharedByConfigFiles() throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderTracker tracker = new MicroProfileProjectInfoProviderTracker();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(tracker);
+
+		// Execute getProjectInfo for 2 config files of the same project in same time
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache
+				.getProjectInfoFromCache(new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES));
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache
+				.getProjectInfoFromCache(new MicroProfileProjectInfoParams(PROJECT1 + "/application-dev.properties"));
+		Assert.assertTrue("Same futures for the config files of the same project", request1 == request2);
+		Assert.assertFalse("Project info loading", request1.isDone());
+		tracker.completeLoad();
+		request1.get();
+
+		// Config file of the project loaded after the project info
+		CompletableFuture<MicroProfileProjectInfo> request3 = cache.getProjectInfoFromCache(
+				new MicroProfileProjectInfoParams(PROJECT1 + "/src/main/resources/META-INF/microprofile-config.properties"));
+		Assert.assertTrue("Same futures for the config files of the same project", request1 == request3);
+		Assert.assertEquals("Number of call of getProjectInfo for the config files of the same project", 1,
+				tracker.getInstanceCount());
+
+		// Config file of another project
+		cache.getProjectInfoFromCache(new MicroProfileProjectInfoParams("project2/application.properties")).get();
+		Assert.assertEquals("Number of call of getProjectInfo for another project", 2, tracker.getInstanceCount());
+
+		// Properties changed -> the project info of all the config files is evicted
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		Assert.assertEquals("Config files to revalidate", 3, cache.propertiesChanged(event).size());
+
+		CompletableFuture<MicroProfileProjectInfo> request4 = cache
+				.getProjectInfoFromCache(new MicroProfileProjectInfoParams(PROJECT1 + "/application-dev.properties"));
+		CompletableFuture<MicroProfileProjectInfo> request5 = cache
+				.getProjectInfoFromCache(new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES));
+		Assert.assertFalse("Different futures after propertiesChanged", request1 == request4);
+		Assert.assertTrue("Same futures for the config files of the same project", request4 == request5);
+		request4.get();
+		Assert.assertEquals("Number of call of getProjectInfo after propertiesChanged", 3, tracker.getInstanceCount());
+	}
+
+	@Test
+	public void getProjectInfoSharedByProjectURI() throws InterruptedException, ExecutionException, IOException {
+		File project = projectsFolder.getRoot();
+		File module = projectsFolder.newFolder("module");
+		new File(module, "pom.xml").createNewFile();
+		AtomicInteger loadCount = new AtomicInteger();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(params -> {
+			loadCount.incrementAndGet();
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(params.getUri().startsWith(module.toURI().toString()) ? module.getPath()
+					: project.getPath());
+			return CompletableFuture.completedFuture(info);
+		});
+
+		CompletableFuture<MicroProfileProjectInfo> request1 = cache.getProjectInfoFromCache(
+				new MicroProfileProjectInfoParams(toURI(project, "src/main/resources/application.properties")));
+		request1.get();
+
+		// Config file of the project outside of the 'src' folder
+		CompletableFuture<MicroProfileProjectInfo> request2 = cache
+				.getProjectInfoFromCache(new MicroProfileProjectInfoParams(toURI(project, "config/application.properties")));
+		Assert.assertTrue("Same futures for the config files of the same project", request1 == request2);
+		Assert.assertEquals("Number of call of getProjectInfo for the config files of the same project", 1,
+				loadCount.get());
+
+		// Config file of a nested module
+		CompletableFuture<MicroProfileProjectInfo> request3 = cache.getProjectInfoFromCache(
+				new MicroProfileProjectInfoParams(toURI(module, "src/main/resources/application.properties")));
+		Assert.assertFalse("Different futures for the config file of a nested module", request1 == request3);
+		Assert.assertEquals(module.getPath(), request3.get().getProjectURI());
+		Assert.assertEquals("Number of call of getProjectInfo for a nested module", 2, loadCount.get());
+	}
+
+	private static String toURI(File folder, String path) {
+		return new File(folder, path).toURI().toString();
+	}
+
+	@Test
+	public void getProjectInfoAfterClasspathChange() throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderWithJars provider = new MicroProfileProjectInfoProviderWithJars();
+		provider.classpath.addAll(Arrays.asList("a.jar", "b.jar"));
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(info, "a.jar.property", "b.jar.property");
+
+		// b.jar removed, c.jar added -> only the properties of those JARs are loaded
+		provider.classpath.remove("b.jar");
+		provider.classpath.add("c.jar");
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		event.setAddedClasspathEntries(new HashSet<String>(Arrays.asList("c.jar")));
+		event.setRemovedClasspathEntries(new HashSet<String>(Arrays.asList("b.jar")));
+		cache.propertiesChanged(event);
+
+		MicroProfileProjectInfo updatedInfo = cache.getProjectInfoFromCache(params).get();
+		Assert.assertTrue("Same instance of project info after a known classpath change", info == updatedInfo);
+		assertPropertyNames(updatedInfo, "a.jar.property", "c.jar.property");
+		Assert.assertEquals("Number of call of getProjectInfo for the whole classpath", 1,
+				provider.fullLoadCount.get());
+		Assert.assertEquals("Number of call of getProjectInfo for the changed JARs", 2,
+				provider.jarsLoadCount.get());
+
+		// Unknown classpath change -> the whole classpath is loaded
+		event.setAddedClasspathEntries(null);
+		event.setRemovedClasspathEntries(null);
+		cache.propertiesChanged(event);
+
+		updatedInfo = cache.getProjectInfoFromCache(params).get();
+		Assert.assertFalse("Different instance of project info after an unknown classpath change",
+				info == updatedInfo);
+		assertPropertyNames(updatedInfo, "a.jar.property", "c.jar.property");
+		Assert.assertEquals("Number of call of getProjectInfo for the whole classpath", 2,
+				provider.fullLoadCount.get());
+	}
+
+	@Test
+	public void getProjectInfoAfterClasspathChangeWithSharedProperty()
+			throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderWithJars provider = new MicroProfileProjectInfoProviderWithJars();
+		provider.classpath.addAll(Arrays.asList("a.jar", "b.jar"));
+		provider.sharedPropertyJars.addAll(Arrays.asList("a.jar", "b.jar", "c.jar"));
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(info, "a.jar.property", "b.jar.property", "shared.jar.property");
+
+		// b.jar removed -> the property contributed by a.jar and b.jar is kept
+		provider.classpath.remove("b.jar");
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		event.setAddedClasspathEntries(Collections.emptySet());
+		event.setRemovedClasspathEntries(new HashSet<String>(Arrays.asList("b.jar")));
+		cache.propertiesChanged(event);
+
+		MicroProfileProjectInfo updatedInfo = cache.getProjectInfoFromCache(params).get();
+		Assert.assertTrue("Same instance of project info after a known classpath change", info == updatedInfo);
+		assertPropertyNames(updatedInfo, "a.jar.property", "shared.jar.property");
+		Assert.assertEquals(Arrays.asList("a.jar"), getSourceJars(updatedInfo, "shared.jar.property"));
+
+		// c.jar added -> the property is contributed by a.jar and c.jar
+		provider.classpath.add("c.jar");
+		event.setAddedClasspathEntries(new HashSet<String>(Arrays.asList("c.jar")));
+		event.setRemovedClasspathEntries(Collections.emptySet());
+		cache.propertiesChanged(event);
+
+		updatedInfo = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(updatedInfo, "a.jar.property", "c.jar.property", "shared.jar.property");
+		Assert.assertEquals(Arrays.asList("a.jar", "c.jar"), getSourceJars(updatedInfo, "shared.jar.property"));
+
+		// a.jar and c.jar removed -> the property is removed
+		provider.classpath.removeAll(Arrays.asList("a.jar", "c.jar"));
+		event.setAddedClasspathEntries(Collections.emptySet());
+		event.setRemovedClasspathEntries(new HashSet<String>(Arrays.asList("a.jar", "c.jar")));
+		cache.propertiesChanged(event);
+
+		updatedInfo = cache.getProjectInfoFromCache(params).get();
+		Assert.assertTrue("Same instance of project info after a known classpath change", info == updatedInfo);
+		assertPropertyNames(updatedInfo);
+		Assert.assertEquals("Number of call of getProjectInfo for the whole classpath", 1,
+				provider.fullLoadCount.get());
+	}
+
+	private static List<String> getSourceJars(MicroProfileProjectInfo info, String name) {
+		return info.getProperties().stream() //
+				.filter(property -> name.equals(property.getName())) //
+				.map(ItemMetadata::getSourceJars) //
+				.findFirst().orElse(null);
+	}
+
+	@Test
+	public void getProjectInfoWithDelta() throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderWithVersions provider = new MicroProfileProjectInfoProviderWithVersions();
+		provider.classpath.addAll(Arrays.asList("a.jar", "b.jar"));
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider);
+
+		MicroProfileProjectInfoParams params = new MicroProfileProjectInfoParams(PROJECT1_APPLICATION_PROPERTIES);
+		MicroProfileProjectInfo info = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(info, "a.jar.property", "b.jar.property");
+
+		// Unknown classpath change -> the whole classpath is loaded with the version of
+		// the last load, and only the delta is returned
+		provider.classpath.remove("b.jar");
+		provider.classpath.add("c.jar");
+		MicroProfilePropertiesChangeEvent event = new MicroProfilePropertiesChangeEvent();
+		event.setProjectURIs(new HashSet<String>(Arrays.asList(PROJECT1)));
+		event.setType(MicroProfilePropertiesScope.SOURCES_AND_DEPENDENCIES);
+		cache.propertiesChanged(event);
+
+		info = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(info, "a.jar.property", "c.jar.property");
+		Assert.assertNull("Delta applied", info.getBaseVersion());
+
+		provider.classpath.add("d.jar");
+		cache.propertiesChanged(event);
+		info = cache.getProjectInfoFromCache(params).get();
+		assertPropertyNames(info, "a.jar.property", "c.jar.property", "d.jar.property");
+		Assert.assertEquals("Versions sent by the client", Arrays.asList(null, "1", "2"), provider.clientVersions);
+	}
+
+	private static void assertPropertyNames(MicroProfileProjectInfo info, String... expected) {
+		// ignore the properties of the custom providers (ex : system environment)
+		List<String> names = info.getProperties().stream().map(ItemMetadata::getName)
+				.filter(name -> name.endsWith(".jar.property")).sorted().collect(Collectors.toList());
+		Assert.assertEquals(Arrays.asList(expected), names);
+	}
+
+	/**
+	 * Provider which contributes one Java source property with a large
+	 * description per project.
+	 */
+	static class MicroProfileProjectInfoProviderWithLargeDescription implements MicroProfileProjectInfoProvider {
+
+		private final AtomicInteger loadCount = new AtomicInteger();
+
+		@Override
+		public CompletableFuture<MicroProfileProjectInfo> getProjectInfo(MicroProfileProjectInfoParams params) {
+			loadCount.incrementAndGet();
+			String projectURI = params.getUri().substring(0, params.getUri().indexOf('/'));
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(projectURI);
+			ItemMetadata property = new ItemMetadata();
+			property.setName(projectURI + ".property");
+			property.setType("java.lang.String");
+			property.setSource(Boolean.TRUE);
+			property.setDescription(String.join("", Collections.nCopies(10000, "x")));
+			info.setProperties(new ArrayList<>(Arrays.asList(property)));
+			info.setHints(new ArrayList<>());
+			return CompletableFuture.completedFuture(info);
+		}
+	}
+
+	@Test
+	public void evictLeastRecentlyUsedProjectInfo() throws InterruptedException, ExecutionException {
+		MicroProfileProjectInfoProviderWithLargeDescription provider = new MicroProfileProjectInfoProviderWithLargeDescription();
+		// Only project1/application.properties is opened
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(provider,
+				PROJECT1_APPLICATION_PROPERTIES::equals);
+		// Each project info takes around 20KB
+		cache.setMaxMemory(50 * 1024);
+
+		ExtendedMicroProfileProjectInfo project1 = getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES);
+		ExtendedMicroProfileProjectInfo project2 = getProjectInfo(cache, "project2/application.properties");
+		getProjectInfo(cache, "project3/application.properties");
+		Assert.assertEquals(3, provider.loadCount.get());
+
+		// project2 is the least recently used project which is not opened
+		Assert.assertSame(project1, getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES));
+		Assert.assertEquals(3, provider.loadCount.get());
+		ExtendedMicroProfileProjectInfo reloaded = getProjectInfo(cache, "project2/application.properties");
+		Assert.assertNotSame(project2, reloaded);
+		Assert.assertNotSame("The runtime of the evicted project is closed", project2.getProjectRuntime(),
+				reloaded.getProjectRuntime());
+		Assert.assertEquals(4, provider.loadCount.get());
+
+		// project3 has been evicted when project2 has been loaded again, project1 is
+		// kept because it is opened
+		getProjectInfo(cache, "project3/application.properties");
+		Assert.assertEquals(5, provider.loadCount.get());
+		Assert.assertSame(project1, getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES));
+		Assert.assertEquals(5, provider.loadCount.get());
+
+		// No limit
+		cache.setMaxMemory(0);
+		getProjectInfo(cache, "project2/application.properties");
+		getProjectInfo(cache, "project3/application.properties");
+		Assert.assertEquals(6, provider.loadCount.get());
+	}
+
+	@Test
+	public void evictWithSharedDependencyProperty() throws InterruptedException, ExecutionException {
+		// The dependency property with a large description is shared by the projects
+		ItemMetadata dependencyProperty = new ItemMetadata();
+		dependencyProperty.setName("dependency.property");
+		dependencyProperty.setType("java.lang.String");
+		dependencyProperty.setDescription(String.join("", Collections.nCopies(10000, "x")));
+		AtomicInteger loadCount = new AtomicInteger();
+		MicroProfileProjectInfoCache cache = new MicroProfileProjectInfoCache(params -> {
+			loadCount.incrementAndGet();
+			MicroProfileProjectInfo info = new MicroProfileProjectInfo();
+			info.setProjectURI(params.getUri().substring(0, params.getUri().indexOf('/')));
+			info.setProperties(new ArrayList<>(Arrays.asList(dependencyProperty)));
+			info.setHints(new ArrayList<>());
+			return CompletableFuture.completedFuture(info);
+		});
+		// The shared property takes around 20KB and is counted once
+		cache.setMaxMemory(30 * 1024);
+
+		ExtendedMicroProfileProjectInfo project1 = getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES);
+		ExtendedMicroProfileProjectInfo project2 = getProjectInfo(cache, "project2/application.properties");
+		ExtendedMicroProfileProjectInfo project3 = getProjectInfo(cache, "project3/application.properties");
+		Assert.assertSame(project1, getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES));
+		Assert.assertSame(project2, getProjectInfo(cache, "project2/application.properties"));
+		Assert.assertSame(project3, getProjectInfo(cache, "project3/application.properties"));
+		Assert.assertEquals(3, loadCount.get());
+
+		// The shared property is released only when the last project info is evicted
+		cache.setMaxMemory(1024);
+		getProjectInfo(cache, "project4/application.properties");
+		Assert.assertEquals(4, loadCount.get());
+		getProjectInfo(cache, PROJECT1_APPLICATION_PROPERTIES);
+		getProjectInfo(cache, "project2/application.properties");
+		getProjectInfo(cache, "project3/application.properties");
+		Assert.assertEquals(7, loadCount.get());
+	}
+
+	private static ExtendedMicroProfileProjectInfo getProjectInfo(MicroProfileProjectInfoCache cache, String uri)
+			throws InterruptedException, ExecutionException {
+		return (ExtendedMicroProfileProjectInfo) cache.getProjectInfoFromCache(new MicroProfileProjectInfoParams(uri))
+				.get();
+	}
+
 	@Test
 	public void getProjectInfoCacheProviderException() throws InterruptedException, ExecutionException {
 		MicroProfileProjectInfoProvider provider = new MicroProfileProjectInfoProviderThrowException();
@@ -0,0 +1,58 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.ls.properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SavedConfigFiles}.
+ *
+ */
+public class SavedConfigFilesTest {
+
+	private static final String URI = "file:///project/application.properties";
+
+	@Test
+	public void changedPropertyNames() {
+		SavedConfigFiles savedConfigFiles = new SavedConfigFiles();
+		savedConfigFiles.opened(URI, parse("greeting.message=hello\n" + //
+				"greeting.name=quarkus\n" + //
+				"%dev.greeting.number=10"));
+		assertNull("No saved config file", savedConfigFiles.takeChangedPropertyNames());
+
+		savedConfigFiles.saved(URI, parse("greeting.message=hello\n" + //
+				"greeting.name=world\n" + //
+				"greeting.suffix=!"));
+		assertEquals(new HashSet<>(Arrays.asList("greeting.name", "greeting.number", "greeting.suffix")),
+				savedConfigFiles.takeChangedPropertyNames());
+		assertNull("Changed property names are taken", savedConfigFiles.takeChangedPropertyNames());
+
+		savedConfigFiles.saved(URI, parse("greeting.message=hello\n" + //
+				"greeting.name=world\n" + //
+				"greeting.suffix=!"));
+		assertEquals("Saved without changes", Collections.emptySet(), savedConfigFiles.takeChangedPropertyNames());
+	}
+
+	private static PropertiesModel parse(String text) {
+		return PropertiesModel.parse(text, URI);
+	}
+}
@@ -0,0 +1,282 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
+import org.eclipse.lsp4mp.model.Node;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.model.Property;
+import org.eclipse.lsp4mp.model.PropertyValueExpression;
+import org.junit.Test;
+
+/**
+ * Test for the incremental parse of {@link PropertiesModel}: the updated model
+ * must be the same as the model parsed with the whole text, and the previous
+ * model must not be modified.
+ *
+ */
+public class PropertiesModelIncrementalParseTest {
+
+	private static final String TEXT = "# comment\n" + //
+			"a = b\n" + //
+			"\n" + //
+			"quarkus.datasource.url=jdbc:${db.host}:${db.port}\n" + //
+			"  # indented comment\n" + //
+			"multi.line = one \\\n" + //
+			"  two \\\n" + //
+			"# comment in multi line\n" + //
+			"  three\n" + //
+			"%dev.c : d\n" + //
+			"e";
+
+	@Test
+	public void insertInPropertyValue() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("b\n"), 0, "bcd"));
+	}
+
+	@Test
+	public void insertInPropertyKey() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("%dev"), 0, "%prod"));
+	}
+
+	@Test
+	public void insertInMultiLineValue() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("three"), 0, "and "));
+	}
+
+	@Test
+	public void addLineContinuation() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("b\n") + 1, 0, "\\"));
+	}
+
+	@Test
+	public void removeLineContinuation() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("\\\n  two"), 1, ""));
+	}
+
+	@Test
+	public void commentProperty() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("%dev"), 0, "#"));
+	}
+
+	@Test
+	public void insertLines() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.indexOf("a = b"), 0, "x=y\n\n# new comment\nz\\\n"));
+	}
+
+	@Test
+	public void deleteLines() throws BadLocationException {
+		int start = TEXT.indexOf("a = b");
+		assertIncrementalParse(TEXT, change(TEXT, start, TEXT.indexOf("  # indented") - start, ""));
+	}
+
+	@Test
+	public void editEndOfText() throws BadLocationException {
+		assertIncrementalParse(TEXT, change(TEXT, TEXT.length(), 0, "\nf=g"));
+		assertIncrementalParse("", change("", 0, 0, "a=b"));
+	}
+
+	@Test
+	public void severalChanges() throws BadLocationException {
+		String text = TEXT;
+		TextDocumentContentChangeEvent first = change(text, text.indexOf("a = b"), 1, "aa");
+		text = apply(text, first);
+		TextDocumentContentChangeEvent second = change(text, text.indexOf("%dev"), 4, "");
+		text = apply(text, second);
+		TextDocumentContentChangeEvent third = change(text, text.indexOf("# comment"), 0, "x=y\n");
+		assertIncrementalParse(TEXT, first, second, third);
+	}
+
+	@Test
+	public void expressionAfterChange() throws BadLocationException {
+		String text = "a=b\nc=${d:e}";
+		ModelTextDocument<PropertiesModel> document = createDocument(text);
+		PropertiesModel model = document.getModel();
+		PropertyValueExpression expression = getExpression(model, 1);
+		assertEquals("d", expression.getReferencedPropertyName());
+		assertEquals("e", expression.getDefaultValue());
+
+		document.setVersion(2);
+		document.update(Arrays.asList(change(text, 0, 0, "x=y\n")));
+		PropertyValueExpression updatedExpression = getExpression(document.getModel(), 2);
+		assertEquals("d", updatedExpression.getReferencedPropertyName());
+		assertEquals("e", updatedExpression.getDefaultValue());
+		// The previous model is not modified
+		assertEquals(6, expression.getStart());
+		assertEquals(12, expression.getEnd());
+	}
+
+	@Test
+	public void sharedNodesAfterChange() throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createDocument(TEXT);
+		PropertiesModel model = document.getModel();
+		document.setVersion(2);
+		document.update(Arrays.asList(change(TEXT, TEXT.indexOf("a = b"), 0, "x=y\n")));
+		PropertiesModel updatedModel = document.getModel();
+
+		// The untouched nodes are copied once, when they are accessed
+		Node node = updatedModel.getChildren().get(3);
+		assertSame(node, updatedModel.getChildren().get(3));
+		assertSame(updatedModel, node.getParent());
+		assertSame(updatedModel, ((Property) node).getKey().getOwnerModel());
+		assertEquals("quarkus.datasource.url", ((Property) node).getPropertyName());
+		assertEquals(model.getChildren().get(2).getStart() + 4, node.getStart());
+		assertSame(model, model.getChildren().get(2).getParent());
+	}
+
+	private static PropertyValueExpression getExpression(PropertiesModel model, int propertyIndex) {
+		Property property = (Property) model.getChildren().get(propertyIndex);
+		return (PropertyValueExpression) property.getValue().getChildren().get(0);
+	}
+
+	@Test
+	public void versionChange() {
+		ModelTextDocument<PropertiesModel> document = createDocument(TEXT);
+		PropertiesModel model = document.getModel();
+		document.setVersion(2);
+		PropertiesModel updatedModel = document.getModel();
+		assertNotSame(model, updatedModel);
+		assertModel(PropertiesModel.parse(TEXT, "application.properties"), updatedModel);
+		assertModel(PropertiesModel.parse(TEXT, "application.properties"), model);
+	}
+
+	@Test
+	public void randomChanges() throws BadLocationException {
+		Random random = new Random(0);
+		String[] fragments = { "a", "b.c", "=", ":", " ", "\\", "\n", "\r\n", "#", "${x}", "$", "%dev." };
+		ModelTextDocument<PropertiesModel> document = createDocument(TEXT);
+		PropertiesModel model = document.getModel();
+		String text = TEXT;
+		String modelText = text;
+		for (int i = 0; i < 1000; i++) {
+			int start = random.nextInt(text.length() + 1);
+			int length = random.nextInt(Math.min(text.length() - start, 10) + 1);
+			if (isInLineDelimiter(text, start) || isInLineDelimiter(text, start + length)) {
+				// an offset between '\r' and '\n' has no position
+				continue;
+			}
+			StringBuilder newText = new StringBuilder();
+			int count = random.nextInt(4);
+			for (int j = 0; j < count; j++) {
+				newText.append(fragments[random.nextInt(fragments.length)]);
+			}
+			TextDocumentContentChangeEvent change = change(text, start, length, newText.toString());
+			text = apply(text, change);
+			document.setVersion(i + 1);
+			document.update(Arrays.asList(change));
+			if (random.nextInt(3) != 0) {
+				PropertiesModel updatedModel = document.getModel();
+				assertNotSame(model, updatedModel);
+				assertModel(PropertiesModel.parse(text, "application.properties"), updatedModel);
+				// The previous model is not modified
+				assertModel(PropertiesModel.parse(modelText, "application.properties"), model);
+				model = updatedModel;
+				modelText = text;
+			}
+		}
+	}
+
+	private static boolean isInLineDelimiter(String text, int offset) {
+		return offset > 0 && offset < text.length() && text.charAt(offset - 1) == '\r' && text.charAt(offset) == '\n';
+	}
+
+	private static void assertIncrementalParse(String text, TextDocumentContentChangeEvent... changes) {
+		String oldText = text;
+		ModelTextDocument<PropertiesModel> document = createDocument(text);
+		PropertiesModel model = document.getModel();
+		document.setVersion(2);
+		document.update(Arrays.asList(changes));
+		for (TextDocumentContentChangeEvent change : changes) {
+			text = apply(text, change);
+		}
+		assertEquals(text, document.getText());
+		PropertiesModel updatedModel = document.getModel();
+		assertNotSame(model, updatedModel);
+		assertModel(PropertiesModel.parse(text, "application.properties"), updatedModel);
+		// The previous model is not modified
+		assertModel(PropertiesModel.parse(oldText, "application.properties"), model);
+	}
+
+	private static ModelTextDocument<PropertiesModel> createDocument(String text) {
+		ModelTextDocument<PropertiesModel> document = new ModelTextDocument<PropertiesModel>(text,
+				"application.properties", PropertiesModel::parse, PropertiesModel::parse);
+		document.setIncremental(true);
+		document.setVersion(1);
+		return document;
+	}
+
+	private static TextDocumentContentChangeEvent change(String text, int start, int length, String newText)
+			throws BadLocationException {
+		ModelTextDocument<PropertiesModel> document = createDocument(text);
+		Range range = new Range(document.positionAt(start), document.positionAt(start + length));
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(range, newText);
+		change.setRangeLength(length);
+		return change;
+	}
+
+	private static String apply(String text, TextDocumentContentChangeEvent change) {
+		try {
+			ModelTextDocument<PropertiesModel> document = createDocument(text);
+			int start = document.offsetAt(change.getRange().getStart());
+			return text.substring(0, start) + change.getText() + text.substring(start + change.getRangeLength());
+		} catch (BadLocationException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static void assertModel(PropertiesModel expected, PropertiesModel actual) {
+		assertEquals(expected.getText(), actual.getText());
+		assertEquals(toString(expected), toString(actual));
+	}
+
+	private static String toString(Node node) {
+		StringBuilder result = new StringBuilder();
+		toString(node, result);
+		return result.toString();
+	}
+
+	private static void toString(Node node, StringBuilder result) {
+		if (node == null) {
+			result.append("null");
+			return;
+		}
+		result.append(node.getNodeType()).append('[').append(node.getStart()).append(',').append(node.getEnd());
+		List<Node> children = new ArrayList<>();
+		if (node.getNodeType() == Node.NodeType.PROPERTY) {
+			Property property = (Property) node;
+			children.add(property.getKey());
+			children.add(property.getDelimiterAssign());
+			children.add(property.getValue());
+		} else {
+			children.addAll(node.getChildren());
+		}
+		for (Node child : children) {
+			result.append(' ');
+			toString(child, result);
+		}
+		result.append(']');
+	}
+}
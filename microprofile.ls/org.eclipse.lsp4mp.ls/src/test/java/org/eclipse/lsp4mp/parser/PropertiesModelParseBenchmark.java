@@ -0,0 +1,105 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.parser;
+
+import java.util.Collections;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4mp.ls.commons.ModelTextDocument;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Benchmark of the full parse and of the incremental parse of
+ * {@link PropertiesModel} after a one character edit in a 5000 lines
+ * properties file.
+ *
+ * <p>
+ * This class is not executed by the default surefire test includes, run it
+ * with:
+ * </p>
+ *
+ * <pre>
+ * mvn test -Dtest=PropertiesModelParseBenchmark
+ * </pre>
+ *
+ */
+public class PropertiesModelParseBenchmark {
+
+	private static final int LINES = 5000;
+
+	private static final int WARMUP_ITERATIONS = 50;
+
+	private static final int ITERATIONS = 500;
+
+	@Test
+	public void parseAfterOneCharacterEdit() {
+		String text = createText();
+		runBenchmark("Full parse", text, false);
+		runBenchmark("Incremental parse", text, true);
+	}
+
+	private static void runBenchmark(String name, String text, boolean incremental) {
+		ModelTextDocument<PropertiesModel> document = incremental
+				? new ModelTextDocument<PropertiesModel>(text, "application.properties", PropertiesModel::parse,
+						PropertiesModel::parse)
+				: new ModelTextDocument<PropertiesModel>(text, "application.properties", PropertiesModel::parse);
+		document.setIncremental(true);
+		int childrenCount = document.getModel().getChildren().size();
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			edit(document, i);
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			edit(document, i);
+		}
+		long elapsed = System.nanoTime() - start;
+		Assert.assertEquals(childrenCount, document.getModel().getChildren().size());
+		System.out.println(String.format("%s (%d lines): %.3f ms/op", name, LINES,
+				elapsed / 1_000_000.0 / ITERATIONS));
+	}
+
+	/**
+	 * Type or delete a character in the value of a property of the middle of the
+	 * document and get the model.
+	 */
+	private static void edit(ModelTextDocument<PropertiesModel> document, int i) {
+		Position position = new Position(LINES / 2, 0);
+		boolean insert = i % 2 == 0;
+		TextDocumentContentChangeEvent change = new TextDocumentContentChangeEvent(
+				new Range(position, new Position(position.getLine(), insert ? 0 : 1)), insert ? "x" : "");
+		change.setRangeLength(insert ? 0 : 1);
+		document.setVersion(document.getVersion() + 1);
+		document.update(Collections.singletonList(change));
+		document.getModel();
+	}
+
+	private static String createText() {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < LINES; i++) {
+			if (i % 10 == 0) {
+				text.append("# comment ").append(i).append('\n');
+			} else if (i % 10 == 5) {
+				text.append("multi.line.property").append(i).append(" = first \\\n");
+			} else {
+				text.append("quarkus.property").append(i).append(" = ${quarkus.value").append(i).append("} value\n");
+			}
+		}
+		return text.toString();
+	}
+}
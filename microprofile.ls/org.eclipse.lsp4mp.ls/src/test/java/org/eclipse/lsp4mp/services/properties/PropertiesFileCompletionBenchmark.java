@@ -0,0 +1,147 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getDefaultMicroProfileProjectInfo;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionList;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.metadata.ItemHint;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
+import org.eclipse.lsp4mp.utils.PropertiesFileUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Benchmark of the property key completion with the metadata of all Quarkus
+ * extensions (<code>all-quarkus-properties.json</code>).
+ *
+ * <p>
+ * This class is not executed by the default surefire test includes, run it
+ * with:
+ * </p>
+ *
+ * <pre>
+ * mvn test -Dtest=PropertiesFileCompletionBenchmark
+ * </pre>
+ *
+ */
+public class PropertiesFileCompletionBenchmark {
+
+	private static final int WARMUP_ITERATIONS = 20;
+
+	private static final int ITERATIONS = 100;
+
+	@Test
+	public void propertyKeyCompletion() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		PropertiesModel model = PropertiesModel.parse("", "application.properties", () -> {
+		});
+		Position position = new Position(0, 0);
+
+		MicroProfileCompletionCapabilities completionCapabilities = new MicroProfileCompletionCapabilities();
+		CompletionItemCapabilities completionItemCapabilities = new CompletionItemCapabilities();
+		completionItemCapabilities.setSnippetSupport(true);
+		completionCapabilities.setCapabilities(new CompletionCapabilities(completionItemCapabilities));
+		MicroProfileFormattingSettings formattingSettings = new MicroProfileFormattingSettings();
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+
+		int itemCount = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			itemCount = languageService.doComplete(model, position, projectInfo, completionCapabilities,
+					formattingSettings, () -> {
+					}).getItems().size();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			CompletionList list = languageService.doComplete(model, position, projectInfo, completionCapabilities,
+					formattingSettings, () -> {
+					});
+			Assert.assertEquals(itemCount, list.getItems().size());
+		}
+		long elapsed = System.nanoTime() - start;
+		report("Property key completion (" + itemCount + " items)", elapsed);
+	}
+
+	@Test
+	public void getEnums() {
+		MicroProfileProjectInfo projectInfo = getDefaultMicroProfileProjectInfo();
+		List<ItemMetadata> properties = projectInfo.getProperties();
+		List<ItemHint> hints = projectInfo.getHints();
+
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			indexedGetHints(properties, projectInfo);
+			linearGetHints(properties, hints);
+		}
+		Assert.assertEquals(linearGetHints(properties, hints), indexedGetHints(properties, projectInfo));
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			indexedGetHints(properties, projectInfo);
+		}
+		report("Indexed getHint (" + properties.size() + " properties x " + hints.size() + " hints)",
+				System.nanoTime() - start);
+
+		start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			linearGetHints(properties, hints);
+		}
+		report("Linear getHint (" + properties.size() + " properties x " + hints.size() + " hints)",
+				System.nanoTime() - start);
+	}
+
+	private static int indexedGetHints(List<ItemMetadata> properties, MicroProfileProjectInfo projectInfo) {
+		int count = 0;
+		for (ItemMetadata property : properties) {
+			if (PropertiesFileUtils.getEnums(property, projectInfo) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static int linearGetHints(List<ItemMetadata> properties, List<ItemHint> hints) {
+		int count = 0;
+		for (ItemMetadata property : properties) {
+			if (linearGetHint(hints, property.getName(), property.getHintType()) != null
+					|| property.isBooleanType()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static ItemHint linearGetHint(List<ItemHint> hints, String... names) {
+		for (ItemHint itemHint : hints) {
+			for (String name : names) {
+				if (itemHint.getName().equals(name)) {
+					return itemHint;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static void report(String name, long elapsedNanos) {
+		System.out.println(String.format("%s: %.3f ms/op", name, elapsedNanos / 1_000_000.0 / ITERATIONS));
+	}
+}
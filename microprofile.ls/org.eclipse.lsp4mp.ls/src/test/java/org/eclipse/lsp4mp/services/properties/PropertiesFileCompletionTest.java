@@ -9,19 +9,33 @@
 *******************************************************************************/
 package org.eclipse.lsp4mp.services.properties;
 
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.assertCompletions;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.c;
+import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.getDefaultMicroProfileProjectInfo;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.r;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemResolveFor;
 import static org.eclipse.lsp4mp.services.properties.PropertiesFileAssert.testCompletionItemUnresolvedFor;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.lsp4j.CompletionCapabilities;
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionItemCapabilities;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
 import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
 import org.eclipse.lsp4mp.ls.commons.BadLocationException;
+import org.eclipse.lsp4mp.model.PropertiesModel;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionSettings;
+import org.eclipse.lsp4mp.settings.MicroProfileFormattingSettings;
 import org.junit.Test;
 
 /**
@@ -499,4 +513,92 @@ public class PropertiesFileCompletionTest {
 				c("quarkus.http.cors = false", "quarkus.http.cors=false", r(0, 0, 21)));
 	}
 
+	@Test
+	public void completionOnKeyWithPrefixFiltering() throws BadLocationException {
+		// All properties which start with 'quarkus.http.', the current segment 'cors'
+		// is filtered by the client
+		String value = "quarkus.http.cors|";
+		CompletionList list = completeWithMaxPropertyKeyItems(value, 500);
+		assertFalse(list.isIncomplete());
+		assertFalse(list.getItems().isEmpty());
+		for (CompletionItem item : list.getItems()) {
+			assertTrue(item.getLabel(), item.getLabel().startsWith("quarkus.http."));
+		}
+		assertCompletions(list, null, c("quarkus.http.cors = false", "quarkus.http.cors=false", r(0, 0, 17)),
+				c("quarkus.http.port = 8080", "quarkus.http.port=8080", r(0, 0, 17)));
+		int count = list.getItems().size();
+
+		// Limit the number of items
+		list = completeWithMaxPropertyKeyItems(value, count - 1);
+		assertTrue(list.isIncomplete());
+		assertEquals(count - 1, list.getItems().size());
+
+		// Profile
+		value = "%dev.quarkus.http.cors|";
+		list = completeWithMaxPropertyKeyItems(value, 500);
+		assertFalse(list.isIncomplete());
+		assertEquals(count, list.getItems().size());
+		assertCompletions(list, null, c("quarkus.http.cors = false", "%dev.quarkus.http.cors=false", r(0, 0, 22)));
+
+		// Only the text before the cursor is used as prefix
+		value = "quarkus.http.cors|.headers";
+		list = completeWithMaxPropertyKeyItems(value, 500);
+		assertEquals(count, list.getItems().size());
+	}
+
+	@Test
+	public void completionOnKeyWithPrefixFilteringAndWildcard() throws BadLocationException {
+		// 'quarkus.log.category.org.' doesn't start with 'quarkus.log.category.{*}.level'
+		String value = "quarkus.log.category.org.le|";
+		CompletionList list = completeWithMaxPropertyKeyItems(value, 500);
+		assertCompletions(list, null,
+				c("quarkus.log.category.{*}.level = inherit", "quarkus.log.category.{*}.level=inherit", r(0, 0, 27)));
+	}
+
+	@Test
+	public void completionOnKeyWithPrefixFilteringAndQuotedKey() throws BadLocationException {
+		ItemMetadata url = new ItemMetadata();
+		url.setName("quarkus.datasource.\"name\".url");
+		ItemMetadata username = new ItemMetadata();
+		username.setName("quarkus.datasource.username");
+		ItemMetadata level = new ItemMetadata();
+		level.setName("quarkus.log.level");
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(List.of(url, username, level));
+		projectInfo.setHints(new ArrayList<>());
+
+		// 'quarkus.datasource.mydb.' doesn't start with 'quarkus.datasource."name".url'
+		String value = "quarkus.datasource.mydb.u|";
+		CompletionList list = completeWithMaxPropertyKeyItems(value, 500, projectInfo);
+		assertCompletions(list, 1,
+				c("quarkus.datasource.\"name\".url", "quarkus.datasource.\"name\".url=", r(0, 0, 25)));
+
+		value = "quarkus.datasource.u|";
+		list = completeWithMaxPropertyKeyItems(value, 500, projectInfo);
+		assertCompletions(list, 2,
+				c("quarkus.datasource.\"name\".url", "quarkus.datasource.\"name\".url=", r(0, 0, 20)),
+				c("quarkus.datasource.username", "quarkus.datasource.username=", r(0, 0, 20)));
+	}
+
+	private static CompletionList completeWithMaxPropertyKeyItems(String value, int maxPropertyKeyItems)
+			throws BadLocationException {
+		return completeWithMaxPropertyKeyItems(value, maxPropertyKeyItems, getDefaultMicroProfileProjectInfo());
+	}
+
+	private static CompletionList completeWithMaxPropertyKeyItems(String value, int maxPropertyKeyItems,
+			MicroProfileProjectInfo projectInfo) throws BadLocationException {
+		int offset = value.indexOf('|');
+		value = value.substring(0, offset) + value.substring(offset + 1);
+		PropertiesModel model = PropertiesModel.parse(value, "application.properties", () -> {
+		});
+		MicroProfileCompletionCapabilities completionCapabilities = new MicroProfileCompletionCapabilities();
+		completionCapabilities.setCapabilities(new CompletionCapabilities(new CompletionItemCapabilities(false)));
+		MicroProfileCompletionSettings completionSettings = new MicroProfileCompletionSettings();
+		completionSettings.setMaxPropertyKeyItems(maxPropertyKeyItems);
+		return new PropertiesFileLanguageService().doComplete(model, model.positionAt(offset), projectInfo,
+				completionCapabilities, completionSettings,
+				new MicroProfileFormattingSettings(), () -> {
+				});
+	}
+
 }
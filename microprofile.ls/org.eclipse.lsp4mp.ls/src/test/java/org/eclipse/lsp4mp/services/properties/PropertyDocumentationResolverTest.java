@@ -0,0 +1,104 @@
+/*******************************************************************************
+* Copyright (c) 2026 Red Hat Inc. and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     Red Hat Inc. - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4mp.services.properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4mp.commons.DocumentFormat;
+import org.eclipse.lsp4mp.commons.MicroProfileProjectInfo;
+import org.eclipse.lsp4mp.commons.MicroProfilePropertyDocumentationParams;
+import org.eclipse.lsp4mp.commons.metadata.ItemMetadata;
+import org.eclipse.lsp4mp.ls.api.MicroProfilePropertyDocumentationProvider;
+import org.eclipse.lsp4mp.settings.MicroProfileCompletionCapabilities;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PropertyDocumentationResolver}.
+ *
+ */
+public class PropertyDocumentationResolverTest {
+
+	private static final String URI = "file:///project/application.properties";
+
+	private static class DocumentationProviderTracker implements MicroProfilePropertyDocumentationProvider {
+
+		private final AtomicInteger callCount = new AtomicInteger();
+
+		@Override
+		public CompletableFuture<String> getPropertyDocumentation(MicroProfilePropertyDocumentationParams params) {
+			callCount.incrementAndGet();
+			return CompletableFuture.completedFuture("Javadoc of " + params.getSourceField());
+		}
+	}
+
+	@Test
+	public void getDescription() throws Exception {
+		DocumentationProviderTracker provider = new DocumentationProviderTracker();
+		PropertyDocumentationResolver resolver = new PropertyDocumentationResolver();
+		ItemMetadata property = createProperty("greeting.message", "message");
+
+		assertEquals("Javadoc of message",
+				resolver.getDescription(property, URI, DocumentFormat.Markdown, provider).get());
+		assertEquals("Javadoc of message",
+				resolver.getDescription(property, URI, DocumentFormat.Markdown, provider).get());
+		assertEquals("Description is cached", 1, provider.callCount.get());
+		assertNull("Description is not stored in the property", property.getDescription());
+
+		resolver.getDescription(property, URI, DocumentFormat.PlainText, provider).get();
+		assertEquals("Description is cached per document format", 2, provider.callCount.get());
+
+		resolver.evict(Collections.singleton(URI));
+		resolver.getDescription(property, URI, DocumentFormat.Markdown, provider).get();
+		assertEquals("Description is collected after eviction", 3, provider.callCount.get());
+
+		// Loaded description
+		property.setDescription("Loaded");
+		assertEquals("Loaded", resolver.getDescription(property, URI, DocumentFormat.Markdown, provider).get());
+		assertEquals(3, provider.callCount.get());
+	}
+
+	@Test
+	public void resolveCompletionItem() throws Exception {
+		DocumentationProviderTracker provider = new DocumentationProviderTracker();
+		PropertiesFileLanguageService languageService = new PropertiesFileLanguageService();
+		MicroProfileProjectInfo projectInfo = new MicroProfileProjectInfo();
+		projectInfo.setProperties(new ArrayList<>(Arrays.asList(createProperty("greeting.message", "message"))));
+		projectInfo.setHints(new ArrayList<>());
+
+		CompletionItem item = new CompletionItem("greeting.message");
+		item = languageService.resolveCompletionItem(item, projectInfo, URI,
+				new MicroProfileCompletionCapabilities(), provider, () -> {
+				}).get();
+		String documentation = item.getDocumentation().getRight().getValue();
+		assertTrue(documentation, documentation.contains("Javadoc of message"));
+	}
+
+	private static ItemMetadata createProperty(String name, String sourceField) {
+		ItemMetadata property = new ItemMetadata();
+		property.setName(name);
+		property.setType("java.lang.String");
+		property.setSourceType("org.acme.GreetingResource");
+		property.setSourceField(sourceField);
+		return property;
+	}
+}